@@ -28,19 +28,21 @@ import de.mossgrabers.framework.daw.data.IItem;
 
 
 /**
- * Provides access to the device, preset, sample, ... browser.
+ * Provides access to the device, preset, sample, ... browser. The observers of the columns and
+ * the visible results are only subscribed while the browser is open.
  *
  * @author Jürgen Moßgraber
  */
 public class BrowserImpl extends AbstractBrowser
 {
-    private final IHost                   host;
     private final CursorDevice            cursorDevice;
     private final CursorTrack             cursorTrack;
     private final PopupBrowser            browser;
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private boolean                       isEnabled    = true;
+    private boolean                       isSubscribed = true;
 
 
     /**
@@ -55,15 +57,14 @@ public class BrowserImpl extends AbstractBrowser
      */
     public BrowserImpl (final IHost host, final PopupBrowser browser, final CursorTrack cursorTrack, final CursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
     {
-        super (numFilterColumnEntries, numResults);
+        super (host, numFilterColumnEntries, numResults);
 
-        this.host = host;
         this.cursorTrack = cursorTrack;
         this.cursorDevice = cursorDevice;
 
         this.browser = browser;
 
-        this.browser.exists ().addValueObserver (this::fireActiveObserver);
+        this.browser.exists ().addValueObserver (this::handleIsActive);
         this.browser.selectedContentTypeIndex ().markInterested ();
         this.browser.selectedContentTypeName ().markInterested ();
         this.browser.contentTypeNames ().markInterested ();
@@ -89,7 +90,7 @@ public class BrowserImpl extends AbstractBrowser
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
-        this.resultData = this.createResultData (this.numResults);
+        this.setResultData (this.createResultData (this.numResults));
     }
 
 
@@ -97,7 +98,36 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public void enableObservers (final boolean enable)
     {
+        this.isEnabled = enable;
         Util.setIsSubscribed (this.browser.exists (), enable);
+        this.updateSubscriptions (this.browser.exists ().get ());
+    }
+
+
+    /**
+     * Handle the opening and closing of the browser.
+     *
+     * @param isActive True if the browser was opened
+     */
+    private void handleIsActive (final boolean isActive)
+    {
+        this.updateSubscriptions (isActive);
+        this.fireActiveObserver (isActive);
+    }
+
+
+    /**
+     * Only keep the observers of the columns and results subscribed while the browser is open.
+     *
+     * @param isActive True if the browser is open
+     */
+    private void updateSubscriptions (final boolean isActive)
+    {
+        final boolean enable = this.isEnabled && isActive;
+        if (this.isSubscribed == enable)
+            return;
+        this.isSubscribed = enable;
+
         Util.setIsSubscribed (this.browser.selectedContentTypeIndex (), enable);
         Util.setIsSubscribed (this.browser.selectedContentTypeName (), enable);
         Util.setIsSubscribed (this.browser.contentTypeNames (), enable);
@@ -108,8 +138,7 @@ public class BrowserImpl extends AbstractBrowser
 
         Util.setIsSubscribed (this.cursorResult.name (), enable);
 
-        for (final IBrowserColumnItem item: this.resultData)
-            item.enableObservers (enable);
+        this.setObservingResults (enable);
     }
 
 
@@ -49,6 +49,7 @@ public class CursorClipImpl implements INoteClip
     private int                      editPage        = 0;
     private double                   stepLength;
     private final List<NotePosition> editSteps       = new ArrayList<> ();
+    private boolean                  isObserved      = true;
 
 
     /**
@@ -98,6 +99,15 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void enableObservers (final boolean enable)
     {
+        if (this.isObserved == enable)
+            return;
+        this.isObserved = enable;
+
+        // Notes which were changed meanwhile are sent again when the clip is subscribed
+        if (enable)
+            this.clearStepInfos ();
+
+        Util.setIsSubscribed (this.launcherClip, enable);
         Util.setIsSubscribed (this.launcherClip.exists (), enable);
         Util.setIsSubscribed (this.launcherClip.playingStep (), enable);
         Util.setIsSubscribed (this.launcherClip.getPlayStart (), enable);
@@ -1249,6 +1259,9 @@ public class CursorClipImpl implements INoteClip
      */
     private void handleStepData (final NoteStep noteStep)
     {
+        if (!this.isObserved)
+            return;
+
         final int channel = noteStep.channel ();
         final int step = noteStep.x ();
         final int note = noteStep.y ();
@@ -1303,6 +1316,20 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /**
+     * Remove all cached step information.
+     */
+    private void clearStepInfos ()
+    {
+        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
+        synchronized (stepInfos)
+        {
+            for (final IStepInfo [] [] channelInfos: stepInfos)
+                Arrays.fill (channelInfos, null);
+        }
+    }
+
+
     /**
      * Get the step at the given position.
      *
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.DeviceMetadataImpl.PluginType;
 import de.mossgrabers.bitwig.framework.graphics.BitmapImpl;
 import de.mossgrabers.bitwig.framework.graphics.ImageImpl;
+import de.mossgrabers.bitwig.framework.graphics.TintedImageCache;
 import de.mossgrabers.bitwig.framework.hardware.HwSurfaceFactoryImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlClientImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlMessageImpl;
@@ -16,6 +17,7 @@ import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.DeviceCatalog;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
@@ -55,9 +57,7 @@ import java.util.Set;
  */
 public class HostImpl implements IHost
 {
-    private static final List<IDeviceMetadata> INSTRUMENT_METADATA    = new ArrayList<> ();
-    private static final List<IDeviceMetadata> AUDIO_EFFECTS_METADATA = new ArrayList<> ();
-    private static final Set<Capability>       CAPABILITIES           = new HashSet<> ();
+    private static final Set<Capability> CAPABILITIES = new HashSet<> ();
 
     static
     {
@@ -87,6 +87,7 @@ public class HostImpl implements IHost
 
     private final ControllerHost   host;
     private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final TintedImageCache tintedImageCache;
 
 
     /**
@@ -97,8 +98,7 @@ public class HostImpl implements IHost
     public HostImpl (final ControllerHost host)
     {
         this.host = host;
-
-        readDeviceFiles ();
+        this.tintedImageCache = new TintedImageCache (host);
     }
 
 
@@ -228,7 +228,15 @@ public class HostImpl implements IHost
     @Override
     public IBitmap createBitmap (final int width, final int height)
     {
-        return new BitmapImpl (this.host.createBitmap (width, height, BitmapFormat.ARGB32));
+        return new BitmapImpl (this.host.createBitmap (width, height, BitmapFormat.ARGB32), this.tintedImageCache);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearGraphicsCache ()
+    {
+        this.tintedImageCache.clear ();
     }
 
 
@@ -289,38 +297,33 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public List<IDeviceMetadata> getInstrumentMetadata ()
+    public DeviceCatalog getInstrumentCatalog ()
     {
-        return new ArrayList<> (INSTRUMENT_METADATA);
+        return DeviceCatalogs.INSTRUMENTS;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public List<IDeviceMetadata> getAudioEffectMetadata ()
+    public DeviceCatalog getAudioEffectCatalog ()
     {
-        return new ArrayList<> (AUDIO_EFFECTS_METADATA);
+        return DeviceCatalogs.AUDIO_EFFECTS;
     }
 
 
-    private static void readDeviceFiles ()
+    /** {@inheritDoc} */
+    @Override
+    public DeviceCatalog getDeviceCatalog ()
     {
-        synchronized (INSTRUMENT_METADATA)
-        {
-            if (!INSTRUMENT_METADATA.isEmpty ())
-                return;
-
-            readDeviceFile ("Instruments.txt").forEach (line -> {
-                final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
-                if (dm.isPresent ())
-                    INSTRUMENT_METADATA.add (dm.get ());
-            });
-            readDeviceFile ("AudioEffects.txt").forEach (line -> {
-                final Optional<IDeviceMetadata> dm = parseDeviceLine (line);
-                if (dm.isPresent ())
-                    AUDIO_EFFECTS_METADATA.add (dm.get ());
-            });
-        }
+        return DeviceCatalogs.DEVICES;
+    }
+
+
+    private static DeviceCatalog readDeviceCatalog (final String fileName)
+    {
+        final List<IDeviceMetadata> devices = new ArrayList<> ();
+        readDeviceFile (fileName).forEach (line -> parseDeviceLine (line).ifPresent (devices::add));
+        return new DeviceCatalog (devices);
     }
 
 
@@ -362,4 +365,16 @@ public class HostImpl implements IHost
             return Collections.emptyList ();
         }
     }
+
+
+    /**
+     * The device catalogs are read on first access and then shared by all instances of all
+     * controllers (class holder idiom).
+     */
+    private static final class DeviceCatalogs
+    {
+        static final DeviceCatalog INSTRUMENTS   = readDeviceCatalog ("Instruments.txt");
+        static final DeviceCatalog AUDIO_EFFECTS = readDeviceCatalog ("AudioEffects.txt");
+        static final DeviceCatalog DEVICES       = DeviceCatalog.combine (INSTRUMENTS, AUDIO_EFFECTS);
+    }
 }
@@ -5,8 +5,11 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import com.bitwig.extension.controller.api.Application;
 import com.bitwig.extension.controller.api.Arranger;
@@ -58,15 +61,22 @@ import de.mossgrabers.framework.utils.FrameworkException;
 public class ModelImpl extends AbstractModel
 {
     /** The UUID of the Drum Device. */
-    public static final UUID               INSTRUMENT_DRUM_MACHINE = UUID.fromString ("8ea97e45-0255-40fd-bc7e-94419741e9d1");
+    public static final UUID                    INSTRUMENT_DRUM_MACHINE = UUID.fromString ("8ea97e45-0255-40fd-bc7e-94419741e9d1");
 
-    private final ControllerHost           controllerHost;
-    private final CursorTrack              bwCursorTrack;
-    private final Track                    rootTrackGroup;
-    private final BooleanValue             masterTrackEqualsValue;
-    private final Map<Integer, ISceneBank> sceneBanks              = new HashMap<> (1);
-    private final Map<Integer, ISlotBank>  slotBanks               = new HashMap<> (1);
-    private final SceneBank                sceneBank;
+    /** Cursor clips which have not been used for this time get their observers disabled. */
+    private static final long                   CLIP_IDLE_TIMEOUT       = TimeUnit.SECONDS.toNanos (30);
+    private static final long                   CLIP_IDLE_CHECK         = TimeUnit.SECONDS.toNanos (5);
+
+    private final ControllerHost                controllerHost;
+    private final CursorTrack                   bwCursorTrack;
+    private final Track                         rootTrackGroup;
+    private final BooleanValue                  masterTrackEqualsValue;
+    private final Map<Integer, ISceneBank>      sceneBanks              = new HashMap<> (1);
+    private final Map<Integer, ISlotBank>       slotBanks               = new HashMap<> (1);
+    private final SceneBank                     sceneBank;
+    private final Map<Integer, CursorClipEntry> cursorClips             = new LinkedHashMap<> ();
+    private CursorClipEntry                     lastCursorClip;
+    private long                                lastClipIdleCheck       = System.nanoTime ();
 
 
     /**
@@ -278,7 +288,16 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.host, this.bwCursorTrack, this.valueChanger, cols, rows));
+        final int key = cols << 16 | rows;
+
+        // Most calls ask for the same clip size as the previous one
+        CursorClipEntry entry = this.lastCursorClip;
+        if (entry == null || entry.key != key)
+        {
+            entry = this.cursorClips.computeIfAbsent (Integer.valueOf (key), k -> new CursorClipEntry (key, new CursorClipImpl (this.host, this.bwCursorTrack, this.valueChanger, cols, rows)));
+            this.lastCursorClip = entry;
+        }
+        return this.useCursorClip (entry);
     }
 
 
@@ -310,7 +329,7 @@ public class ModelImpl extends AbstractModel
     {
         if (this.cursorClips.isEmpty ())
             throw new FrameworkException ("No cursor clip created!");
-        return this.cursorClips.values ().iterator ().next ();
+        return this.useCursorClip (this.cursorClips.values ().iterator ().next ());
     }
 
 
@@ -328,4 +347,70 @@ public class ModelImpl extends AbstractModel
     {
         // Nothing to do
     }
+
+
+    /**
+     * Marks the cursor clip as used and enables its observers if it was idle. Furthermore, disables
+     * the observers of all other cursor clips which have not been used for a while. The first cursor
+     * clip is never disabled since getCursorClip returns it and the callers read its values (e.g.
+     * if it exists) right away, which would be outdated after a re-subscription.
+     *
+     * @param entry The entry of the cursor clip
+     * @return The cursor clip
+     */
+    private INoteClip useCursorClip (final CursorClipEntry entry)
+    {
+        final long now = System.nanoTime ();
+        entry.lastUsed = now;
+        if (!entry.isActive)
+        {
+            entry.isActive = true;
+            entry.clip.enableObservers (true);
+        }
+
+        if (now - this.lastClipIdleCheck > CLIP_IDLE_CHECK)
+        {
+            this.lastClipIdleCheck = now;
+            final Iterator<CursorClipEntry> iterator = this.cursorClips.values ().iterator ();
+            // Skip the cursor clip of getCursorClip
+            iterator.next ();
+            while (iterator.hasNext ())
+            {
+                final CursorClipEntry e = iterator.next ();
+                if (e.isActive && now - e.lastUsed > CLIP_IDLE_TIMEOUT)
+                {
+                    e.isActive = false;
+                    e.clip.enableObservers (false);
+                }
+            }
+        }
+
+        return entry.clip;
+    }
+
+
+    /**
+     * A cursor clip of a specific size and when it was used the last time.
+     */
+    private static final class CursorClipEntry
+    {
+        private final int            key;
+        private final CursorClipImpl clip;
+        private long                 lastUsed;
+        private boolean              isActive = true;
+
+
+        /**
+         * Constructor.
+         *
+         * @param key The packed number of columns and rows
+         * @param clip The cursor clip
+         */
+        CursorClipEntry (final int key, final CursorClipImpl clip)
+        {
+            this.key = key;
+            this.clip = clip;
+            this.lastUsed = System.nanoTime ();
+        }
+    }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.parameter.AutomationModeParameter;
 import de.mossgrabers.framework.parameter.IParameter;
+import de.mossgrabers.framework.utils.FormattedText;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -53,9 +54,6 @@ public class TransportImpl implements ITransport
         AutomationMode.WRITE
     };
 
-    private static final BeatTimeFormatter BEAT_POSITION_FORMATTER = formatAsBeats (1);
-    private static final BeatTimeFormatter BEAT_LENGTH_FORMATTER   = formatAsBeats (0);
-
     private final ControllerHost           host;
     private final IApplication             application;
     private final IValueChanger            valueChanger;
@@ -65,6 +63,15 @@ public class TransportImpl implements ITransport
     private final IParameter               metronomeVolumeParameter;
     private final IParameter               automationModeParameter;
 
+    private final FormattedText            positionText            = new FormattedText ();
+    private final FormattedText            beatText                = new FormattedText ();
+    private final FormattedText            loopStartText           = new FormattedText ();
+    private final FormattedText            loopLengthText          = new FormattedText ();
+    private final BeatTimeFormatter        positionFormatter       = this::formatPosition;
+    private final BeatTimeFormatter        beatFormatter           = formatAsBeats (this.beatText, 1);
+    private final BeatTimeFormatter        loopStartFormatter      = formatAsBeats (this.loopStartText, 1);
+    private final BeatTimeFormatter        loopLengthFormatter     = formatAsBeats (this.loopLengthText, 0);
+
 
     /**
      * Constructor
@@ -482,7 +489,7 @@ public class TransportImpl implements ITransport
     @Override
     public String getPositionText ()
     {
-        return this.transport.getPosition ().getFormatted ( (beatTime, isAbsolute, timeSignatureNumerator, timeSignatureDenominator, timeSignatureTicks) -> StringUtils.formatTimeLong (this.getTempo (), beatTime, true));
+        return this.transport.getPosition ().getFormatted (this.positionFormatter);
     }
 
 
@@ -490,7 +497,7 @@ public class TransportImpl implements ITransport
     @Override
     public String getBeatText ()
     {
-        return this.transport.getPosition ().getFormatted (BEAT_POSITION_FORMATTER);
+        return this.transport.getPosition ().getFormatted (this.beatFormatter);
     }
 
 
@@ -560,7 +567,7 @@ public class TransportImpl implements ITransport
     @Override
     public String getLoopStartBeatText ()
     {
-        return this.transport.arrangerLoopStart ().getFormatted (BEAT_POSITION_FORMATTER);
+        return this.transport.arrangerLoopStart ().getFormatted (this.loopStartFormatter);
     }
 
 
@@ -605,7 +612,7 @@ public class TransportImpl implements ITransport
     @Override
     public String getLoopLengthBeatText ()
     {
-        return this.transport.arrangerLoopDuration ().getFormatted (BEAT_LENGTH_FORMATTER);
+        return this.transport.arrangerLoopDuration ().getFormatted (this.loopLengthFormatter);
     }
 
 
@@ -927,11 +934,28 @@ public class TransportImpl implements ITransport
     }
 
 
-    private static BeatTimeFormatter formatAsBeats (final int offset)
+    @SuppressWarnings("unused")
+    private String formatPosition (final double beatTime, final boolean isAbsolute, final int timeSignatureNumerator, final int timeSignatureDenominator, final int timeSignatureTicks)
+    {
+        StringUtils.appendTimeLong (this.positionText.start (), this.getTempo (), beatTime, true);
+        return this.positionText.get ();
+    }
+
+
+    /**
+     * Create a formatter for beat positions. The formatted text is written into the given buffer,
+     * which returns the previous string if the text did not change.
+     *
+     * @param text The buffer for the formatted text
+     * @param offset An offset that is added to the measure, quarter and eights values
+     * @return The formatter
+     */
+    private static BeatTimeFormatter formatAsBeats (final FormattedText text, final int offset)
     {
         return (beatTime, isAbsolute, timeSignatureNumerator, timeSignatureDenominator, timeSignatureTicks) -> {
             final int quartersPerMeasure = 4 * timeSignatureNumerator / timeSignatureDenominator;
-            return StringUtils.formatMeasuresLong (quartersPerMeasure, beatTime, offset, true);
+            StringUtils.appendMeasuresLong (text.start (), quartersPerMeasure, beatTime, offset, true);
+            return text.get ();
         };
     }
 }
\ No newline at end of file
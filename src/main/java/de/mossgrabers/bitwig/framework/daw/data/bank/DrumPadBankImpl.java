@@ -6,11 +6,13 @@ package de.mossgrabers.bitwig.framework.daw.data.bank;
 
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.ILayer;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 
 import com.bitwig.extension.controller.api.DrumPad;
@@ -26,7 +28,8 @@ import java.util.Optional;
  */
 public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, ILayer> implements IDrumPadBank
 {
-    private int numDevices;
+    private final DrumPadStates states;
+    private int                 numDevices;
 
 
     /**
@@ -44,6 +47,7 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, ILayer
         super (host, valueChanger, layerBank, numLayers, 0, numSends);
 
         this.numDevices = numDevices;
+        this.states = new DrumPadStates (this.getPageSize ());
 
         if (this.bank.isEmpty ())
             return;
@@ -57,9 +61,16 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, ILayer
 
             final int index = i;
             drumPadImpl.getDeviceChain ().addIsSelectedInEditorObserver (isSelected -> this.notifySelectionObservers (index, isSelected));
+
+            deviceLayer.exists ().addValueObserver (value -> this.states.setExists (index, value));
+            deviceLayer.isActivated ().addValueObserver (value -> this.states.setActivated (index, value));
+            deviceLayer.mute ().addValueObserver (value -> this.states.setMute (index, value));
+            deviceLayer.solo ().addValueObserver (value -> this.states.setSolo (index, value));
+            deviceLayer.color ().addValueObserver ( (red, green, blue) -> this.states.setColor (index, new ColorEx (red, green, blue)));
         }
+        this.trackSelection ();
 
-        drumPadBank.hasSoloedPads ().markInterested ();
+        drumPadBank.hasSoloedPads ().addValueObserver (this.states::setHasSoloedPads);
     }
 
 
@@ -133,6 +144,14 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, ILayer
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public DrumPadStates getStates ()
+    {
+        return this.states;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setIndication (final boolean enable)
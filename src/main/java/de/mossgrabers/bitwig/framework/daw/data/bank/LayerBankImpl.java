@@ -64,6 +64,7 @@ public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILay
             final int index = i;
             layerImpl.getDeviceChain ().addIsSelectedInEditorObserver (isSelected -> this.notifySelectionObservers (index, isSelected));
         }
+        this.trackSelection ();
     }
 
 
@@ -12,14 +12,18 @@ import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.bank.AbstractItemBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
+import de.mossgrabers.framework.daw.data.bank.PageChangeTracker;
 import de.mossgrabers.framework.parameter.IParameter;
 
 import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
+import com.bitwig.extension.controller.api.RemoteControl;
 import com.bitwig.extension.controller.api.SettableIntegerValue;
 
 
 /**
- * Encapsulates the data of a parameter bank.
+ * Encapsulates the data of a parameter bank. When the parameter page changes, the page observers
+ * are held back until all parameters of the new page have reported their name or value (or a
+ * timeout is reached). Then a single page event is fired.
  *
  * @author Jürgen Moßgraber
  */
@@ -28,6 +32,7 @@ public class ParameterBankImpl extends AbstractItemBank<IParameter> implements I
     private final CursorRemoteControlsPage remoteControls;
     private final IValueChanger            valueChanger;
     private final IParameterPageBank       pageBank;
+    private final PageChangeTracker        pageChangeTracker;
 
 
     /**
@@ -47,13 +52,21 @@ public class ParameterBankImpl extends AbstractItemBank<IParameter> implements I
 
         this.valueChanger = valueChanger;
         this.remoteControls = remoteControlsPage;
+        this.pageChangeTracker = new PageChangeTracker (host, this.getPageSize (), this::firePageObserver);
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i, true));
+        {
+            final RemoteControl parameter = this.remoteControls.getParameter (i);
+            this.items.add (new ParameterImpl (this.valueChanger, parameter, i, true));
+
+            final int index = i;
+            parameter.name ().addValueObserver (name -> this.pageChangeTracker.handleItemUpdate (index));
+            parameter.value ().addValueObserver (value -> this.pageChangeTracker.handleItemUpdate (index));
+        }
 
         this.remoteControls.hasPrevious ().markInterested ();
         this.remoteControls.hasNext ().markInterested ();
-        this.remoteControls.selectedPageIndex ().markInterested ();
+        this.remoteControls.selectedPageIndex ().addValueObserver (index -> this.pageChangeTracker.start ());
         this.remoteControls.pageCount ().markInterested ();
     }
 
@@ -179,4 +192,22 @@ public class ParameterBankImpl extends AbstractItemBank<IParameter> implements I
     {
         return this.pageBank;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPageChanging ()
+    {
+        return this.pageChangeTracker.isChanging ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void firePageObserver ()
+    {
+        // Fired when the page change is complete
+        if (!this.pageChangeTracker.isChanging ())
+            super.firePageObserver ();
+    }
 }
\ No newline at end of file
@@ -18,10 +18,11 @@ import java.nio.ByteBuffer;
  * Implementation of a bitmap.
  *
  * @param bitmap The Bitwig bitmap
+ * @param tintedImageCache The cache for images filled with a color
  *
  * @author Jürgen Moßgraber
  */
-public record BitmapImpl (Bitmap bitmap) implements IBitmap
+public record BitmapImpl (Bitmap bitmap, TintedImageCache tintedImageCache) implements IBitmap
 {
     /** {@inheritDoc} */
     @Override
@@ -43,7 +44,7 @@ public record BitmapImpl (Bitmap bitmap) implements IBitmap
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.tintedImageCache)));
     }
 
 
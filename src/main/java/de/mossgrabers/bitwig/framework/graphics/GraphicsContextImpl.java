@@ -13,7 +13,6 @@ import de.mossgrabers.framework.utils.StringUtils;
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
-import com.bitwig.extension.api.graphics.Image;
 
 
 /**
@@ -23,7 +22,8 @@ import com.bitwig.extension.api.graphics.Image;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private final GraphicsOutput gc;
+    private final GraphicsOutput   gc;
+    private final TintedImageCache tintedImageCache;
 
 
     /**
@@ -31,11 +31,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param tintedImageCache The cache for images filled with a color
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final TintedImageCache tintedImageCache)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.tintedImageCache = tintedImageCache;
     }
 
 
@@ -250,10 +252,8 @@ public class GraphicsContextImpl implements IGraphicsContext
         final ImageImpl imageImpl = (ImageImpl) icon;
         try
         {
-            this.setColor (maskColor);
-            final Image image = imageImpl.image ();
-            this.gc.mask (image, x, y);
-            this.gc.fill ();
+            // Draw the cached bitmap of the image which is already filled with the color
+            this.tintedImageCache.draw (this.gc, imageImpl.image (), maskColor, x, y);
         }
         catch (final RuntimeException ex)
         {
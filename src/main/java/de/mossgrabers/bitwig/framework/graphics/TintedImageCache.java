@@ -0,0 +1,161 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import com.bitwig.extension.api.graphics.Bitmap;
+import com.bitwig.extension.api.graphics.BitmapFormat;
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.GraphicsOutput.Operator;
+import com.bitwig.extension.api.graphics.Image;
+import com.bitwig.extension.controller.api.ControllerHost;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Caches images (icons) which are filled with a color. Masking an image with a color requires to
+ * fill the vector mask each time. Since only a few icons and colors are used, the filled images
+ * are rendered once into a bitmap, which can simply be drawn afterwards. The image itself is part
+ * of the key, therefore images loaded with a different scale get their own entries. The least
+ * recently used entries are removed if the cache is full, e.g. after the colors have changed.
+ * Bitmaps created by the host are only freed when the extension exits, therefore the bitmaps of
+ * removed entries are kept and rendered again for new entries of the same size.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TintedImageCache
+{
+    /** The maximum number of bitmaps created by the cache. */
+    public static final int                 MAX_ENTRIES = 256;
+
+    private final ControllerHost            host;
+    private final Map<TintedImage, Bitmap>  cache       = new LinkedHashMap<> (64, 0.75f, true);
+    private final List<Bitmap>              freeBitmaps = new ArrayList<> ();
+
+
+    private record TintedImage (Image image, int encodedColor)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for creating the bitmaps
+     */
+    public TintedImageCache (final ControllerHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Draw the image filled with the given color. The bitmap is created on first use. The position
+     * is rounded to full pixels, otherwise the bitmap gets blurred by the interpolation. Drawing
+     * happens while the cache is locked, since the bitmap of a removed entry is rendered again for
+     * a new one.
+     *
+     * @param gc The graphics output to draw into
+     * @param image The image which is used as the mask
+     * @param color The color to fill the mask with
+     * @param x The horizontal position
+     * @param y The vertical position
+     */
+    public synchronized void draw (final GraphicsOutput gc, final Image image, final ColorEx color, final double x, final double y)
+    {
+        gc.drawImage (this.get (image, color), Math.round (x), Math.round (y));
+    }
+
+
+    /**
+     * Remove all entries, e.g. if the color palette has changed or on shutdown. Their bitmaps are
+     * re-used for new entries.
+     */
+    public synchronized void clear ()
+    {
+        this.freeBitmaps.addAll (this.cache.values ());
+        this.cache.clear ();
+    }
+
+
+    /**
+     * Get the number of cached entries.
+     *
+     * @return The number of entries
+     */
+    public synchronized int size ()
+    {
+        return this.cache.size ();
+    }
+
+
+    private Bitmap get (final Image image, final ColorEx color)
+    {
+        final TintedImage key = new TintedImage (image, color.encode ());
+        Bitmap bitmap = this.cache.get (key);
+        if (bitmap != null)
+            return bitmap;
+
+        // Remove the least recently used image and keep its bitmap
+        if (this.cache.size () >= MAX_ENTRIES)
+        {
+            final Iterator<Bitmap> iterator = this.cache.values ().iterator ();
+            this.freeBitmaps.add (iterator.next ());
+            iterator.remove ();
+        }
+
+        bitmap = this.createTintedImage (image, color);
+        this.cache.put (key, bitmap);
+        return bitmap;
+    }
+
+
+    private Bitmap createTintedImage (final Image image, final ColorEx color)
+    {
+        final int width = Math.max (1, (int) Math.ceil (image.getWidth ()));
+        final int height = Math.max (1, (int) Math.ceil (image.getHeight ()));
+        final Bitmap bitmap = this.getFreeBitmap (width, height);
+        bitmap.render (gc -> {
+            // Start with a transparent bitmap
+            gc.setOperator (Operator.CLEAR);
+            gc.paint ();
+            gc.setOperator (Operator.OVER);
+
+            gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
+            gc.mask (image, 0, 0);
+            gc.fill ();
+        });
+        return bitmap;
+    }
+
+
+    /**
+     * Get an unused bitmap of the given size or create a new one. If the free bitmaps have
+     * different sizes, the oldest one is dropped to keep the number of bitmaps limited.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     * @return The bitmap
+     */
+    private Bitmap getFreeBitmap (final int width, final int height)
+    {
+        for (int i = 0; i < this.freeBitmaps.size (); i++)
+        {
+            final Bitmap bitmap = this.freeBitmaps.get (i);
+            if (bitmap.getWidth () == width && bitmap.getHeight () == height)
+                return this.freeBitmaps.remove (i);
+        }
+        if (!this.freeBitmaps.isEmpty () && this.cache.size () + this.freeBitmaps.size () >= MAX_ENTRIES)
+            this.freeBitmaps.remove (0);
+        return this.host.createBitmap (width, height, BitmapFormat.ARGB32);
+    }
+}
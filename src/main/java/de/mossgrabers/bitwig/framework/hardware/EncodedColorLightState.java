@@ -14,7 +14,8 @@ import java.util.function.IntFunction;
 
 
 /**
- * Creates visual states from encoded colors.
+ * Creates visual states from encoded colors. The visual state is only calculated once, therefore
+ * instances should be shared (see EncodedColorLightStates).
  *
  * @author Jürgen Moßgraber
  */
@@ -22,6 +23,7 @@ public class EncodedColorLightState extends InternalHardwareLightState
 {
     private final int                  encodedColorState;
     private final IntFunction<ColorEx> stateToColorFunction;
+    private HardwareLightVisualState   visualState;
 
 
     /**
@@ -38,9 +40,28 @@ public class EncodedColorLightState extends InternalHardwareLightState
     }
 
 
+    /**
+     * Get the encoded color state.
+     *
+     * @return The color and blink information
+     */
+    public int getEncodedColorState ()
+    {
+        return this.encodedColorState;
+    }
+
+
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         if (this.encodedColorState == -1)
             return HardwareLightVisualState.createForColor (Color.blackColor (), Color.whiteColor ());
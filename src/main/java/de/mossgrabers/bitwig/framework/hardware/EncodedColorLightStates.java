@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * Interns the light states of encoded colors (color index, blink color index and the fast blink
+ * flag) of one light. The states are created on first use, after that the identical instance is
+ * returned for the same encoded color. This prevents that a new state is created each time the host
+ * polls a light. Since a light only uses a few different states, they are stored in a small open
+ * addressing hash table.
+ *
+ * @author Jürgen Moßgraber
+ */
+class EncodedColorLightStates
+{
+    private final IntFunction<ColorEx> stateToColorFunction;
+    private EncodedColorLightState []  states = new EncodedColorLightState [8];
+    private int                        size   = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param stateToColorFunction Convert the state of the light to a color, which can be displayed
+     *            in the simulated GUI
+     */
+    EncodedColorLightStates (final IntFunction<ColorEx> stateToColorFunction)
+    {
+        this.stateToColorFunction = stateToColorFunction;
+    }
+
+
+    /**
+     * Get the light state for an encoded color.
+     *
+     * @param encodedColorState The color and blink information
+     * @return The shared light state
+     */
+    EncodedColorLightState get (final int encodedColorState)
+    {
+        int slot = this.find (encodedColorState);
+        final EncodedColorLightState state = this.states[slot];
+        if (state != null)
+            return state;
+
+        if ((this.size + 1) * 2 > this.states.length)
+        {
+            this.grow ();
+            slot = this.find (encodedColorState);
+        }
+
+        final EncodedColorLightState newState = new EncodedColorLightState (encodedColorState, this.stateToColorFunction);
+        this.states[slot] = newState;
+        this.size++;
+        return newState;
+    }
+
+
+    /**
+     * Get the slot which contains the state or the empty slot where it needs to be inserted.
+     *
+     * @param encodedColorState The color and blink information
+     * @return The index of the slot
+     */
+    private int find (final int encodedColorState)
+    {
+        final int mask = this.states.length - 1;
+        int slot = encodedColorState * 0x9E3779B9 >>> 16 & mask;
+        while (this.states[slot] != null && this.states[slot].getEncodedColorState () != encodedColorState)
+            slot = slot + 1 & mask;
+        return slot;
+    }
+
+
+    private void grow ()
+    {
+        final EncodedColorLightState [] oldStates = this.states;
+        this.states = new EncodedColorLightState [oldStates.length * 2];
+        for (final EncodedColorLightState state: oldStates)
+        {
+            if (state != null)
+                this.states[this.find (state.getEncodedColorState ())] = state;
+        }
+    }
+}
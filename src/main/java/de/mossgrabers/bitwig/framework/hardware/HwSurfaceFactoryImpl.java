@@ -81,7 +81,14 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final Supplier<ColorEx> supplier, final Consumer<ColorEx> sendValueConsumer)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final RawColorLightState [] lastState = new RawColorLightState [1];
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> {
+            // Only create a new state if the color has changed
+            final ColorEx color = supplier.get ();
+            if (lastState[0] == null || !lastState[0].hasColor (color))
+                lastState[0] = new RawColorLightState (color);
+            return lastState[0];
+        };
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -95,7 +102,8 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     @Override
     public IHwLight createLight (final int surfaceID, final OutputID outputID, final IntSupplier supplier, final IntConsumer sendValueConsumer, final IntFunction<ColorEx> stateToColorFunction, final IHwButton button)
     {
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final EncodedColorLightStates states = new EncodedColorLightStates (stateToColorFunction);
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> states.get (supplier.getAsInt ());
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
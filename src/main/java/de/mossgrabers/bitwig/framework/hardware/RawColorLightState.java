@@ -12,13 +12,15 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
 
 
 /**
- * Creates visual states from raw colors.
+ * Creates visual states from raw colors. The visual state is only calculated once.
  *
  * @author Jürgen Moßgraber
  */
 public class RawColorLightState extends InternalHardwareLightState
 {
-    private final ColorEx colorState;
+    private final ColorEx            colorState;
+    private final int                encodedColor;
+    private HardwareLightVisualState visualState;
 
 
     /**
@@ -29,12 +31,33 @@ public class RawColorLightState extends InternalHardwareLightState
     public RawColorLightState (final ColorEx colorState)
     {
         this.colorState = colorState;
+        this.encodedColor = colorState.encode ();
+    }
+
+
+    /**
+     * Check if the state has the given color.
+     *
+     * @param color The color to compare
+     * @return True if the colors are identical
+     */
+    public boolean hasColor (final ColorEx color)
+    {
+        return this.colorState == color || this.encodedColor == color.encode ();
     }
 
 
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         final Color color = Color.fromRGB (this.colorState.getRed (), this.colorState.getGreen (), this.colorState.getBlue ());
         final ColorEx contrastColorEx = ColorEx.calcContrastColor (this.colorState);
@@ -49,7 +72,7 @@ public class RawColorLightState extends InternalHardwareLightState
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + this.colorState.encode ();
+        result = prime * result + this.encodedColor;
         return result;
     }
 
@@ -63,6 +86,6 @@ public class RawColorLightState extends InternalHardwareLightState
         if (obj == null || this.getClass () != obj.getClass ())
             return false;
         final RawColorLightState other = (RawColorLightState) obj;
-        return this.colorState.encode () == other.colorState.encode ();
+        return this.encodedColor == other.encodedColor;
     }
 }
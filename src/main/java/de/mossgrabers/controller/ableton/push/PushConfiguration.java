@@ -125,6 +125,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     public static final Integer     PREAMP_GAIN_2                   = Integer.valueOf (92);
     /** Audio Interface - Output configuration. */
     public static final Integer     AUDIO_OUTPUTS                   = Integer.valueOf (93);
+    /** Setting for the maximum frames per second of the display. */
+    public static final Integer     DISPLAY_MAX_FPS                 = Integer.valueOf (94);
 
     /** Use ribbon for pitch bend. */
     public static final int         RIBBON_MODE_PITCH               = 0;
@@ -359,6 +361,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     // Only Push 2
     private int                   displayBrightness           = 255;
     private int                   ledBrightness               = 127;
+    private int                   displayMaxFPS               = 60;
     private int                   padSensitivity              = 5;
     private int                   padGain                     = 5;
     private int                   padDynamics                 = 5;
@@ -785,6 +788,17 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /**
+     * Get the maximum number of frames per second which are sent to the display.
+     *
+     * @return The maximum frames per second
+     */
+    public int getDisplayMaxFPS ()
+    {
+        return this.displayMaxFPS;
+    }
+
+
     /**
      * Get the LED brightness.
      *
@@ -1582,6 +1596,12 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        final IIntegerSetting displayMaxFPSSetting = settingsUI.getRangeSetting ("Display max. Frames per Second", CATEGORY_HARDWARE_SETUP, 10, 60, 1, " fps", 60);
+        displayMaxFPSSetting.addValueObserver (value -> {
+            this.displayMaxFPS = value.intValue ();
+            this.notifyObservers (DISPLAY_MAX_FPS);
+        });
     }
 
 
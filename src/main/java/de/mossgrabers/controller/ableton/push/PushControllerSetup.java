@@ -458,17 +458,17 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         if (this.pushVersion != PushVersion.VERSION_1)
         {
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_BORDER, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_TEXT, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_FADER, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_VU, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_EDIT, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_RECORD, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_SOLO, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_MUTE, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_DARKER, this::redraw);
-            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_LIGHTER, this::redraw);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_BORDER, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_TEXT, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_FADER, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_VU, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_EDIT, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_RECORD, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_SOLO, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_MUTE, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_DARKER, this::handleColorChange);
+            this.configuration.addSettingObserver (PushConfiguration.COLOR_BACKGROUND_LIGHTER, this::handleColorChange);
         }
 
         if (this.pushVersion == PushVersion.VERSION_3)
@@ -512,6 +512,16 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     }
 
 
+    /**
+     * The colors of the display have changed. Drop the icons filled with the old colors and redraw.
+     */
+    private void handleColorChange ()
+    {
+        this.host.clearGraphicsCache ();
+        this.redraw ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createViews ()
@@ -11,6 +11,9 @@ package de.mossgrabers.controller.ableton.push.controller;
  */
 public class ColorPalette
 {
+    private static final Object        UPDATE_TASK      = new Object ();
+    private static final Object        APPLY_TASK       = new Object ();
+
     private final PushControlSurface   surface;
     private final ColorPaletteEntry [] entries          = new ColorPaletteEntry [128];
     private final Object                     updateLock       = new Object ();
@@ -45,7 +48,10 @@ public class ColorPalette
             {
                 // Re-apply the color palette, if necessary
                 if (this.entriesHasUpdate)
-                    this.surface.scheduleTask ( () -> this.surface.sendSysEx ("05"), 1000);
+                    this.surface.scheduleTask (APPLY_TASK, () -> this.surface.sendSysEx (new int []
+                    {
+                        0x05
+                    }), 1000);
                 return;
             }
 
@@ -73,7 +79,7 @@ public class ColorPalette
             }
         }
 
-        this.surface.scheduleTask (this::updatePalette, 10);
+        this.surface.scheduleTask (UPDATE_TASK, this::updatePalette, 10);
     }
 
 
@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -48,15 +49,10 @@ public class Push1Display extends AbstractTextDisplay
     /** Push character for the division sign. */
     public static final String     DIVISION      = Character.toString ((char) 24);
 
-    private static final String [] SYSEX_MESSAGE =
-    {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
-    };
+    private static final byte []   SYSEX_HEADER  = SysExBuilder.fromHex ("F0 47 7F 15");
 
     private final int              maxParameterValue;
+    private final SysExBuilder     sysExBuilder  = new SysExBuilder (80);
 
 
     /**
@@ -153,7 +149,8 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // Row commands are 18-1B, the text has a fixed length of 68 (0x45) characters
+        this.sysExBuilder.start (SYSEX_HEADER).add (0x18 + row, 0x00).add (0x45, 0x00).addASCII (text).send (this.output);
     }
 
 
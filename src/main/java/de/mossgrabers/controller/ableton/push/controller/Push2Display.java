@@ -38,7 +38,8 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
-        this.usbDisplay = new PushUsbDisplay (host);
+        this.usbDisplay = new PushUsbDisplay (host, configuration.getDisplayMaxFPS ());
+        configuration.addSettingObserver (PushConfiguration.DISPLAY_MAX_FPS, () -> this.usbDisplay.setMaxFPS (configuration.getDisplayMaxFPS ()));
     }
 
 
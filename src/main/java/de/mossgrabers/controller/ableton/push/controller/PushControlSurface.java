@@ -18,6 +18,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.featuregroup.IExpressionView;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -264,60 +265,60 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     /** Configure Ribbon discrete values. */
     public static final int          PUSH_RIBBON_DISCRETE                 = 3;
 
-    private static final String []   PUSH_PAD_CURVES_DATA                 =
+    private static final byte [] []  PUSH_PAD_CURVES_DATA                 =
     {
-        "00 00 00 01 08 06 0A 00 00 00 00 00 0A 0F 0C 08 00 00 00 00 00 00 00 00",
-        "00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0E 0A 06 00",
-        "00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 01 08 06 0A 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 01 0F 0B 0D 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 02 02 02 0E 00 00 00 00 01 0D 04 0C 00 00 00 00 00 00 00 00 00"
+        SysExBuilder.fromHex ("00 00 00 01 08 06 0A 00 00 00 00 00 0A 0F 0C 08 00 00 00 00 00 00 00 00"),
+        SysExBuilder.fromHex ("00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0E 0A 06 00"),
+        SysExBuilder.fromHex ("00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.fromHex ("00 00 00 01 08 06 0A 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.fromHex ("00 00 00 01 0F 0B 0D 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.fromHex ("00 00 00 02 02 02 0E 00 00 00 00 01 0D 04 0C 00 00 00 00 00 00 00 00 00")
     };
 
-    private static final String []   PUSH_PAD_THRESHOLDS_DATA             =
+    private static final byte [] []  PUSH_PAD_THRESHOLDS_DATA             =
     {
         // 4 Byte: peak_sampling_time, 4 Byte: aftertouch_gate_time
-        "00 00 00 0A 00 00 00 0A",
-        "00 00 01 03 00 00 01 04",
-        "00 00 01 0C 00 00 01 0E",
-        "00 00 02 05 00 00 02 08",
-        "00 00 02 0E 00 00 03 02",
-        "00 00 03 07 00 00 03 0C",
-        "00 00 04 00 00 00 04 06",
-        "00 00 04 09 00 00 05 00",
-        "00 00 05 02 00 00 05 0A",
-        "00 00 05 0B 00 00 06 04",
-        "00 00 06 04 00 00 06 0E",
-        "00 00 06 0D 00 00 07 08",
-        "00 00 07 06 00 00 08 02",
-        "00 00 07 0F 00 00 08 0C",
-        "00 00 08 08 00 00 09 06",
-        "00 00 09 01 00 00 0A 00",
-        "00 00 09 0A 00 00 0A 0A",
-        "00 00 0A 03 00 00 0B 04",
-        "00 00 0A 0C 00 00 0B 0E",
-        "00 00 0B 05 00 00 0C 08",
-        "00 00 0B 0E 00 00 0D 02",
-        "00 00 0C 07 00 00 0D 0C",
-        "00 00 0D 00 00 00 0E 06",
-        "00 00 0D 08 00 00 0E 0F",
-        "00 00 0E 02 00 00 0F 0A",
-        "00 00 0E 0B 00 01 00 04",
-        "00 00 0F 04 00 01 00 0E",
-        "00 00 0F 0D 00 01 01 08",
-        "00 01 00 06 00 01 02 02",
-        "00 01 00 0F 00 01 02 0C",
-        "00 01 01 08 00 01 03 06",
-        "00 01 02 01 00 01 04 00",
-        "00 01 02 0A 00 01 04 0A",
-        "00 01 03 03 00 01 05 04",
-        "00 01 03 0C 00 01 05 0E",
-        "00 01 04 05 00 01 06 08",
-        "00 01 04 0E 00 01 07 02",
-        "00 01 05 07 00 01 07 0C",
-        "00 01 06 00 00 01 08 06",
-        "00 01 06 09 00 01 09 00",
-        "00 01 07 02 00 01 09 0A"
+        SysExBuilder.fromHex ("00 00 00 0A 00 00 00 0A"),
+        SysExBuilder.fromHex ("00 00 01 03 00 00 01 04"),
+        SysExBuilder.fromHex ("00 00 01 0C 00 00 01 0E"),
+        SysExBuilder.fromHex ("00 00 02 05 00 00 02 08"),
+        SysExBuilder.fromHex ("00 00 02 0E 00 00 03 02"),
+        SysExBuilder.fromHex ("00 00 03 07 00 00 03 0C"),
+        SysExBuilder.fromHex ("00 00 04 00 00 00 04 06"),
+        SysExBuilder.fromHex ("00 00 04 09 00 00 05 00"),
+        SysExBuilder.fromHex ("00 00 05 02 00 00 05 0A"),
+        SysExBuilder.fromHex ("00 00 05 0B 00 00 06 04"),
+        SysExBuilder.fromHex ("00 00 06 04 00 00 06 0E"),
+        SysExBuilder.fromHex ("00 00 06 0D 00 00 07 08"),
+        SysExBuilder.fromHex ("00 00 07 06 00 00 08 02"),
+        SysExBuilder.fromHex ("00 00 07 0F 00 00 08 0C"),
+        SysExBuilder.fromHex ("00 00 08 08 00 00 09 06"),
+        SysExBuilder.fromHex ("00 00 09 01 00 00 0A 00"),
+        SysExBuilder.fromHex ("00 00 09 0A 00 00 0A 0A"),
+        SysExBuilder.fromHex ("00 00 0A 03 00 00 0B 04"),
+        SysExBuilder.fromHex ("00 00 0A 0C 00 00 0B 0E"),
+        SysExBuilder.fromHex ("00 00 0B 05 00 00 0C 08"),
+        SysExBuilder.fromHex ("00 00 0B 0E 00 00 0D 02"),
+        SysExBuilder.fromHex ("00 00 0C 07 00 00 0D 0C"),
+        SysExBuilder.fromHex ("00 00 0D 00 00 00 0E 06"),
+        SysExBuilder.fromHex ("00 00 0D 08 00 00 0E 0F"),
+        SysExBuilder.fromHex ("00 00 0E 02 00 00 0F 0A"),
+        SysExBuilder.fromHex ("00 00 0E 0B 00 01 00 04"),
+        SysExBuilder.fromHex ("00 00 0F 04 00 01 00 0E"),
+        SysExBuilder.fromHex ("00 00 0F 0D 00 01 01 08"),
+        SysExBuilder.fromHex ("00 01 00 06 00 01 02 02"),
+        SysExBuilder.fromHex ("00 01 00 0F 00 01 02 0C"),
+        SysExBuilder.fromHex ("00 01 01 08 00 01 03 06"),
+        SysExBuilder.fromHex ("00 01 02 01 00 01 04 00"),
+        SysExBuilder.fromHex ("00 01 02 0A 00 01 04 0A"),
+        SysExBuilder.fromHex ("00 01 03 03 00 01 05 04"),
+        SysExBuilder.fromHex ("00 01 03 0C 00 01 05 0E"),
+        SysExBuilder.fromHex ("00 01 04 05 00 01 06 08"),
+        SysExBuilder.fromHex ("00 01 04 0E 00 01 07 02"),
+        SysExBuilder.fromHex ("00 01 05 07 00 01 07 0C"),
+        SysExBuilder.fromHex ("00 01 06 00 00 01 08 06"),
+        SysExBuilder.fromHex ("00 01 06 09 00 01 09 00"),
+        SysExBuilder.fromHex ("00 01 07 02 00 01 09 0A")
     };
 
     private static final int []      MAXW                                 =
@@ -446,8 +447,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x3B                                                                                                                                                                                                                                                                                                                                          // 10mm
     };
 
-    private static final String      SYSEX_HEADER_TEXT_PUSH1              = "F0 47 7F 15 ";
-    private static final String      SYSEX_HEADER_TEXT                    = "F0 00 21 1D 01 01 ";
+    private static final byte []     SYSEX_HEADER_PUSH1                   = SysExBuilder.fromHex ("F0 47 7F 15");
+    private static final byte []     SYSEX_HEADER                         = SysExBuilder.fromHex ("F0 00 21 1D 01 01");
     private static final int []      SYSEX_HEADER_BYTES                   =
     {
         0xF0,
@@ -457,12 +458,13 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01,
         0x01
     };
-    private static final String      SYSEX_ZERO_PADDING                   = " 00 00 00 00 00 00 00 00 00 00 00 00 00";
+    private static final byte []     SYSEX_ZERO_PADDING                   = new byte [13];
 
     private static final int         PAD_VELOCITY_CURVE_CHUNK_SIZE        = 16;
     private static final int         NUM_VELOCITY_CURVE_ENTRIES           = 128;
 
     private final ColorPalette       colorPalette;
+    private final SysExBuilder       sysExBuilder                         = new SysExBuilder ();
 
     private int                      ribbonMode                           = -1;
     private int                      ribbonValue                          = -1;
@@ -597,7 +599,13 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             });
         }
         else
-            this.sendSysExPush1 ("63 00 01 0" + mode);
+            this.sendSysExPush1 (new int []
+            {
+                0x63,
+                0x00,
+                0x01,
+                mode
+            });
     }
 
 
@@ -620,7 +628,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPadSensitivity ()
     {
-        this.sendSysExPush1 ("5D 00 20 " + PUSH_PAD_THRESHOLDS_DATA[this.configuration.getPadThreshold ()] + " " + PUSH_PAD_CURVES_DATA[this.configuration.getVelocityCurve ()]);
+        this.sysExBuilder.start (SYSEX_HEADER_PUSH1).add (0x5D, 0x00).add (0x20).add (PUSH_PAD_THRESHOLDS_DATA[this.configuration.getPadThreshold ()]).add (PUSH_PAD_CURVES_DATA[this.configuration.getVelocityCurve ()]).send (this.output);
     }
 
 
@@ -632,9 +640,19 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     public void sendPressureMode (final boolean isPolyPressure)
     {
         if (this.configuration.isPushModern ())
-            this.sendSysEx ("1E 0" + (isPolyPressure ? "1" : "0"));
+            this.sendSysEx (new int []
+            {
+                0x1E,
+                isPolyPressure ? 0x01 : 0x00
+            });
         else
-            this.sendSysExPush1 ("5C 00 01 0" + (isPolyPressure ? "0" : "1"));
+            this.sendSysExPush1 (new int []
+            {
+                0x5C,
+                0x00,
+                0x01,
+                isPolyPressure ? 0x00 : 0x01
+            });
     }
 
 
@@ -709,7 +727,11 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     public void sendMPEActive (final boolean enable)
     {
         // Same command as sendPressureMode
-        this.sendSysEx (enable ? "1E 02" : "1E 01");
+        this.sendSysEx (new int []
+        {
+            0x1E,
+            enable ? 0x02 : 0x01
+        });
     }
 
 
@@ -720,7 +742,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPerPadPitchbendActive (final boolean enable)
     {
-        this.sendSysEx ("26 07 08 0" + (enable ? "2" : "0") + " 00");
+        this.sendExpressionSetting (0x08, enable ? 0x02 : 0x00);
     }
 
 
@@ -731,7 +753,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendInTuneLocation (final int inTuneLocation)
     {
-        this.sendSysEx ("26 07 0E 0" + inTuneLocation + " 00");
+        this.sendExpressionSetting (0x0E, inTuneLocation);
     }
 
 
@@ -742,7 +764,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendInTuneWidth (final int inTuneWidthIndex)
     {
-        this.sendSysEx ("26 07 14 " + StringUtils.toHexStr (TUNE_WIDTH_VALUES[inTuneWidthIndex]) + " 00");
+        this.sendExpressionSetting (0x14, TUNE_WIDTH_VALUES[inTuneWidthIndex]);
     }
 
 
@@ -753,7 +775,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendSlideHeight (final int slideHeightIndex)
     {
-        this.sendSysEx ("26 07 24 " + StringUtils.toHexStr (SLIDE_HEIGHT_VALUES[slideHeightIndex]) + " 00");
+        this.sendExpressionSetting (0x24, SLIDE_HEIGHT_VALUES[slideHeightIndex]);
     }
 
 
@@ -770,7 +792,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             value = useCV2 ? 0x0F : 0x43;
         else
             value = useCV2 ? 0x1C : 0x50;
-        this.sendSysEx ("37 26 " + StringUtils.toHexStr (value) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x26, value);
     }
 
 
@@ -781,7 +803,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         // 0 = Line, 1 = Instrument, 2 = High
         final int preampType = this.configuration.getPreamp1Type ();
-        this.sendSysEx ("37 1A " + StringUtils.toHexStr (preampType) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x1A, preampType);
     }
 
 
@@ -792,7 +814,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         // 0 = Line, 1 = Instrument, 2 = High
         final int preampType = this.configuration.getPreamp2Type ();
-        this.sendSysEx ("37 1B " + StringUtils.toHexStr (preampType) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x1B, preampType);
     }
 
 
@@ -803,7 +825,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         // The gain in steps of two (1dB = 2) in the range of 0x00 (20dB) to 0x28 (no gain)
         final int preampGain = (PushConfiguration.PREAMP_GAIN_OPTIONS.length - 1 - this.configuration.getPreamp1Gain ()) * 2;
-        this.sendSysEx ("37 02 " + StringUtils.toHexStr (preampGain) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x02, preampGain);
     }
 
 
@@ -814,7 +836,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         // The gain in steps of two (1dB = 2) in the range of 0x00 (20dB) to 0x28 (no gain)
         final int preampGain = (PushConfiguration.PREAMP_GAIN_OPTIONS.length - 1 - this.configuration.getPreamp2Gain ()) * 2;
-        this.sendSysEx ("37 03 " + StringUtils.toHexStr (preampGain) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x03, preampGain);
     }
 
 
@@ -827,7 +849,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         // Speaker 3/4
         final int audioOutputs = this.configuration.getAudioOutputs ();
         final int value = audioOutputs == 0 ? 0 : audioOutputs + 1;
-        this.sendSysEx ("37 11 " + StringUtils.toHexStr (value) + SYSEX_ZERO_PADDING);
+        this.sendAudioSetting (0x11, value);
     }
 
 
@@ -838,29 +860,42 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendSysEx (final int [] parameters)
     {
-        this.output.sendSysex (SYSEX_HEADER_TEXT + StringUtils.toHexStr (parameters) + "F7");
+        this.sysExBuilder.start (SYSEX_HEADER).add (parameters).send (this.output);
     }
 
 
     /**
-     * Send SysEx to the Push 2/3.
+     * Send SysEx to the Push 1.
      *
      * @param parameters The parameters to send
      */
-    public void sendSysEx (final String parameters)
+    public void sendSysExPush1 (final int [] parameters)
     {
-        this.output.sendSysex (SYSEX_HEADER_TEXT + parameters + " F7");
+        this.sysExBuilder.start (SYSEX_HEADER_PUSH1).add (parameters).send (this.output);
     }
 
 
     /**
-     * Send SysEx to the Push 1.
+     * Send a setting of the pitch-bend / MPE configuration (only Push 3).
      *
-     * @param parameters The parameters to send
+     * @param setting The ID of the setting
+     * @param value The value of the setting
+     */
+    private void sendExpressionSetting (final int setting, final int value)
+    {
+        this.sysExBuilder.start (SYSEX_HEADER).add (0x26, 0x07).add (setting, value).add (0x00).send (this.output);
+    }
+
+
+    /**
+     * Send a setting of the audio interface (only Push 3).
+     *
+     * @param setting The ID of the setting
+     * @param value The value of the setting
      */
-    public void sendSysExPush1 (final String parameters)
+    private void sendAudioSetting (final int setting, final int value)
     {
-        this.output.sendSysex (SYSEX_HEADER_TEXT_PUSH1 + parameters + " F7");
+        this.sysExBuilder.start (SYSEX_HEADER).add (0x37, setting).add (value).add (SYSEX_ZERO_PADDING).send (this.output);
     }
 
 
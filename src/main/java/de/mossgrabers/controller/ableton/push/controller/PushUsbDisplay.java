@@ -10,26 +10,25 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.FramePacer;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. Frames are transferred with backpressure: if a
+ * transfer stalls, only the latest frame is kept for the next transfer.
  *
  * @author Jürgen Moßgraber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int               DATA_SZ          = 20 * 0x4000;
+    private static final int     DATA_SZ          = 20 * 0x4000;
 
-    private static final int               TIMEOUT          = 1000;
+    private static final int     TIMEOUT          = 1000;
 
-    private static final byte []           DISPLAY_HEADER   =
+    private static final byte [] DISPLAY_HEADER   =
     {
         // (byte) 0xef,
         // (byte) 0xcd,
@@ -53,26 +52,28 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice                     usbDevice;
-    private IUsbEndpoint                   usbEndpoint;
-    private final IHost                    host;
-    private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private IUsbDevice           usbDevice;
+    private IUsbEndpoint         usbEndpoint;
+    private final IHost          host;
+    private final IMemoryBlock   headerBlock;
+    private final IMemoryBlock   imageBlock;
+    private final byte []        byteStore        = new byte [DATA_SZ];
 
-    private final Object                   sendLock         = new Object ();
-    private final Object                   bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final Object         sendLock         = new Object ();
+    private final Object         bufferUpdateLock = new Object ();
+    private final FramePacer     framePacer;
 
 
     /**
      * Connect to the USB port and claim the display interface.
      *
      * @param host The controller host
+     * @param maxFPS The maximum number of frames to send per second
      */
-    public PushUsbDisplay (final IHost host)
+    public PushUsbDisplay (final IHost host, final int maxFPS)
     {
         this.host = host;
+        this.framePacer = new FramePacer (maxFPS);
 
         try
         {
@@ -137,11 +138,18 @@ public class PushUsbDisplay
             });
         }
 
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+        this.framePacer.submit (this::sendData);
+    }
+
+
+    /**
+     * Set the maximum number of frames to send per second.
+     *
+     * @param maxFPS The maximum number of frames per second
+     */
+    public void setMaxFPS (final int maxFPS)
+    {
+        this.framePacer.setMaxFPS (maxFPS);
     }
 
 
@@ -198,18 +206,18 @@ public class PushUsbDisplay
         {
             this.usbDevice = null;
             this.usbEndpoint = null;
+        }
 
-            this.sendExecutor.shutdown ();
-            try
-            {
-                if (!this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("USB Send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
+        try
+        {
+            if (!this.framePacer.shutdown (5000))
+                this.host.error ("USB Send executor did not end in 5 seconds.");
+            this.host.println ("Push 2 display: " + this.framePacer.getStatistics ());
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB Send executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
         }
     }
 
@@ -221,7 +229,7 @@ public class PushUsbDisplay
      */
     public boolean isShutdown ()
     {
-        return this.sendExecutor.isShutdown ();
+        return this.framePacer.isShutdown ();
     }
 
 
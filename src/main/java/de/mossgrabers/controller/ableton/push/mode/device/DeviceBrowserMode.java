@@ -27,6 +27,7 @@ import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
 import de.mossgrabers.framework.view.sequencer.AbstractDrumView;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 
@@ -41,6 +42,8 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
     private static final int SELECTION_PRESET = 1;
     private static final int SELECTION_FILTER = 2;
 
+    private final String []  resultNames;
+    private final String []  shortResultNames;
     private int              selectionMode;
     private int              filterColumn;
 
@@ -55,7 +58,15 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
     {
         super ("Browser", surface, model);
 
-        this.selectionMode = SELECTION_OFF;
+        // The result names are only read when the host sent a batch of changes
+        final IBrowser browser = this.model.getBrowser ();
+        this.resultNames = new String [browser.getNumResults ()];
+        this.shortResultNames = new String [browser.getNumResults ()];
+        Arrays.fill (this.resultNames, "");
+        Arrays.fill (this.shortResultNames, "");
+        browser.addResultsObserver (this::updateResultNames);
+
+        this.setSelectionMode (SELECTION_OFF);
         this.filterColumn = -1;
     }
 
@@ -67,7 +78,7 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
         super.onDeactivate ();
 
         this.model.getBrowser ().stopBrowsing (true);
-        this.selectionMode = SELECTION_OFF;
+        this.setSelectionMode (SELECTION_OFF);
         this.filterColumn = -1;
     }
 
@@ -128,13 +139,13 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
         }
         else
         {
-            this.selectionMode = DeviceBrowserMode.SELECTION_OFF;
+            this.setSelectionMode (DeviceBrowserMode.SELECTION_OFF);
             return;
         }
 
         if (index == 7)
         {
-            this.selectionMode = DeviceBrowserMode.SELECTION_PRESET;
+            this.setSelectionMode (DeviceBrowserMode.SELECTION_PRESET);
             this.filterColumn = -1;
         }
         else
@@ -142,7 +153,7 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
             fc = this.getFilterColumn (index);
             if (fc.isPresent () && fc.get ().doesExist ())
             {
-                this.selectionMode = DeviceBrowserMode.SELECTION_FILTER;
+                this.setSelectionMode (DeviceBrowserMode.SELECTION_FILTER);
                 this.filterColumn = fc.get ().getIndex ();
             }
         }
@@ -249,7 +260,7 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
                 for (int i = 0; i < 16; i++)
                 {
                     if (i < results.length)
-                        display.setBlock (i % 4, i / 4, (results[i].isSelected () ? Push1Display.SELECT_ARROW : " ") + StringUtils.shortenAndFixASCII (results[i].getName (), 16));
+                        display.setBlock (i % 4, i / 4, (results[i].isSelected () ? Push1Display.SELECT_ARROW : " ") + this.resultNames[i]);
                     else
                         display.setBlock (i % 4, i / 4, "");
                 }
@@ -321,7 +332,7 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
                     for (int item = 0; item < 6; item++)
                     {
                         final int pos = i * 6 + item;
-                        items[item] = pos < results.length ? results[pos].getName (14) : "";
+                        items[item] = pos < results.length ? this.shortResultNames[pos] : "";
                         selected[item] = pos < results.length && results[pos].isSelected ();
                     }
                     display.addListElement (items, selected);
@@ -596,4 +607,36 @@ public class DeviceBrowserMode extends BaseMode<IItem> implements IPush3Encoder
         if (event == ButtonEvent.DOWN)
             this.model.getBrowser ().toggleInsertionPoint ();
     }
+
+
+    /**
+     * Set the selection mode. The results are only observed while they are displayed.
+     *
+     * @param selectionMode The selection mode
+     */
+    private void setSelectionMode (final int selectionMode)
+    {
+        this.selectionMode = selectionMode;
+        final IBrowser browser = this.model.getBrowser ();
+        browser.setNumVisibleResults (selectionMode == SELECTION_PRESET ? browser.getNumResults () : 0);
+
+        // The results might not change when they are observed again
+        if (selectionMode == SELECTION_PRESET)
+            this.updateResultNames (browser.getResultColumnItems ());
+    }
+
+
+    /**
+     * Store the names of the results for display. Called once for each batch of result changes.
+     *
+     * @param results The result items
+     */
+    private void updateResultNames (final IBrowserColumnItem [] results)
+    {
+        for (int i = 0; i < this.resultNames.length && i < results.length; i++)
+        {
+            this.resultNames[i] = StringUtils.shortenAndFixASCII (results[i].getName (), 16);
+            this.shortResultNames[i] = results[i].getName (14);
+        }
+    }
 }
\ No newline at end of file
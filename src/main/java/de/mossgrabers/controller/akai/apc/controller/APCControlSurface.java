@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.Arrays;
 
@@ -108,8 +109,8 @@ public class APCControlSurface extends AbstractControlSurface<APCConfiguration>
     public static final int     APC_FOOTSWITCH_1               = 0x40;
     public static final int     APC_FOOTSWITCH_2               = 0x43;
 
-    private static final String ID_APC_40                      = "73";
-    private static final String ID_APC_40_MKII                 = "29";
+    private static final byte [] SYSEX_MODE_2_APC_40      = SysExBuilder.fromHex ("F0 47 7F 73 60 00 04 41 08 02 01 F7");
+    private static final byte [] SYSEX_MODE_2_APC_40_MKII = SysExBuilder.fromHex ("F0 47 7F 29 60 00 04 41 08 02 01 F7");
 
     public static final int     LED_MODE_SINGLE                = 1;
     public static final int     LED_MODE_VOLUME                = 2;
@@ -138,7 +139,7 @@ public class APCControlSurface extends AbstractControlSurface<APCConfiguration>
         Arrays.fill (this.knobCache, -1);
 
         // Set Mode 2
-        this.output.sendSysex ("F0 47 7F " + (isMkII ? ID_APC_40_MKII : ID_APC_40) + " 60 00 04 41 08 02 01 F7");
+        this.output.sendSysex (isMkII ? SYSEX_MODE_2_APC_40_MKII : SYSEX_MODE_2_APC_40);
     }
 
 
@@ -12,8 +12,6 @@ import de.mossgrabers.framework.daw.data.bank.IBank;
 import de.mossgrabers.framework.featuregroup.AbstractParameterMode;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.Date;
-
 
 /**
  * Base class for knob modes.
@@ -24,9 +22,10 @@ import java.util.Date;
  */
 public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<APCControlSurface, APCConfiguration, B>
 {
-    private boolean   isKnobMoving;
-    private long      moveStartTime;
-    private final int ledMode;
+    private static final int KNOB_MOVEMENT_TIMEOUT = 200;
+
+    private boolean          isKnobMoving;
+    private final int        ledMode;
 
 
     /**
@@ -45,7 +44,6 @@ public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<AP
         this.ledMode = ledMode;
 
         this.isKnobMoving = false;
-        this.moveStartTime = 0;
     }
 
 
@@ -67,12 +65,9 @@ public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<AP
     {
         this.setValue (index, value);
 
-        this.moveStartTime = new Date ().getTime ();
-        if (this.isKnobMoving)
-            return;
-
+        // Show the values on the knob LEDs again when the knob was not moved for a while
         this.isKnobMoving = true;
-        this.startCheckKnobMovement ();
+        this.surface.scheduleTask (this, () -> this.isKnobMoving = false, KNOB_MOVEMENT_TIMEOUT);
     }
 
 
@@ -92,23 +87,6 @@ public abstract class BaseMode<B extends IItem> extends AbstractParameterMode<AP
     }
 
 
-    protected void startCheckKnobMovement ()
-    {
-        this.surface.scheduleTask (this::checkKnobMovement, 100);
-    }
-
-
-    protected void checkKnobMovement ()
-    {
-        if (!this.isKnobMoving)
-            return;
-        if (new Date ().getTime () - this.moveStartTime > 200)
-            this.isKnobMoving = false;
-        else
-            this.startCheckKnobMovement ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void onButton (final int row, final int index, final ButtonEvent event)
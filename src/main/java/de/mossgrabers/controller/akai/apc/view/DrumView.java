@@ -9,13 +9,12 @@ import de.mossgrabers.controller.akai.apc.controller.APCControlSurface;
 import de.mossgrabers.controller.akai.apc.mode.NoteMode;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
-import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
@@ -92,9 +91,9 @@ public class DrumView extends AbstractDrumExView<APCControlSurface, APCConfigura
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected String getPadContentColor (final DrumPadStates states, final int index)
     {
-        return this.surface.isMkII () ? DAWColor.getColorID (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.surface.isMkII () ? states.getColorID (index) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
 
 
@@ -166,14 +165,14 @@ public class DrumView extends AbstractDrumExView<APCControlSurface, APCConfigura
         if (this.noteRepeatPeriodOn)
         {
             this.configuration.setNoteRepeatPeriod (Resolution.values ()[index]);
-            this.mvHelper.delayDisplay ( () -> "Period: " + Resolution.getNameAt (index));
+            this.mvHelper.delayDisplay ("Period", () -> "Period: " + Resolution.getNameAt (index));
             return;
         }
 
         if (this.noteRepeatLengthOn)
         {
             this.configuration.setNoteRepeatLength (Resolution.values ()[index]);
-            this.mvHelper.delayDisplay ( () -> "Note Length: " + Resolution.getNameAt (index));
+            this.mvHelper.delayDisplay ("Note Length", () -> "Note Length: " + Resolution.getNameAt (index));
             return;
         }
 
@@ -11,7 +11,7 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
-import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.sequencer.AbstractDrumView;
 
@@ -44,7 +44,7 @@ public class DrumView extends AbstractDrumView<APCminiControlSurface, APCminiCon
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected String getPadContentColor (final DrumPadStates states, final int index)
     {
         return AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
@@ -38,9 +38,12 @@ public class FireConfiguration extends AbstractConfiguration
     public static final Integer   PAD_BRIGHTNESS       = Integer.valueOf (50);
     /** Setting for the pad color saturation. */
     public static final Integer   PAD_SATURATION       = Integer.valueOf (51);
+    /** Setting for the maximum frames per second of the display. */
+    public static final Integer   DISPLAY_MAX_FPS      = Integer.valueOf (52);
 
     private int                   padBrightness        = 100;
     private int                   padSaturation        = 100;
+    private int                   displayMaxFPS        = 30;
 
 
     /**
@@ -137,6 +140,13 @@ public class FireConfiguration extends AbstractConfiguration
             this.notifyObservers (PAD_SATURATION);
         });
         this.isSettingActive.add (PAD_SATURATION);
+
+        final IIntegerSetting displayMaxFPSSetting = globalSettings.getRangeSetting ("Display max. Frames per Second", CATEGORY_HARDWARE_SETUP, 5, 60, 1, " fps", 30);
+        displayMaxFPSSetting.addValueObserver (value -> {
+            this.displayMaxFPS = value.intValue ();
+            this.notifyObservers (DISPLAY_MAX_FPS);
+        });
+        this.isSettingActive.add (DISPLAY_MAX_FPS);
     }
 
 
@@ -160,4 +170,14 @@ public class FireConfiguration extends AbstractConfiguration
     {
         return this.padSaturation;
     }
+
+    /**
+     * Get the maximum number of frames per second which are sent to the display.
+     *
+     * @return The maximum frames per second
+     */
+    public int getDisplayMaxFPS ()
+    {
+        return this.displayMaxFPS;
+    }
 }
@@ -158,7 +158,7 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
         surface.configureLEDs ();
         this.surfaces.add (surface);
 
-        surface.addGraphicsDisplay (new FireDisplay (this.host, output, this.valueChanger.getUpperBound ()));
+        surface.addGraphicsDisplay (new FireDisplay (this.host, output, this.configuration, this.valueChanger.getUpperBound ()));
 
         surface.getModeManager ().setDefaultID (Modes.TRACK);
     }
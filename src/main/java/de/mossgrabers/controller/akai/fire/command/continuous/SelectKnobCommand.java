@@ -42,7 +42,7 @@ public class SelectKnobCommand extends AbstractContinuousCommand<FireControlSurf
     {
         super (model, surface);
 
-        this.timeout = new Timeout (model.getHost (), 500);
+        this.timeout = new Timeout (surface, 500);
     }
 
 
@@ -97,6 +97,6 @@ public class DrumSequencerSelectCommand extends AbstractFireViewMultiSelectComma
             return;
         final ITransport transport = this.model.getTransport ();
         transport.tapTempo ();
-        this.mvHelper.delayDisplay ( () -> String.format ("Tempo: %.02f", Double.valueOf (transport.getTempo ())));
+        this.mvHelper.delayDisplay ("Tempo", () -> String.format ("Tempo: %.02f", Double.valueOf (transport.getTempo ())));
     }
 }
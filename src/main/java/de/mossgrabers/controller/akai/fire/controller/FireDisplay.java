@@ -4,14 +4,15 @@
 
 package de.mossgrabers.controller.akai.fire.controller;
 
-import java.util.Arrays;
-
+import de.mossgrabers.controller.akai.fire.FireConfiguration;
 import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.FramePacer;
 
 
 /**
@@ -35,13 +36,19 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
+    /** AKAI, All-Call, Fire, Write OLED. */
+    private static final byte []   SYSEX_HEADER  = SysExBuilder.fromHex ("F0 47 7F 43 0E");
+
     private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    /** Number of columns which are packed into one block of 8 bytes. */
+    private static final int       BLOCK_COLUMNS = 7;
+    private static final int       BLOCK_SIZE    = 8;
 
     private final IMidiOutput      output;
     private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
     private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final SysExBuilder     sysExBuilder  = new SysExBuilder (12 + STRIPE_SIZE);
+    private final FramePacer       framePacer;
 
     private long                   lastSend      = System.currentTimeMillis ();
 
@@ -52,31 +59,16 @@ public class FireDisplay extends AbstractGraphicDisplay
      *
      * @param host The host
      * @param output The MIDI output which addresses the display
+     * @param configuration The configuration
      * @param maxParameterValue The maximum parameter value (upper bound)
      */
-    public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
+    public FireDisplay (final IHost host, final IMidiOutput output, final FireConfiguration configuration, final int maxParameterValue)
     {
         super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
 
         this.output = output;
-
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Pay-load length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Pay-load length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start column of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
+        this.framePacer = new FramePacer (configuration.getDisplayMaxFPS ());
+        configuration.addSettingObserver (FireConfiguration.DISPLAY_MAX_FPS, () -> this.framePacer.setMaxFPS (configuration.getDisplayMaxFPS ()));
     }
 
 
@@ -95,7 +87,7 @@ public class FireDisplay extends AbstractGraphicDisplay
     @Override
     protected void send (final IBitmap image)
     {
-        synchronized (this.data)
+        synchronized (this.oledBitmap)
         {
             image.encode ( (imageBuffer, width, height) -> {
 
@@ -125,28 +117,75 @@ public class FireDisplay extends AbstractGraphicDisplay
                     }
                 }
             });
+        }
+
+        this.framePacer.submit (this::sendStripes);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        try
+        {
+            if (!this.framePacer.shutdown (5000))
+                this.host.error ("Display frame executor did not end in 5 seconds.");
+            this.host.println ("Fire display: " + this.framePacer.getStatistics ());
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("Display frame executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
+        super.shutdown ();
+    }
+
+
+    private void sendStripes ()
+    {
+        synchronized (this.oledBitmap)
+        {
+            // Slow down display updates to not flood the device controller
+            // Send only the changed columns of a stripe. Send all stripes every 3 seconds if there
+            // was no change to keep the display from going into sleep mode
+            final long now = System.currentTimeMillis ();
+            final boolean refresh = now - this.lastSend >= 3000;
 
-            // Convert to system exclusive and send to device
             for (int stripe = 0; stripe < 8; stripe++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
-                // Slow down display updates to not flood the device controller
-                // Send if content has change or every 3 seconds if there was no change to keep
-                // the display from going into sleep mode
-                final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
-                this.lastSend = now;
+                final int [] bitmap = this.oledBitmap[stripe];
+                final int [] oldBitmap = this.oldOledBitmap[stripe];
 
-                this.output.sendSysex (this.data);
+                int first = 0;
+                int last = STRIPE_SIZE - 1;
+                if (!refresh)
+                {
+                    while (first < STRIPE_SIZE && bitmap[first] == oldBitmap[first])
+                        first++;
+                    if (first == STRIPE_SIZE)
+                        continue;
+                    while (bitmap[last] == oldBitmap[last])
+                        last--;
+                }
+
+                // The window must be aligned to the blocks of 7 columns (8 bytes) since the pixels
+                // are packed relative to the start column
+                final int startBlock = first / BLOCK_SIZE;
+                final int endBlock = last / BLOCK_SIZE;
+                final int offset = startBlock * BLOCK_SIZE;
+                final int size = Math.min (STRIPE_SIZE, (endBlock + 1) * BLOCK_SIZE) - offset;
+                System.arraycopy (bitmap, offset, oldBitmap, offset, size);
+
+                // Pay-load length, start and end 8-pixel band, start and end column of update
+                this.sysExBuilder.start (SYSEX_HEADER).add14BitMSB (4 + size).add (stripe, stripe);
+                this.sysExBuilder.add (startBlock * BLOCK_COLUMNS, Math.min (127, endBlock * BLOCK_COLUMNS + BLOCK_COLUMNS - 1));
+                for (int i = 0; i < size; i++)
+                    this.sysExBuilder.add (bitmap[offset + i]);
+                this.sysExBuilder.send (this.output);
+
+                this.lastSend = now;
             }
         }
     }
@@ -8,13 +8,11 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +39,13 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private static final byte [] SYSEX_HEADER = SysExBuilder.fromHex ("F0 47 7F 43 65");
+
+    private final SysExBuilder  sysExBuilder  = new SysExBuilder (8 + 64 * 4);
+    private final byte []       padUpdates    = new byte [64 * 4];
+    private int                 numPadUpdates = 0;
+    private double              padBrightness = 1.0;
+    private double              padSaturation = 1.0;
 
 
     /**
@@ -82,64 +85,35 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
-            // Do not scale black!
-            if (!color.equals (ColorEx.BLACK))
-                color = color.scale (this.padBrightness, this.padSaturation);
-            final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
-        }
-
-        int length = this.padInfos.size ();
-
-        // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-            {
-                final LightInfo info = value.getValue ();
+        this.numPadUpdates = 0;
 
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
-            }
-        }
+        super.updateController ();
 
         // No update necessary
-        if (sb.length () == 0)
+        if (this.numPadUpdates == 0)
             return;
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
+        final int length = this.numPadUpdates * 4;
+        this.sysExBuilder.start (SYSEX_HEADER).add (length / 128, length % 128).add (this.padUpdates, 0, length).send (this.output);
+    }
+
 
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+    /** {@inheritDoc} */
+    @Override
+    protected void sendPadUpdate (final int note, final int colorIndex)
+    {
+        // Note: The exact PADx is not needed for getting the color
+        ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
+        // Do not scale black!
+        if (!color.equals (ColorEx.BLACK))
+            color = color.scale (this.padBrightness, this.padSaturation);
+        final int [] c = color.toIntRGB127 ();
+        final int offset = this.numPadUpdates * 4;
+        this.padUpdates[offset] = (byte) (note - 54);
+        this.padUpdates[offset + 1] = (byte) c[0];
+        this.padUpdates[offset + 2] = (byte) c[1];
+        this.padUpdates[offset + 3] = (byte) c[2];
+        this.numPadUpdates++;
     }
 
 
@@ -111,7 +111,7 @@ public class DrumXoXView extends AbstractDrumXoXView<FireControlSurface, FireCon
             case 3:
             default:
                 this.configuration.toggleNoteRepeatActive ();
-                this.mvHelper.delayDisplay ( () -> "Note Repeat: " + (this.configuration.isNoteRepeatActive () ? "On" : "Off"));
+                this.mvHelper.delayDisplay ("Note Repeat", () -> "Note Repeat: " + (this.configuration.isNoteRepeatActive () ? "On" : "Off"));
                 break;
         }
     }
@@ -145,7 +145,7 @@ public class DrumXoXView extends AbstractDrumXoXView<FireControlSurface, FireCon
                 else
                     sel = PREV_RESOLUTION.get (activePeriod);
                 this.configuration.setNoteRepeatPeriod (sel);
-                this.mvHelper.delayDisplay ( () -> "Period: " + sel.getName ());
+                this.mvHelper.delayDisplay ("Period", () -> "Period: " + sel.getName ());
                 return;
             }
         }
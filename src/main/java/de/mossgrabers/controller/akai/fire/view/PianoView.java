@@ -80,7 +80,7 @@ public class PianoView extends PlayView
             this.scales.incPianoOctave ();
         else
             this.scales.decPianoOctave ();
-        this.mvHelper.delayDisplay (this.scales::getPianoRangeText);
+        this.mvHelper.delayDisplay ("Range", this.scales::getPianoRangeText);
         this.updateNoteMapping ();
     }
 }
\ No newline at end of file
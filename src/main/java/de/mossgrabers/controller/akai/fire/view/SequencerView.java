@@ -192,12 +192,12 @@ public class SequencerView extends AbstractNoteSequencerView<FireControlSurface,
             if (isAltPressed)
             {
                 this.scales.prevScaleOffset ();
-                this.mvHelper.delayDisplay ( () -> Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
+                this.mvHelper.delayDisplay ("Scale Offset", () -> Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
             }
             else
             {
                 this.scales.prevScale ();
-                this.mvHelper.delayDisplay ( () -> this.scales.getScale ().getName ());
+                this.mvHelper.delayDisplay ("Scale", () -> this.scales.getScale ().getName ());
             }
             this.updateScale ();
         }
@@ -221,12 +221,12 @@ public class SequencerView extends AbstractNoteSequencerView<FireControlSurface,
             if (isAltPressed)
             {
                 this.scales.nextScaleOffset ();
-                this.mvHelper.delayDisplay ( () -> Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
+                this.mvHelper.delayDisplay ("Scale Offset", () -> Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
             }
             else
             {
                 this.scales.nextScale ();
-                this.mvHelper.delayDisplay ( () -> this.scales.getScale ().getName ());
+                this.mvHelper.delayDisplay ("Scale", () -> this.scales.getScale ().getName ());
             }
             this.updateScale ();
         }
@@ -41,6 +41,7 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -68,6 +69,8 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     };
     // @formatter:on
 
+    private static final byte [] SYSEX_SHIFT_SENDS_NOTE = SysExBuilder.fromHex ("F0 00 20 6B 7F 42 02 00 01 5E 09 F7");
+
 
     /**
      * Constructor.
@@ -288,7 +291,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     {
         // Enable Shift button to send MIDI Note 07
         final BeatstepControlSurface surface = this.getSurface ();
-        surface.getMidiOutput ().sendSysex ("F0 00 20 6B 7F 42 02 00 01 5E 09 F7");
+        surface.getMidiOutput ().sendSysex (SYSEX_SHIFT_SENDS_NOTE);
         surface.getViewManager ().setActive (Views.TRACK);
     }
 
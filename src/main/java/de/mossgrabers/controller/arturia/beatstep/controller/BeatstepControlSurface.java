@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -76,8 +77,7 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
     public static final int BEATSTEP_PAD_15     = 0x7E;
     public static final int BEATSTEP_PAD_16     = 0x7F;
 
-    static final String     SYSEX_HEADER        = "F0 00 20 6B 7F 42 02 00 10 ";
-    static final String     SYSEX_END           = "F7";
+    static final byte []    SYSEX_HEADER        = SysExBuilder.fromHex ("F0 00 20 6B 7F 42 02 00");
 
     private boolean         isShift;
 
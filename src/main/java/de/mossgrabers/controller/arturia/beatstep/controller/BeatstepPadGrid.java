@@ -7,7 +7,7 @@ package de.mossgrabers.controller.arturia.beatstep.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -17,7 +17,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
-    private final Object sysexLock = new Object ();
+    private final Object       sysexLock    = new Object ();
+    private final SysExBuilder sysExBuilder = new SysExBuilder ();
 
 
     /**
@@ -58,15 +59,9 @@ public class BeatstepPadGrid extends PadGridImpl
     {
         final int n = note - 36;
         final int pad = n < this.columns ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.columns;
-        final String data = BeatstepControlSurface.SYSEX_HEADER + StringUtils.toHexStr (new int []
-        {
-            pad,
-            color
-        }) + BeatstepControlSurface.SYSEX_END;
-
         synchronized (this.sysexLock)
         {
-            this.output.sendSysex (data);
+            this.sysExBuilder.start (BeatstepControlSurface.SYSEX_HEADER).add (0x10, pad).add (color).send (this.output);
             // Brute force to slow down sending of sysex a bit...
             try
             {
@@ -4,9 +4,7 @@
 
 package de.mossgrabers.controller.electra.one.controller;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,7 +13,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,6 +29,7 @@ import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -111,7 +109,6 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     private static final byte []         SYSEX_RUNTIME_EXECUTE_LUA         = { 0x08, 0x0D };
     private static final byte []         SYSEX_RUNTIME_SWITCH_PRESET       = { 0x09, 0x08 };
     private static final byte []         SYSEX_RUNTIME_SWITCH_PAGE         = { 0x09, 0x0A };
-    private static final byte []         SYSEX_RUNTIME_CONTROL_UPDATE      = { 0x14, 0x07 };
     private static final byte []         SYSEX_RUNTIME_VALUE_LABEL_UPDATE  = { 0x14, 0x0E };
     private static final byte []         SYSEX_RUNTIME_SUBSCRIBE_EVENTS    = { 0x14, 0x79 };
     private static final byte []         SYSEX_RUNTIME_SET_REPAINT_ENABLED = { 0x7F, 0x7A };
@@ -226,7 +223,19 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         Collections.addAll (MODES, Modes.VOLUME, Modes.SEND, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.TRANSPORT, Modes.SESSION, Modes.PROJECT);
     }
 
-    private static final String                        SET_GROUP_TITLE              = "sgt(%s,\"%s\")";
+    // Pre-encoded parts of the JSON and LUA commands
+    private static final byte []                       LUA_SET_GROUP_TITLE          = ascii ("sgt(");
+    private static final byte []                       LUA_GET_CONTROL              = ascii ("c=controls.get(");
+    private static final byte []                       LUA_IF_CONTROL               = ascii (") if c then");
+    private static final byte []                       LUA_END                      = ascii (" end");
+    private static final byte []                       LUA_SET_NAME                 = ascii (" c:setName(");
+    private static final byte []                       LUA_SET_COLOR                = ascii (" c:setColor(0x");
+    private static final byte []                       LUA_SET_VISIBLE              = ascii (" c:setVisible(");
+    private static final byte []                       LUA_TRUE                     = ascii ("true)");
+    private static final byte []                       LUA_FALSE                    = ascii ("false)");
+    private static final byte []                       HEX_DIGITS                   = ascii ("0123456789ABCDEF");
+    /** Send collected LUA commands if they get longer than this. */
+    private static final int                           MAX_LUA_BATCH_SIZE           = 1000;
 
     private final List<int []>                         sysexChunks                  = new ArrayList<> ();
     private final IMidiInput                           ctrlInput;
@@ -244,6 +253,10 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     private final Object                               touchCombinationCommandsLock = new Object ();
     private final List<int []>                         shiftPatterns                = new ArrayList<> ();
     private final Map<int [], TouchCombinationCommand> commandPatterns              = new HashMap<> ();
+    private final SysExBuilder                         sysExBuilder                 = new SysExBuilder (256);
+    private final SysExBuilder                         luaBatch                     = new SysExBuilder (MAX_LUA_BATCH_SIZE + 64);
+    private int                                        luaBatchCommands             = 0;
+    private int                                        presetGeneration             = 0;
 
 
     /**
@@ -331,14 +344,49 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
 
     /**
-     * Set the label of a group element.
+     * Set the label of a group element. The LUA commands are collected and sent as one message by
+     * calling flushBatch.
      *
      * @param groupID The element starting from 1, increasing from left to right, top to bottom
      * @param label The label to set
      */
     public void updateGroupLabel (final int groupID, final String label)
     {
-        this.sendLua (String.format (SET_GROUP_TITLE, Integer.toString (groupID), label));
+        synchronized (this.luaBatch)
+        {
+            this.startLuaCommand ();
+            this.luaBatch.add (LUA_SET_GROUP_TITLE).addASCII (Integer.toString (groupID)).add (',');
+            addQuotedText (this.luaBatch, label);
+            this.luaBatch.add (')');
+            this.endLuaCommand ();
+        }
+    }
+
+
+    /**
+     * Send all collected label, color, visibility and group label updates as one message.
+     */
+    public void flushBatch ()
+    {
+        synchronized (this.luaBatch)
+        {
+            if (this.luaBatchCommands == 0)
+                return;
+            this.luaBatch.send (this.ctrlOutput);
+            this.luaBatchCommands = 0;
+        }
+    }
+
+
+    /**
+     * Get the number of times the DrivenByMoss preset was (re-)selected. Since the device resets
+     * all controls when the preset is loaded, all cached states need to be sent again.
+     *
+     * @return The generation
+     */
+    public int getPresetGeneration ()
+    {
+        return this.presetGeneration;
     }
 
 
@@ -355,7 +403,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
 
     /**
-     * Sets name, color and visibility of an element on the Electra.One.
+     * Sets name, color and visibility of an element on the Electra.One. The LUA commands are
+     * collected and sent as one message by calling flushBatch.
      *
      * @param controlID The element starting from 1, increasing from left to right, top to bottom
      * @param name The name to set
@@ -364,25 +413,45 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateLabel (final int controlID, final String name, final ColorEx color, final Boolean visibility)
     {
-        final StringWriter writer = new StringWriter ();
-        try (final JsonGenerator generator = this.mapper.createGenerator (writer))
+        synchronized (this.luaBatch)
         {
-            generator.writeStartObject ();
+            this.startLuaCommand ();
+            // Skip unknown controls, otherwise the error would abort the whole batch
+            this.luaBatch.add (LUA_GET_CONTROL).addASCII (Integer.toString (controlID)).add (LUA_IF_CONTROL);
             if (name != null)
-                generator.writeStringField ("name", name);
+            {
+                addQuotedText (this.luaBatch.add (LUA_SET_NAME), name);
+                this.luaBatch.add (')');
+            }
             if (color != null)
-                generator.writeStringField ("color", StringUtils.formatColor (color));
+            {
+                this.luaBatch.add (LUA_SET_COLOR);
+                for (final int c: color.toIntRGB255 ())
+                    this.luaBatch.add (HEX_DIGITS[c >> 4 & 0x0F], HEX_DIGITS[c & 0x0F]);
+                this.luaBatch.add (')');
+            }
             if (visibility != null)
-                generator.writeBooleanField ("visible", visibility.booleanValue ());
-            generator.writeEndObject ();
-        }
-        catch (final IOException ex)
-        {
-            this.host.error (name, ex);
-            return;
+                this.luaBatch.add (LUA_SET_VISIBLE).add (visibility.booleanValue () ? LUA_TRUE : LUA_FALSE);
+            this.luaBatch.add (LUA_END);
+            this.endLuaCommand ();
         }
+    }
 
-        this.sendText (createCommand (controlID, SYSEX_RUNTIME_CONTROL_UPDATE), writer.toString ());
+
+    private void startLuaCommand ()
+    {
+        if (this.luaBatchCommands == 0)
+            this.luaBatch.start (SYSEX_HDR_BYTE).add (SYSEX_RUNTIME_EXECUTE_LUA);
+        else
+            this.luaBatch.add (' ');
+    }
+
+
+    private void endLuaCommand ()
+    {
+        this.luaBatchCommands++;
+        if (this.luaBatch.getLength () > MAX_LUA_BATCH_SIZE)
+            this.flushBatch ();
     }
 
 
@@ -394,11 +463,11 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateValueLabel (final int controlID, final String label)
     {
-        final byte [] cmd = createCommand (controlID, SYSEX_RUNTIME_VALUE_LABEL_UPDATE);
-        final byte [] command = new byte [cmd.length + 1];
-        System.arraycopy (cmd, 0, command, 0, cmd.length);
-        command[cmd.length] = 0;
-        this.sendText (command, label);
+        synchronized (this.sysExBuilder)
+        {
+            this.sysExBuilder.start (SYSEX_HDR_BYTE).add (SYSEX_RUNTIME_VALUE_LABEL_UPDATE).add14BitLSB (controlID).add (0);
+            this.sysExBuilder.addASCII (StringUtils.fixASCII (label)).send (this.ctrlOutput);
+        }
     }
 
 
@@ -501,29 +570,6 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
-    /**
-     * Send LUA code for execution to the Electra.One.
-     *
-     * @param code The code to send
-     */
-    private void sendLua (final String code)
-    {
-        this.sendText (SYSEX_RUNTIME_EXECUTE_LUA, code);
-    }
-
-
-    /**
-     * Send a JSON or LUA string to the CTRL output. Removes and/or replaces non-ASCII characters.
-     *
-     * @param command The command bytes
-     * @param text The JSON to send
-     */
-    private void sendText (final byte [] command, final String text)
-    {
-        this.sendSysex (command, StringUtils.fixASCII (text).getBytes ());
-    }
-
-
     /**
      * Send a byte array to the CTRL output of the Electra.One.
      *
@@ -532,17 +578,9 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     private void sendSysex (final byte [] command, final byte [] content)
     {
-        try (final ByteArrayOutputStream out = new ByteArrayOutputStream ())
+        synchronized (this.sysExBuilder)
         {
-            out.write (SYSEX_HDR_BYTE);
-            out.write (command);
-            out.write (content);
-            out.write ((byte) 0xF7);
-            this.ctrlOutput.sendSysex (out.toByteArray ());
-        }
-        catch (final IOException ex)
-        {
-            this.host.error ("Could not schedule JSON command.", ex);
+            this.sysExBuilder.start (SYSEX_HDR_BYTE).add (command).add (content).send (this.ctrlOutput);
         }
     }
 
@@ -880,6 +918,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     {
         this.host.println ("Going online...");
         this.isOnline = true;
+        this.presetGeneration++;
 
         if (this.activeMode == null || this.activeMode == Modes.VOLUME)
             this.modeManager.setActive (Modes.VOLUME);
@@ -1007,13 +1046,32 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
-    private static final byte [] createCommand (final int controlID, final byte [] commandID)
+    /**
+     * Add a text as a quoted JSON/LUA string. Removes and/or replaces non-ASCII characters and
+     * escapes quotes and backslashes.
+     *
+     * @param builder The builder to add to
+     * @param text The text to add
+     */
+    private static void addQuotedText (final SysExBuilder builder, final String text)
+    {
+        builder.add ('"');
+        final String ascii = StringUtils.fixASCII (text);
+        for (int i = 0; i < ascii.length (); i++)
+        {
+            final char c = ascii.charAt (i);
+            if (c < 0x20)
+                continue;
+            if (c == '"' || c == '\\')
+                builder.add ('\\');
+            builder.add (c);
+        }
+        builder.add ('"');
+    }
+
+
+    private static byte [] ascii (final String text)
     {
-        final byte [] command = new byte [4];
-        command[0] = commandID[0];
-        command[1] = commandID[1];
-        command[2] = (byte) (controlID & 0x7F);
-        command[3] = (byte) (controlID >> 7);
-        return command;
+        return text.getBytes (StandardCharsets.US_ASCII);
     }
-}
\ No newline at end of file
+}
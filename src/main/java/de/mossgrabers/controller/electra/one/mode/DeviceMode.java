@@ -146,6 +146,11 @@ public class DeviceMode extends AbstractElectraOneMode
     {
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
         final IParameterBank parameterBank = cursorDevice.getParameterBank ();
+
+        // Wait until all parameters of the new page are present
+        if (parameterBank.isPageChanging ())
+            return;
+
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final IDeviceBank siblingBank = cursorDevice.getDeviceBank ();
 
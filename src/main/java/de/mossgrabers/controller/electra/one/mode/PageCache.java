@@ -11,7 +11,10 @@ import java.util.Arrays;
 
 
 /**
- * Caches the values and UI information of 36 controls of a mode display page.
+ * Caches the values and UI information of 36 controls of a mode display page. Only changed
+ * information is sent to the device. Since value labels, labels, colors and visibility are stored
+ * per control on the device, they are kept when switching between pages as long as the preset is
+ * not reloaded.
  *
  * @author Jürgen Moßgraber
  */
@@ -40,6 +43,7 @@ class PageCache
     private final ElectraOneControlSurface surface;
     private final int                      page;
     private boolean                        isDirty                    = false;
+    private int                            presetGeneration           = -1;
 
 
     /**
@@ -234,6 +238,9 @@ class PageCache
                 }
             }
 
+            // Labels, colors, visibility and group labels are sent as one batch
+            this.surface.flushBatch ();
+
             this.isDirty = false;
 
             this.surface.setRepaintEnabled (true);
@@ -267,7 +274,9 @@ class PageCache
 
 
     /**
-     * Clear the cached values.
+     * Clear the cached values. The values are sent as MIDI CC which are shared by the controls of
+     * all pages, therefore they need always to be sent again. All other information (including the
+     * value labels) is only cleared if the preset was reloaded in the meantime.
      */
     public void reset ()
     {
@@ -275,6 +284,15 @@ class PageCache
         {
             for (final int [] row: this.currentCtrlValueCache)
                 Arrays.fill (row, -1);
+            this.isDirty = true;
+
+            final int generation = this.surface.getPresetGeneration ();
+            if (generation == this.presetGeneration)
+                return;
+            this.presetGeneration = generation;
+
+            for (final String [] row: this.currentCtrlValueLabelCache)
+                Arrays.fill (row, null);
             for (final String [] row: this.currentCtrlLabelCache)
                 Arrays.fill (row, null);
             for (final ColorEx [] row: this.currentCtrlColorCache)
@@ -343,7 +343,7 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
         surface.registerHandler (new SceneHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new ClipHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new MarkerHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
-        surface.registerHandler (new ModesHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger, this.host));
+        surface.registerHandler (new ModesHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new MidiCCHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new NoteInputHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
         surface.registerHandler (new ProjectRemotesHandler (this.model, surface, this.configuration, this.absoluteLowResValueChanger, this.signedBitRelativeValueChanger, this.signedBit2RelativeValueChanger, this.offsetBinaryRelativeValueChanger));
@@ -11,7 +11,6 @@ import de.mossgrabers.controller.generic.flexihandler.utils.FlexiHandlerExceptio
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
-import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractParameterMode;
@@ -48,7 +47,6 @@ public class ModesHandler extends AbstractHandler
     }
 
     private final ModeManager modeManager;
-    private final IHost       host;
 
 
     /**
@@ -61,13 +59,11 @@ public class ModesHandler extends AbstractHandler
      * @param signedBitRelativeValueChanger The signed bit relative value changer
      * @param signedBit2RelativeValueChanger The signed bit relative value changer
      * @param offsetBinaryRelativeValueChanger The offset binary relative value changer
-     * @param host The host
      */
-    public ModesHandler (final IModel model, final GenericFlexiControlSurface surface, final GenericFlexiConfiguration configuration, final IValueChanger absoluteLowResValueChanger, final IValueChanger signedBitRelativeValueChanger, final IValueChanger signedBit2RelativeValueChanger, final IValueChanger offsetBinaryRelativeValueChanger, final IHost host)
+    public ModesHandler (final IModel model, final GenericFlexiControlSurface surface, final GenericFlexiConfiguration configuration, final IValueChanger absoluteLowResValueChanger, final IValueChanger signedBitRelativeValueChanger, final IValueChanger signedBit2RelativeValueChanger, final IValueChanger offsetBinaryRelativeValueChanger)
     {
         super (model, surface, configuration, absoluteLowResValueChanger, signedBitRelativeValueChanger, signedBit2RelativeValueChanger, offsetBinaryRelativeValueChanger);
 
-        this.host = host;
         this.modeManager = this.surface.getModeManager ();
     }
 
@@ -246,7 +242,7 @@ public class ModesHandler extends AbstractHandler
                 if (isButtonPressed)
                 {
                     this.model.getBrowser ().replace (this.model.getCursorDevice ());
-                    this.host.scheduleTask ( () -> this.surface.activateMode (Modes.BROWSER), 500);
+                    this.surface.scheduleTask (this, () -> this.surface.activateMode (Modes.BROWSER), 500);
                 }
                 break;
 
@@ -124,7 +124,7 @@ public class NoteInputHandler extends AbstractHandler
                 if (isButtonPressed)
                 {
                     configuration.toggleNoteRepeatActive ();
-                    this.mvHelper.delayDisplay ( () -> "Repeat: " + (configuration.isNoteRepeatActive () ? "On" : "Off"));
+                    this.mvHelper.delayDisplay ("Note Repeat", () -> "Repeat: " + (configuration.isNoteRepeatActive () ? "On" : "Off"));
                 }
                 break;
 
@@ -136,7 +136,7 @@ public class NoteInputHandler extends AbstractHandler
                 else
                     selPeriod = Resolution.change (Resolution.getMatch (configuration.getNoteRepeatPeriod ().getValue ()), this.isIncrease (knobMode, value));
                 configuration.setNoteRepeatPeriod (resolutions[selPeriod]);
-                this.mvHelper.delayDisplay ( () -> "Repeat Period: " + configuration.getNoteRepeatPeriod ().getName ());
+                this.mvHelper.delayDisplay ("Repeat Period", () -> "Repeat Period: " + configuration.getNoteRepeatPeriod ().getName ());
                 break;
 
             // Note Repeat: Set Length
@@ -149,7 +149,7 @@ public class NoteInputHandler extends AbstractHandler
                     else
                         selLength = Resolution.change (Resolution.getMatch (configuration.getNoteRepeatLength ().getValue ()), this.isIncrease (knobMode, value));
                     configuration.setNoteRepeatLength (resolutions[selLength]);
-                    this.mvHelper.delayDisplay ( () -> "Repeat Length: " + configuration.getNoteRepeatLength ().getName ());
+                    this.mvHelper.delayDisplay ("Repeat Length", () -> "Repeat Length: " + configuration.getNoteRepeatLength ().getName ());
                 }
                 break;
 
@@ -172,7 +172,7 @@ public class NoteInputHandler extends AbstractHandler
                         newIndex = Math.max (0, Math.min (modes.size () - 1, modeIndex + (increase ? 1 : -1)));
                     }
                     configuration.setNoteRepeatMode (modes.get (newIndex));
-                    this.mvHelper.delayDisplay ( () -> "Repeat Mode: " + modes.get (newIndex).getName ());
+                    this.mvHelper.delayDisplay ("Repeat Mode", () -> "Repeat Mode: " + modes.get (newIndex).getName ());
                 }
                 break;
 
@@ -185,7 +185,7 @@ public class NoteInputHandler extends AbstractHandler
                     else
                         octave = configuration.getNoteRepeatOctave () + (this.isIncrease (knobMode, value) ? 1 : -1);
                     configuration.setNoteRepeatOctave (octave);
-                    this.mvHelper.delayDisplay ( () -> "Repeat Octave: " + octave);
+                    this.mvHelper.delayDisplay ("Repeat Octave", () -> "Repeat Octave: " + octave);
                 }
                 break;
 
@@ -215,7 +215,7 @@ public class NoteInputHandler extends AbstractHandler
     {
         this.surface.scheduleTask ( () -> {
             this.surface.setKeyTranslationTable (scales.getNoteMatrix ());
-            this.mvHelper.delayDisplay ( () -> "Octave: " + scales.getOctave ());
+            this.mvHelper.delayDisplay ("Octave", () -> "Octave: " + scales.getOctave ());
         }, 6);
     }
 }
@@ -169,6 +169,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     private final int []            faderValues      = new int [32];
     private int                     masterFaderValue = -1;
     private final int               numMCUDevices;
+    private String                  lastPositionText;
+    private double                  lastTempo;
+    private boolean                 lastIsDisplayTicks;
+    private String                  segmentText      = "";
 
 
     /**
@@ -797,27 +801,41 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         final ITransport t = this.model.getTransport ();
 
-        String positionText = this.configuration.isDisplayTime () ? t.getPositionText () : t.getBeatText ();
-        positionText = positionText.replace ('.', ':');
+        final boolean isDisplayTime = this.configuration.isDisplayTime ();
+        final boolean isDisplayTicks = this.configuration.isDisplayTicks ();
+        final String text = isDisplayTime ? t.getPositionText () : t.getBeatText ();
+        final double tempo = t.getTempo ();
 
-        if (this.configuration.isDisplayTicks ())
+        // The formatted position is the identical instance if it did not change, only re-build the
+        // segment text if something has changed
+        if (text != this.lastPositionText || isDisplayTicks != this.lastIsDisplayTicks || !isDisplayTicks && tempo != this.lastTempo)
         {
-            if (!this.configuration.isDisplayTime ())
-                positionText += " ";
-        }
-        else
-        {
-            String tempoStr = t.formatTempoNoFraction (t.getTempo ());
-            final int pos = positionText.lastIndexOf (':');
-            if (tempoStr.length () < 3)
-                tempoStr = "0" + tempoStr;
-            positionText = positionText.substring (0, pos + 1) + tempoStr;
+            this.lastPositionText = text;
+            this.lastIsDisplayTicks = isDisplayTicks;
+            this.lastTempo = tempo;
+
+            String positionText = text.replace ('.', ':');
+            if (isDisplayTicks)
+            {
+                if (!isDisplayTime)
+                    positionText += " ";
+            }
+            else
+            {
+                String tempoStr = t.formatTempoNoFraction (tempo);
+                final int pos = positionText.lastIndexOf (':');
+                if (tempoStr.length () < 3)
+                    tempoStr = "0" + tempoStr;
+                positionText = positionText.substring (0, pos + 1) + tempoStr;
+            }
+            this.segmentText = positionText;
         }
 
+        // The display only sends the row if the text is different
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
-                this.getSurface (index).getTextDisplay (2).setRow (0, positionText).allDone ();
+                this.getSurface (index).getTextDisplay (2).setRow (0, this.segmentText).allDone ();
         }
     }
 
@@ -203,7 +203,7 @@ public class MCUMoveTrackBankCommand extends AbstractTriggerCommand<MCUControlSu
 
     private void notifySelectedDeviceAndParameterPage ()
     {
-        this.mvHelper.delayDisplay ( () -> {
+        this.mvHelper.delayDisplay ("Selected Device", () -> {
 
             final ICursorDevice cursorDevice = this.model.getCursorDevice ();
             if (!cursorDevice.doesExist ())
@@ -227,7 +227,7 @@ public class MCUMoveTrackBankCommand extends AbstractTriggerCommand<MCUControlSu
 
     private void notifySelectedProjectAndParameterPage ()
     {
-        this.mvHelper.delayDisplay ( () -> {
+        this.mvHelper.delayDisplay ("Parameter Page", () -> {
 
             final UserMode userMode = (UserMode) this.surface.getModeManager ().get (Modes.USER);
 
@@ -17,7 +17,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -170,7 +170,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
 
     // Sysex
 
-    public static final String      SYSEX_HDR             = "F0 00 00 66 14 ";
+    public static final byte []     SYSEX_HDR             = SysExBuilder.fromHex ("F0 00 00 66 14");
     public static final int         MCU_SYSEX_CMD_DISPLAY = 0x12;
 
     private static final boolean [] MCU_BUTTON_UPDATE;
@@ -194,6 +194,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     private final int []                  knobValues               = new int [8];
     private byte []                       currentColors            = new byte [8];
     private final int [] []               currentAsparionColors    = new int [8] [3];
+    private final SysExBuilder            sysExBuilder             = new SysExBuilder ();
 
     private final List<MCUControlSurface> surfaces;
     private final int                     extenderOffset;
@@ -322,10 +323,10 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             return;
 
         this.itemIndices = values;
-        final StringBuilder msg = new StringBuilder (SYSEX_HDR).append ("17 00 ");
+        this.sysExBuilder.start (SYSEX_HDR).add (0x17, 0x00);
         for (final int itemIndex: this.itemIndices)
-            msg.append (StringUtils.toHexStr (itemIndex % 128)).append (' ');
-        this.output.sendSysex (msg.append ("F7").toString ());
+            this.sysExBuilder.add (itemIndex % 128);
+        this.sysExBuilder.send (this.output);
     }
 
 
@@ -344,7 +345,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public void switchVuMode (final int mode)
     {
         // Always horizontal
-        this.output.sendSysex (new StringBuilder (SYSEX_HDR).append ("21 00 F7").toString ());
+        this.sysExBuilder.start (SYSEX_HDR).add (0x21, 0x00).send (this.output);
 
         if (this.activeVuMode != mode)
         {
@@ -364,7 +365,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 {
                     // resets the LEDs (and VU-meters on the display?)
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 01 F7");
+                    this.sysExBuilder.start (SYSEX_HDR).add (0x20, i).add (0x01).send (out);
                 }
                 break;
 
@@ -372,7 +373,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 03 F7");
+                    this.sysExBuilder.start (SYSEX_HDR).add (0x20, i).add (0x03).send (out);
                 }
 
                 break;
@@ -380,7 +381,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 06 F7");
+                    this.sysExBuilder.start (SYSEX_HDR).add (0x20, i).add (0x06).send (out);
                 }
                 break;
 
@@ -388,7 +389,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 00 F7");
+                    this.sysExBuilder.start (SYSEX_HDR).add (0x20, i).add (0x00).send (out);
                 }
                 break;
 
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -27,11 +28,10 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER           = "F0 00 00 66 ";
-    private static final String         SYSEX_DISPLAY_HEADER_MAIN      = SYSEX_DISPLAY_HEADER + "14 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = SYSEX_DISPLAY_HEADER_MAIN + "12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = SYSEX_DISPLAY_HEADER + "15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []        SYSEX_DISPLAY_HEADER_MAIN      = SysExBuilder.fromHex ("F0 00 00 66 14");
+    private static final byte []        SYSEX_DISPLAY_HEADER1_MAIN     = SysExBuilder.fromHex ("F0 00 00 66 14 12");
+    private static final byte []        SYSEX_DISPLAY_HEADER1_EXTENDER = SysExBuilder.fromHex ("F0 00 00 66 15 12");
+    private static final byte []        SYSEX_DISPLAY_HEADER2          = SysExBuilder.fromHex ("F0 00 00 67 15 13");
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
@@ -39,6 +39,7 @@ public class MCUDisplay extends AbstractTextDisplay
     private final Configuration         configuration;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final SysExBuilder []       sysExBuilders                  = new SysExBuilder [4];
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -66,7 +67,10 @@ public class MCUDisplay extends AbstractTextDisplay
         this.centerNotification = false;
 
         for (int i = 0; i < this.executors.length; i++)
+        {
             this.executors[i] = new LatestTaskExecutor ();
+            this.sysExBuilders[i] = new SysExBuilder ();
+        }
     }
 
 
@@ -147,7 +151,10 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
+        final int index = row + (this.isFirstDisplay ? 0 : 2);
+        final LatestTaskExecutor executor = this.executors[index];
+        // Each executor runs on its own thread, therefore each one needs its own builder
+        final SysExBuilder sysExBuilder = this.sysExBuilders[index];
         executor.execute ( () -> {
             try
             {
@@ -175,8 +182,7 @@ public class MCUDisplay extends AbstractTextDisplay
                     t = text.substring (offset, end + 1);
                 }
 
-                final String hexStr = StringUtils.toHexStr (t.getBytes ());
-                this.output.sendSysex (new StringBuilder (this.getHeader (row, offset)).append (hexStr).append ("F7").toString ());
+                this.addHeader (sysExBuilder, row, offset).addASCII (t).send (this.output);
             }
             catch (final RuntimeException ex)
             {
@@ -186,29 +192,28 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader (final int row, final int offset)
+    private SysExBuilder addHeader (final SysExBuilder sysExBuilder, final int row, final int offset)
     {
-        final StringBuilder header = new StringBuilder ();
         final boolean isAsparion = this.isAsparion ();
 
         if (this.isFirstDisplay)
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("1A ").append (StringUtils.toHexStr (offset)).append (' ').append (row == 0 ? "01 " : "02 ");
+                sysExBuilder.start (SYSEX_DISPLAY_HEADER_MAIN).add (0x1A, offset).add (row == 0 ? 0x01 : 0x02);
             else
-                header.append (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
+                sysExBuilder.start (this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN);
         }
         else
         {
             if (isAsparion)
-                header.append (SYSEX_DISPLAY_HEADER_MAIN).append ("19 ").append (StringUtils.toHexStr (offset)).append (' ');
+                sysExBuilder.start (SYSEX_DISPLAY_HEADER_MAIN).add (0x19, offset);
             else
-                header.append (SYSEX_DISPLAY_HEADER2);
+                sysExBuilder.start (SYSEX_DISPLAY_HEADER2);
         }
 
         if (!isAsparion)
-            header.append (row == 0 ? "00 " : "38 ");
-        return header.toString ();
+            sysExBuilder.add (row == 0 ? 0x00 : 0x38);
+        return sysExBuilder;
     }
 
 
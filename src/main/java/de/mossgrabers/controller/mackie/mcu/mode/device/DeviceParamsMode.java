@@ -169,6 +169,10 @@ public class DeviceParamsMode extends BaseMode<IParameter>
             return;
         }
 
+        // Wait until all parameters of the new page are present
+        if (this.device.getParameterBank ().isPageChanging ())
+            return;
+
         super.updateDisplay ();
 
         final int [] indices = new int [8];
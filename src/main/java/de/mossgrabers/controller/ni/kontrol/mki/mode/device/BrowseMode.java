@@ -47,7 +47,7 @@ public class BrowseMode extends AbstractKontrol1Mode<IItem>
     {
         super ("Browse", surface, model);
 
-        this.selectionMode = SELECTION_OFF;
+        this.setSelectionMode (SELECTION_OFF);
         this.filterColumn = 0;
     }
 
@@ -63,13 +63,13 @@ public class BrowseMode extends AbstractKontrol1Mode<IItem>
 
         if (this.selectedColumn == -1)
         {
-            this.selectionMode = BrowseMode.SELECTION_OFF;
+            this.setSelectionMode (BrowseMode.SELECTION_OFF);
             return;
         }
 
         if (index == 7)
         {
-            this.selectionMode = BrowseMode.SELECTION_PRESET;
+            this.setSelectionMode (BrowseMode.SELECTION_PRESET);
             this.filterColumn = -1;
         }
         else
@@ -78,7 +78,7 @@ public class BrowseMode extends AbstractKontrol1Mode<IItem>
             final IBrowserColumn fc = browser.getFilterColumn (index);
             if (fc != null && fc.doesExist ())
             {
-                this.selectionMode = BrowseMode.SELECTION_FILTER;
+                this.setSelectionMode (BrowseMode.SELECTION_FILTER);
                 this.filterColumn = fc.getIndex ();
             }
         }
@@ -282,4 +282,17 @@ public class BrowseMode extends AbstractKontrol1Mode<IItem>
     {
         // Intentionally empty
     }
+
+
+    /**
+     * Set the selection mode. The results are only observed while they are displayed.
+     *
+     * @param selectionMode The selection mode
+     */
+    private void setSelectionMode (final int selectionMode)
+    {
+        this.selectionMode = selectionMode;
+        final IBrowser browser = this.model.getBrowser ();
+        browser.setNumVisibleResults (selectionMode == SELECTION_PRESET ? browser.getNumResults () : 0);
+    }
 }
\ No newline at end of file
@@ -7,12 +7,10 @@ package de.mossgrabers.controller.ni.kontrol.mki.view;
 import de.mossgrabers.controller.ni.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.controller.ni.kontrol.mki.controller.Kontrol1ControlSurface;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.Capability;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
-import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.AbstractPlayView;
 import de.mossgrabers.framework.view.sequencer.AbstractDrumView;
@@ -82,15 +80,14 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
             return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
 
         // Exists and active?
-        final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
-        final IChannel drumPad = drumPadBank.getItem (index);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final DrumPadStates states = primary.getDrumPadBank ().getStates ();
+        if (!states.doesExist (index) || !states.isActivated (index))
             return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
 
         // Muted or soloed?
-        if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
+        if (states.isMutedBySoloOrMute (index))
             return AbstractDrumView.COLOR_PAD_MUTED;
-        return DAWColor.getColorID (drumPad.getColor ());
+        return states.getColorID (index);
     }
 
 
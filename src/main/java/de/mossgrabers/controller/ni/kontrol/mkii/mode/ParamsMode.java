@@ -116,6 +116,10 @@ public class ParamsMode extends AbstractParameterMode<KontrolProtocolControlSurf
     @Override
     public void updateDisplay ()
     {
+        // Wait until all parameters of the new page are present
+        if (this.banks[this.activeProviderIndex].isPageChanging ())
+            return;
+
         final IValueChanger valueChanger = this.model.getValueChanger ();
 
         final IParameterPageBank parameterPageBank = this.banks[this.activeProviderIndex].getPageBank ();
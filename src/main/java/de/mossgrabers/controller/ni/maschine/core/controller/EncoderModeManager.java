@@ -166,7 +166,7 @@ public class EncoderModeManager<S extends IControlSurface<C>, C extends Configur
     {
         this.temporaryEncoderMode = encoderMode;
         this.encoder.bind ((IParameter) null);
-        this.mvHelper.delayDisplay ( () -> MODE_LABELS.get (this.temporaryEncoderMode));
+        this.mvHelper.delayDisplay ("Encoder Mode", () -> MODE_LABELS.get (this.temporaryEncoderMode));
     }
 
 
@@ -230,7 +230,7 @@ public class EncoderModeManager<S extends IControlSurface<C>, C extends Configur
 
     protected void notifyMode ()
     {
-        this.mvHelper.delayDisplay ( () -> this.isFunctionToggled ? TOGGLED_MODE_LABELS.get (this.activeEncoderMode) : MODE_LABELS.get (this.activeEncoderMode));
+        this.mvHelper.delayDisplay ("Encoder Mode", () -> this.isFunctionToggled ? TOGGLED_MODE_LABELS.get (this.activeEncoderMode) : MODE_LABELS.get (this.activeEncoderMode));
     }
 
 
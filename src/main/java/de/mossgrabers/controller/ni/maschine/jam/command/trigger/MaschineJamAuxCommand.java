@@ -54,6 +54,6 @@ public class MaschineJamAuxCommand extends ModeMultiSelectCommand<MaschineJamCon
             return;
 
         this.model.toggleCurrentTrackBank ();
-        this.mvHelper.delayDisplay ( () -> this.model.isEffectTrackBankActive () ? "Effect Tracks" : "Audio/Instrument Tracks");
+        this.mvHelper.delayDisplay ("Track Bank", () -> this.model.isEffectTrackBankActive () ? "Effect Tracks" : "Audio/Instrument Tracks");
     }
 }
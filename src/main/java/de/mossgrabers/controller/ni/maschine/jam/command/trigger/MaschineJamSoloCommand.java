@@ -49,7 +49,7 @@ public class MaschineJamSoloCommand extends AbstractTriggerCommand<MaschineJamCo
         {
             final MaschineJamConfiguration configuration = this.surface.getConfiguration ();
             configuration.nextNewClipLength ();
-            this.mvHelper.delayDisplay ( () -> AbstractConfiguration.getNewClipLengthValue (configuration.getNewClipLength ()));
+            this.mvHelper.delayDisplay ("New Clip Length", () -> AbstractConfiguration.getNewClipLengthValue (configuration.getNewClipLength ()));
         }
     }
 }
@@ -49,7 +49,7 @@ public class MaschineJamSwingCommand extends AbstractTriggerCommand<MaschineJamC
             return;
         final IParameter parameter = this.model.getGroove ().getParameter (GrooveParameterID.SHUFFLE_RATE);
         parameter.setValue (parameter.getValue () == 0 ? this.model.getValueChanger ().getUpperBound () - 1 : 0);
-        this.mvHelper.delayDisplay ( () -> parameter.getName () + ": " + parameter.getDisplayedValue ());
+        this.mvHelper.delayDisplay ("Swing", () -> parameter.getName () + ": " + parameter.getDisplayedValue ());
     }
 
 
@@ -63,7 +63,7 @@ public class MaschineJamSwingCommand extends AbstractTriggerCommand<MaschineJamC
             {
                 final IParameter parameter = this.model.getGroove ().getParameter (GrooveParameterID.ENABLED);
                 parameter.setValue (parameter.getValue () == 0 ? this.model.getValueChanger ().getUpperBound () - 1 : 0);
-                this.mvHelper.delayDisplay ( () -> parameter.getName () + ": " + parameter.getDisplayedValue ());
+                this.mvHelper.delayDisplay ("Swing", () -> parameter.getName () + ": " + parameter.getDisplayedValue ());
             }
             return;
         }
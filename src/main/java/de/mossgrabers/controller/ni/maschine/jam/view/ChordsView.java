@@ -51,7 +51,7 @@ public class ChordsView extends AbstractChordView<MaschineJamControlSurface, Mas
                     this.scales.nextScale ();
                 else
                     this.scales.prevScale ();
-                this.mvHelper.delayDisplay ( () -> "Scale: " + this.scales.getScale ().getName ());
+                this.mvHelper.delayDisplay ("Scale", () -> "Scale: " + this.scales.getScale ().getName ());
                 break;
 
             case TEMPORARY_NOTES:
@@ -59,12 +59,12 @@ public class ChordsView extends AbstractChordView<MaschineJamControlSurface, Mas
                     this.scales.nextScaleOffset ();
                 else
                     this.scales.prevScaleOffset ();
-                this.mvHelper.delayDisplay ( () -> "Scale Offset: " + Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
+                this.mvHelper.delayDisplay ("Scale Offset", () -> "Scale Offset: " + Scales.BASES.get (this.scales.getScaleOffsetIndex ()));
                 break;
 
             case TEMPORARY_LOCK:
                 this.scales.toggleChromatic ();
-                this.mvHelper.delayDisplay ( () -> "Chromatic: " + (this.scales.isChromatic () ? "On" : "Off"));
+                this.mvHelper.delayDisplay ("Chromatic", () -> "Chromatic: " + (this.scales.isChromatic () ? "On" : "Off"));
                 break;
 
             case TEMPORARY_TUNE:
@@ -72,7 +72,7 @@ public class ChordsView extends AbstractChordView<MaschineJamControlSurface, Mas
                     this.scales.incOctave ();
                 else
                     this.scales.decOctave ();
-                this.mvHelper.delayDisplay ( () -> "Octave: " + this.scales.getOctave ());
+                this.mvHelper.delayDisplay ("Octave", () -> "Octave: " + this.scales.getOctave ());
                 break;
 
             default:
@@ -58,7 +58,7 @@ public class NoteRepeatView extends BaseView
                     final List<ArpeggiatorMode> modes = configuration.getArpeggiatorModes ();
                     final int newIndex = Math.max (0, Math.min (modes.size () - 1, modeIndex + (increase ? 1 : -1)));
                     configuration.setNoteRepeatMode (modes.get (newIndex));
-                    this.mvHelper.delayDisplay ( () -> "Mode: " + configuration.getNoteRepeatMode ().getName ());
+                    this.mvHelper.delayDisplay ("Mode", () -> "Mode: " + configuration.getNoteRepeatMode ().getName ());
                 }
                 break;
 
@@ -74,14 +74,14 @@ public class NoteRepeatView extends BaseView
             case 12, 13:
                 final int sel = Resolution.change (Resolution.getMatch (configuration.getNoteRepeatPeriod ().getValue ()), padIndex == 13);
                 configuration.setNoteRepeatPeriod (Resolution.values ()[sel]);
-                this.mvHelper.delayDisplay ( () -> "Period: " + Resolution.getNameAt (sel));
+                this.mvHelper.delayDisplay ("Period", () -> "Period: " + Resolution.getNameAt (sel));
                 break;
 
             case 14, 15:
                 if (host.supports (Capability.NOTE_REPEAT_OCTAVES))
                 {
                     configuration.setNoteRepeatOctave (configuration.getNoteRepeatOctave () + (padIndex == 15 ? 1 : -1));
-                    this.mvHelper.delayDisplay ( () -> "Octaves: " + configuration.getNoteRepeatOctave ());
+                    this.mvHelper.delayDisplay ("Octaves", () -> "Octaves: " + configuration.getNoteRepeatOctave ());
                 }
                 break;
 
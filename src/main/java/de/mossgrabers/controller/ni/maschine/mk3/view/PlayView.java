@@ -4,8 +4,6 @@
 
 package de.mossgrabers.controller.ni.maschine.mk3.view;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.IntUnaryOperator;
 
@@ -23,6 +21,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -170,7 +169,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
         final int channel = this.configuration.getMidiEditChannel ();
         final NotePosition notePosition = new NotePosition (channel, 0, noteRow);
 
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
 
         final IPadGrid padGrid = this.surface.getPadGrid ();
         for (int col = 0; col < PlayView.SEQUENCER_STEPS; col++)
@@ -221,7 +220,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
      * @param editNotes The currently edited notes
      * @return The color
      */
-    protected String getStepColor (final boolean isActive, final IStepInfo stepInfo, final boolean hilite, final NotePosition notePosition, final List<NotePosition> editNotes)
+    protected String getStepColor (final boolean isActive, final IStepInfo stepInfo, final boolean hilite, final NotePosition notePosition, final NotePositionSet editNotes)
     {
         if (!isActive)
             return AbstractSequencerView.COLOR_NO_CONTENT;
@@ -497,24 +496,19 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
     }
 
 
-    protected List<NotePosition> getEditNotes ()
+    protected NotePositionSet getEditNotes ()
     {
         final ModeManager modeManager = this.surface.getModeManager ();
         final IMode mode = modeManager.get (Modes.NOTE);
         if (mode instanceof final INoteEditorMode noteMode)
-            return noteMode.getNoteEditor ().getNotes ();
-        return Collections.emptyList ();
+            return noteMode.getNoteEditor ().getNoteSet ();
+        return NotePositionSet.EMPTY;
     }
 
 
-    protected static boolean isEdit (final NotePosition notePosition, final List<NotePosition> editNotes)
+    protected static boolean isEdit (final NotePosition notePosition, final NotePositionSet editNotes)
     {
-        for (final NotePosition editNote: editNotes)
-        {
-            if (editNote.equals (notePosition))
-                return true;
-        }
-        return false;
+        return editNotes.contains (notePosition);
     }
 
 
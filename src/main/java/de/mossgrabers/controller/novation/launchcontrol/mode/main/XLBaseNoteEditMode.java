@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.IItem;
@@ -434,4 +435,12 @@ public abstract class XLBaseNoteEditMode extends XLAbstractMainMode<IItem> imple
     {
         throw new UnsupportedOperationException ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public NotePositionSet getNoteSet ()
+    {
+        return NotePositionSet.EMPTY;
+    }
 }
@@ -11,6 +11,7 @@ import java.nio.charset.UnsupportedCharsetException;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -22,9 +23,14 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class LaunchkeyMk3Display extends AbstractTextDisplay
 {
-    private String           sysexDisplayHeaderBase       = "F0 00 20 29 02 0F 04 ";
-    private String           sysexDisplayHeaderParamName  = "F0 00 20 29 02 0F 07 ";
-    private String           sysexDisplayHeaderParamValue = "F0 00 20 29 02 0F 08 ";
+    private static final byte [] SYSEX_HEADER       = SysExBuilder.fromHex ("F0 00 20 29 02 0F");
+    private static final byte [] SYSEX_HEADER_88    = SysExBuilder.fromHex ("F0 00 20 29 02 12");
+    private static final int     CMD_BASE           = 0x04;
+    private static final int     CMD_PARAM_NAME     = 0x07;
+    private static final int     CMD_PARAM_VALUE    = 0x08;
+
+    private final SysExBuilder   sysExBuilder       = new SysExBuilder ();
+    private byte []              sysexDisplayHeader = SYSEX_HEADER;
 
     /** The first row of the base screen. */
     public static final int  SCREEN_ROW_BASE              = 0;
@@ -66,36 +72,34 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        final StringBuilder sb = new StringBuilder ();
+        this.sysExBuilder.start (this.sysexDisplayHeader);
 
         if (row < SCREEN_ROW_POTS)
         {
             // Base screen
-            sb.append (this.sysexDisplayHeaderBase).append (StringUtils.toHexStr (row)).append (' ');
+            this.sysExBuilder.add (CMD_BASE, row);
         }
         else
         {
-            sb.append (row % 2 == 0 ? this.sysexDisplayHeaderParamName : this.sysexDisplayHeaderParamValue);
-
+            final int command = row % 2 == 0 ? CMD_PARAM_NAME : CMD_PARAM_VALUE;
             if (row < SCREEN_ROW_FADERS)
             {
                 // Pot screens
                 final int index = (row - SCREEN_ROW_POTS) / 2;
-                sb.append (StringUtils.toHexStr (SCREEN_ID_POT1 + index));
+                this.sysExBuilder.add (command, SCREEN_ID_POT1 + index);
             }
             else
             {
                 // Fader screens
                 final int index = (row - SCREEN_ROW_FADERS) / 2;
-                sb.append (StringUtils.toHexStr (SCREEN_ID_FADER1 + index));
+                this.sysExBuilder.add (command, SCREEN_ID_FADER1 + index);
             }
-            sb.append (' ');
         }
 
         // Encode text into Launchkey specific ISO-8859-2 format
         if (this.isoEncoder == null)
         {
-            sb.append (StringUtils.asciiToHex (StringUtils.pad (StringUtils.fixASCII (text), 16)));
+            this.sysExBuilder.addASCII (StringUtils.pad (StringUtils.fixASCII (text), 16));
         }
         else
         {
@@ -105,14 +109,14 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
                 if (this.isoEncoder.canEncode (character))
                 {
                     if (character > 127)
-                        sb.append ("11 ").append (StringUtils.toHexStr (character - 0x80)).append (' ');
+                        this.sysExBuilder.add (0x11, character - 0x80);
                     else
-                        sb.append (StringUtils.toHexStr (character)).append (' ');
+                        this.sysExBuilder.add (character);
                 }
             }
         }
 
-        this.output.sendSysex (sb.append ("F7").toString ());
+        this.sysExBuilder.send (this.output);
     }
 
 
@@ -133,9 +137,7 @@ public class LaunchkeyMk3Display extends AbstractTextDisplay
     {
         if (is88KeyVersion)
         {
-            this.sysexDisplayHeaderBase = "F0 00 20 29 02 12 04 ";
-            this.sysexDisplayHeaderParamName = "F0 00 20 29 02 12 07 ";
-            this.sysexDisplayHeaderParamValue = "F0 00 20 29 02 12 08 ";
+            this.sysexDisplayHeader = SYSEX_HEADER_88;
             this.forceFlush ();
         }
     }
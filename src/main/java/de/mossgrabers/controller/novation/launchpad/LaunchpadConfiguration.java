@@ -127,7 +127,7 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (globalSettings);
-        if (!this.definition.getBrightnessSysex ().isEmpty ())
+        if (!this.definition.getBrightnessCommand ().isEmpty ())
             this.activatePadBrightnessSetting (globalSettings);
     }
 
@@ -22,6 +22,7 @@ import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
@@ -78,6 +79,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public static final int                      CONTROL_MODE_STOP_CLIP      = 5;
 
     private final ILaunchpadControllerDefinition definition;
+    private final SysExBuilder                   sysExBuilder                = new SysExBuilder ();
 
     private final IVirtualFader []               virtualFaders               = new IVirtualFader [8];
 
@@ -99,7 +101,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         this.definition = definition;
 
         for (int i = 0; i < this.virtualFaders.length; i++)
-            this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
+            this.virtualFaders[i] = new VirtualFaderImpl (host, this.faderAnimator, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
 
         this.input.setSysexCallback (this::handleSysEx);
         this.output.sendSysex (DeviceInquiry.createQuery ());
@@ -156,7 +158,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    private void setLaunchpadMode (final String data)
+    private void setLaunchpadMode (final int [] data)
     {
         this.sendLaunchpadSysEx (data);
 
@@ -223,13 +225,12 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void updateBrightness ()
     {
-        final Optional<String> brightnessSysex = this.definition.getBrightnessSysex ();
-        if (brightnessSysex.isEmpty ())
+        final Optional<int []> brightnessCommand = this.definition.getBrightnessCommand ();
+        if (brightnessCommand.isEmpty ())
             return;
 
         final int padBrightness = this.configuration.getPadBrightness ();
-        final String sysexMessage = String.format (brightnessSysex.get (), Integer.valueOf (padBrightness));
-        this.output.sendSysex (sysexMessage);
+        this.sysExBuilder.start (this.definition.getSysExHeader ()).add (brightnessCommand.get ()).add (padBrightness).send (this.output);
     }
 
 
@@ -280,9 +281,9 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      *
      * @param data The data without the header and closing byte
      */
-    public void sendLaunchpadSysEx (final String data)
+    public void sendLaunchpadSysEx (final int... data)
     {
-        this.output.sendSysex (this.definition.getSysExHeader () + data + " F7");
+        this.sysExBuilder.start (this.definition.getSysExHeader ()).add (data).send (this.output);
     }
 
 
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -44,7 +45,8 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final Map<Integer, LightInfo>        padInfos     = new TreeMap<> ();
+    private final SysExBuilder                   sysExBuilder = new SysExBuilder (200);
 
 
     /**
@@ -93,7 +95,7 @@ public class LaunchpadPadGrid extends PadGridImpl
         {
             if (this.padInfos.isEmpty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
+            for (final byte [] update: this.definition.buildLEDUpdate (this.sysExBuilder, this.padInfos))
                 this.output.sendSysex (update);
             this.padInfos.clear ();
         }
@@ -9,7 +9,7 @@ import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetu
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
 import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.Collections;
 import java.util.List;
@@ -81,7 +81,7 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
     @Override
     public void resetMode (final LaunchpadControlSurface surface)
     {
-        surface.sendLaunchpadSysEx ("0E 00");
+        surface.sendLaunchpadSysEx (0x0E, 0x00);
     }
 
 
@@ -111,9 +111,9 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final SysExBuilder builder, final Map<Integer, LightInfo> padInfos)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
+        builder.start (this.getSysExHeader ()).add (0x03);
         for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
         {
             final int note = e.getKey ().intValue ();
@@ -123,7 +123,7 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                builder.add (0x00, note).add (info.getColor ());
             }
             else
             {
@@ -131,22 +131,22 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x01, note).add (info.getBlinkColor (), info.getColor ());
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x02, note).add (info.getColor ());
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return Collections.singletonList (builder.build ());
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public Optional<String> getBrightnessSysex ()
+    public Optional<int []> getBrightnessCommand ()
     {
         return Optional.empty ();
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.List;
 import java.util.Map;
@@ -39,25 +40,25 @@ public interface ILaunchpadControllerDefinition
     /**
      * Get the MIDI system exclusive header of the specific Launchpad.
      *
-     * @return The header as formatted string with hex values
+     * @return The header bytes including the start byte (F0)
      */
-    String getSysExHeader ();
+    byte [] getSysExHeader ();
 
 
     /**
      * Get the command to switch to standalone mode.
      *
-     * @return The command as formatted string with hex values
+     * @return The command bytes
      */
-    String getStandaloneModeCommand ();
+    int [] getStandaloneModeCommand ();
 
 
     /**
      * Get the command to switch to program mode.
      *
-     * @return The command as formatted string with hex values
+     * @return The command bytes
      */
-    String getProgramModeCommand ();
+    int [] getProgramModeCommand ();
 
 
     /**
@@ -94,20 +95,21 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Create the update system exclusive messages for all given pads.
      *
+     * @param builder The builder to use for creating the messages
      * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @return The system exclusive messages
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    List<byte []> buildLEDUpdate (SysExBuilder builder, Map<Integer, LightInfo> padInfos);
 
 
     /**
      * Get the system exclusive command to set the brightness of the pad LEDs. If the device does
-     * not support it the optional is empty. The value parameter is %X and can be replaced with
-     * String.format.
+     * not support it the optional is empty. The brightness value needs to be appended to the
+     * command.
      *
-     * @return The system exclusive string if supported
+     * @return The command bytes if supported
      */
-    Optional<String> getBrightnessSysex ();
+    Optional<int []> getBrightnessCommand ();
 }
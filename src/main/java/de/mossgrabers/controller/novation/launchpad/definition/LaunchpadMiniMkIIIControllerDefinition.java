@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 
@@ -19,9 +20,12 @@ import de.mossgrabers.framework.utils.Pair;
  */
 public class LaunchpadMiniMkIIIControllerDefinition extends AbstractLaunchpadDefinition
 {
-    private static final UUID             EXTENSION_ID     = UUID.fromString ("A17B269D-2641-452F-B5A2-81BBACDA0D17");
-    private static final String           SYSEX_HEADER     = "F0 00 20 29 02 0D ";
-    private static final Optional<String> BRIGHTNESS_SYSEX = Optional.of ("F0 00 20 29 02 0D 08 %02X F7");
+    private static final UUID             EXTENSION_ID       = UUID.fromString ("A17B269D-2641-452F-B5A2-81BBACDA0D17");
+    private static final byte []          SYSEX_HEADER       = SysExBuilder.fromHex ("F0 00 20 29 02 0D");
+    private static final Optional<int []> BRIGHTNESS_COMMAND = Optional.of (new int []
+    {
+        0x08
+    });
 
 
     /**
@@ -63,7 +67,7 @@ public class LaunchpadMiniMkIIIControllerDefinition extends AbstractLaunchpadDef
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public byte [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -71,24 +75,32 @@ public class LaunchpadMiniMkIIIControllerDefinition extends AbstractLaunchpadDef
 
     /** {@inheritDoc} */
     @Override
-    public String getStandaloneModeCommand ()
+    public int [] getStandaloneModeCommand ()
     {
-        return "10 00";
+        return new int []
+        {
+            0x10,
+            0x00
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public String getProgramModeCommand ()
+    public int [] getProgramModeCommand ()
     {
-        return "0E 01";
+        return new int []
+        {
+            0x0E,
+            0x01
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public Optional<String> getBrightnessSysex ()
+    public Optional<int []> getBrightnessCommand ()
     {
-        return BRIGHTNESS_SYSEX;
+        return BRIGHTNESS_COMMAND;
     }
 }
@@ -7,9 +7,9 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,8 +25,8 @@ import java.util.UUID;
  */
 public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefinition
 {
-    private static final UUID   EXTENSION_ID = UUID.fromString ("4E01A0B0-67B1-11E5-A837-0800200C9A66");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 18 ";
+    private static final UUID    EXTENSION_ID = UUID.fromString ("4E01A0B0-67B1-11E5-A837-0800200C9A66");
+    private static final byte [] SYSEX_HEADER = SysExBuilder.fromHex ("F0 00 20 29 02 18");
 
 
     /**
@@ -61,7 +61,7 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public byte [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -69,17 +69,25 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public String getStandaloneModeCommand ()
+    public int [] getStandaloneModeCommand ()
     {
-        return "21 01";
+        return new int []
+        {
+            0x21,
+            0x01
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public String getProgramModeCommand ()
+    public int [] getProgramModeCommand ()
     {
-        return "22 00";
+        return new int []
+        {
+            0x22,
+            0x00
+        };
     }
 
 
@@ -109,37 +117,36 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public List<byte []> buildLEDUpdate (final SysExBuilder builder, final Map<Integer, LightInfo> padInfos)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        final List<byte []> result = new ArrayList<> (3);
+        if (padInfos.isEmpty ())
+            return result;
 
+        builder.start (SYSEX_HEADER).add (0x0A);
+        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+            builder.add (e.getKey ().intValue (), e.getValue ().getColor ());
+        result.add (builder.build ());
+
+        addBlinkUpdate (builder, padInfos, true, result);
+        addBlinkUpdate (builder, padInfos, false, result);
+        return result;
+    }
+
+
+    private static void addBlinkUpdate (final SysExBuilder builder, final Map<Integer, LightInfo> padInfos, final boolean isFast, final List<byte []> result)
+    {
+        builder.start (SYSEX_HEADER).add (isFast ? 0x23 : 0x28);
+        final int headerLength = builder.getLength ();
         for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
         {
             final int note = e.getKey ().intValue ();
             final LightInfo info = e.getValue ();
-
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-
-            if (info.getBlinkColor () > 0)
-            {
-                // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-            }
+            // Note: The MkII has an additional prefixed 00 instead of the Pro!
+            if (info.getBlinkColor () > 0 && info.isFast () == isFast)
+                builder.add (0x00, note).add (info.getBlinkColor ());
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        if (builder.getLength () > headerLength)
+            result.add (builder.build ());
     }
 }
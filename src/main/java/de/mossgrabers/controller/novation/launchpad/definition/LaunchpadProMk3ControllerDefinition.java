@@ -9,9 +9,9 @@ import java.util.UUID;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -21,8 +21,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefinition
 {
-    private static final UUID   EXTENSION_ID = UUID.fromString ("4EDED44C-7817-4C66-A334-66A9E342AAA0");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 0E ";
+    private static final UUID    EXTENSION_ID = UUID.fromString ("4EDED44C-7817-4C66-A334-66A9E342AAA0");
+    private static final byte [] SYSEX_HEADER = SysExBuilder.fromHex ("F0 00 20 29 02 0E");
 
 
     /**
@@ -109,7 +109,7 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public byte [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -117,17 +117,25 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
 
     /** {@inheritDoc} */
     @Override
-    public String getStandaloneModeCommand ()
+    public int [] getStandaloneModeCommand ()
     {
-        return "10 00";
+        return new int []
+        {
+            0x10,
+            0x00
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public String getProgramModeCommand ()
+    public int [] getProgramModeCommand ()
     {
-        return "0E 01";
+        return new int []
+        {
+            0x0E,
+            0x01
+        };
     }
 
 
@@ -135,7 +143,7 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
     @Override
     public void resetMode (final LaunchpadControlSurface surface)
     {
-        surface.sendLaunchpadSysEx ("0E 00");
+        surface.sendLaunchpadSysEx (0x0E, 0x00);
     }
 
 
@@ -143,7 +151,7 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
     @Override
     public void setLogoColor (final LaunchpadControlSurface surface, final int color)
     {
-        surface.sendLaunchpadSysEx ("03 00 63 " + StringUtils.toHexStr (color));
+        surface.sendLaunchpadSysEx (0x03, 0x00, 0x63, color);
     }
 
 
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 
@@ -22,9 +23,12 @@ import de.mossgrabers.framework.utils.Pair;
  */
 public class LaunchpadXControllerDefinition extends AbstractLaunchpadDefinition
 {
-    private static final UUID             EXTENSION_ID     = UUID.fromString ("CD196CCF-DF98-4AB0-9ABC-F0F29A60ACED");
-    private static final String           SYSEX_HEADER     = "F0 00 20 29 02 0C ";
-    private static final Optional<String> BRIGHTNESS_SYSEX = Optional.of ("F0 00 20 29 02 0C 08 %02X F7");
+    private static final UUID             EXTENSION_ID       = UUID.fromString ("CD196CCF-DF98-4AB0-9ABC-F0F29A60ACED");
+    private static final byte []          SYSEX_HEADER       = SysExBuilder.fromHex ("F0 00 20 29 02 0C");
+    private static final Optional<int []> BRIGHTNESS_COMMAND = Optional.of (new int []
+    {
+        0x08
+    });
 
 
     /**
@@ -66,7 +70,7 @@ public class LaunchpadXControllerDefinition extends AbstractLaunchpadDefinition
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public byte [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -74,24 +78,32 @@ public class LaunchpadXControllerDefinition extends AbstractLaunchpadDefinition
 
     /** {@inheritDoc} */
     @Override
-    public String getStandaloneModeCommand ()
+    public int [] getStandaloneModeCommand ()
     {
-        return "10 00";
+        return new int []
+        {
+            0x10,
+            0x00
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public String getProgramModeCommand ()
+    public int [] getProgramModeCommand ()
     {
-        return "0E 01";
+        return new int []
+        {
+            0x0E,
+            0x01
+        };
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public Optional<String> getBrightnessSysex ()
+    public Optional<int []> getBrightnessCommand ()
     {
-        return BRIGHTNESS_SYSEX;
+        return BRIGHTNESS_COMMAND;
     }
 }
@@ -59,7 +59,7 @@ public class MixView extends AbstractView<LaunchpadControlSurface, LaunchpadConf
     {
         super ("Mix", surface, model);
 
-        this.fader = new VirtualFaderImpl (model.getHost (), this);
+        this.fader = new VirtualFaderImpl (model.getHost (), surface.getFaderAnimator (), this);
     }
 
 
@@ -41,7 +41,7 @@ public class VolumeView extends AbstractFaderView implements IVirtualFaderCallba
     {
         super ("Volume", surface, model);
 
-        this.masterFader = new VirtualFaderImpl (model.getHost (), this);
+        this.masterFader = new VirtualFaderImpl (model.getHost (), surface.getFaderAnimator (), this);
     }
 
 
@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -113,14 +114,13 @@ public class SLControlSurface extends AbstractControlSurface<SLConfiguration>
     public static final int     MKII_BUTTON_STATE_OFF      = 0;
     public static final int     MKII_BUTTON_STATE_ON       = 1;
 
-    public static final String  SYSEX_HEADER               = "F0 00 20 29 03 03 12 00 04 00 ";
-    private static final String SYSEX_AUTOMAP_ON           = SYSEX_HEADER + "01 01 F7";
-    private static final String SYSEX_AUTOMAP_OFF          = SYSEX_HEADER + "01 00 F7";
+    public static final byte [] SYSEX_HEADER               = SysExBuilder.fromHex ("F0 00 20 29 03 03 12 00 04 00");
 
     private final boolean       isMkII;
     private boolean             isTransportActive;
     private int                 lastCC94Value;
     private boolean             isDAWConnected             = false;
+    private final SysExBuilder  sysExBuilder               = new SysExBuilder ();
 
 
     /**
@@ -155,7 +155,7 @@ public class SLControlSurface extends AbstractControlSurface<SLConfiguration>
     public void sendStartup ()
     {
         // Switch to Ableton Automap mode
-        this.output.sendSysex (SYSEX_AUTOMAP_ON);
+        this.sysExBuilder.start (SYSEX_HEADER).add (0x01, 0x01).send (this.output);
 
         this.turnOffTriggers ();
 
@@ -184,7 +184,7 @@ public class SLControlSurface extends AbstractControlSurface<SLConfiguration>
     protected void internalShutdown ()
     {
         this.getTextDisplay ().clear ();
-        this.output.sendSysex (SYSEX_AUTOMAP_OFF);
+        this.sysExBuilder.start (SYSEX_HEADER).add (0x01, 0x00).send (this.output);
 
         super.internalShutdown ();
     }
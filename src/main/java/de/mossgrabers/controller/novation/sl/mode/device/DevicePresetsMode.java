@@ -45,7 +45,7 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
     {
         super ("Browser", surface, model);
 
-        this.selectionMode = SELECTION_OFF;
+        this.setSelectionMode (SELECTION_OFF);
         this.filterColumn = 0;
     }
 
@@ -61,7 +61,7 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
                     this.navigatePresets (index == 1);
                 else
                 {
-                    this.selectionMode = DevicePresetsMode.SELECTION_FILTER;
+                    this.setSelectionMode (DevicePresetsMode.SELECTION_FILTER);
                     this.filterColumn = index - 2;
                 }
                 break;
@@ -81,11 +81,11 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
                     case 7:
                         this.model.getBrowser ().stopBrowsing (true);
                         this.surface.getModeManager ().setActive (Modes.TRACK_DETAILS);
-                        this.selectionMode = DevicePresetsMode.SELECTION_OFF;
+                        this.setSelectionMode (DevicePresetsMode.SELECTION_OFF);
                         break;
                     // All other buttons return to Browse
                     default:
-                        this.selectionMode = DevicePresetsMode.SELECTION_OFF;
+                        this.setSelectionMode (DevicePresetsMode.SELECTION_OFF);
                         break;
                 }
                 break;
@@ -103,7 +103,7 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
                         break;
                     // All other buttons return to Browse
                     default:
-                        this.selectionMode = DevicePresetsMode.SELECTION_OFF;
+                        this.setSelectionMode (DevicePresetsMode.SELECTION_OFF);
                         break;
                 }
                 break;
@@ -187,7 +187,7 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
      */
     public void navigatePresets (final boolean moveUp)
     {
-        this.selectionMode = DevicePresetsMode.SELECTION_PRESET;
+        this.setSelectionMode (DevicePresetsMode.SELECTION_PRESET);
         final IBrowser browser = this.model.getBrowser ();
         if (!browser.isActive ())
             return;
@@ -225,4 +225,17 @@ public class DevicePresetsMode extends AbstractParameterMode<SLControlSurface, S
     {
         return this.selectionMode;
     }
+
+
+    /**
+     * Set the selection mode. The results are only observed while they are displayed.
+     *
+     * @param selectionMode The selection mode
+     */
+    private void setSelectionMode (final int selectionMode)
+    {
+        this.selectionMode = selectionMode;
+        final IBrowser browser = this.model.getBrowser ();
+        browser.setNumVisibleResults (selectionMode == SELECTION_PRESET ? browser.getNumResults () : 0);
+    }
 }
\ No newline at end of file
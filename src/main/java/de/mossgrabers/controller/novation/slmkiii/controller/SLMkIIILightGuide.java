@@ -4,12 +4,16 @@
 
 package de.mossgrabers.controller.novation.slmkiii.controller;
 
+import java.util.Objects;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.LightGuideImpl;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
@@ -23,10 +27,19 @@ import de.mossgrabers.framework.view.AbstractPlayView;
  */
 public class SLMkIIILightGuide extends LightGuideImpl
 {
+    private static final byte [] SYSEX_LIGHT_GUIDE_ON  = SysExBuilder.fromHex ("F0 00 20 29 02 0A 01 05 01 F7");
+    private static final byte [] SYSEX_LIGHT_GUIDE_OFF = SysExBuilder.fromHex ("F0 00 20 29 02 0A 01 05 00 F7");
+
     private final IModel     model;
     private final Scales     keyboardScales;
     private final KeyManager keyboardManager;
 
+    // The colors of the last drawn keys and the state from which they were calculated
+    private final String []  colors       = new String [61];
+    private long             colorVersion = -1;
+    private long             colorState   = -1;
+    private ColorEx          colorTrack;
+
 
     /**
      * Constructor.
@@ -67,7 +80,7 @@ public class SLMkIIILightGuide extends LightGuideImpl
      */
     public void setActive (final boolean enable)
     {
-        this.output.sendSysex (new StringBuilder ("F0 00 20 29 02 0A 01 05 0").append (enable ? '1' : '0').append (" F7").toString ());
+        this.output.sendSysex (enable ? SYSEX_LIGHT_GUIDE_ON : SYSEX_LIGHT_GUIDE_OFF);
     }
 
 
@@ -86,8 +99,27 @@ public class SLMkIIILightGuide extends LightGuideImpl
         this.keyboardScales.setScale (scales.getScale ());
 
         final ITrack cursorTrack = this.model.getCursorTrack ();
-        for (int i = this.keyboardScales.getStartNote (); i < this.keyboardScales.getEndNote (); i++)
-            this.light (i - 36, this.getGridColor (isEnabled, isRecording, cursorTrack, i));
+        final int startNote = this.keyboardScales.getStartNote ();
+        final int endNote = this.keyboardScales.getEndNote ();
+
+        // Only look up the pressed keys and scale colors again if something has changed
+        final long version = this.keyboardManager.getVersion ();
+        long state = this.keyboardScales.getScale ().ordinal ();
+        state = state << 4 | this.keyboardScales.getScaleOffsetIndex ();
+        state = state << 1 | (isEnabled ? 1 : 0);
+        state = state << 1 | (isRecording ? 1 : 0);
+        final ColorEx trackColor = cursorTrack == null ? null : cursorTrack.getColor ();
+        if (version != this.colorVersion || state != this.colorState || !Objects.equals (trackColor, this.colorTrack))
+        {
+            for (int i = startNote; i < endNote; i++)
+                this.colors[i - 36] = this.getGridColor (isEnabled, isRecording, cursorTrack, i);
+            this.colorVersion = version;
+            this.colorState = state;
+            this.colorTrack = trackColor;
+        }
+
+        for (int i = startNote; i < endNote; i++)
+            this.light (i - 36, this.colors[i - 36]);
     }
 
 
@@ -4,7 +4,6 @@
 
 package de.mossgrabers.controller.novation.slmkiii.view;
 
-import java.util.List;
 import java.util.Optional;
 
 import de.mossgrabers.controller.novation.slmkiii.SLMkIIIConfiguration;
@@ -17,6 +16,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.featuregroup.ModeManager;
@@ -141,7 +141,7 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
         final int offsetY = this.scales.getDrumOffset ();
         final int channel = this.configuration.getMidiEditChannel ();
         final int selPad = this.getSelectedPad ();
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
         final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, 0);
         for (int col = 0; col < DrumView.NUM_DISPLAY_COLS; col++)
         {
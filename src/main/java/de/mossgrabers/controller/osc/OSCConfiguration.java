@@ -60,6 +60,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private String                 additionalHosts           = "";
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
@@ -100,6 +101,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IStringSetting additionalHostsSetting = globalSettings.getStringSetting ("Additional hosts to send to, e.g. 192.168.1.10:9000 (requires restart)", CATEGORY_SETUP, 100, "");
+        this.additionalHosts = additionalHostsSetting.get ();
+
         ///////////////////////////
         // Protocol
 
@@ -190,6 +194,19 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the additional hosts to which the extension sends OSC messages after they have sent a
+     * hello message.
+     *
+     * @return The hosts and ports separated by a colon, e.g. 192.168.1.10:9000, separated by
+     *         commas or spaces
+     */
+    public String getAdditionalHosts ()
+    {
+        return this.additionalHosts;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -35,7 +35,6 @@ import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
@@ -187,12 +186,10 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.surfaces.add (surface);
         this.keyManager = new KeyManager (this.model, this.model.getScales (), surface.getPadGrid ());
 
-        // Send OSC messages
-        final String sendHost = this.configuration.getSendHost ();
-        final int sendPort = this.configuration.getSendPort ();
-        this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        // Send OSC messages, the additional clients are activated with /hello
+        this.writer = new OSCWriter (this.host, this.model, this.configuration);
+        this.writer.addClient (this.configuration.getSendHost (), this.configuration.getSendPort ());
+        this.addAdditionalClients ();
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -220,6 +217,27 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /**
+     * Connect to the additional clients. The connections can only be created during
+     * initialization, the clients are activated later with a hello message.
+     */
+    private void addAdditionalClients ()
+    {
+        for (final String client: this.configuration.getAdditionalHosts ().split ("[,\\s]+"))
+        {
+            if (client.isEmpty ())
+                continue;
+            if (!client.matches (".+:\\d{1,5}"))
+            {
+                this.host.error ("The additional OSC host must contain the address and port, e.g. 192.168.1.10:9000: " + client);
+                continue;
+            }
+            final int pos = client.lastIndexOf (':');
+            this.writer.addClient (client.substring (0, pos), Integer.parseInt (client.substring (pos + 1)));
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -26,6 +26,17 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Get the first parts of the addresses which are sent by this module when it is flushed.
+     *
+     * @return The names, by default the supported commands
+     */
+    default String [] getSentCommands ()
+    {
+        return this.getSupportedCommands ();
+    }
+
+
     /**
      * Parse and execute an OSC command.
      *
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.osc.module;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Locale;
 
@@ -83,6 +84,17 @@ public class TransportModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSentCommands ()
+    {
+        final String [] commands = this.getSupportedCommands ();
+        final String [] sentCommands = Arrays.copyOf (commands, commands.length + 1);
+        sentCommands[commands.length] = "beat";
+        return sentCommands;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
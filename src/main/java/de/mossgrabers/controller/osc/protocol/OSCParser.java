@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.osc.protocol;
 
+import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
@@ -13,7 +14,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
-import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
@@ -47,7 +47,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
      * @param midiInput The MIDI input
      * @param keyManager The key manager
      */
-    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final IOpenSoundControlConfiguration configuration, final IOpenSoundControlWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
+    public OSCParser (final IHost host, final OSCControlSurface surface, final IModel model, final OSCConfiguration configuration, final IOpenSoundControlWriter writer, final IMidiInput midiInput, final KeyManager keyManager)
     {
         super (host, model, midiInput, configuration, writer);
 
@@ -76,6 +76,17 @@ public class OSCParser extends AbstractOpenSoundControlParser
         }
 
         final Object [] values = message.getValues ();
+        if ("hello".equals (command) || "goodbye".equals (command))
+        {
+            this.handleHello ("hello".equals (command), values);
+            return;
+        }
+        if ("subscribe".equals (command) || "unsubscribe".equals (command))
+        {
+            this.handleSubscription ("subscribe".equals (command), values);
+            return;
+        }
+
         try
         {
             final IModule module = this.modules.get (command);
@@ -101,6 +112,70 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Activate or deactivate a client. The connection to the client must have been configured.
+     *
+     * @param isHello True to activate, false to deactivate
+     * @param values The address and the port of the client
+     */
+    private void handleHello (final boolean isHello, final Object [] values)
+    {
+        final String command = isHello ? "hello" : "goodbye";
+        if (!hasClient (values))
+        {
+            this.host.println ("The command " + command + " requires the address and port of the client, e.g. /" + command + " 192.168.1.10 9000");
+            return;
+        }
+
+        final String clientAddress = values[0].toString ();
+        final int clientPort = ((Number) values[1]).intValue ();
+        if (isHello ? !this.writer.hello (clientAddress, clientPort) : !this.writer.goodbye (clientAddress, clientPort))
+            this.host.println ("The client " + clientAddress + ":" + clientPort + " is not configured in the additional hosts or is the main host.");
+    }
+
+
+    /**
+     * Subscribe or unsubscribe to address prefixes. The values can start with the address and port
+     * of the client, otherwise the subscription is for the host which is configured to send to.
+     *
+     * @param isSubscribe True to subscribe, false to unsubscribe
+     * @param values The optional client address and port, followed by the address prefixes
+     */
+    private void handleSubscription (final boolean isSubscribe, final Object [] values)
+    {
+        final boolean hasClient = hasClient (values);
+        if (values == null || values.length <= (hasClient ? 2 : 0))
+        {
+            this.host.println ("Missing address prefix for " + (isSubscribe ? "subscribe." : "unsubscribe."));
+            return;
+        }
+
+        final OSCConfiguration conf = (OSCConfiguration) this.configuration;
+        final String clientAddress = hasClient ? values[0].toString () : conf.getSendHost ();
+        final int clientPort = hasClient ? ((Number) values[1]).intValue () : conf.getSendPort ();
+        for (int i = hasClient ? 2 : 0; i < values.length; i++)
+        {
+            final String prefix = values[i].toString ();
+            if (isSubscribe)
+                this.writer.subscribe (clientAddress, clientPort, prefix);
+            else
+                this.writer.unsubscribe (clientAddress, clientPort, prefix);
+        }
+    }
+
+
+    /**
+     * Check if the values start with the address and port of a client.
+     *
+     * @param values The values of a message
+     * @return True if the second value is a number
+     */
+    private static boolean hasClient (final Object [] values)
+    {
+        return values != null && values.length >= 2 && values[1] instanceof Number;
+    }
+
+
     /**
      * Parses the OSC message into separate parts.
      *
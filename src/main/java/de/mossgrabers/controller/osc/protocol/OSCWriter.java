@@ -9,7 +9,6 @@ import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -34,7 +33,8 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         HEARTBEAT_MESSAGES.add ("/beat/current");
     }
 
-    private final List<IModule> modules = new ArrayList<> ();
+    private final List<IModule>   modules        = new ArrayList<> ();
+    private final List<String []> modulePrefixes = new ArrayList<> ();
 
 
     /**
@@ -42,12 +42,11 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, configuration);
     }
 
 
@@ -57,7 +56,16 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
-        this.modules.forEach (module -> module.flush (dump));
+
+        this.updateClients ();
+
+        // Skip the modules of which no address is subscribed
+        for (int i = 0; i < this.modules.size (); i++)
+        {
+            if (this.isAnySubscribed (this.modulePrefixes.get (i)))
+                this.modules.get (i).flush (dump);
+        }
+
         this.flush ("/update");
     }
 
@@ -78,5 +86,22 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public void registerModule (final IModule module)
     {
         this.modules.add (module);
+
+        final String [] commands = module.getSentCommands ();
+        final String [] prefixes = new String [commands.length];
+        for (int i = 0; i < commands.length; i++)
+            prefixes[i] = "/" + commands[i];
+        this.modulePrefixes.add (prefixes);
+    }
+
+
+    private boolean isAnySubscribed (final String [] prefixes)
+    {
+        for (final String prefix: prefixes)
+        {
+            if (this.isSubscribed (prefix))
+                return true;
+        }
+        return false;
     }
 }
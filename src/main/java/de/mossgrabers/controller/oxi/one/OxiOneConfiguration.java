@@ -7,6 +7,7 @@ package de.mossgrabers.controller.oxi.one;
 import java.util.List;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -34,6 +35,11 @@ public class OxiOneConfiguration extends AbstractConfiguration
         Views.RAINDROPS
     };
 
+    /** Setting for the maximum frames per second of the display. */
+    public static final Integer   DISPLAY_MAX_FPS      = Integer.valueOf (50);
+
+    private int                   displayMaxFPS        = 30;
+
 
     /**
      * Constructor.
@@ -107,5 +113,26 @@ public class OxiOneConfiguration extends AbstractConfiguration
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
         this.activateColorTrackStates (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        final IIntegerSetting displayMaxFPSSetting = globalSettings.getRangeSetting ("Display max. Frames per Second", CATEGORY_HARDWARE_SETUP, 5, 60, 1, " fps", 30);
+        displayMaxFPSSetting.addValueObserver (value -> {
+            this.displayMaxFPS = value.intValue ();
+            this.notifyObservers (DISPLAY_MAX_FPS);
+        });
+        this.isSettingActive.add (DISPLAY_MAX_FPS);
+    }
+
+
+    /**
+     * Get the maximum number of frames per second which are sent to the display.
+     *
+     * @return The maximum frames per second
+     */
+    public int getDisplayMaxFPS ()
+    {
+        return this.displayMaxFPS;
     }
 }
@@ -143,7 +143,7 @@ public class OxiOneControllerSetup extends AbstractControllerSetup<OxiOneControl
                 "90????" /* Note on */);
         final OxiOneControlSurface surface = new OxiOneControlSurface (this.host, this.colorManager, this.configuration, output, input);
         this.surfaces.add (surface);
-        surface.addGraphicsDisplay (new OxiOneDisplay (this.host, output, this.valueChanger.getUpperBound ()));
+        surface.addGraphicsDisplay (new OxiOneDisplay (this.host, output, this.configuration, this.valueChanger.getUpperBound ()));
         surface.getModeManager ().setDefaultID (Modes.TRACK);
     }
 
@@ -6,12 +6,14 @@ package de.mossgrabers.controller.oxi.one.controller;
 
 import java.util.BitSet;
 
+import de.mossgrabers.controller.oxi.one.OxiOneConfiguration;
 import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.FramePacer;
 
 
 /**
@@ -28,7 +30,9 @@ public class OxiOneDisplay extends AbstractGraphicDisplay
     private final IMidiOutput output;
     private final BitSet      oledBitmap    = new BitSet (NUM_PIXELS);
     private final BitSet      oldOledBitmap = new BitSet (NUM_PIXELS);
+    private final BitSet      changedPixels = new BitSet (NUM_PIXELS);
     private final byte []     displayData   = new byte [8 + NUM_PIXELS / 4];
+    private final FramePacer  framePacer;
 
     private long              lastSend      = System.currentTimeMillis ();
 
@@ -38,13 +42,16 @@ public class OxiOneDisplay extends AbstractGraphicDisplay
      *
      * @param host The host
      * @param output The MIDI output which addresses the display
+     * @param configuration The configuration
      * @param maxParameterValue The maximum parameter value (upper bound)
      */
-    public OxiOneDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
+    public OxiOneDisplay (final IHost host, final IMidiOutput output, final OxiOneConfiguration configuration, final int maxParameterValue)
     {
         super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (NUM_COLS, NUM_ROWS, maxParameterValue), "OXI One Display");
 
         this.output = output;
+        this.framePacer = new FramePacer (configuration.getDisplayMaxFPS ());
+        configuration.addSettingObserver (OxiOneConfiguration.DISPLAY_MAX_FPS, () -> this.framePacer.setMaxFPS (configuration.getDisplayMaxFPS ()));
 
         this.displayData[0] = (byte) 0xF0;
         this.displayData[1] = (byte) 0x00;
@@ -92,7 +99,36 @@ public class OxiOneDisplay extends AbstractGraphicDisplay
                     }
                 }
             });
+        }
+
+        this.framePacer.submit (this::sendFrame);
+    }
 
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        try
+        {
+            if (!this.framePacer.shutdown (5000))
+                this.host.error ("Display frame executor did not end in 5 seconds.");
+            this.host.println ("OXI One display: " + this.framePacer.getStatistics ());
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("Display frame executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
+        super.shutdown ();
+    }
+
+
+    private void sendFrame ()
+    {
+        synchronized (this.displayData)
+        {
             // Slow down display updates to not flood the device controller
             // Send if content has changed or every 3 seconds if there was no change to keep
             // the display from going into sleep mode
@@ -104,33 +140,30 @@ public class OxiOneDisplay extends AbstractGraphicDisplay
             }
             else
             {
+                this.changedPixels.clear ();
+                this.changedPixels.or (this.oledBitmap);
+                this.changedPixels.xor (this.oldOledBitmap);
                 this.oldOledBitmap.clear ();
                 this.oldOledBitmap.or (this.oledBitmap);
 
-                int pos = 7; // Offset to the 1st data byte
-
-                // Format is a bit weird: 2 bytes contain 8 pixel in a y-column. These stripes start
-                // from top left.
+                // There is no command to update only a part of the display, therefore the full
+                // frame is sent but only the changed columns of each page are packed again
                 for (int y = 0; y < NUM_ROWS; y += 8)
                 {
-                    for (int x = 0; x < NUM_COLS; x++)
+                    final int pageStart = y * NUM_COLS;
+                    final int pageEnd = pageStart + 8 * NUM_COLS;
+
+                    int first = NUM_COLS;
+                    int last = -1;
+                    for (int i = this.changedPixels.nextSetBit (pageStart); i >= 0 && i < pageEnd; i = this.changedPixels.nextSetBit (i + 1))
                     {
-                        byte nibble1 = 0;
-                        byte nibble2 = 0;
-                        for (int bit = 0; bit < 8; bit++)
-                        {
-                            if (this.oledBitmap.get ((y + bit) * NUM_COLS + x))
-                            {
-                                if (bit > 3)
-                                    nibble1 |= 1 << bit - 4;
-                                else
-                                    nibble2 |= 1 << bit;
-                            }
-                        }
-                        this.displayData[pos] = nibble1;
-                        this.displayData[pos + 1] = nibble2;
-                        pos += 2;
+                        final int x = i % NUM_COLS;
+                        first = Math.min (first, x);
+                        last = Math.max (last, x);
                     }
+
+                    for (int x = first; x <= last; x++)
+                        this.packColumn (y, x);
                 }
             }
             this.lastSend = now;
@@ -138,4 +171,33 @@ public class OxiOneDisplay extends AbstractGraphicDisplay
             this.output.sendSysex (this.displayData);
         }
     }
+
+
+    /**
+     * Packs the 8 pixels of a column of a page. Format is a bit weird: 2 bytes contain 8 pixel in
+     * a y-column. These pages start from top left.
+     *
+     * @param y The top row of the page
+     * @param x The column
+     */
+    private void packColumn (final int y, final int x)
+    {
+        byte nibble1 = 0;
+        byte nibble2 = 0;
+        for (int bit = 0; bit < 8; bit++)
+        {
+            if (this.oledBitmap.get ((y + bit) * NUM_COLS + x))
+            {
+                if (bit > 3)
+                    nibble1 |= 1 << bit - 4;
+                else
+                    nibble2 |= 1 << bit;
+            }
+        }
+
+        // Offset to the 1st data byte is 7
+        final int pos = 7 + 2 * (y / 8 * NUM_COLS + x);
+        this.displayData[pos] = nibble1;
+        this.displayData[pos + 1] = nibble2;
+    }
 }
\ No newline at end of file
@@ -10,17 +10,18 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
- * The Midi Monitor control surface.
+ * The Midi Monitor control surface. The lines to print are written into a ring buffer which is
+ * flushed to the console in batches at a fixed rate. If the console cannot keep up, further lines
+ * are dropped and counted.
  *
  * @author Jürgen Moßgraber
  */
 public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
 {
-    private static final String [] SPACES           =
+    private static final String []     SPACES           =
     {
         "",
         " ",
@@ -38,9 +39,37 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         "             "
     };
 
-    private boolean                printHeader      = true;
-    private boolean                printSysexHeader = true;
-    private int                    sysexLengthCount = 0;
+    private static final int           LOG_CAPACITY     = 2048;
+    private static final int           FLUSH_INTERVAL   = 100;
+
+    private static final String []     HEX_NUMBERS      = new String [256];
+    private static final String []     BYTE_COLUMNS     = new String [256];
+    private static final String []     CHANNEL_COLUMNS  = new String [16];
+    private static final String []     NOTE_NAMES       = new String [128];
+
+    static
+    {
+        for (int i = 0; i < 256; i++)
+        {
+            HEX_NUMBERS[i] = padNumber (i, 2, true);
+            BYTE_COLUMNS[i] = HEX_NUMBERS[i] + " " + padNumber (i, 3, false);
+        }
+        for (int i = 0; i < 16; i++)
+            CHANNEL_COLUMNS[i] = padNumber (i + 1, 4, false);
+        for (int i = 0; i < 128; i++)
+            NOTE_NAMES[i] = Scales.formatNoteAndOctave (i, -2);
+    }
+
+    private final Object               logLock          = new Object ();
+    private final StringBuilder []     logLines         = new StringBuilder [LOG_CAPACITY];
+    private final StringBuilder        batch            = new StringBuilder (4096);
+    private int                        logStart         = 0;
+    private int                        logCount         = 0;
+    private int                        droppedLines     = 0;
+
+    private boolean                    printHeader      = true;
+    private boolean                    printSysexHeader = true;
+    private int                        sysexLengthCount = 0;
 
 
     /**
@@ -54,7 +83,12 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     {
         super (host, configuration, null, null, input, null, 10, 10);
 
+        for (int i = 0; i < LOG_CAPACITY; i++)
+            this.logLines[i] = new StringBuilder (80);
+
         this.input.setSysexCallback (this::handleSysEx);
+
+        this.host.scheduleTask (this::flushLog, FLUSH_INTERVAL);
     }
 
 
@@ -68,45 +102,60 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         switch (code)
         {
             case MidiConstants.CMD_NOTE_OFF:
-                this.log (status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, -2));
+                this.log (status, data1, data2, channel, "Note Off ", NOTE_NAMES[data1 & 0x7F]);
                 break;
 
             case MidiConstants.CMD_NOTE_ON:
-                this.log (status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, -2));
+                this.log (status, data1, data2, channel, "Note On  ", NOTE_NAMES[data1 & 0x7F]);
                 break;
 
             case MidiConstants.CMD_POLY_AFTERTOUCH:
-                this.log (status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, -2));
+                this.log (status, data1, data2, channel, "Polyphonic Key Pressure ", NOTE_NAMES[data1 & 0x7F]);
                 break;
 
             case MidiConstants.CMD_CC:
-                this.log (status, data1, data2, channel, "CC " + MidiConstants.getCCNames ()[data1]);
+                this.log (status, data1, data2, channel, "CC ", MidiConstants.getCCNames ()[data1]);
                 break;
 
             case MidiConstants.CMD_PROGRAM_CHANGE:
-                this.log (status, data1, data2, channel, "Program Change");
+                this.log (status, data1, data2, channel, "Program Change", "");
                 break;
 
             case MidiConstants.CMD_CHANNEL_AFTERTOUCH:
-                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)");
+                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)", "");
                 break;
 
             case MidiConstants.CMD_PITCHBEND:
-                this.log (status, data1, data2, channel, "Pitchbend");
+                this.log (status, data1, data2, channel, "Pitchbend", "");
                 break;
 
             case MidiConstants.CMD_SYSTEM:
                 if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                    this.log (status, data1, data2, channel, MidiConstants.getSysexNames ()[channel]);
+                    this.log (status, data1, data2, channel, MidiConstants.getSysexNames ()[channel], "");
                 break;
 
             default:
-                this.host.println ("Unhandled MIDI status: " + status);
+                synchronized (this.logLock)
+                {
+                    final StringBuilder line = this.nextLine ();
+                    if (line != null)
+                        line.append ("Unhandled MIDI status: ").append (status);
+                }
                 break;
         }
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void internalShutdown ()
+    {
+        this.flushLog ();
+
+        super.internalShutdown ();
+    }
+
+
     /**
      * Handle MIDI system exclusive messages. Note: this can be called multiple times in chunks of
      * 1024 bytes!
@@ -115,59 +164,174 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
      */
     private void handleSysEx (final String dataStr)
     {
-        if (this.printSysexHeader)
+        final int length = dataStr.length () / 2;
+        if (length == 0)
+            return;
+
+        synchronized (this.logLock)
         {
-            this.printHeader = true;
-            this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
-        }
+            if (this.printSysexHeader)
+            {
+                this.printHeader = true;
+                this.printSysexHeader = false;
+                this.addLine ("");
+                this.addLine ("| SYSEX");
+                this.addLine ("|-----------------------------------------------------------------------");
+            }
 
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        if (data.length == 0)
-            return;
+            final int first = parseHexByte (dataStr, 0);
+            final int last = parseHexByte (dataStr, length - 1);
+            if (first == 0xF0)
+                this.sysexLengthCount = 0;
+            this.sysexLengthCount += length;
 
-        if (data[0] == 0xF0)
-            this.sysexLengthCount = 0;
-        this.sysexLengthCount += data.length;
+            StringBuilder line = this.nextLine ();
+            appendIfPresent (line, "| ");
+            for (int i = 0; i < length; i++)
+            {
+                appendIfPresent (line, HEX_NUMBERS[parseHexByte (dataStr, i)]);
 
-        StringBuilder sb = new StringBuilder ("| ");
-        for (int i = 0; i < data.length; i++)
-        {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+                if (i != 0 && (i + 1) % 16 == 0)
+                {
+                    // Only start a new line if there is more to print, the line is already added
+                    if (i + 1 < length || last == 0xF7)
+                    {
+                        line = this.nextLine ();
+                        appendIfPresent (line, "| ");
+                    }
+                }
+                else
+                    appendIfPresent (line, " ");
+            }
 
-            if (i != 0 && (i + 1) % 16 == 0)
+            if (last == 0xF7)
             {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
+                if (this.sysexLengthCount == length && length == 6 && first == 0xF0 && parseHexByte (dataStr, 1) == 0x7F && parseHexByte (dataStr, 3) == 0x06)
+                {
+                    appendIfPresent (line, " - MMC ");
+                    appendIfPresent (line, MidiConstants.getMMCNames ()[parseHexByte (dataStr, 4)]);
+                }
+                else if (line != null)
+                    line.append ('(').append (this.sysexLengthCount).append (" bytes)");
+            }
+            else if (length % 16 != 0)
+            {
+                // Incomplete lines are only printed at the end of the message
+                this.removeLastLine (line);
             }
-            else
-                sb.append (' ');
         }
+    }
+
 
-        if (data[data.length - 1] == 0xF7)
+    private void log (final int status, final int data1, final int data2, final int channel, final String event, final String detail)
+    {
+        synchronized (this.logLock)
         {
-            if (this.sysexLengthCount == data.length && data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
-                sb.append (" - MMC ").append (MidiConstants.getMMCNames ()[data[4]]);
-            else
-                sb.append ("(" + this.sysexLengthCount + " bytes)");
-            this.host.println (sb.toString ());
+            if (this.printHeader)
+            {
+                this.printSysexHeader = true;
+                this.printHeader = false;
+                this.addLine ("");
+                this.addLine ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
+                this.addLine ("|--------|--------|--------|------|-------------------------------------");
+            }
+
+            final StringBuilder line = this.nextLine ();
+            if (line != null)
+                line.append ("| ").append (BYTE_COLUMNS[status & 0xFF]).append (" | ").append (BYTE_COLUMNS[data1 & 0xFF]).append (" | ").append (BYTE_COLUMNS[data2 & 0xFF]).append (" | ").append (CHANNEL_COLUMNS[channel]).append (" | ").append (event).append (detail);
         }
     }
 
 
-    private void log (final int status, final int data1, final int data2, final int channel, final String text)
+    /**
+     * Print all lines of the ring buffer to the console as one batch and reschedule the next call.
+     */
+    private void flushLog ()
     {
-        if (this.printHeader)
+        synchronized (this.logLock)
         {
-            this.printSysexHeader = true;
-            this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
+            if (this.logCount > 0 || this.droppedLines > 0)
+            {
+                this.batch.setLength (0);
+                for (int i = 0; i < this.logCount; i++)
+                {
+                    if (i > 0)
+                        this.batch.append ('\n');
+                    this.batch.append (this.logLines[(this.logStart + i) % LOG_CAPACITY]);
+                }
+                if (this.droppedLines > 0)
+                {
+                    if (this.logCount > 0)
+                        this.batch.append ('\n');
+                    this.batch.append ("| ... ").append (this.droppedLines).append (" lines dropped, the console could not keep up.");
+                }
+                this.logStart = (this.logStart + this.logCount) % LOG_CAPACITY;
+                this.logCount = 0;
+                this.droppedLines = 0;
+                this.host.println (this.batch.toString ());
+            }
         }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
+
+        if (!this.isShuttingDown)
+            this.host.scheduleTask (this::flushLog, FLUSH_INTERVAL);
+    }
+
+
+    private void addLine (final String text)
+    {
+        final StringBuilder line = this.nextLine ();
+        if (line != null)
+            line.append (text);
+    }
+
+
+    /**
+     * Get the next (cleared) line of the ring buffer. Counts the line as dropped if the buffer is
+     * full.
+     *
+     * @return The line to fill or null if the buffer is full
+     */
+    private StringBuilder nextLine ()
+    {
+        if (this.logCount == LOG_CAPACITY)
+        {
+            this.droppedLines++;
+            return null;
+        }
+        final StringBuilder line = this.logLines[(this.logStart + this.logCount) % LOG_CAPACITY];
+        this.logCount++;
+        line.setLength (0);
+        return line;
+    }
+
+
+    private void removeLastLine (final StringBuilder line)
+    {
+        if (line == null)
+            this.droppedLines--;
+        else
+            this.logCount--;
+    }
+
+
+    private static void appendIfPresent (final StringBuilder line, final String text)
+    {
+        if (line != null)
+            line.append (text);
+    }
+
+
+    /**
+     * Parse a byte from a string with hex encoded bytes (2 characters per byte, no spaces).
+     *
+     * @param data The hex string
+     * @param index The index of the byte
+     * @return The value of the byte
+     */
+    private static int parseHexByte (final String data, final int index)
+    {
+        final int pos = index * 2;
+        return Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16);
     }
 
 
@@ -189,4 +353,4 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
             return SPACES[diff] + text;
         return text;
     }
-}
\ No newline at end of file
+}
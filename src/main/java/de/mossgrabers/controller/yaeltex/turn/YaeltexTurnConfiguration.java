@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.yaeltex.turn;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -20,6 +21,16 @@ import java.util.List;
  */
 public class YaeltexTurnConfiguration extends AbstractConfiguration
 {
+    /** ID for the LED bytes per millisecond setting. */
+    public static final Integer LED_BYTES_PER_MILLISECOND = Integer.valueOf (50);
+    /** ID for the LED maximum burst bytes setting. */
+    public static final Integer LED_MAX_BURST_BYTES       = Integer.valueOf (51);
+
+    // The Turn can only handle a limited number of messages, about 1000 per second seem to be safe
+    private int                 ledBytesPerMillisecond    = 3;
+    private int                 ledMaxBurstBytes          = 96;
+
+
     /**
      * Constructor.
      *
@@ -72,5 +83,53 @@ public class YaeltexTurnConfiguration extends AbstractConfiguration
 
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateHardwareSettings (globalSettings);
+    }
+
+
+    /**
+     * Get the number of bytes which can be sent to the LEDs per millisecond.
+     *
+     * @return The number of bytes
+     */
+    public int getLedBytesPerMillisecond ()
+    {
+        return this.ledBytesPerMillisecond;
+    }
+
+
+    /**
+     * Get the maximum number of bytes which can be sent to the LEDs at once.
+     *
+     * @return The number of bytes
+     */
+    public int getLedMaxBurstBytes ()
+    {
+        return this.ledMaxBurstBytes;
+    }
+
+
+    /**
+     * Activate the hardware settings.
+     *
+     * @param settingsUI The settings
+     */
+    private void activateHardwareSettings (final ISettingsUI settingsUI)
+    {
+        final IIntegerSetting ledBytesPerMillisecondSetting = settingsUI.getRangeSetting ("LED update rate", CATEGORY_HARDWARE_SETUP, 1, 32, 1, " bytes/ms", 3);
+        ledBytesPerMillisecondSetting.addValueObserver (value -> {
+            this.ledBytesPerMillisecond = value.intValue ();
+            this.notifyObservers (LED_BYTES_PER_MILLISECOND);
+        });
+
+        final IIntegerSetting ledMaxBurstBytesSetting = settingsUI.getRangeSetting ("LED max. burst size", CATEGORY_HARDWARE_SETUP, 3, 3072, 3, " bytes", 96);
+        ledMaxBurstBytesSetting.addValueObserver (value -> {
+            this.ledMaxBurstBytes = value.intValue ();
+            this.notifyObservers (LED_MAX_BURST_BYTES);
+        });
     }
 }
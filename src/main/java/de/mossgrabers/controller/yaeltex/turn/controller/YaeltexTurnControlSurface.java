@@ -12,8 +12,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.Arrays;
-
 
 /**
  * The Yaeltex Turn control surface.
@@ -24,51 +22,55 @@ import java.util.Arrays;
 public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTurnConfiguration>
 {
     // Zero based!
-    public static final int MIDI_CHANNEL_MAIN          = 15;
-    public static final int MIDI_CHANNEL_SET_COLOR     = 13;
-    public static final int MIDI_CHANNEL_SET_INTENSITY = 12;
+    public static final int              MIDI_CHANNEL_MAIN          = 15;
+    public static final int              MIDI_CHANNEL_SET_COLOR     = 13;
+    public static final int              MIDI_CHANNEL_SET_INTENSITY = 12;
 
     // MIDI Notes on MIDI channel 16
-    public static final int BUTTON_CLIPS               = 8;
-    public static final int BUTTON_USR                 = 9;
-    public static final int BUTTON_PLAY                = 10;
-    public static final int BUTTON_REC                 = 11;
-    public static final int BUTTON_LOOP                = 12;
-    public static final int BUTTON_LEFT                = 13;
-    public static final int BUTTON_SELECT              = 14;
-    public static final int BUTTON_SHIFT               = 15;
-
-    public static final int BUTTON_SESSION             = 0;
-    public static final int BUTTON_TRK                 = 1;
-    public static final int BUTTON_STOP                = 2;
-    public static final int BUTTON_OVERDUB             = 3;
-    public static final int BUTTON_TAP_TEMPO           = 4;
-    public static final int BUTTON_RIGHT               = 5;
-    public static final int BUTTON_UP                  = 6;
-    public static final int BUTTON_DOWN                = 7;
+    public static final int              BUTTON_CLIPS               = 8;
+    public static final int              BUTTON_USR                 = 9;
+    public static final int              BUTTON_PLAY                = 10;
+    public static final int              BUTTON_REC                 = 11;
+    public static final int              BUTTON_LOOP                = 12;
+    public static final int              BUTTON_LEFT                = 13;
+    public static final int              BUTTON_SELECT              = 14;
+    public static final int              BUTTON_SHIFT               = 15;
+
+    public static final int              BUTTON_SESSION             = 0;
+    public static final int              BUTTON_TRK                 = 1;
+    public static final int              BUTTON_STOP                = 2;
+    public static final int              BUTTON_OVERDUB             = 3;
+    public static final int              BUTTON_TAP_TEMPO           = 4;
+    public static final int              BUTTON_RIGHT               = 5;
+    public static final int              BUTTON_UP                  = 6;
+    public static final int              BUTTON_DOWN                = 7;
 
     // MIDI Notes on MIDI channel 15
-    public static final int BUTTON_ROW1_1              = 70;
-    public static final int BUTTON_ROW2_1              = 86;
-    public static final int BUTTON_ROW3_1              = 102;
-    public static final int BUTTON_ROW4_1              = 110;
+    public static final int              BUTTON_ROW1_1              = 70;
+    public static final int              BUTTON_ROW2_1              = 86;
+    public static final int              BUTTON_ROW3_1              = 102;
+    public static final int              BUTTON_ROW4_1              = 110;
 
     // Digital knobs from CC00 to CC31 on MIDI channel 16
-    public static final int KNOB_DIGITAL_ROW1          = 0;
+    public static final int              KNOB_DIGITAL_ROW1          = 0;
 
     // Analog knobs from CC32 to CC63 on MIDI channel 16
-    public static final int KNOB_ANALOG_ROW1           = 32;
+    public static final int              KNOB_ANALOG_ROW1           = 32;
 
     // Faders from CC64 to CC71 on MIDI channel 16
-    public static final int FADER1                     = 64;
+    public static final int              FADER1                     = 64;
+
+    public static final int              KNOB_ANALOG_TEMPO          = 72;
+    public static final int              KNOB_ANALOG_A_B            = 73;
+    public static final int              KNOB_ANALOG_CUE            = 74;
+    public static final int              KNOB_ANALOG_MASTER         = 75;
 
-    public static final int KNOB_ANALOG_TEMPO          = 72;
-    public static final int KNOB_ANALOG_A_B            = 73;
-    public static final int KNOB_ANALOG_CUE            = 74;
-    public static final int KNOB_ANALOG_MASTER         = 75;
+    // Priorities of the updates, the knob rings (value and color) of the active mode come first
+    public static final int              PRIORITY_KNOB              = 0;
+    public static final int              PRIORITY_PAD               = 1;
+    public static final int              PRIORITY_BUTTON            = 2;
 
-    private final int []    knobCache                  = new int [128];
-    private final int []    knobColorCache             = new int [128];
+    private final YaeltexTurnOutputQueue outputQueue;
 
 
     /**
@@ -82,12 +84,29 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
      */
     public YaeltexTurnControlSurface (final IHost host, final ColorManager colorManager, final YaeltexTurnConfiguration configuration, final IMidiOutput output, final IMidiInput input)
     {
-        super (host, configuration, colorManager, output, input, new YaeltexTurnPadGrid (colorManager, output), 700, 860);
+        this (host, colorManager, configuration, output, input, new YaeltexTurnOutputQueue (host, output, System::currentTimeMillis, 3, configuration.getLedBytesPerMillisecond (), configuration.getLedMaxBurstBytes ()));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param colorManager The color manager
+     * @param configuration The configuration
+     * @param output The MIDI output
+     * @param input The MIDI input
+     * @param outputQueue The queue through which all LED updates are sent
+     */
+    private YaeltexTurnControlSurface (final IHost host, final ColorManager colorManager, final YaeltexTurnConfiguration configuration, final IMidiOutput output, final IMidiInput input, final YaeltexTurnOutputQueue outputQueue)
+    {
+        super (host, configuration, colorManager, output, input, new YaeltexTurnPadGrid (colorManager, output, outputQueue), 700, 860);
 
         this.defaultMidiChannel = MIDI_CHANNEL_MAIN;
+        this.outputQueue = outputQueue;
 
-        Arrays.fill (this.knobCache, -1);
-        Arrays.fill (this.knobColorCache, -1);
+        configuration.addSettingObserver (YaeltexTurnConfiguration.LED_BYTES_PER_MILLISECOND, () -> outputQueue.setBytesPerMillisecond (configuration.getLedBytesPerMillisecond ()));
+        configuration.addSettingObserver (YaeltexTurnConfiguration.LED_MAX_BURST_BYTES, () -> outputQueue.setMaxBurstBytes (configuration.getLedMaxBurstBytes ()));
     }
 
 
@@ -98,11 +117,26 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
         super.flushHardware ();
 
         ((YaeltexTurnPadGrid) this.padGrid).flush ();
+
+        if (this.isShuttingDown)
+            this.outputQueue.flushAll ();
+        else
+            this.outputQueue.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        super.clearCache ();
+
+        this.outputQueue.clearCache ();
     }
 
 
     /**
-     * Set an LED ring on the device. Values are cached and only sent if changed.
+     * Set an LED ring on the device. Values are only sent if changed.
      *
      * @param knob The knobs CC value
      * @param value The value for the LED ring
@@ -110,17 +144,8 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
      */
     public void setLED (final int knob, final int value, final int color)
     {
-        if (this.knobCache[knob] != value)
-        {
-            this.knobCache[knob] = value;
-            this.output.sendCCEx (MIDI_CHANNEL_MAIN, knob, value);
-        }
-
-        if (this.knobColorCache[knob] != color)
-        {
-            this.knobColorCache[knob] = color;
-            this.output.sendCCEx (MIDI_CHANNEL_SET_COLOR, knob, color);
-        }
+        this.outputQueue.sendCC (PRIORITY_KNOB, MIDI_CHANNEL_MAIN, knob, value);
+        this.outputQueue.sendCC (PRIORITY_KNOB, MIDI_CHANNEL_SET_COLOR, knob, color);
     }
 
 
@@ -139,14 +164,16 @@ public class YaeltexTurnControlSurface extends AbstractControlSurface<YaeltexTur
     @Override
     public void setTrigger (final BindType bindType, final int channel, final int cc, final int value)
     {
-        if (bindType == BindType.CC || channel != YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN)
-            super.setTrigger (bindType, channel, cc, value);
+        if (bindType == BindType.CC)
+            this.outputQueue.sendCC (PRIORITY_BUTTON, channel, cc, value);
+        else if (channel != YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN)
+            this.outputQueue.sendNote (PRIORITY_BUTTON, channel, cc, value);
         else
         {
             // Little trick to identify values which need an intensity
             final boolean isLow = value >= 128;
-            this.output.sendNoteEx (YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, cc, isLow ? value - 128 : value);
-            this.output.sendNoteEx (YaeltexTurnControlSurface.MIDI_CHANNEL_SET_INTENSITY, cc, isLow ? 0 : 127);
+            this.outputQueue.sendNote (PRIORITY_BUTTON, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, cc, isLow ? value - 128 : value);
+            this.outputQueue.sendNote (PRIORITY_BUTTON, YaeltexTurnControlSurface.MIDI_CHANNEL_SET_INTENSITY, cc, isLow ? 0 : 127);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.yaeltex.turn.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Collects the LED and ring updates for the Yaeltex Turn. The last sent value of each output
+ * (note or CC, MIDI channel and number) is kept in a shadow table and unchanged values are not
+ * sent again. Changed values are sent on flush sorted by their priority. Since the Turn drops
+ * messages if too many arrive at once, the number of bytes which are sent is limited by a budget
+ * which is refilled over time. Messages which do not fit into the budget stay pending and are sent
+ * with one of the next flushes.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class YaeltexTurnOutputQueue
+{
+    private static final int  MESSAGE_SIZE  = 3;
+    private static final int  NOTE_FLAG     = 0x800;
+    private static final int  NUM_OUTPUTS   = 2 * NOTE_FLAG;
+
+    private final IHost        host;
+    private final IMidiOutput  output;
+    private final LongSupplier clock;
+    private int                bytesPerMillisecond;
+    private int                maxBurstBytes;
+
+    private final int []       sentValues    = new int [NUM_OUTPUTS];
+    private final int []       pendingValues = new int [NUM_OUTPUTS];
+    private final BitSet []    pendingOutputs;
+
+    private long               lastFlushTime = -1;
+    private long               budget;
+    private boolean            isFlushScheduled;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param output The MIDI output
+     * @param clock Provides the current time in milliseconds
+     * @param numPriorities The number of priorities, 0 is the highest
+     * @param bytesPerMillisecond The number of bytes which can be sent per millisecond
+     * @param maxBurstBytes The maximum number of bytes to send at once
+     */
+    public YaeltexTurnOutputQueue (final IHost host, final IMidiOutput output, final LongSupplier clock, final int numPriorities, final int bytesPerMillisecond, final int maxBurstBytes)
+    {
+        this.host = host;
+        this.output = output;
+        this.clock = clock;
+        this.bytesPerMillisecond = Math.max (1, bytesPerMillisecond);
+        this.maxBurstBytes = Math.max (MESSAGE_SIZE, maxBurstBytes);
+        this.budget = this.maxBurstBytes;
+
+        this.pendingOutputs = new BitSet [numPriorities];
+        for (int i = 0; i < numPriorities; i++)
+            this.pendingOutputs[i] = new BitSet (NUM_OUTPUTS);
+
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    /**
+     * Set the number of bytes which can be sent per millisecond.
+     *
+     * @param bytesPerMillisecond The number of bytes
+     */
+    public void setBytesPerMillisecond (final int bytesPerMillisecond)
+    {
+        this.bytesPerMillisecond = Math.max (1, bytesPerMillisecond);
+    }
+
+
+    /**
+     * Set the maximum number of bytes to send at once.
+     *
+     * @param maxBurstBytes The number of bytes, at least the size of one message
+     */
+    public void setMaxBurstBytes (final int maxBurstBytes)
+    {
+        this.maxBurstBytes = Math.max (MESSAGE_SIZE, maxBurstBytes);
+        this.budget = Math.min (this.budget, this.maxBurstBytes);
+    }
+
+
+    /**
+     * Queue a note message. Nothing is sent if the note has already this value.
+     *
+     * @param priority The priority of the message, 0 is the highest
+     * @param channel The MIDI channel
+     * @param note The note
+     * @param velocity The velocity
+     */
+    public void sendNote (final int priority, final int channel, final int note, final int velocity)
+    {
+        this.queue (priority, NOTE_FLAG | channel << 7 | note, velocity);
+    }
+
+
+    /**
+     * Queue a CC message. Nothing is sent if the CC has already this value.
+     *
+     * @param priority The priority of the message, 0 is the highest
+     * @param channel The MIDI channel
+     * @param cc The CC
+     * @param value The value
+     */
+    public void sendCC (final int priority, final int channel, final int cc, final int value)
+    {
+        this.queue (priority, channel << 7 | cc, value);
+    }
+
+
+    /**
+     * Send pending messages as long as the budget allows it.
+     */
+    public void flush ()
+    {
+        final long now = this.clock.getAsLong ();
+        if (this.lastFlushTime >= 0)
+            this.budget = Math.min (this.maxBurstBytes, this.budget + (now - this.lastFlushTime) * this.bytesPerMillisecond);
+        this.lastFlushTime = now;
+
+        if (!this.send (false) || this.isFlushScheduled)
+            return;
+
+        // Send the rest as soon as there is budget for at least one message
+        this.isFlushScheduled = true;
+        final long delay = Math.max (1, (MESSAGE_SIZE - this.budget + this.bytesPerMillisecond - 1) / this.bytesPerMillisecond);
+        this.host.scheduleTask ( () -> {
+            this.isFlushScheduled = false;
+            this.flush ();
+        }, delay);
+    }
+
+
+    /**
+     * Send all pending messages ignoring the budget, e.g. on shutdown.
+     */
+    public void flushAll ()
+    {
+        this.send (true);
+    }
+
+
+    /**
+     * Forget all sent values, which sends all values again when they are set the next time.
+     */
+    public void clearCache ()
+    {
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    private void queue (final int priority, final int outputIndex, final int value)
+    {
+        if (this.sentValues[outputIndex] == value)
+        {
+            // A pending value might have been reverted before it was sent
+            for (final BitSet pending: this.pendingOutputs)
+                pending.clear (outputIndex);
+            return;
+        }
+
+        this.pendingValues[outputIndex] = value;
+        for (int i = 0; i < this.pendingOutputs.length; i++)
+            this.pendingOutputs[i].set (outputIndex, i == priority);
+    }
+
+
+    /**
+     * Send the pending messages in the order of their priority.
+     *
+     * @param ignoreBudget Send all messages if true
+     * @return True if there are still messages pending
+     */
+    private boolean send (final boolean ignoreBudget)
+    {
+        for (final BitSet pending: this.pendingOutputs)
+        {
+            for (int outputIndex = pending.nextSetBit (0); outputIndex >= 0; outputIndex = pending.nextSetBit (outputIndex + 1))
+            {
+                if (!ignoreBudget && this.budget < MESSAGE_SIZE)
+                    return true;
+                this.budget -= MESSAGE_SIZE;
+
+                pending.clear (outputIndex);
+                final int value = this.pendingValues[outputIndex];
+                this.sentValues[outputIndex] = value;
+
+                final int channel = outputIndex >> 7 & 0xF;
+                final int number = outputIndex & 0x7F;
+                if ((outputIndex & NOTE_FLAG) == 0)
+                    this.output.sendCCEx (channel, number, value);
+                else
+                    this.output.sendNoteEx (channel, number, value);
+            }
+        }
+        return false;
+    }
+}
@@ -16,15 +16,21 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class YaeltexTurnPadGrid extends BlinkingPadGrid
 {
+    private final YaeltexTurnOutputQueue outputQueue;
+
+
     /**
      * Constructor.
      *
      * @param colorManager The color manager for accessing specific colors to use
      * @param output The MIDI output which can address the pad states
+     * @param outputQueue The queue through which the pad updates are sent
      */
-    public YaeltexTurnPadGrid (final ColorManager colorManager, final IMidiOutput output)
+    public YaeltexTurnPadGrid (final ColorManager colorManager, final IMidiOutput output, final YaeltexTurnOutputQueue outputQueue)
     {
         super (colorManager, output, 4, 8, 36);
+
+        this.outputQueue = outputQueue;
     }
 
 
@@ -44,6 +50,6 @@ public class YaeltexTurnPadGrid extends BlinkingPadGrid
     @Override
     protected void sendPadUpdate (final int note, final int colorIndex)
     {
-        this.output.sendNoteEx (YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, note, colorIndex);
+        this.outputQueue.sendNote (YaeltexTurnControlSurface.PRIORITY_PAD, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, note, colorIndex);
     }
 }
\ No newline at end of file
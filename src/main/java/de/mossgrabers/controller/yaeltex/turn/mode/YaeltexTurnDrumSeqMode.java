@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.mode.INoteEditor;
 import de.mossgrabers.framework.mode.INoteEditorMode;
@@ -264,6 +265,14 @@ public class YaeltexTurnDrumSeqMode extends YaeltexTurnDrumMixMode implements IN
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public NotePositionSet getNoteSet ()
+    {
+        return NotePositionSet.EMPTY;
+    }
+
+
     private void rebind ()
     {
         this.providers.set (0, this.noteEditProviders.get (this.noteEditParameter));
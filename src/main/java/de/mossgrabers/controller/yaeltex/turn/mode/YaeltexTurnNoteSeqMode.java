@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.mode.INoteEditor;
 import de.mossgrabers.framework.mode.INoteEditorMode;
@@ -299,6 +300,14 @@ public class YaeltexTurnNoteSeqMode extends YaeltexTurnTrackMixMode implements I
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public NotePositionSet getNoteSet ()
+    {
+        return NotePositionSet.EMPTY;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public List<NotePosition> getNotePosition (final int parameterIndex)
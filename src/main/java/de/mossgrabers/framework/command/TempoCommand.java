@@ -124,7 +124,10 @@ public class TempoCommand<S extends IControlSurface<C>, C extends Configuration>
         if (event == ButtonEvent.DOWN)
             this.isTempoChange = true;
         else if (event == ButtonEvent.UP)
+        {
             this.isTempoChange = false;
+            this.surface.cancelTask (this);
+        }
         this.doChangeTempo ();
     }
 
@@ -134,6 +137,6 @@ public class TempoCommand<S extends IControlSurface<C>, C extends Configuration>
         if (!this.isTempoChange)
             return;
         this.transport.changeTempo (this.doIncrease, this.surface.isKnobSensitivitySlow ());
-        this.surface.scheduleTask (this::doChangeTempo, 200);
+        this.surface.scheduleTask (this, this::doChangeTempo, 200);
     }
 }
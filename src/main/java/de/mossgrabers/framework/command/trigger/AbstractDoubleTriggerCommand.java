@@ -47,6 +47,7 @@ public abstract class AbstractDoubleTriggerCommand<S extends IControlSurface<C>,
         {
             this.executeDoubleClick ();
             this.restartFlag = false;
+            this.surface.cancelTask (this);
             return;
         }
 
@@ -85,6 +86,6 @@ public abstract class AbstractDoubleTriggerCommand<S extends IControlSurface<C>,
     protected void doubleClickTest ()
     {
         this.restartFlag = true;
-        this.surface.scheduleTask ( () -> this.restartFlag = false, 250);
+        this.surface.scheduleTask (this, () -> this.restartFlag = false, 250);
     }
 }
@@ -96,7 +96,7 @@ public class StartSceneCommand<S extends IControlSurface<C>, C extends Configura
             if (this.surface.getConfiguration ().isSelectClipOnLaunch ())
             {
                 scene.select ();
-                this.mvHelper.delayDisplay (scene::getName);
+                this.mvHelper.delayDisplay ("Scene", scene::getName);
             }
         }
 
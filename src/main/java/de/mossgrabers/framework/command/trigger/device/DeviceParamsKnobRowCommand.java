@@ -10,8 +10,6 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 
-import java.util.Date;
-
 
 /**
  * Command to change a device parameter. Slows down the knob.
@@ -23,9 +21,10 @@ import java.util.Date;
  */
 public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends Configuration> extends AbstractContinuousCommand<S, C>
 {
-    private final int index;
-    private long      moveStartTime;
-    private boolean   isKnobMoving;
+    private static final int KNOB_MOVEMENT_TIMEOUT = 200;
+
+    private final int        index;
+    private boolean          isKnobMoving;
 
 
     /**
@@ -51,12 +50,9 @@ public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends
             return;
         cd.getParameterBank ().getItem (this.index).setValue (value);
 
-        this.moveStartTime = new Date ().getTime ();
-        if (this.isKnobMoving)
-            return;
-
+        // Restart the timeout on each movement
         this.isKnobMoving = true;
-        this.startCheckKnobMovement ();
+        this.surface.scheduleTask (this, () -> this.isKnobMoving = false, KNOB_MOVEMENT_TIMEOUT);
     }
 
 
@@ -69,21 +65,4 @@ public class DeviceParamsKnobRowCommand<S extends IControlSurface<C>, C extends
     {
         return this.isKnobMoving;
     }
-
-
-    private void checkKnobMovement ()
-    {
-        if (!this.isKnobMoving)
-            return;
-        if (new Date ().getTime () - this.moveStartTime > 200)
-            this.isKnobMoving = false;
-        else
-            this.startCheckKnobMovement ();
-    }
-
-
-    private void startCheckKnobMovement ()
-    {
-        this.surface.scheduleTask (this::checkKnobMovement, 100);
-    }
 }
@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.constants.Resolution;
+import de.mossgrabers.framework.daw.data.DeviceCatalog;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
@@ -385,12 +386,9 @@ public abstract class AbstractConfiguration implements Configuration
     private final List<IEnumSetting>                  effectSettings                      = new ArrayList<> (3);
     private final List<IEnumSetting>                  deviceSettings                      = new ArrayList<> (3);
 
-    private List<IDeviceMetadata>                     instrumentMetadata;
-    private List<IDeviceMetadata>                     effectMetadata;
-    private List<IDeviceMetadata>                     deviceMetadata;
-    private String []                                 instrumentNames;
-    private String []                                 effectNames;
-    private String []                                 deviceNames;
+    private DeviceCatalog                             instrumentCatalog;
+    private DeviceCatalog                             effectCatalog;
+    private DeviceCatalog                             deviceCatalog;
 
     private final Map<Integer, Set<ISettingObserver>> observers                           = new ConcurrentHashMap<> ();
     protected final Set<Integer>                      dontNotifyAll                       = new HashSet<> ();
@@ -1572,36 +1570,34 @@ public abstract class AbstractConfiguration implements Configuration
      */
     protected void activateDeviceFavorites (final ISettingsUI settingsUI, final int numFavInstruments, final int numFavAudio, final int numFavEffects, final int numFavDevices)
     {
-        this.instrumentMetadata = this.host.getInstrumentMetadata ();
-        this.effectMetadata = this.host.getAudioEffectMetadata ();
-        this.deviceMetadata = new ArrayList<> ();
-        this.deviceMetadata.addAll (this.instrumentMetadata);
-        this.deviceMetadata.addAll (this.effectMetadata);
-        this.instrumentNames = getDeviceNames (this.instrumentMetadata);
-        this.effectNames = getDeviceNames (this.effectMetadata);
-        this.deviceNames = getDeviceNames (this.deviceMetadata);
+        this.instrumentCatalog = this.host.getInstrumentCatalog ();
+        this.effectCatalog = this.host.getAudioEffectCatalog ();
+        this.deviceCatalog = this.host.getDeviceCatalog ();
+        final String [] instrumentNames = this.instrumentCatalog.getNames ();
+        final String [] effectNames = this.effectCatalog.getNames ();
+        final String [] deviceNames = this.deviceCatalog.getNames ();
 
         for (int i = 0; i < numFavInstruments; i++)
         {
-            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Instrument " + (i + 1), CATEGORY_FAV_DEVICES, this.instrumentNames, this.instrumentNames[Math.min (this.instrumentNames.length - 1, i)]);
+            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Instrument " + (i + 1), CATEGORY_FAV_DEVICES, instrumentNames, instrumentNames[Math.min (instrumentNames.length - 1, i)]);
             this.instrumentSettings.add (favSetting);
         }
 
         for (int i = 0; i < numFavAudio; i++)
         {
-            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Audio " + (i + 1), CATEGORY_FAV_DEVICES, this.effectNames, this.effectNames[Math.min (this.effectNames.length - 1, i)]);
+            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Audio " + (i + 1), CATEGORY_FAV_DEVICES, effectNames, effectNames[Math.min (effectNames.length - 1, i)]);
             this.audioSettings.add (favSetting);
         }
 
         for (int i = 0; i < numFavEffects; i++)
         {
-            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Effect " + (i + 1), CATEGORY_FAV_DEVICES, this.effectNames, this.effectNames[Math.min (this.effectNames.length - 1, i)]);
+            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Effect " + (i + 1), CATEGORY_FAV_DEVICES, effectNames, effectNames[Math.min (effectNames.length - 1, i)]);
             this.effectSettings.add (favSetting);
         }
 
         for (int i = 0; i < numFavDevices; i++)
         {
-            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Device " + (i + 1), CATEGORY_FAV_DEVICES, this.deviceNames, this.deviceNames[Math.min (this.deviceNames.length - 1, i)]);
+            final IEnumSetting favSetting = settingsUI.getEnumSetting ("Device " + (i + 1), CATEGORY_FAV_DEVICES, deviceNames, deviceNames[Math.min (deviceNames.length - 1, i)]);
             this.deviceSettings.add (favSetting);
         }
     }
@@ -2039,8 +2035,7 @@ public abstract class AbstractConfiguration implements Configuration
         if (index >= this.instrumentSettings.size ())
             return Optional.empty ();
         final String sel = this.instrumentSettings.get (index).get ();
-        final int lookupIndex = lookupIndex (this.instrumentNames, sel);
-        return Optional.ofNullable (lookupIndex >= this.instrumentMetadata.size () ? null : this.instrumentMetadata.get (lookupIndex));
+        return getFavorite (this.instrumentCatalog, sel);
     }
 
 
@@ -2055,8 +2050,7 @@ public abstract class AbstractConfiguration implements Configuration
         if (index >= this.audioSettings.size ())
             return Optional.empty ();
         final String sel = this.audioSettings.get (index).get ();
-        final int lookupIndex = lookupIndex (this.effectNames, sel);
-        return Optional.ofNullable (lookupIndex >= this.effectMetadata.size () ? null : this.effectMetadata.get (lookupIndex));
+        return getFavorite (this.effectCatalog, sel);
     }
 
 
@@ -2071,8 +2065,7 @@ public abstract class AbstractConfiguration implements Configuration
         if (index >= this.effectSettings.size ())
             return Optional.empty ();
         final String sel = this.effectSettings.get (index).get ();
-        final int lookupIndex = lookupIndex (this.effectNames, sel);
-        return Optional.ofNullable (lookupIndex >= this.effectMetadata.size () ? null : this.effectMetadata.get (lookupIndex));
+        return getFavorite (this.effectCatalog, sel);
     }
 
 
@@ -2087,8 +2080,7 @@ public abstract class AbstractConfiguration implements Configuration
         if (index >= this.deviceSettings.size ())
             return Optional.empty ();
         final String sel = this.deviceSettings.get (index).get ();
-        final int lookupIndex = lookupIndex (this.deviceNames, sel);
-        return Optional.ofNullable (lookupIndex >= this.deviceMetadata.size () ? null : this.deviceMetadata.get (lookupIndex));
+        return getFavorite (this.deviceCatalog, sel);
     }
 
 
@@ -2103,11 +2095,30 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
-    private static String [] getDeviceNames (final List<IDeviceMetadata> deviceMetadata)
+    /**
+     * Get the selected favorite from the catalog. If the selected device is not in the catalog, the
+     * same device in a different format is used (e.g. VST3 instead of VST2). Falls back to the
+     * first device if there is none.
+     *
+     * @param catalog The catalog in which to look up the device
+     * @param selection The full name of the selected device
+     * @return The devices' metadata or empty if the catalog is empty
+     */
+    static Optional<IDeviceMetadata> getFavorite (final DeviceCatalog catalog, final String selection)
     {
-        final String [] deviceNames = new String [deviceMetadata.size ()];
-        for (int i = 0; i < deviceNames.length; i++)
-            deviceNames[i] = deviceMetadata.get (i).fullName ();
-        return deviceNames;
+        final Optional<IDeviceMetadata> favorite = catalog.lookup (selection);
+        if (favorite.isPresent () || catalog.size () == 0)
+            return favorite;
+
+        // The full name ends with the format in brackets, e.g. "Diva (VST2)"
+        final int formatStart = selection.lastIndexOf (" (");
+        if (formatStart > 0)
+        {
+            final List<IDeviceMetadata> otherFormats = catalog.findByName (selection.substring (0, formatStart));
+            if (!otherFormats.isEmpty ())
+                return Optional.of (otherFormats.get (0));
+        }
+
+        return Optional.of (catalog.get (0));
     }
 }
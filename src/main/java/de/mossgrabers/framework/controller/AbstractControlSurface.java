@@ -22,6 +22,7 @@ import de.mossgrabers.framework.controller.display.DummyDisplay;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.grid.FaderAnimator;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.BindType;
@@ -41,11 +42,13 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.TranslationTables;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TaskWheel;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -66,6 +69,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected final IHost                                 host;
     protected final IHwSurfaceFactory                     surfaceFactory;
+    protected final TaskWheel                             taskWheel;
+    protected final FaderAnimator                         faderAnimator;
     protected final C                                     configuration;
     protected final ColorManager                          colorManager;
     protected final IMidiOutput                           output;
@@ -89,6 +94,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected boolean                                     notifyViewChange               = true;
 
     private int []                                        keyTranslationTable;
+    private Integer []                                    sentKeyTranslationTable;
+    private Integer []                                    sentVelocityTranslationTable;
+    private int                                           suppressedTablePushes          = 0;
 
     private final DummyDisplay                            dummyDisplay;
     private IHwPianoKeyboard                              pianoKeyboard;
@@ -164,6 +172,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.lightGuide = lightGuide;
 
         this.surfaceFactory = host.createSurfaceFactory (width, height);
+        this.taskWheel = new TaskWheel (host);
+        this.faderAnimator = new FaderAnimator (this.taskWheel);
 
         this.dummyDisplay = new DummyDisplay (host);
 
@@ -434,12 +444,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.keyTranslationTable = table;
         if (this.input == null)
             return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
         final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
-        if (defaultNoteInput != null)
-            defaultNoteInput.setKeyTranslationTable (t);
+        if (defaultNoteInput == null)
+            return;
+
+        // Do not send identical tables again since the host rebuilds the note routing
+        final Integer [] t = TranslationTables.intern (table);
+        if (t == this.sentKeyTranslationTable)
+        {
+            this.suppressedTablePushes++;
+            return;
+        }
+        this.sentKeyTranslationTable = t;
+        defaultNoteInput.setKeyTranslationTable (t);
     }
 
 
@@ -457,12 +474,30 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         if (this.input == null)
             return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
         final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
-        if (defaultNoteInput != null)
-            defaultNoteInput.setVelocityTranslationTable (t);
+        if (defaultNoteInput == null)
+            return;
+
+        final Integer [] t = TranslationTables.intern (table);
+        if (t == this.sentVelocityTranslationTable)
+        {
+            this.suppressedTablePushes++;
+            return;
+        }
+        this.sentVelocityTranslationTable = t;
+        defaultNoteInput.setVelocityTranslationTable (t);
+    }
+
+
+    /**
+     * Get the number of key and velocity translation tables which were not sent to the note input
+     * since they were identical to the previously sent ones.
+     *
+     * @return The number of suppressed tables
+     */
+    public int getSuppressedTablePushes ()
+    {
+        return this.suppressedTablePushes;
     }
 
 
@@ -606,6 +641,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwButton createButton (final ButtonID buttonID, final String label)
     {
         final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
+        button.setTaskWheel (this.taskWheel);
         this.buttons.put (buttonID, button);
         return button;
     }
@@ -744,7 +780,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         synchronized (this.updateCounterLock)
         {
             this.updateCounter++;
-            this.scheduleTask (this::flushHandler, 1);
+            this.host.scheduleTask (this::flushHandler, 1);
         }
     }
 
@@ -784,6 +820,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected void flushHandler ()
     {
+        this.taskWheel.advance ();
+
         synchronized (this.updateCounterLock)
         {
             if (this.updateCounter == 0)
@@ -804,7 +842,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             if (this.updateCounter > 1)
             {
                 this.updateCounter = 1;
-                this.scheduleTask (this::flushHandler, 1);
+                this.host.scheduleTask (this::flushHandler, 1);
             }
             else
                 this.updateCounter = 0;
@@ -999,16 +1037,39 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void scheduleTask (final Runnable callback, final long delay)
     {
-        this.host.scheduleTask ( () -> {
-            try
-            {
-                callback.run ();
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not execute scheduled task.", ex);
-            }
-        }, delay);
+        this.taskWheel.schedule (callback, delay);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Object key, final Runnable callback, final long delay)
+    {
+        this.taskWheel.schedule (key, callback, delay);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void cancelTask (final Object key)
+    {
+        this.taskWheel.cancel (key);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TaskWheel getTaskWheel ()
+    {
+        return this.taskWheel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FaderAnimator getFaderAnimator ()
+    {
+        return this.faderAnimator;
     }
 
 
@@ -166,6 +166,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         for (final S surface: this.surfaces)
             surface.shutdown ();
         this.host.releaseUsbDevices ();
+        this.host.clearGraphicsCache ();
         if (this.model != null)
             this.model.cleanup ();
         this.host.println ("Exited.");
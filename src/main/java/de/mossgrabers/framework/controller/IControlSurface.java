@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.grid.FaderAnimator;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.BindType;
@@ -27,6 +28,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.utils.TaskWheel;
 
 import java.util.Collection;
 import java.util.List;
@@ -481,7 +483,7 @@ public interface IControlSurface<C extends Configuration>
 
 
     /**
-     * Schedule a task.
+     * Schedule a task. The task is executed from the task wheel of the surface.
      *
      * @param callback The code to delay
      * @param delay The time in ms how long to delay the execution of the task
@@ -489,6 +491,42 @@ public interface IControlSurface<C extends Configuration>
     void scheduleTask (Runnable callback, long delay);
 
 
+    /**
+     * Schedule a task, which replaces a still pending task with the same key. The tasks are
+     * executed from the task wheel of the surface.
+     *
+     * @param key The key which identifies the task
+     * @param callback The code to delay
+     * @param delay The time in ms how long to delay the execution of the task
+     */
+    void scheduleTask (Object key, Runnable callback, long delay);
+
+
+    /**
+     * Cancel a task, which was scheduled with a key. Nothing happens if there is no such pending
+     * task.
+     *
+     * @param key The key which identifies the task
+     */
+    void cancelTask (Object key);
+
+
+    /**
+     * Get the task wheel of the surface, which executes the scheduled tasks.
+     *
+     * @return The task wheel
+     */
+    TaskWheel getTaskWheel ();
+
+
+    /**
+     * Get the fader animator of the surface, which moves all virtual faders on one shared tick.
+     *
+     * @return The fader animator
+     */
+    FaderAnimator getFaderAnimator ();
+
+
     /**
      * Send a MIDI message to the DAW (not to the MIDI output).
      *
@@ -5,8 +5,9 @@
 package de.mossgrabers.framework.controller.display;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -41,12 +42,14 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
-import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 
 /**
- * A display which uses graphics rather than fixed characters.
+ * A display which uses graphics rather than fixed characters. The components which are added for
+ * each frame are retained in slots. Channel, parameter and option components of the previous frame
+ * are updated instead of creating new ones. If the values of a slot change, it is marked as dirty.
+ * The image is only rendered if at least one slot is dirty.
  *
  * @author Jürgen Moßgraber
  */
@@ -78,9 +81,12 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
     private final Object                   counterSync                     = new Object ();
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
+    private final List<IComponent>         slots                           = new ArrayList<> (8);
+    private final BitSet                   dirtySlots                      = new BitSet ();
+    private int                            numSlots                        = 0;
+    private int                            numRenderedSlots                = 0;
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private String                         renderedNotification            = null;
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
@@ -177,18 +183,18 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 notification = this.notificationMessage.get ();
             }
 
-            final ModelInfo newInfo = new ModelInfo (notification, this.columns);
-
             // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            if (!this.dirtySlots.isEmpty () || this.numSlots != this.numRenderedSlots || !Objects.equals (notification, this.renderedNotification))
             {
-                this.info = newInfo;
+                this.numRenderedSlots = this.numSlots;
+                this.renderedNotification = notification;
                 this.renderImage ();
+                this.dirtySlots.clear ();
             }
         }
         finally
         {
-            this.columns.clear ();
+            this.numSlots = 0;
         }
 
         this.send (this.image);
@@ -285,7 +291,12 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+
+        final ChannelComponent component = this.getRetainedComponent (ChannelComponent.class);
+        if (component == null)
+            this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+        else
+            this.updateRetainedComponent (component.update (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
     }
 
 
@@ -309,7 +320,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        else
+            this.updateRetainedComponent (component.update (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
     }
 
 
@@ -317,7 +332,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        else
+            this.updateRetainedComponent (component.update (topMenu, isTopMenuOn, bottomMenu, (String) null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
     }
 
 
@@ -325,7 +344,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        else
+            this.updateRetainedComponent (component.update (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.COLORED));
     }
 
 
@@ -349,7 +372,11 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        final OptionsComponent component = this.getRetainedComponent (OptionsComponent.class);
+        if (component == null)
+            this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        else
+            this.updateRetainedComponent (component.update (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
     }
 
 
@@ -400,7 +427,50 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addElement (final IComponent component)
     {
-        this.columns.add (component);
+        if (this.numSlots < this.slots.size ())
+        {
+            if (!Objects.equals (component, this.slots.get (this.numSlots)))
+            {
+                this.slots.set (this.numSlots, component);
+                this.dirtySlots.set (this.numSlots);
+            }
+        }
+        else
+        {
+            this.slots.add (component);
+            this.dirtySlots.set (this.numSlots);
+        }
+        this.numSlots++;
+    }
+
+
+    /**
+     * Get the component of the next slot if it has the given type to update it with the values of
+     * the current frame. Call updateRetainedComponent afterwards.
+     *
+     * @param <T> The type of the component
+     * @param type The type of the component
+     * @return The component or null if the slot does not exist yet or contains a different type
+     */
+    private <T extends IComponent> T getRetainedComponent (final Class<T> type)
+    {
+        if (this.numSlots >= this.slots.size ())
+            return null;
+        final IComponent component = this.slots.get (this.numSlots);
+        return component != null && component.getClass () == type ? type.cast (component) : null;
+    }
+
+
+    /**
+     * Move to the next slot after the retained component of the current slot was updated.
+     *
+     * @param hasChanged True if the values of the component have changed
+     */
+    private void updateRetainedComponent (final boolean hasChanged)
+    {
+        if (hasChanged)
+            this.dirtySlots.set (this.numSlots);
+        this.numSlots++;
     }
 
 
@@ -439,8 +509,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final ColorEx colorBorder = this.configuration.getColorBorder ();
             gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
+            final int size = this.numRenderedSlots;
             if (size == 0)
                 return;
             final int gridWidth = width / size;
@@ -450,12 +519,12 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
-                final IComponent component = elements.get (i);
+                final IComponent component = this.slots.get (i);
                 if (component != null)
                     component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
             }
 
-            final String notification = this.info.getNotification ();
+            final String notification = this.renderedNotification;
             if (notification == null)
                 return;
 
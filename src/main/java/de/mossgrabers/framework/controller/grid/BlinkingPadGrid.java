@@ -7,25 +7,28 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.Arrays;
+import java.util.BitSet;
 
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The colors of the pads
+ * are stored in arrays indexed by the MIDI note. Changed pads are marked in a dirty set and
+ * blinking pads in a blink set. The blink phase is calculated from the system time, therefore all
+ * grids toggle the blinking pads at the same time.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int BLINK_SPEED = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    private final int []       colors      = new int [128];
+    private final int []       blinkColors = new int [128];
+    private final int []       sentColors  = new int [128];
+    private final BitSet       dirtyPads   = new BitSet (128);
+    private final BitSet       blinkPads   = new BitSet (128);
+    private boolean            isBlink;
 
 
     /**
@@ -37,6 +40,8 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     protected BlinkingPadGrid (final ColorManager colorManager, final IMidiOutput output)
     {
         super (colorManager, output);
+
+        Arrays.fill (this.sentColors, -1);
     }
 
 
@@ -52,48 +57,62 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     protected BlinkingPadGrid (final ColorManager colorManager, final IMidiOutput output, final int rows, final int columns, final int startNote)
     {
         super (colorManager, output, rows, columns, startNote);
+
+        Arrays.fill (this.sentColors, -1);
+    }
+
+
+    /**
+     * Get the blink phase which is shared by all grids. The phase toggles every BLINK_SPEED
+     * milliseconds.
+     *
+     * @return True if the blink color should be displayed
+     */
+    public static boolean isBlinkPhase ()
+    {
+        return (System.currentTimeMillis () / BLINK_SPEED & 1) == 1;
     }
 
 
     /**
-     * Flush the changed pad LEDs using system exclusive.
+     * Flush the changed pad LEDs.
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.dirtyPads)
         {
             this.updateController ();
-            this.padInfos.clear ();
         }
     }
 
 
     /**
-     * Send the changes including blinking pad changes to the controller.
+     * Send the changes including blinking pad changes to the controller. Calls sendPadUpdate for
+     * each pad which needs to be updated.
      */
     protected void updateController ()
     {
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        final boolean blink = isBlinkPhase ();
+        final boolean hasBlinkToggled = blink != this.isBlink;
+        this.isBlink = blink;
+
+        // Pads which were explicitly updated are always sent
+        for (int note = this.dirtyPads.nextSetBit (0); note >= 0; note = this.dirtyPads.nextSetBit (note + 1))
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-            this.sendPadUpdate (note.intValue (), info.getColor ());
-
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
+            this.blinkPads.set (note, this.blinkColors[note] > 0);
+            this.sendColor (note, this.getEffectiveColor (note));
         }
+        this.dirtyPads.clear ();
 
-        // Toggle blink colors every 600ms
-        if (!this.checkBlinking ())
+        if (!hasBlinkToggled)
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+
+        // Toggle the blinking pads but only send the ones of which the color did change
+        for (int note = this.blinkPads.nextSetBit (0); note >= 0; note = this.blinkPads.nextSetBit (note + 1))
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.sendPadUpdate (note, colorIndex);
+            final int colorIndex = this.getEffectiveColor (note);
+            if (colorIndex != this.sentColors[note])
+                this.sendColor (note, colorIndex);
         }
     }
 
@@ -102,9 +121,12 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.dirtyPads)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.colors[note] = color;
+            // Set again if blinking, see PadGridImpl.sendState
+            this.blinkColors[note] = 0;
+            this.dirtyPads.set (note);
         }
     }
 
@@ -113,25 +135,30 @@ public abstract class BlinkingPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.dirtyPads)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.blinkColors[note] = blinkColor;
+            this.dirtyPads.set (note);
         }
     }
 
 
-    protected boolean checkBlinking ()
+    /**
+     * Get the color of the pad which needs to be displayed in the current blink phase.
+     *
+     * @param note The MIDI note of the pad
+     * @return The color index
+     */
+    private int getEffectiveColor (final int note)
     {
-        final long now = System.currentTimeMillis ();
-        if (now - this.updateTime > BLINK_SPEED)
-        {
-            this.updateTime = now;
-            this.isBlink = !this.isBlink;
-            return true;
-        }
-        return false;
+        return this.isBlink && this.blinkPads.get (note) ? this.blinkColors[note] : this.colors[note];
+    }
+
+
+    private void sendColor (final int note, final int colorIndex)
+    {
+        this.sentColors[note] = colorIndex;
+        this.sendPadUpdate (note, colorIndex);
     }
 
 
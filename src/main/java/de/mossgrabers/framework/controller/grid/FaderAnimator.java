@@ -0,0 +1,147 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.utils.TaskWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Drives the movements of all virtual faders of a surface from one shared tick. Instead of each
+ * fader scheduling its own tasks, the faders which are moving are registered here and advanced on
+ * every tick. The tick is a task on the task wheel of the surface and is only running as long as at
+ * least one fader is moving.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FaderAnimator
+{
+    /** The interval of the tick in milliseconds. */
+    public static final int        TICK_DELAY = 6;
+
+    private final TaskWheel        taskWheel;
+    private final List<IAnimation> animations = new ArrayList<> ();
+    private boolean                isTicking  = false;
+    private boolean                isInTick   = false;
+    private int                    tickCount  = 0;
+
+
+    /**
+     * A movement which is advanced on every tick.
+     */
+    public interface IAnimation
+    {
+        /**
+         * Advance the movement by one tick.
+         *
+         * @return True if the movement is still in progress, false if it has finished
+         */
+        boolean tick ();
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param taskWheel The task wheel used for scheduling the tick
+     */
+    public FaderAnimator (final TaskWheel taskWheel)
+    {
+        this.taskWheel = taskWheel;
+    }
+
+
+    /**
+     * Register a movement. Nothing happens if it is already registered. Starts the tick if it is
+     * not running.
+     *
+     * @param animation The movement to advance on each tick
+     */
+    public void start (final IAnimation animation)
+    {
+        if (!this.animations.contains (animation))
+            this.animations.add (animation);
+
+        if (this.isTicking)
+            return;
+        this.isTicking = true;
+        this.taskWheel.schedule (this::tick, TICK_DELAY);
+    }
+
+
+    /**
+     * Remove a movement.
+     *
+     * @param animation The movement to remove
+     */
+    public void stop (final IAnimation animation)
+    {
+        this.animations.remove (animation);
+    }
+
+
+    /**
+     * Is the tick running?
+     *
+     * @return True if at least one movement is in progress
+     */
+    public boolean isTicking ()
+    {
+        return this.isTicking;
+    }
+
+
+    /**
+     * Get the number of ticks which were executed so far.
+     *
+     * @return The number of ticks
+     */
+    public int getTickCount ()
+    {
+        return this.tickCount;
+    }
+
+
+    /**
+     * Get the number of the first tick which is executed at least TICK_DELAY after now. Between
+     * two ticks the next one might follow much sooner.
+     *
+     * @return The tick number to compare with getTickCount
+     */
+    public int getNextFullTick ()
+    {
+        // A stopped tick is restarted with the full delay
+        if (this.isInTick || !this.isTicking)
+            return this.tickCount + 1;
+        return this.tickCount + 2;
+    }
+
+
+    /**
+     * Advances all movements and removes the finished ones. Schedules the next tick as long as
+     * there are movements in progress.
+     */
+    void tick ()
+    {
+        this.tickCount++;
+        this.isInTick = true;
+        for (int i = this.animations.size () - 1; i >= 0; i--)
+        {
+            if (!this.animations.get (i).tick ())
+                this.animations.remove (i);
+        }
+        this.isInTick = false;
+
+        if (this.animations.isEmpty ())
+        {
+            this.isTicking = false;
+            return;
+        }
+
+        this.taskWheel.schedule (this::tick, TICK_DELAY);
+    }
+}
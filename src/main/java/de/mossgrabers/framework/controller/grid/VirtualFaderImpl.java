@@ -12,7 +12,7 @@ import de.mossgrabers.framework.daw.IHost;
  *
  * @author Jürgen Moßgraber
  */
-public class VirtualFaderImpl implements IVirtualFader
+public class VirtualFaderImpl implements IVirtualFader, FaderAnimator.IAnimation
 {
     private static final int            PAD_VALUE_AMOUNT       = 16;
 
@@ -39,9 +39,10 @@ public class VirtualFaderImpl implements IVirtualFader
     };
     // @formatter:on
 
-    private static final int            LOOP_DELAY             = 6;
+    private static final int            LOOP_DELAY             = FaderAnimator.TICK_DELAY;
 
     private final IHost                 host;
+    private final FaderAnimator         animator;
     private final IVirtualFaderCallback callback;
     private final IPadGrid              padGrid;
     private final int                   index;
@@ -56,6 +57,9 @@ public class VirtualFaderImpl implements IVirtualFader
     private int                         moveTargetValue;
     private boolean                     moveDirectionIsUpwards = true;
     private boolean                     isKnobType;
+    private boolean                     isCheckPending;
+    private int                         checkTick;
+    private int                         ticksUntilMove;
 
 
     /**
@@ -63,11 +67,12 @@ public class VirtualFaderImpl implements IVirtualFader
      * yourself.
      *
      * @param host The host
+     * @param animator The fader animator of the surface, which executes the movements
      * @param callback Callback for getting and setting fader values
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback)
+    public VirtualFaderImpl (final IHost host, final FaderAnimator animator, final IVirtualFaderCallback callback)
     {
-        this (host, callback, null, -1);
+        this (host, animator, callback, null, -1);
     }
 
 
@@ -75,13 +80,15 @@ public class VirtualFaderImpl implements IVirtualFader
      * Constructor.
      *
      * @param host The host
+     * @param animator The fader animator of the surface, which executes the movements
      * @param callback Callback for getting and setting fader values
      * @param padGrid The pad grid on which the virtual fader is drawn
      * @param index the index of the fader
      */
-    public VirtualFaderImpl (final IHost host, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
+    public VirtualFaderImpl (final IHost host, final FaderAnimator animator, final IVirtualFaderCallback callback, final IPadGrid padGrid, final int index)
     {
         this.host = host;
+        this.animator = animator;
         this.padGrid = padGrid;
         this.index = index;
         this.callback = callback;
@@ -172,27 +179,65 @@ public class VirtualFaderImpl implements IVirtualFader
 
         this.moveDestination = newDestination;
 
-        this.moveFaderToDestination ();
+        if (this.moveFaderToDestination ())
+            this.animator.start (this);
+        else
+            this.animator.stop (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tick ()
+    {
+        // Delay to allow the parameter value to update properly, at least a full LOOP_DELAY
+        if (this.isCheckPending)
+        {
+            if (this.animator.getTickCount () < this.checkTick)
+                return true;
+            this.isCheckPending = false;
+            if (!this.moveFaderToDestinationCallback ())
+                return false;
+            this.ticksUntilMove = (this.moveTimerDelay + LOOP_DELAY - 1) / LOOP_DELAY;
+            return true;
+        }
+
+        this.ticksUntilMove--;
+        if (this.ticksUntilMove > 0)
+            return true;
+        return this.moveFaderToDestination ();
     }
 
 
-    protected void moveFaderToDestination ()
+    /**
+     * Move the fader one step towards the destination.
+     *
+     * @return True if the fader was moved, false if it already reached the destination
+     */
+    protected boolean moveFaderToDestination ()
     {
         final int current = this.callback.getValue ();
         if (current == this.moveDestination)
-            return;
+            return false;
 
         this.moveDirectionIsUpwards = current < this.moveDestination;
         this.moveTargetValue = this.moveDirectionIsUpwards ? Math.min (current + this.moveDelay, this.moveDestination) : Math.max (current - this.moveDelay, this.moveDestination);
 
         this.callback.setValue (this.moveTargetValue);
 
-        // Delay to allow the parameter value to update properly
-        this.host.scheduleTask (this::moveFaderToDestinationCallback, LOOP_DELAY);
+        // Check the value on the next tick which is at least LOOP_DELAY away
+        this.isCheckPending = true;
+        this.checkTick = this.animator.getNextFullTick ();
+        return true;
     }
 
 
-    protected void moveFaderToDestinationCallback ()
+    /**
+     * Check if the parameter value was updated as expected.
+     *
+     * @return True if the movement should continue
+     */
+    protected boolean moveFaderToDestinationCallback ()
     {
         final int updatedValue = this.callback.getValue ();
 
@@ -204,11 +249,11 @@ public class VirtualFaderImpl implements IVirtualFader
             this.host.println ("FORCED!");
 
             this.callback.setValue (this.moveDestination);
-            return;
+            return false;
         }
 
         this.isKnobType = true;
-        this.host.scheduleTask (this::moveFaderToDestination, this.moveTimerDelay);
+        return true;
     }
 
 
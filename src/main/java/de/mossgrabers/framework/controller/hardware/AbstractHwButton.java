@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TaskWheel;
 import de.mossgrabers.framework.utils.TimeoutOptimizer;
 
 import java.util.ArrayList;
@@ -22,7 +23,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
+    private TimeoutOptimizer               optimizer;
+    private TaskWheel                      taskWheel;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
@@ -44,8 +46,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
-
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
     }
 
 
@@ -65,6 +65,14 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTaskWheel (final TaskWheel taskWheel)
+    {
+        this.taskWheel = taskWheel;
+    }
+
+
     /**
      * Handle a button press.
      *
@@ -78,7 +86,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        this.scheduleButtonStateCheck ();
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -96,6 +104,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        if (this.taskWheel != null)
+            this.taskWheel.cancel (this);
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
@@ -217,6 +227,25 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     }
 
 
+    /**
+     * Check for a long press after the button was pressed down. The check is keyed by the button,
+     * which restarts the delay if the button is pressed again.
+     */
+    private void scheduleButtonStateCheck ()
+    {
+        if (this.taskWheel != null)
+        {
+            this.taskWheel.schedule (this, this::checkButtonState, BUTTON_STATE_INTERVAL);
+            return;
+        }
+
+        // The timer of the host is not exact, therefore measure its delay
+        if (this.optimizer == null)
+            this.optimizer = new TimeoutOptimizer (this.host, BUTTON_STATE_INTERVAL);
+        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+    }
+
+
     /**
      * If the state of the given button is still down, the state is set to long and an event gets
      * fired.
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TaskWheel;
 
 
 /**
@@ -119,6 +120,15 @@ public interface IHwButton extends IHwInputControl
     void clearState ();
 
 
+    /**
+     * Set the task wheel of the surface, which is used to detect long presses. If not set, a timer
+     * of the host is used.
+     *
+     * @param taskWheel The task wheel
+     */
+    void setTaskWheel (TaskWheel taskWheel);
+
+
     /**
      * Get the velocity of the last (dynamic) button press.
      *
@@ -22,6 +22,7 @@ public abstract class AbstractBrowser implements IBrowser
     protected static final String               INSERT_DEVICE_BEFORE = "Insert device before: ";
     protected static final String               INSERT_DEVICE_AFTER  = "Insert device after: ";
 
+    protected final IHost                       host;
     protected final int                         numResults;
     protected final int                         numFilterColumnEntries;
     protected IBrowserColumnItem []             resultData;
@@ -30,16 +31,19 @@ public abstract class AbstractBrowser implements IBrowser
     protected String                            infoText             = "";
 
     private final List<IValueObserver<Boolean>> activeObservers      = new ArrayList<> ();
+    private BrowserResultWindow                 resultWindow;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param numFilterColumnEntries The number of entries in a filter column page
      * @param numResults The number of entries in a results column page
      */
-    protected AbstractBrowser (final int numFilterColumnEntries, final int numResults)
+    protected AbstractBrowser (final IHost host, final int numFilterColumnEntries, final int numResults)
     {
+        this.host = host;
         this.numFilterColumnEntries = numFilterColumnEntries;
         this.numResults = numResults;
     }
@@ -53,6 +57,14 @@ public abstract class AbstractBrowser implements IBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addResultsObserver (final IValueObserver<IBrowserColumnItem []> resultsObserver)
+    {
+        this.resultWindow.addObserver (resultsObserver);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean hasPreviousContentType ()
@@ -112,6 +124,14 @@ public abstract class AbstractBrowser implements IBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setNumVisibleResults (final int numVisibleResults)
+    {
+        this.resultWindow.setNumVisibleItems (numVisibleResults);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectPreviousFilterItem (final int columnIndex)
@@ -247,4 +267,27 @@ public abstract class AbstractBrowser implements IBrowser
         final Boolean isActiveObject = Boolean.valueOf (isActive);
         this.activeObservers.forEach (observer -> observer.update (isActiveObject));
     }
+
+
+    /**
+     * Set the result items of a page. Their observers must be subscribed.
+     *
+     * @param resultData The result items
+     */
+    protected void setResultData (final IBrowserColumnItem [] resultData)
+    {
+        this.resultData = resultData;
+        this.resultWindow = new BrowserResultWindow (this.host, resultData);
+    }
+
+
+    /**
+     * Observe the visible results or none of them.
+     *
+     * @param isObserving True to observe the visible results, e.g. while the browser is open
+     */
+    protected void setObservingResults (final boolean isObserving)
+    {
+        this.resultWindow.setObserving (isObserving);
+    }
 }
@@ -6,7 +6,6 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
-import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ICursorTrack;
@@ -62,7 +61,6 @@ public abstract class AbstractModel implements IModel
     protected IDrumDevice                           drumDevice;
     protected IClipLauncherNavigator                clipLauncherNavigator;
     protected Map<Integer, IDrumDevice>             additionalDrumDevices = new HashMap<> ();
-    protected Map<String, INoteClip>                cursorClips           = new HashMap<> ();
     protected final Map<DeviceID, ISpecificDevice>  specificDevices       = new EnumMap<> (DeviceID.class);
 
     private int                                     lastSelection;
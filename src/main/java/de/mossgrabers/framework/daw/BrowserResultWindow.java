@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+
+/**
+ * Observes only the visible results of a browser page (plus a small margin) and reports all name
+ * changes of the results which the host sends together with a single notification.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BrowserResultWindow
+{
+    /** The number of results which are observed in addition to the visible ones. */
+    public static final int                                   PREFETCH        = 1;
+
+    private final IHost                                       host;
+    private final IBrowserColumnItem []                       items;
+    private final List<IValueObserver<IBrowserColumnItem []>> observers       = new ArrayList<> ();
+    private final BitSet                                      subscribedItems = new BitSet ();
+    private int                                               numVisibleItems;
+    private boolean                                           isObserving     = true;
+    private boolean                                           isUpdatePending = false;
+
+
+    /**
+     * Constructor. All visible items are observed.
+     *
+     * @param host The host for scheduling the notification
+     * @param items The result items of the page, their observers must be subscribed
+     */
+    public BrowserResultWindow (final IHost host, final IBrowserColumnItem [] items)
+    {
+        this.host = host;
+        this.items = items;
+        this.numVisibleItems = items.length;
+        this.subscribedItems.set (0, items.length);
+
+        for (final IBrowserColumnItem item: items)
+            item.addNameObserver (name -> this.handleChange ());
+    }
+
+
+    /**
+     * Add an observer for the results. Called once for all changes which the host sends together.
+     *
+     * @param observer The observer to register
+     */
+    public void addObserver (final IValueObserver<IBrowserColumnItem []> observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /**
+     * Set the number of visible results, starting with the first result of the page.
+     *
+     * @param numVisibleItems The number of visible results
+     */
+    public void setNumVisibleItems (final int numVisibleItems)
+    {
+        this.numVisibleItems = Math.max (0, Math.min (numVisibleItems, this.items.length));
+        this.updateSubscriptions ();
+    }
+
+
+    /**
+     * Observe the visible results or none of them.
+     *
+     * @param isObserving True to observe the visible results, e.g. while the browser is open
+     */
+    public void setObserving (final boolean isObserving)
+    {
+        this.isObserving = isObserving;
+        this.updateSubscriptions ();
+    }
+
+
+    /**
+     * Get the number of results which are currently observed.
+     *
+     * @return The number of results
+     */
+    public int getNumSubscribedItems ()
+    {
+        return this.subscribedItems.cardinality ();
+    }
+
+
+    /**
+     * Subscribes the visible results plus the prefetch margin and unsubscribes all others. Only the
+     * items which change their state are touched.
+     */
+    private void updateSubscriptions ()
+    {
+        final int window = this.isObserving ? Math.min (this.numVisibleItems + PREFETCH, this.items.length) : 0;
+        for (int i = 0; i < this.items.length; i++)
+        {
+            final boolean isInWindow = i < window;
+            if (this.subscribedItems.get (i) == isInWindow)
+                continue;
+            this.subscribedItems.set (i, isInWindow);
+            this.items[i].enableObservers (isInWindow);
+        }
+    }
+
+
+    /**
+     * A result has changed. All changes which the host sends before the scheduled task is executed
+     * are reported together.
+     */
+    private void handleChange ()
+    {
+        if (this.isUpdatePending)
+            return;
+        this.isUpdatePending = true;
+        this.host.scheduleTask ( () -> {
+            this.isUpdatePending = false;
+            this.observers.forEach (observer -> observer.update (this.items));
+        }, 0);
+    }
+}
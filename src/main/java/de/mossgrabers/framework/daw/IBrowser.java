@@ -27,6 +27,15 @@ public interface IBrowser extends IObserverManagement
     void addActiveObserver (IValueObserver<Boolean> activeObserver);
 
 
+    /**
+     * Add an observer for the results. Called once for all result changes which the host sends
+     * together, e.g. the names of a new result page.
+     *
+     * @param resultsObserver The observer to register
+     */
+    void addResultsObserver (IValueObserver<IBrowserColumnItem []> resultsObserver);
+
+
     /**
      * Returns true of the browser displays presets.
      *
@@ -208,6 +217,17 @@ public interface IBrowser extends IObserverManagement
     IBrowserColumnItem [] getResultColumnItems ();
 
 
+    /**
+     * Set the number of results which are currently displayed, starting with the first result of
+     * the page. Only these results (plus a small margin) are observed while browsing, the others
+     * do not send updates. Set it to 0 if no results are shown, e.g. while a filter column is
+     * edited. The default is the number of results on a page.
+     *
+     * @param numVisibleResults The number of visible results
+     */
+    void setNumVisibleResults (int numVisibleResults);
+
+
     /**
      * Select the previous filter column.
      */
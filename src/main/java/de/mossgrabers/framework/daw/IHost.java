@@ -8,7 +8,7 @@ import java.util.List;
 
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.constants.Capability;
-import de.mossgrabers.framework.daw.data.IDeviceMetadata;
+import de.mossgrabers.framework.daw.data.DeviceCatalog;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
@@ -168,6 +168,13 @@ public interface IHost
     IBitmap createBitmap (int width, int height);
 
 
+    /**
+     * Drop the graphics which are cached for drawing, e.g. images filled with a color. Call on
+     * shutdown and if the colors of a display have changed.
+     */
+    void clearGraphicsCache ();
+
+
     /**
      * Allocates some memory that will be automatically freed once the extension exits.
      *
@@ -194,17 +201,28 @@ public interface IHost
 
 
     /**
-     * Get the metadata of the instruments which can be created.
+     * Get the catalog of the instruments which can be created. The catalog is shared by all
+     * controller instances.
+     *
+     * @return The catalog
+     */
+    DeviceCatalog getInstrumentCatalog ();
+
+
+    /**
+     * Get the catalog of the audio effects which can be created. The catalog is shared by all
+     * controller instances.
      *
-     * @return The metadata
+     * @return The catalog
      */
-    List<IDeviceMetadata> getInstrumentMetadata ();
+    DeviceCatalog getAudioEffectCatalog ();
 
 
     /**
-     * Get the metadata of the audio effect which can be created.
+     * Get the catalog of all devices (first the instruments then the audio effects) which can be
+     * created. The catalog is shared by all controller instances.
      *
-     * @return The metadata
+     * @return The catalog
      */
-    List<IDeviceMetadata> getAudioEffectMetadata ();
+    DeviceCatalog getDeviceCatalog ();
 }
\ No newline at end of file
@@ -0,0 +1,317 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+import java.util.Arrays;
+
+
+/**
+ * A hash set of note positions. Each position is packed into a long value (channel, step and note)
+ * which is stored in an open addressing table. Therefore, testing if a note is contained does not
+ * need to walk through all notes and does not create any objects. Additionally, it is counted how
+ * many notes are contained for a channel and step, which allows the same fast lookup for chords.
+ * The version is increased on every change.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class NotePositionSet
+{
+    /** An empty set, must not be modified. */
+    public static final NotePositionSet EMPTY   = new NotePositionSet ();
+
+    private final LongCountTable        notes   = new LongCountTable ();
+    private final LongCountTable        steps   = new LongCountTable ();
+    private int                         version = 0;
+
+
+    /**
+     * Add a note position. Nothing happens if it is already contained.
+     *
+     * @param notePosition The note position
+     */
+    public void add (final NotePosition notePosition)
+    {
+        final int channel = notePosition.getChannel ();
+        final int step = notePosition.getStep ();
+        final long key = pack (channel, step, notePosition.getNote ());
+        if (this.notes.contains (key))
+            return;
+        this.notes.add (key);
+        this.steps.add (pack (channel, step, 0));
+        this.version++;
+    }
+
+
+    /**
+     * Remove a note position. Nothing happens if it is not contained.
+     *
+     * @param notePosition The note position
+     */
+    public void remove (final NotePosition notePosition)
+    {
+        final int channel = notePosition.getChannel ();
+        final int step = notePosition.getStep ();
+        if (this.notes.remove (pack (channel, step, notePosition.getNote ())))
+        {
+            this.steps.remove (pack (channel, step, 0));
+            this.version++;
+        }
+    }
+
+
+    /**
+     * Remove all note positions.
+     */
+    public void clear ()
+    {
+        if (this.notes.isEmpty ())
+            return;
+        this.notes.clear ();
+        this.steps.clear ();
+        this.version++;
+    }
+
+
+    /**
+     * Test if a note position is contained.
+     *
+     * @param notePosition The note position
+     * @return True if contained
+     */
+    public boolean contains (final NotePosition notePosition)
+    {
+        return this.contains (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+    }
+
+
+    /**
+     * Test if a note position is contained.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param note The note
+     * @return True if contained
+     */
+    public boolean contains (final int channel, final int step, final int note)
+    {
+        return this.notes.contains (pack (channel, step, note));
+    }
+
+
+    /**
+     * Test if there is at least one note at the given channel and step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return True if contained
+     */
+    public boolean containsStep (final int channel, final int step)
+    {
+        return this.steps.contains (pack (channel, step, 0));
+    }
+
+
+    /**
+     * Get the number of contained note positions.
+     *
+     * @return The number
+     */
+    public int size ()
+    {
+        return this.notes.size;
+    }
+
+
+    /**
+     * Test if there are no note positions contained.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.notes.isEmpty ();
+    }
+
+
+    /**
+     * Get the version of the set, which is increased on every change.
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Pack a note position into a long value. The step uses the upper 32 bits, the channel 4 bits
+     * and the note 7 bits.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param note The note
+     * @return The packed value, never negative
+     */
+    private static long pack (final int channel, final int step, final int note)
+    {
+        return (step & 0xFFFFFFFFL) << 11 | (channel & 0xF) << 7 | note & 0x7F;
+    }
+
+
+    /**
+     * An open addressing hash table with linear probing which counts how often a (non-negative)
+     * long key was added.
+     */
+    private static final class LongCountTable
+    {
+        private static final long EMPTY_KEY = -1;
+
+        private long []           keys      = createKeys (16);
+        private int []            counts    = new int [16];
+        private int               size      = 0;
+
+
+        /**
+         * Increase the count of the key.
+         *
+         * @param key The key
+         */
+        void add (final long key)
+        {
+            int slot = this.find (key);
+            if (this.keys[slot] == key)
+            {
+                this.counts[slot]++;
+                return;
+            }
+
+            if ((this.size + 1) * 2 > this.keys.length)
+            {
+                this.grow ();
+                slot = this.find (key);
+            }
+            this.keys[slot] = key;
+            this.counts[slot] = 1;
+            this.size++;
+        }
+
+
+        /**
+         * Decrease the count of the key. The key is removed if the count reaches 0.
+         *
+         * @param key The key
+         * @return True if the key was removed
+         */
+        boolean remove (final long key)
+        {
+            final int slot = this.find (key);
+            if (this.keys[slot] != key)
+                return false;
+            this.counts[slot]--;
+            if (this.counts[slot] > 0)
+                return false;
+            this.deleteSlot (slot);
+            this.size--;
+            return true;
+        }
+
+
+        boolean contains (final long key)
+        {
+            return this.keys[this.find (key)] == key;
+        }
+
+
+        boolean isEmpty ()
+        {
+            return this.size == 0;
+        }
+
+
+        void clear ()
+        {
+            Arrays.fill (this.keys, EMPTY_KEY);
+            Arrays.fill (this.counts, 0);
+            this.size = 0;
+        }
+
+
+        /**
+         * Get the slot which contains the key or the empty slot where it needs to be inserted.
+         *
+         * @param key The key
+         * @return The index of the slot
+         */
+        private int find (final long key)
+        {
+            final int mask = this.keys.length - 1;
+            int slot = hash (key) & mask;
+            while (this.keys[slot] != EMPTY_KEY && this.keys[slot] != key)
+                slot = slot + 1 & mask;
+            return slot;
+        }
+
+
+        /**
+         * Remove the key at the given slot and move up following keys of the same cluster, which
+         * keeps the table free of tombstones.
+         *
+         * @param slot The slot to clear
+         */
+        private void deleteSlot (final int slot)
+        {
+            final int mask = this.keys.length - 1;
+            int gap = slot;
+            int next = slot + 1 & mask;
+            while (this.keys[next] != EMPTY_KEY)
+            {
+                final int home = hash (this.keys[next]) & mask;
+                // Move the key into the gap if its home slot is not between the gap and its slot
+                if ((next - home & mask) >= (next - gap & mask))
+                {
+                    this.keys[gap] = this.keys[next];
+                    this.counts[gap] = this.counts[next];
+                    gap = next;
+                }
+                next = next + 1 & mask;
+            }
+            this.keys[gap] = EMPTY_KEY;
+            this.counts[gap] = 0;
+        }
+
+
+        private void grow ()
+        {
+            final long [] oldKeys = this.keys;
+            final int [] oldCounts = this.counts;
+            this.keys = createKeys (oldKeys.length * 2);
+            this.counts = new int [oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++)
+            {
+                if (oldKeys[i] == EMPTY_KEY)
+                    continue;
+                final int slot = this.find (oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.counts[slot] = oldCounts[i];
+            }
+        }
+
+
+        private static long [] createKeys (final int capacity)
+        {
+            final long [] keys = new long [capacity];
+            Arrays.fill (keys, EMPTY_KEY);
+            return keys;
+        }
+
+
+        private static int hash (final long key)
+        {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ h >>> 32);
+        }
+    }
+}
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.observer.IItemSelectionObserver;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -15,8 +16,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public abstract class AbstractItemImpl implements IItem
 {
-    protected final int index;
-    private boolean     selected = false;
+    protected final int            index;
+    private boolean                selected = false;
+    private IItemSelectionObserver selectionObserver;
 
 
     /**
@@ -99,7 +101,23 @@ public abstract class AbstractItemImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        if (this.selectionObserver != null)
+            this.selectionObserver.call (this.index, isSelected);
+    }
+
+
+    /**
+     * Set an observer which is notified directly (not delayed) when the selection flag of the item
+     * changes. Used by a bank to keep its selection index up-to-date.
+     *
+     * @param selectionObserver The observer, null to remove it
+     */
+    public void setSelectionObserver (final IItemSelectionObserver selectionObserver)
+    {
+        this.selectionObserver = selectionObserver;
     }
 
 
@@ -0,0 +1,197 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * An immutable catalog of device metadata. The catalog is meant to be created once and shared by
+ * all controller instances. Devices can be looked up by their full name without walking through all
+ * entries. Additionally, there is a sorted index of the lower case full names which allows to find
+ * all devices which start with a given text (case-insensitive).
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class DeviceCatalog
+{
+    private final List<IDeviceMetadata> devices;
+    private final String []             names;
+    private final Map<String, Integer>  nameIndex;
+    private final String []             sortedKeys;
+    private final int []                sortedIndices;
+
+
+    /**
+     * Constructor.
+     *
+     * @param devices The metadata of the devices in the order in which they should be presented
+     */
+    public DeviceCatalog (final List<IDeviceMetadata> devices)
+    {
+        this.devices = Collections.unmodifiableList (new ArrayList<> (devices));
+
+        final int size = this.devices.size ();
+        this.names = new String [size];
+        this.nameIndex = new HashMap<> (size * 2);
+        final Integer [] order = new Integer [size];
+        final String [] keys = new String [size];
+        for (int i = 0; i < size; i++)
+        {
+            this.names[i] = this.devices.get (i).fullName ();
+            // Keep the first one if there are identical names
+            this.nameIndex.putIfAbsent (this.names[i], Integer.valueOf (i));
+            keys[i] = this.names[i].toLowerCase (Locale.US);
+            order[i] = Integer.valueOf (i);
+        }
+
+        Arrays.sort (order, (a, b) -> keys[a.intValue ()].compareTo (keys[b.intValue ()]));
+        this.sortedKeys = new String [size];
+        this.sortedIndices = new int [size];
+        for (int i = 0; i < size; i++)
+        {
+            this.sortedIndices[i] = order[i].intValue ();
+            this.sortedKeys[i] = keys[this.sortedIndices[i]];
+        }
+    }
+
+
+    /**
+     * Create a catalog which contains the entries of both catalogs.
+     *
+     * @param first The first catalog
+     * @param second The second catalog, its entries are appended to the ones of the first
+     * @return The new catalog
+     */
+    public static DeviceCatalog combine (final DeviceCatalog first, final DeviceCatalog second)
+    {
+        final List<IDeviceMetadata> devices = new ArrayList<> (first.size () + second.size ());
+        devices.addAll (first.devices);
+        devices.addAll (second.devices);
+        return new DeviceCatalog (devices);
+    }
+
+
+    /**
+     * Get the number of devices.
+     *
+     * @return The number of devices
+     */
+    public int size ()
+    {
+        return this.devices.size ();
+    }
+
+
+    /**
+     * Get the metadata of a device.
+     *
+     * @param index The index of the device
+     * @return The metadata
+     */
+    public IDeviceMetadata get (final int index)
+    {
+        return this.devices.get (index);
+    }
+
+
+    /**
+     * Get the metadata of all devices.
+     *
+     * @return The metadata, the list cannot be modified
+     */
+    public List<IDeviceMetadata> getAll ()
+    {
+        return this.devices;
+    }
+
+
+    /**
+     * Get the full names of all devices in the order of the catalog. The array is shared and must
+     * not be modified.
+     *
+     * @return The names
+     */
+    public String [] getNames ()
+    {
+        return this.names;
+    }
+
+
+    /**
+     * Get the index of a device.
+     *
+     * @param fullName The full name of the device
+     * @return The index or -1 if there is no device with that name
+     */
+    public int indexOf (final String fullName)
+    {
+        final Integer index = this.nameIndex.get (fullName);
+        return index == null ? -1 : index.intValue ();
+    }
+
+
+    /**
+     * Get the metadata of a device.
+     *
+     * @param fullName The full name of the device
+     * @return The metadata if there is a device with that name
+     */
+    public Optional<IDeviceMetadata> lookup (final String fullName)
+    {
+        final int index = this.indexOf (fullName);
+        return index < 0 ? Optional.empty () : Optional.of (this.devices.get (index));
+    }
+
+
+    /**
+     * Find all devices of which the full name starts with the given text. Case is ignored.
+     *
+     * @param prefix The text with which the names need to start
+     * @return The metadata of the found devices sorted by their names
+     */
+    public List<IDeviceMetadata> findByPrefix (final String prefix)
+    {
+        final String key = prefix.toLowerCase (Locale.US);
+
+        // Binary search for the first name which is not smaller than the prefix
+        int low = 0;
+        int high = this.sortedKeys.length;
+        while (low < high)
+        {
+            final int mid = low + high >>> 1;
+            if (this.sortedKeys[mid].compareTo (key) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        final List<IDeviceMetadata> result = new ArrayList<> ();
+        for (int i = low; i < this.sortedKeys.length && this.sortedKeys[i].startsWith (key); i++)
+            result.add (this.devices.get (this.sortedIndices[i]));
+        return result;
+    }
+
+
+    /**
+     * Find all devices with the given name, e.g. a plug-in which is available in several formats.
+     *
+     * @param name The name of the device without the format
+     * @return The metadata of the found devices sorted by their full names
+     */
+    public List<IDeviceMetadata> findByName (final String name)
+    {
+        final List<IDeviceMetadata> result = this.findByPrefix (name);
+        result.removeIf (device -> !device.name ().equals (name));
+        return result;
+    }
+}
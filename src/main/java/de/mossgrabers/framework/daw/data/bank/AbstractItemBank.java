@@ -5,9 +5,12 @@
 package de.mossgrabers.framework.daw.data.bank;
 
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IItem;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,13 @@ import java.util.Optional;
  */
 public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
 {
+    private final BitSet      selection          = new BitSet ();
+    private boolean           isSelectionTracked = false;
+    private List<Optional<T>> itemOptionals      = null;
+    private List<T>           selectedItems      = Collections.emptyList ();
+    private List<T>           selectedItemsView  = Collections.emptyList ();
+
+
     /**
      * Constructor.
      *
@@ -64,6 +74,17 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     @Override
     public Optional<T> getSelectedItem ()
     {
+        if (this.isSelectionTracked)
+        {
+            // Only the items with a set selection flag need to be checked if they do exist
+            for (int i = this.selection.nextSetBit (0); i >= 0; i = this.selection.nextSetBit (i + 1))
+            {
+                if (this.getItem (i).isSelected ())
+                    return this.itemOptionals.get (i);
+            }
+            return Optional.empty ();
+        }
+
         for (int i = 0; i < this.getPageSize (); i++)
         {
             final T item = this.getItem (i);
@@ -74,10 +95,32 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     }
 
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * If the selection is tracked, the returned list is a read-only view which is re-used as long
+     * as the selection does not change.
+     */
     @Override
     public List<T> getSelectedItems ()
     {
+        if (this.isSelectionTracked)
+        {
+            if (!this.isSelectionUnchanged ())
+            {
+                final List<T> items = new ArrayList<> ();
+                for (int i = this.selection.nextSetBit (0); i >= 0; i = this.selection.nextSetBit (i + 1))
+                {
+                    final T item = this.getItem (i);
+                    if (item.isSelected ())
+                        items.add (item);
+                }
+                this.selectedItems = items;
+                this.selectedItemsView = Collections.unmodifiableList (items);
+            }
+            return this.selectedItemsView;
+        }
+
         final List<T> selection = new ArrayList<> ();
         for (int i = 0; i < this.getPageSize (); i++)
         {
@@ -89,6 +132,63 @@ public abstract class AbstractItemBank<T extends IItem> extends AbstractBank<T>
     }
 
 
+    /**
+     * Call at the end of the constructor after all items have been added. If all items are based on
+     * AbstractItemImpl, the bank gets notified about all changes of their selection flags and
+     * keeps a selection index. This makes it unnecessary to check all items of the page to get the
+     * selected one(s). Do not use it if the item class overrides isSelected with a different
+     * source for the selection state.
+     */
+    protected void trackSelection ()
+    {
+        final List<Optional<T>> optionals = new ArrayList<> (this.items.size ());
+        for (final T item: this.items)
+        {
+            if (!(item instanceof AbstractItemImpl))
+                return;
+            optionals.add (Optional.of (item));
+        }
+
+        this.itemOptionals = optionals;
+        for (final T item: this.items)
+        {
+            ((AbstractItemImpl) item).setSelectionObserver (this::updateSelection);
+        }
+        this.isSelectionTracked = true;
+    }
+
+
+    /**
+     * Check if the cached selected items still match the items which have the selection flag set
+     * and do exist.
+     *
+     * @return True if the cached list is still valid
+     */
+    private boolean isSelectionUnchanged ()
+    {
+        final int size = this.selectedItems.size ();
+        int pos = 0;
+        for (int i = this.selection.nextSetBit (0); i >= 0; i = this.selection.nextSetBit (i + 1))
+        {
+            final T item = this.getItem (i);
+            if (item.isSelected ())
+            {
+                if (pos >= size || this.selectedItems.get (pos) != item)
+                    return false;
+                pos++;
+            }
+        }
+        return pos == size;
+    }
+
+
+    private void updateSelection (final int index, final boolean isSelected)
+    {
+        if (index >= 0 && index < this.items.size ())
+            this.selection.set (index, isSelected);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectItemAtPosition (final int position)
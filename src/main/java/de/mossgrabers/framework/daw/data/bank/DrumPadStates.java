@@ -0,0 +1,213 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data.bank;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.DAWColor;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+
+/**
+ * The states of all drum pads of a drum pad bank page which are required to draw the pads. The
+ * states are updated from the observers of the drum pads. Drum views can read all states from
+ * arrays instead of querying each pad. The color is stored as the ID of the closest DAW color
+ * (and the one of its darker variant), which is only calculated when the color of a pad changes.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class DrumPadStates
+{
+    private final BitSet    exists    = new BitSet ();
+    private final BitSet    activated = new BitSet ();
+    private final BitSet    mute      = new BitSet ();
+    private final BitSet    solo      = new BitSet ();
+    private final String [] colorIDs;
+    private final String [] darkerColorIDs;
+    private boolean         hasSoloedPads;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numPads The number of drum pads in a bank page
+     */
+    public DrumPadStates (final int numPads)
+    {
+        this.colorIDs = new String [numPads];
+        this.darkerColorIDs = new String [numPads];
+        Arrays.fill (this.colorIDs, DAWColor.COLOR_OFF.name ());
+        Arrays.fill (this.darkerColorIDs, DAWColor.COLOR_OFF.name ());
+    }
+
+
+    /**
+     * Does the drum pad exist?
+     *
+     * @param index The index of the drum pad in the page
+     * @return True if it exists
+     */
+    public boolean doesExist (final int index)
+    {
+        return this.exists.get (index);
+    }
+
+
+    /**
+     * Set if the drum pad exists.
+     *
+     * @param index The index of the drum pad in the page
+     * @param value True if it exists
+     */
+    public void setExists (final int index, final boolean value)
+    {
+        this.exists.set (index, value);
+    }
+
+
+    /**
+     * Is the drum pad activated?
+     *
+     * @param index The index of the drum pad in the page
+     * @return True if activated
+     */
+    public boolean isActivated (final int index)
+    {
+        return this.activated.get (index);
+    }
+
+
+    /**
+     * Set if the drum pad is activated.
+     *
+     * @param index The index of the drum pad in the page
+     * @param value True if activated
+     */
+    public void setActivated (final int index, final boolean value)
+    {
+        this.activated.set (index, value);
+    }
+
+
+    /**
+     * Is the drum pad muted?
+     *
+     * @param index The index of the drum pad in the page
+     * @return True if muted
+     */
+    public boolean isMute (final int index)
+    {
+        return this.mute.get (index);
+    }
+
+
+    /**
+     * Set if the drum pad is muted.
+     *
+     * @param index The index of the drum pad in the page
+     * @param value True if muted
+     */
+    public void setMute (final int index, final boolean value)
+    {
+        this.mute.set (index, value);
+    }
+
+
+    /**
+     * Is the drum pad soloed?
+     *
+     * @param index The index of the drum pad in the page
+     * @return True if soloed
+     */
+    public boolean isSolo (final int index)
+    {
+        return this.solo.get (index);
+    }
+
+
+    /**
+     * Set if the drum pad is soloed.
+     *
+     * @param index The index of the drum pad in the page
+     * @param value True if soloed
+     */
+    public void setSolo (final int index, final boolean value)
+    {
+        this.solo.set (index, value);
+    }
+
+
+    /**
+     * Is any drum pad of the bank soloed (not only the ones of the page)?
+     *
+     * @return True if a pad is soloed
+     */
+    public boolean hasSoloedPads ()
+    {
+        return this.hasSoloedPads;
+    }
+
+
+    /**
+     * Set if any drum pad of the bank is soloed.
+     *
+     * @param value True if a pad is soloed
+     */
+    public void setHasSoloedPads (final boolean value)
+    {
+        this.hasSoloedPads = value;
+    }
+
+
+    /**
+     * Is the drum pad muted, either directly or because other pads are soloed?
+     *
+     * @param index The index of the drum pad in the page
+     * @return True if muted
+     */
+    public boolean isMutedBySoloOrMute (final int index)
+    {
+        return this.mute.get (index) || this.hasSoloedPads && !this.solo.get (index);
+    }
+
+
+    /**
+     * Get the ID of the DAW color which is the closest to the color of the drum pad.
+     *
+     * @param index The index of the drum pad in the page
+     * @return The color ID
+     */
+    public String getColorID (final int index)
+    {
+        return this.colorIDs[index];
+    }
+
+
+    /**
+     * Get the ID of the DAW color which is the closest to the darker variant of the color of the
+     * drum pad. Used for the continued part of notes.
+     *
+     * @param index The index of the drum pad in the page
+     * @return The color ID
+     */
+    public String getDarkerColorID (final int index)
+    {
+        return this.darkerColorIDs[index];
+    }
+
+
+    /**
+     * Set the color of the drum pad.
+     *
+     * @param index The index of the drum pad in the page
+     * @param color The color
+     */
+    public void setColor (final int index, final ColorEx color)
+    {
+        this.colorIDs[index] = DAWColor.getColorID (color);
+        this.darkerColorIDs[index] = DAWColor.getColorID (ColorEx.darker (color));
+    }
+}
@@ -45,6 +45,14 @@ public interface IDrumPadBank extends ILayerBank
     boolean hasSoloedPads ();
 
 
+    /**
+     * Get the states of the drum pads of the current page, which are required to draw them.
+     *
+     * @return The states, must not be modified
+     */
+    DrumPadStates getStates ();
+
+
     /** {@inheritDoc} */
     @Override
     IDrumPad getItem (int index);
@@ -20,4 +20,14 @@ public interface IParameterBank extends IBank<IParameter>
      * @return The bank
      */
     IParameterPageBank getPageBank ();
+
+
+    /**
+     * Check if the parameter page was changed and not all parameters have reported their new
+     * states yet. Displays should not be updated in this case to prevent that they show a mix of
+     * the old and the new page.
+     *
+     * @return True if a page change is in progress
+     */
+    boolean isPageChanging ();
 }
\ No newline at end of file
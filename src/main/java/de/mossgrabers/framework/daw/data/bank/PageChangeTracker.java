@@ -0,0 +1,102 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.BitSet;
+
+
+/**
+ * Tracks the change of a bank page until all items of the new page have reported their new
+ * states. Since the DAW only sends values which actually changed (e.g. the same name on both
+ * pages), the change also ends after a timeout.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class PageChangeTracker
+{
+    /** The time in milliseconds after which a page change ends, even if not all items reported. */
+    public static final int TIMEOUT         = 150;
+
+    private final IHost     host;
+    private final int       numItems;
+    private final Runnable  completionHandler;
+    private final BitSet    pendingItems    = new BitSet ();
+    private boolean         isChanging      = false;
+    private int             changeCounter   = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the timeout
+     * @param numItems The number of items in a page
+     * @param completionHandler Called when a page change has ended
+     */
+    public PageChangeTracker (final IHost host, final int numItems, final Runnable completionHandler)
+    {
+        this.host = host;
+        this.numItems = numItems;
+        this.completionHandler = completionHandler;
+    }
+
+
+    /**
+     * The page has changed. Wait for all items to report their new states. A change which is still
+     * in progress is restarted.
+     */
+    public void start ()
+    {
+        this.isChanging = true;
+        this.pendingItems.set (0, this.numItems);
+
+        final int counter = ++this.changeCounter;
+        this.host.scheduleTask ( () -> {
+
+            // Timeout, if not all items did change. Ignore the timeouts of previous changes.
+            if (counter == this.changeCounter)
+                this.end ();
+
+        }, TIMEOUT);
+    }
+
+
+    /**
+     * An item has reported a new state.
+     *
+     * @param index The index of the item in the page
+     */
+    public void handleItemUpdate (final int index)
+    {
+        if (!this.isChanging)
+            return;
+        this.pendingItems.clear (index);
+        if (this.pendingItems.isEmpty ())
+            this.end ();
+    }
+
+
+    /**
+     * Check if a page change is in progress.
+     *
+     * @return True if not all items have reported their new states and the timeout is not reached
+     */
+    public boolean isChanging ()
+    {
+        return this.isChanging;
+    }
+
+
+    private void end ()
+    {
+        if (!this.isChanging)
+            return;
+        this.isChanging = false;
+        // Invalidate the pending timeout
+        this.changeCounter++;
+        this.completionHandler.run ();
+    }
+}
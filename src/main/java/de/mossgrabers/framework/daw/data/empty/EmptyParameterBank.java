@@ -59,4 +59,12 @@ public class EmptyParameterBank extends EmptyBank<IParameter> implements IParame
     {
         return EmptyParameterPageBank.INSTANCE;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPageChanging ()
+    {
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,348 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * A re-usable builder for system exclusive messages. Instead of formatting a message as a hex
+ * string (which needs to be parsed back into bytes by the host) the bytes are directly written into
+ * an internal buffer which grows on demand and is kept for the next message. Therefore, a builder
+ * instance should be created once (e.g. per display or control surface) and be re-used for all
+ * messages. A builder is not thread-safe.
+ *
+ * <pre>
+ * this.builder.start (HEADER).add (command).addASCII (text).send (this.output);
+ * </pre>
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysExBuilder
+{
+    /** The start byte of a system exclusive message. */
+    public static final int SYSEX_START = 0xF0;
+    /** The end byte of a system exclusive message. */
+    public static final int SYSEX_END   = 0xF7;
+
+    private byte []         buffer;
+    private int             length      = 0;
+
+
+    /**
+     * Constructor. Creates a builder with an initial capacity of 64 bytes.
+     */
+    public SysExBuilder ()
+    {
+        this (64);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer, grows on demand
+     */
+    public SysExBuilder (final int capacity)
+    {
+        this.buffer = new byte [Math.max (1, capacity)];
+    }
+
+
+    /**
+     * Converts a hex string into a byte array. Use it to create the header templates once, e.g.
+     * <code>SysExBuilder.fromHex ("F0 00 20 29 02 0C")</code>.
+     *
+     * @param hex The bytes formatted as 2 digit hex values, separated by spaces
+     * @return The bytes
+     */
+    public static byte [] fromHex (final String hex)
+    {
+        final String [] parts = hex.trim ().split ("\\s+");
+        if (parts.length == 1 && parts[0].isEmpty ())
+            return new byte [0];
+        final byte [] bytes = new byte [parts.length];
+        for (int i = 0; i < parts.length; i++)
+            bytes[i] = (byte) Integer.parseInt (parts[i], 16);
+        return bytes;
+    }
+
+
+    /**
+     * Clears the buffer and starts a new message with the given header. The header must contain
+     * the start byte (F0).
+     *
+     * @param header The header template, e.g. F0 + manufacturer and device IDs
+     * @return The builder for chaining
+     */
+    public SysExBuilder start (final byte [] header)
+    {
+        this.length = 0;
+        return this.add (header);
+    }
+
+
+    /**
+     * Clears the buffer and starts a new message with only the start byte (F0).
+     *
+     * @return The builder for chaining
+     */
+    public SysExBuilder start ()
+    {
+        this.length = 0;
+        return this.add (SYSEX_START);
+    }
+
+
+    /**
+     * Add one byte.
+     *
+     * @param value The value of the byte, only the lower 8 bits are used
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add two bytes.
+     *
+     * @param value1 The value of the first byte, only the lower 8 bits are used
+     * @param value2 The value of the second byte, only the lower 8 bits are used
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value1, final int value2)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.length++] = (byte) value1;
+        this.buffer[this.length++] = (byte) value2;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param data The bytes to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final byte [] data)
+    {
+        return this.add (data, 0, data.length);
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param data The bytes to add
+     * @param offset The offset of the first byte to add
+     * @param size The number of bytes to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final byte [] data, final int offset, final int size)
+    {
+        this.ensureCapacity (size);
+        System.arraycopy (data, offset, this.buffer, this.length, size);
+        this.length += size;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param data The bytes to add, only the lower 8 bits of each value are used
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int [] data)
+    {
+        this.ensureCapacity (data.length);
+        for (final int d: data)
+            this.buffer[this.length++] = (byte) d;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of the given text as 7-bit ASCII values.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysExBuilder addASCII (final String text)
+    {
+        final int size = text.length ();
+        this.ensureCapacity (size);
+        for (int i = 0; i < size; i++)
+            this.buffer[this.length++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of the given text as 7-bit ASCII values. The text is cut or padded to the
+     * given length.
+     *
+     * @param text The text
+     * @param size The number of characters to add
+     * @param padding The character to use for filling up the text
+     * @return The builder for chaining
+     */
+    public SysExBuilder addASCII (final String text, final int size, final char padding)
+    {
+        this.ensureCapacity (size);
+        final int textLength = Math.min (size, text.length ());
+        for (int i = 0; i < textLength; i++)
+            this.buffer[this.length++] = (byte) (text.charAt (i) & 0x7F);
+        for (int i = textLength; i < size; i++)
+            this.buffer[this.length++] = (byte) (padding & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add a byte split into 2 nibbles, the high nibble first.
+     *
+     * @param value The value (0-255)
+     * @return The builder for chaining
+     */
+    public SysExBuilder addNibbles (final int value)
+    {
+        return this.add (value >> 4 & 0x0F, value & 0x0F);
+    }
+
+
+    /**
+     * Add a 14-bit value as 2 bytes, the most significant 7 bits first.
+     *
+     * @param value The value (0-16383)
+     * @return The builder for chaining
+     */
+    public SysExBuilder add14BitMSB (final int value)
+    {
+        return this.add (value >> 7 & 0x7F, value & 0x7F);
+    }
+
+
+    /**
+     * Add a 14-bit value as 2 bytes, the least significant 7 bits first.
+     *
+     * @param value The value (0-16383)
+     * @return The builder for chaining
+     */
+    public SysExBuilder add14BitLSB (final int value)
+    {
+        return this.add (value & 0x7F, value >> 7 & 0x7F);
+    }
+
+
+    /**
+     * Add 8-bit data packed into 7-bit bytes. Each group of up to 7 bytes is prefixed with a byte
+     * which contains the most significant bits of the following bytes (bit 0 is the MSB of the
+     * first byte of the group).
+     *
+     * @param data The data to pack
+     * @param offset The offset of the first byte to pack
+     * @param size The number of bytes to pack
+     * @return The builder for chaining
+     */
+    public SysExBuilder add7BitPacked (final byte [] data, final int offset, final int size)
+    {
+        this.ensureCapacity (size + (size + 6) / 7);
+        final int end = offset + size;
+        for (int i = offset; i < end; i += 7)
+        {
+            final int msbPos = this.length++;
+            int msbs = 0;
+            final int groupEnd = Math.min (i + 7, end);
+            for (int j = i; j < groupEnd; j++)
+            {
+                final int value = data[j] & 0xFF;
+                msbs |= (value >> 7) << (j - i);
+                this.buffer[this.length++] = (byte) (value & 0x7F);
+            }
+            this.buffer[msbPos] = (byte) msbs;
+        }
+        return this;
+    }
+
+
+    /**
+     * Add a Roland style checksum for all bytes which were added starting at the given index. The
+     * sum of the bytes and the checksum is 0 (modulo 128).
+     *
+     * @param fromIndex The index of the first byte to include in the checksum
+     * @return The builder for chaining
+     */
+    public SysExBuilder addChecksum (final int fromIndex)
+    {
+        int sum = 0;
+        for (int i = fromIndex; i < this.length; i++)
+            sum += this.buffer[i] & 0x7F;
+        return this.add ((128 - sum % 128) & 0x7F);
+    }
+
+
+    /**
+     * Add an XOR checksum of all bytes which were added starting at the given index.
+     *
+     * @param fromIndex The index of the first byte to include in the checksum
+     * @return The builder for chaining
+     */
+    public SysExBuilder addXorChecksum (final int fromIndex)
+    {
+        int xor = 0;
+        for (int i = fromIndex; i < this.length; i++)
+            xor ^= this.buffer[i];
+        return this.add (xor & 0x7F);
+    }
+
+
+    /**
+     * Get the number of bytes which were added since the start of the message.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Terminates the message with the end byte (F7) and returns a copy of the complete message.
+     *
+     * @return The message
+     */
+    public byte [] build ()
+    {
+        this.add (SYSEX_END);
+        return Arrays.copyOf (this.buffer, this.length);
+    }
+
+
+    /**
+     * Terminates the message with the end byte (F7) and sends it to the given output.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, this.buffer.length * 2));
+    }
+}
@@ -0,0 +1,112 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Interns the key and velocity translation tables which are sent to a note input. Tables with the
+ * same content share the same instance. Therefore, it can be detected with an identity check if a
+ * table did not change and it does not need to be sent to the host again, which would rebuild its
+ * note routing. The returned tables must not be modified.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class TranslationTables
+{
+    private static final int                       MAX_TABLES = 256;
+
+    private static final Map<TableKey, Integer []> TABLES     = new LinkedHashMap<> (MAX_TABLES, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<TableKey, Integer []> eldest)
+        {
+            return this.size () > MAX_TABLES;
+        }
+    };
+
+
+    /**
+     * Private due to utility class.
+     */
+    private TranslationTables ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the shared table instance which has the same content as the given table.
+     *
+     * @param table The table
+     * @return The shared table with boxed values
+     */
+    public static Integer [] intern (final int [] table)
+    {
+        synchronized (TABLES)
+        {
+            final TableKey key = new TableKey (table);
+            Integer [] result = TABLES.get (key);
+            if (result == null)
+            {
+                result = new Integer [table.length];
+                for (int i = 0; i < table.length; i++)
+                    result[i] = Integer.valueOf (table[i]);
+                // Store a copy since the given table might be modified later on
+                TABLES.put (new TableKey (table.clone ()), result);
+            }
+            return result;
+        }
+    }
+
+
+    /**
+     * Wraps a table to use its content as the key of a hash map.
+     */
+    private static final class TableKey
+    {
+        private final int [] table;
+        private final int    hash;
+
+
+        /**
+         * Constructor.
+         *
+         * @param table The table
+         */
+        TableKey (final int [] table)
+        {
+            this.table = table;
+            this.hash = Arrays.hashCode (table);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof final TableKey other))
+                return false;
+            return this.hash == other.hash && Arrays.equals (this.table, other.table);
+        }
+    }
+}
@@ -30,11 +30,16 @@ import de.mossgrabers.framework.utils.KeyManager;
  */
 public abstract class AbstractView<S extends IControlSurface<C>, C extends Configuration> extends AbstractFeatureGroup<S, C> implements IView
 {
-    protected static final int [] EMPTY_TABLE = Scales.getEmptyMatrix ();
+    protected static final int [] EMPTY_TABLE       = Scales.getEmptyMatrix ();
+
+    /** The key of the task which updates the note mapping, the latest update replaces older ones. */
+    protected static final Object NOTE_MAPPING_TASK = new Object ();
 
     protected final Scales        scales;
     protected final KeyManager    keyManager;
     private String                previousChord;
+    private String                chordName;
+    private long                  chordVersion      = -1;
 
     private AftertouchCommand     aftertouchCommand;
 
@@ -110,7 +115,14 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected String getChordName ()
     {
-        return ChordIdentifier.identifyChord (this.keyManager.getMidiNotesFromPressedKeys ());
+        // Only identify the chord again if the pressed keys have changed
+        final long version = this.keyManager.getVersion ();
+        if (version != this.chordVersion)
+        {
+            this.chordName = ChordIdentifier.identifyChord (this.keyManager.getMidiNotesFromPressedKeys ());
+            this.chordVersion = version;
+        }
+        return this.chordName;
     }
 
 
@@ -204,7 +216,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     protected void delayedUpdateNoteMapping (final int [] matrix)
     {
-        this.surface.scheduleTask ( () -> {
+        this.surface.scheduleTask (NOTE_MAPPING_TASK, () -> {
             this.keyManager.setNoteMatrix (matrix);
             if (matrix.length == 128)
                 this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (matrix));
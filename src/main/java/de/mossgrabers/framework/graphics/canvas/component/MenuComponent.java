@@ -56,6 +56,26 @@ public class MenuComponent implements IComponent
     }
 
 
+    /**
+     * Update the menu and the label below with new values.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param icon The icon to use
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param isActive True if channel is activated
+     * @param lowerLayout The layout for the lower label
+     * @return True if any of the values has changed
+     */
+    protected boolean updateMenu (final String menuName, final boolean isMenuSelected, final String name, final String icon, final ColorEx color, final boolean isSelected, final boolean isActive, final LabelLayout lowerLayout)
+    {
+        final boolean hasHeaderChanged = this.header.update (menuName, null, null, isMenuSelected, true, LabelLayout.SMALL_HEADER);
+        return this.footer.update (name, icon, color, isSelected, isActive, lowerLayout) || hasHeaderChanged;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
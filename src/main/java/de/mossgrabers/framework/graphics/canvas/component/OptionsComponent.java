@@ -12,6 +12,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which can display on option on top and on the bottom of the element. In
@@ -25,9 +27,9 @@ public class OptionsComponent implements IComponent
     private final LabelComponent header;
     private final LabelComponent footer;
 
-    private final String         headerTop;
-    private final String         headerBottom;
-    private final boolean        isBottomHeaderSelected;
+    private String               headerTop;
+    private String               headerBottom;
+    private boolean              isBottomHeaderSelected;
 
 
     /**
@@ -56,6 +58,37 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /**
+     * Update the options with new values.
+     *
+     * @param headerTop A header for the top menu options (may span multiple grids), may be null
+     * @param menuTopName A name for the to menu, may be null
+     * @param isMenuTopSelected Is the top menu selected?
+     * @param menuTopColor The color to use for the background top menu, may be null
+     * @param headerBottom A header for the bottom menu options (may span multiple grids), may be
+     *            null
+     * @param menuBottomName A name for the bottom menu, may be null
+     * @param isMenuBottomSelected Is the bottom menu selected?
+     * @param menuBottomColor The color to use for the background bottom menu, may be null
+     * @param useSmallTopMenu Draw the small version of the top menu if true
+     * @param isBottomHeaderSelected True to draw the lower header selected
+     * @return True if any of the values has changed
+     */
+    public boolean update (final String headerTop, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottom, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
+    {
+        boolean hasChanged = this.header.update (menuTopName, null, menuTopColor, isMenuTopSelected, true, useSmallTopMenu ? LabelLayout.SMALL_HEADER : LabelLayout.PLAIN);
+        hasChanged |= this.footer.update (menuBottomName, null, menuBottomColor, isMenuBottomSelected, true, LabelLayout.PLAIN);
+
+        if (Objects.equals (this.headerTop, headerTop) && Objects.equals (this.headerBottom, headerBottom) && this.isBottomHeaderSelected == isBottomHeaderSelected)
+            return hasChanged;
+
+        this.headerTop = headerTop;
+        this.headerBottom = headerBottom;
+        this.isBottomHeaderSelected = isBottomHeaderSelected;
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
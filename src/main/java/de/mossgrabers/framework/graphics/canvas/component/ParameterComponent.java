@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which contains a fader and text for a value.
@@ -24,11 +26,11 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  */
 public class ParameterComponent extends MenuComponent
 {
-    private final String  paramName;
-    private final String  paramValueText;
-    private final int     paramValue;
-    private final int     modulatedParamValue;
-    private final boolean isTouched;
+    private String  paramName;
+    private String  paramValueText;
+    private int     paramValue;
+    private int     modulatedParamValue;
+    private boolean isTouched;
 
 
     /**
@@ -127,6 +129,67 @@ public class ParameterComponent extends MenuComponent
     }
 
 
+    /**
+     * Update the parameter with a device footer.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param deviceName The name of the device
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param paramName The name of the parameter
+     * @param paramValue The value of the fader
+     * @param modulatedParamValue The modulated value of the fader, -1 if not modulated
+     * @param paramValueText The textual form of the faders value
+     * @param isTouched True if touched
+     * @param lowerLayout The layout for the lower label
+     * @return True if any of the values has changed
+     */
+    public boolean update (final String menuName, final boolean isMenuSelected, final String name, final String deviceName, final ColorEx color, final boolean isSelected, final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched, final LabelLayout lowerLayout)
+    {
+        final boolean hasMenuChanged = this.updateMenu (menuName, isMenuSelected, name, deviceName == null ? null : DeviceTypes.getIconId (deviceName), color, isSelected, true, lowerLayout);
+        return this.updateParameter (paramName, paramValue, modulatedParamValue, paramValueText, isTouched) || hasMenuChanged;
+    }
+
+
+    /**
+     * Update the parameter with a channel footer.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param type The type of the channel
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param paramName The name of the parameter
+     * @param paramValue The value of the fader
+     * @param modulatedParamValue The modulated value of the fader, -1 if not modulated
+     * @param paramValueText The textual form of the faders value
+     * @param isTouched True if touched
+     * @return True if any of the values has changed
+     */
+    public boolean update (final String menuName, final boolean isMenuSelected, final String name, final ChannelType type, final ColorEx color, final boolean isSelected, final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched)
+    {
+        final boolean hasMenuChanged = this.updateMenu (menuName, isMenuSelected, name, ChannelSelectComponent.getIcon (type, false), color, isSelected, true, LabelLayout.COLORED);
+        return this.updateParameter (paramName, paramValue, modulatedParamValue, paramValueText, isTouched) || hasMenuChanged;
+    }
+
+
+    private boolean updateParameter (final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched)
+    {
+        if (Objects.equals (this.paramName, paramName) && this.paramValue == paramValue && this.modulatedParamValue == modulatedParamValue && Objects.equals (this.paramValueText, paramValueText) && this.isTouched == isTouched)
+            return false;
+
+        this.paramName = paramName;
+        this.paramValue = paramValue;
+        this.modulatedParamValue = modulatedParamValue;
+        this.paramValueText = paramValueText;
+        this.isTouched = isTouched;
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
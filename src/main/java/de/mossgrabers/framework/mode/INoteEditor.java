@@ -6,6 +6,7 @@ package de.mossgrabers.framework.mode;
 
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 
 import java.util.List;
 
@@ -68,6 +69,15 @@ public interface INoteEditor
     List<NotePosition> getNotes ();
 
 
+    /**
+     * Get the currently edited notes as a set for fast lookups, e.g. when drawing the steps of a
+     * sequencer. The set must not be modified.
+     *
+     * @return The notes
+     */
+    NotePositionSet getNoteSet ();
+
+
     /**
      * Get the clip.
      *
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.mode;
 
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,8 +19,9 @@ import java.util.List;
  */
 public class NoteEditor implements INoteEditor
 {
-    private INoteClip                clip  = null;
-    private final List<NotePosition> notes = new ArrayList<> ();
+    private INoteClip                clip    = null;
+    private final List<NotePosition> notes   = new ArrayList<> ();
+    private final NotePositionSet    noteSet = new NotePositionSet ();
 
 
     /**
@@ -44,6 +46,7 @@ public class NoteEditor implements INoteEditor
     public void clearNotes ()
     {
         this.notes.clear ();
+        this.noteSet.clear ();
     }
 
 
@@ -51,7 +54,7 @@ public class NoteEditor implements INoteEditor
     @Override
     public void setNote (final INoteClip clip, final NotePosition notePosition)
     {
-        this.notes.clear ();
+        this.clearNotes ();
         this.addNote (clip, notePosition);
     }
 
@@ -63,6 +66,7 @@ public class NoteEditor implements INoteEditor
         // Is the note already edited? Remove it.
         this.removeNote (clip, notePosition);
         this.notes.add (new NotePosition (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ()));
+        this.noteSet.add (notePosition);
     }
 
 
@@ -72,18 +76,14 @@ public class NoteEditor implements INoteEditor
     {
         if (this.clip != clip)
         {
-            this.notes.clear ();
+            this.clearNotes ();
             this.clip = clip;
         }
 
-        for (final NotePosition gridStep: this.notes)
-        {
-            if (gridStep.equals (notePosition))
-            {
-                this.notes.remove (gridStep);
-                return;
-            }
-        }
+        if (!this.noteSet.contains (notePosition))
+            return;
+        this.noteSet.remove (notePosition);
+        this.notes.remove (notePosition);
     }
 
 
@@ -91,15 +91,7 @@ public class NoteEditor implements INoteEditor
     @Override
     public boolean isNoteEdited (final INoteClip clip, final NotePosition notePosition)
     {
-        if (this.clip != clip)
-            return false;
-
-        for (final NotePosition gridStep: this.notes)
-        {
-            if (gridStep.equals (notePosition))
-                return true;
-        }
-        return false;
+        return this.clip == clip && this.noteSet.contains (notePosition);
     }
 
 
@@ -111,6 +103,14 @@ public class NoteEditor implements INoteEditor
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public NotePositionSet getNoteSet ()
+    {
+        return this.noteSet;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public List<NotePosition> getNotePosition (final int parameterIndex)
@@ -37,6 +37,31 @@ public class BrowserMode<S extends IControlSurface<C>, C extends Configuration>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onActivate ()
+    {
+        super.onActivate ();
+
+        // Only the selected result is shown, there is no need to observe the result page
+        final IBrowser browser = this.model.getBrowser ();
+        if (browser != null)
+            browser.setNumVisibleResults (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        super.onDeactivate ();
+
+        final IBrowser browser = this.model.getBrowser ();
+        if (browser != null)
+            browser.setNumVisibleResults (browser.getNumResults ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onKnobValue (final int index, final int value)
@@ -12,25 +12,88 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to OSC servers. The messages are created once and the same
+ * bundle is sent to all active clients. Newly activated clients need to receive the whole state.
+ * Therefore, while such a client is waiting, all unchanged values are collected as well but only
+ * sent to the new clients, while the other clients only receive the changes.
+ *
+ * The connections to the clients are created during initialization, since the host might not allow
+ * to create them later. The first client is always active. The other clients are activated with
+ * hello and deactivated with goodbye or if they did not repeat their hello within the timeout.
+ * Each client has its own subscriptions.
  *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    /** The maximum number of clients. */
+    public static final int                        MAX_CLIENTS    = 8;
+    /** A client is deactivated if it did not repeat its hello within this time in milliseconds. */
+    public static final long                       CLIENT_TIMEOUT = 60000;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, Object>            oldValues      = new HashMap<> ();
+
+    private final LongSupplier                     clock;
+    private final Map<String, Client>              clients        = new LinkedHashMap<> ();
+    private final List<IOpenSoundControlMessage>   messages       = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage>   dumpMessages   = new ArrayList<> ();
+    private boolean                                isDumping      = false;
+
+
+    /**
+     * A connected client.
+     */
+    private static final class Client
+    {
+        private final IOpenSoundControlClient       connection;
+        private final boolean                       isPermanent;
+        private final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        private boolean                             isActive;
+        private long                                lastHello;
+        private boolean                             needsDump     = true;
+        private boolean                             isDumping     = false;
+
+
+        Client (final IOpenSoundControlClient connection, final boolean isPermanent)
+        {
+            this.connection = connection;
+            this.isPermanent = isPermanent;
+            this.isActive = isPermanent;
+        }
+
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+        /**
+         * Get the messages to which the client has subscribed.
+         *
+         * @param allMessages All messages
+         * @param updateAddress The address which is always sent, might be null
+         * @return The subscribed messages, all messages if there are no subscriptions
+         */
+        List<IOpenSoundControlMessage> select (final List<IOpenSoundControlMessage> allMessages, final String updateAddress)
+        {
+            if (this.subscriptions.isEmpty ())
+                return allMessages;
+            final List<IOpenSoundControlMessage> selected = new ArrayList<> ();
+            for (final IOpenSoundControlMessage message: allMessages)
+            {
+                final String address = message.getAddress ();
+                if (address.equals (updateAddress) || this.subscriptions.isSubscribed (address))
+                    selected.add (message);
+            }
+            return selected;
+        }
+    }
 
 
     /**
@@ -38,15 +101,124 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlConfiguration configuration)
+    {
+        this (host, model, configuration, System::currentTimeMillis);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param configuration The OSC configuration
+     * @param clock The clock for the timeout of the clients, returns milliseconds
+     */
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlConfiguration configuration, final LongSupplier clock)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
+        this.clock = clock;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addClient (final String serverAddress, final int serverPort)
+    {
+        final String key = createKey (serverAddress, serverPort);
+        synchronized (this.messages)
+        {
+            if (this.clients.containsKey (key))
+                return;
+            if (this.clients.size () >= MAX_CLIENTS)
+            {
+                this.host.error ("Could not add OSC client " + key + ". Only " + MAX_CLIENTS + " clients are supported.");
+                return;
+            }
+        }
+
+        this.host.println (String.format ("Connecting to OSC server %s:%d", serverAddress, Integer.valueOf (serverPort)));
+        try
+        {
+            final IOpenSoundControlClient connection = this.host.connectToOSCServer (serverAddress, serverPort);
+            synchronized (this.messages)
+            {
+                // The first client is always active
+                this.clients.put (key, new Client (connection, this.clients.isEmpty ()));
+            }
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not connect to OSC server " + key + ".", ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hello (final String serverAddress, final int serverPort)
+    {
+        synchronized (this.messages)
+        {
+            final Client client = this.clients.get (createKey (serverAddress, serverPort));
+            if (client == null)
+                return false;
+            client.lastHello = this.clock.getAsLong ();
+            if (!client.isActive)
+            {
+                client.isActive = true;
+                client.needsDump = true;
+            }
+            return true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean goodbye (final String serverAddress, final int serverPort)
+    {
+        synchronized (this.messages)
+        {
+            final Client client = this.clients.get (createKey (serverAddress, serverPort));
+            if (client == null || client.isPermanent)
+                return false;
+            deactivate (client);
+            return true;
+        }
+    }
+
+
+    /**
+     * Call before the values are written. Deactivates clients which timed out. If there are newly
+     * activated clients, all values are collected to send them the whole state.
+     */
+    protected void updateClients ()
+    {
+        synchronized (this.messages)
+        {
+            final long now = this.clock.getAsLong ();
+            this.isDumping = false;
+            for (final Client client: this.clients.values ())
+            {
+                if (client.isActive && !client.isPermanent && now - client.lastHello > CLIENT_TIMEOUT)
+                {
+                    this.host.println ("OSC client timed out.");
+                    deactivate (client);
+                }
+
+                if (client.isActive && client.needsDump)
+                {
+                    client.isDumping = true;
+                    this.isDumping = true;
+                }
+            }
+        }
     }
 
 
@@ -67,28 +239,59 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     public void flush (final String updateAddress)
     {
-        if (this.messages.isEmpty ())
-            return;
-
         synchronized (this.messages)
         {
-            try
+            final boolean hasChanges = !this.messages.isEmpty ();
+            if (!hasChanges && this.dumpMessages.isEmpty ())
+                return;
+
+            if (updateAddress != null)
             {
-                if (updateAddress != null)
-                {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
-                }
+                this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
+                this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
+            }
 
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+            // New clients receive the changed and the unchanged values
+            List<IOpenSoundControlMessage> allMessages = this.messages;
+            if (this.isDumping)
+            {
+                allMessages = new ArrayList<> (this.messages.size () + this.dumpMessages.size ());
+                allMessages.addAll (this.messages);
+                allMessages.addAll (updateAddress == null ? allMessages.size () : allMessages.size () - 1, this.dumpMessages);
             }
-            catch (final IOException ex)
+
+            this.logMessages (allMessages);
+
+            for (final Client client: this.clients.values ())
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                if (!client.isActive)
+                    continue;
+
+                try
+                {
+                    if (client.isDumping)
+                    {
+                        client.connection.sendBundle (client.select (allMessages, updateAddress));
+                        client.isDumping = false;
+                        client.needsDump = false;
+                    }
+                    else if (hasChanges)
+                    {
+                        final List<IOpenSoundControlMessage> selected = client.select (this.messages, updateAddress);
+                        // Only the update messages are left
+                        if (selected.size () > (updateAddress == null ? 0 : 2))
+                            client.connection.sendBundle (selected);
+                    }
+                }
+                catch (final IOException ex)
+                {
+                    this.model.getHost ().error ("Could not send UDP message.", ex);
+                }
             }
 
             this.messages.clear ();
+            this.dumpMessages.clear ();
+            this.isDumping = false;
         }
     }
 
@@ -119,6 +322,50 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final String serverAddress, final int serverPort, final String prefix)
+    {
+        synchronized (this.messages)
+        {
+            // Send the current values of the new subscription with the next flush
+            final Client client = this.clients.get (createKey (serverAddress, serverPort));
+            if (client != null && client.subscriptions.subscribe (prefix))
+                client.needsDump = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final String serverAddress, final int serverPort, final String prefix)
+    {
+        synchronized (this.messages)
+        {
+            // Without subscriptions all values are sent again
+            final Client client = this.clients.get (createKey (serverAddress, serverPort));
+            if (client != null && client.subscriptions.unsubscribe (prefix) && client.subscriptions.isEmpty ())
+                client.needsDump = true;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String prefix)
+    {
+        synchronized (this.messages)
+        {
+            for (final Client client: this.clients.values ())
+            {
+                if (client.isActive && client.subscriptions.isAnySubscribed (prefix))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
@@ -191,7 +438,13 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        // Neither cache nor send values which no client is interested in
+        if (!this.isSubscribedByAnyClient (address))
+            return;
+
+        // Unchanged values are still needed for clients which did not receive the whole state yet
+        final boolean isChanged = dump || !compareValues (this.oldValues.get (cacheAddress), testValue);
+        if (!isChanged && !this.isDumping)
             return;
         this.oldValues.put (cacheAddress, testValue);
 
@@ -206,19 +459,59 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
         synchronized (this.messages)
         {
-            this.messages.add (this.host.createOSCMessage (address, list));
+            final IOpenSoundControlMessage message = this.host.createOSCMessage (address, list);
+            if (isChanged)
+                this.messages.add (message);
+            else
+                this.dumpMessages.add (message);
         }
     }
 
 
     /**
-     * Check if the client is connected.
+     * Check if at least one client is active.
      *
      * @return True if connected
      */
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        synchronized (this.messages)
+        {
+            for (final Client client: this.clients.values ())
+            {
+                if (client.isActive)
+                    return true;
+            }
+            return false;
+        }
+    }
+
+
+    private boolean isSubscribedByAnyClient (final String address)
+    {
+        synchronized (this.messages)
+        {
+            for (final Client client: this.clients.values ())
+            {
+                if (client.isActive && client.subscriptions.isSubscribed (address))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+
+    private static void deactivate (final Client client)
+    {
+        client.isActive = false;
+        client.isDumping = false;
+        client.subscriptions.clear ();
+    }
+
+
+    private static String createKey (final String serverAddress, final int serverPort)
+    {
+        return serverAddress.trim () + ":" + serverPort;
     }
 
 
@@ -96,4 +96,66 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Connect to an OSC server (a client of the extension) to which messages are sent. Call only
+     * during initialization, since the host might not support to create connections later on. The
+     * first client is always active, the others after their hello.
+     *
+     * @param serverAddress The address of the server
+     * @param serverPort The port of the server
+     */
+    void addClient (String serverAddress, int serverPort);
+
+
+    /**
+     * Activate a client, which then receives the whole state. A client needs to repeat its hello
+     * to stay active.
+     *
+     * @param serverAddress The address of the client
+     * @param serverPort The port of the client
+     * @return False if there is no connection to the client
+     */
+    boolean hello (String serverAddress, int serverPort);
+
+
+    /**
+     * Deactivate a client and remove its subscriptions.
+     *
+     * @param serverAddress The address of the client
+     * @param serverPort The port of the client
+     * @return False if there is no connection to the client or it cannot be deactivated
+     */
+    boolean goodbye (String serverAddress, int serverPort);
+
+
+    /**
+     * Subscribe a client to all addresses which start with the given prefix. As long as a client
+     * has no subscriptions it receives all addresses.
+     *
+     * @param serverAddress The address of the client
+     * @param serverPort The port of the client
+     * @param prefix The address prefix, e.g. /track
+     */
+    void subscribe (String serverAddress, int serverPort, String prefix);
+
+
+    /**
+     * Remove the subscription of an address prefix of a client.
+     *
+     * @param serverAddress The address of the client
+     * @param serverPort The port of the client
+     * @param prefix The address prefix, e.g. /track
+     */
+    void unsubscribe (String serverAddress, int serverPort, String prefix);
+
+
+    /**
+     * Test if any active client is subscribed to an address which starts with the given prefix.
+     *
+     * @param prefix The address prefix, e.g. /track
+     * @return True if at least one address below the prefix needs to be sent
+     */
+    boolean isSubscribed (String prefix);
 }
@@ -0,0 +1,236 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * The OSC addresses to which a client has subscribed. A subscription is an address prefix, which
+ * includes all addresses below it, e.g. /track includes /track/1/volume but not /trackBank. The
+ * prefixes are stored in a trie of the characters of the addresses, which allows to test an
+ * address without creating any objects. If there are no subscriptions at all, all addresses are
+ * subscribed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlSubscriptions
+{
+    private final Node root = new Node ();
+    private int        size = 0;
+
+
+    /**
+     * A node of the trie.
+     */
+    private static final class Node
+    {
+        private char []  keys         = new char [0];
+        private Node []  children     = new Node [0];
+        private boolean  isSubscribed = false;
+        private int      numSubscribed;
+
+
+        Node getChild (final char c)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (this.keys[i] == c)
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node addChild (final char c)
+        {
+            final Node child = this.getChild (c);
+            if (child != null)
+                return child;
+
+            final int length = this.keys.length;
+            final char [] newKeys = new char [length + 1];
+            final Node [] newChildren = new Node [length + 1];
+            System.arraycopy (this.keys, 0, newKeys, 0, length);
+            System.arraycopy (this.children, 0, newChildren, 0, length);
+            newKeys[length] = c;
+            newChildren[length] = new Node ();
+            this.keys = newKeys;
+            this.children = newChildren;
+            return newChildren[length];
+        }
+    }
+
+
+    /**
+     * Subscribe to an address prefix.
+     *
+     * @param prefix The address prefix, e.g. /track
+     * @return True if the prefix was not already subscribed
+     */
+    public synchronized boolean subscribe (final String prefix)
+    {
+        final String key = normalize (prefix);
+        if (this.isSubscribedExactly (key))
+            return false;
+
+        Node node = this.root;
+        node.numSubscribed++;
+        for (int i = 0; i < key.length (); i++)
+        {
+            node = node.addChild (key.charAt (i));
+            node.numSubscribed++;
+        }
+        node.isSubscribed = true;
+        this.size++;
+        return true;
+    }
+
+
+    /**
+     * Remove the subscription of an address prefix. Subscriptions of addresses below the prefix are
+     * not removed.
+     *
+     * @param prefix The address prefix, e.g. /track
+     * @return True if the prefix was subscribed
+     */
+    public synchronized boolean unsubscribe (final String prefix)
+    {
+        final String key = normalize (prefix);
+        if (!this.isSubscribedExactly (key))
+            return false;
+
+        Node node = this.root;
+        node.numSubscribed--;
+        for (int i = 0; i < key.length (); i++)
+        {
+            node = node.getChild (key.charAt (i));
+            node.numSubscribed--;
+        }
+        node.isSubscribed = false;
+        this.size--;
+        return true;
+    }
+
+
+    /**
+     * Remove all subscriptions.
+     */
+    public synchronized void clear ()
+    {
+        this.root.keys = new char [0];
+        this.root.children = new Node [0];
+        this.root.isSubscribed = false;
+        this.root.numSubscribed = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Are there any subscriptions?
+     *
+     * @return True if at least one prefix is subscribed
+     */
+    public synchronized boolean isEmpty ()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Test if an address should be sent, which is the case if one of the subscribed prefixes
+     * matches the beginning of the address.
+     *
+     * @param address The OSC address, e.g. /track/1/volume
+     * @return True if there are no subscriptions or the address is subscribed
+     */
+    public synchronized boolean isSubscribed (final String address)
+    {
+        if (this.size == 0)
+            return true;
+
+        Node node = this.root;
+        final int length = address.length ();
+        for (int i = 0; i < length; i++)
+        {
+            final char c = address.charAt (i);
+            if (node.isSubscribed && c == '/')
+                return true;
+            node = node.getChild (c);
+            if (node == null || node.numSubscribed == 0)
+                return false;
+        }
+        return node.isSubscribed;
+    }
+
+
+    /**
+     * Test if any address which starts with the given prefix is subscribed. This is the case if a
+     * subscription matches the prefix or if there is a subscription to a part of it.
+     *
+     * @param prefix The address prefix, e.g. /track
+     * @return True if there are no subscriptions or any address below the prefix is subscribed
+     */
+    public synchronized boolean isAnySubscribed (final String prefix)
+    {
+        if (this.size == 0)
+            return true;
+
+        final String key = normalize (prefix);
+        Node node = this.root;
+        for (int i = 0; i < key.length (); i++)
+        {
+            final char c = key.charAt (i);
+            if (node.isSubscribed && c == '/')
+                return true;
+            node = node.getChild (c);
+            if (node == null || node.numSubscribed == 0)
+                return false;
+        }
+
+        // Either the prefix itself or an address below it is subscribed, but not e.g. /trackBank
+        // for the prefix /track
+        if (node.isSubscribed)
+            return true;
+        final Node separator = node.getChild ('/');
+        return separator != null && separator.numSubscribed > 0;
+    }
+
+
+    /**
+     * Test if an address is equal to the prefix or below it.
+     *
+     * @param prefix The address prefix, e.g. /track
+     * @param address The OSC address, e.g. /track/1/volume
+     * @return True if the address matches the prefix
+     */
+    public static boolean matches (final String prefix, final String address)
+    {
+        final String key = normalize (prefix);
+        return address.startsWith (key) && (address.length () == key.length () || address.charAt (key.length ()) == '/');
+    }
+
+
+    private boolean isSubscribedExactly (final String key)
+    {
+        Node node = this.root;
+        for (int i = 0; i < key.length () && node != null; i++)
+            node = node.getChild (key.charAt (i));
+        return node != null && node.isSubscribed;
+    }
+
+
+    /**
+     * Ensures that the prefix starts with a slash and does not end with one. The root address is
+     * converted to an empty string.
+     *
+     * @param prefix The prefix
+     * @return The normalized prefix
+     */
+    private static String normalize (final String prefix)
+    {
+        String key = prefix.trim ();
+        while (key.endsWith ("/"))
+            key = key.substring (0, key.length () - 1);
+        return key.isEmpty () || key.startsWith ("/") ? key : "/" + key;
+    }
+}
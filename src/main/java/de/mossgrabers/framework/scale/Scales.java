@@ -6,6 +6,7 @@ package de.mossgrabers.framework.scale;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -121,6 +122,12 @@ public class Scales
 
     private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
     private final Map<Scale, ChordGrid> chordGrids               = new EnumMap<> (Scale.class);
+    private final Map<Integer, int []>  noteMatrixCache          = new HashMap<> ();
+    private final boolean []            inScaleTable             = new boolean [128];
+    private final int []                scaleIndexTable          = new int [128];
+    private final int []                nearestNoteTable         = new int [128];
+    private final String []             colorTable               = new String [128];
+    private int                         lookupTablesKey          = -1;
     private final IValueChanger         valueChanger;
 
 
@@ -724,12 +731,21 @@ public class Scales
         final int midiNote = noteMap[note];
         if (midiNote == -1)
             return Scales.SCALE_COLOR_OFF;
+        if (midiNote < 0 || midiNote > 127)
+            return this.calcColor (midiNote);
+        this.updateLookupTables ();
+        return this.colorTable[midiNote];
+    }
+
+
+    private String calcColor (final int midiNote)
+    {
         final int noteInOctave = this.toNoteInOctave (midiNote);
         if (noteInOctave == 0)
             return Scales.SCALE_COLOR_OCTAVE;
         if (!this.isChromatic ())
             return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale (noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+        return this.calcIsInScale (noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
     }
 
 
@@ -754,6 +770,16 @@ public class Scales
      * @return True if it is part of the scale
      */
     public boolean isInScale (final int noteInOctave)
+    {
+        if (noteInOctave < 0 || noteInOctave > 11)
+            return false;
+        this.updateLookupTables ();
+        // Notes in the octave are relative to the base note
+        return this.inScaleTable[noteInOctave + Scales.OFFSETS[this.scaleOffset]];
+    }
+
+
+    private boolean calcIsInScale (final int noteInOctave)
     {
         for (final int interval: this.selectedScale.getIntervals ())
         {
@@ -771,6 +797,15 @@ public class Scales
      * @return The closest MIDI note in the scale (0-127)
      */
     public int getNearestNoteInScale (final int midiNote)
+    {
+        if (midiNote < 0 || midiNote > 127)
+            return this.calcNearestNoteInScale (midiNote);
+        this.updateLookupTables ();
+        return this.nearestNoteTable[midiNote];
+    }
+
+
+    private int calcNearestNoteInScale (final int midiNote)
     {
         final int noteInOctave = this.toNoteInOctave (midiNote);
 
@@ -800,6 +835,15 @@ public class Scales
      * @return The index of the note or -1 if the note is out of scale
      */
     public int getScaleIndex (final int midiNote)
+    {
+        if (midiNote < 0 || midiNote > 127)
+            return this.calcScaleIndex (midiNote);
+        this.updateLookupTables ();
+        return this.scaleIndexTable[midiNote];
+    }
+
+
+    private int calcScaleIndex (final int midiNote)
     {
         final int noteInOctave = this.toNoteInOctave (midiNote);
 
@@ -813,6 +857,28 @@ public class Scales
     }
 
 
+    /**
+     * Rebuild the lookup tables for all MIDI notes if the scale, the base note or the chromatic
+     * setting has changed since the last call.
+     */
+    private void updateLookupTables ()
+    {
+        final int key = this.selectedScale.ordinal () << 5 | this.scaleOffset << 1 | (this.chromaticOn ? 1 : 0);
+        if (key == this.lookupTablesKey)
+            return;
+        this.lookupTablesKey = key;
+
+        for (int midiNote = 0; midiNote < 128; midiNote++)
+        {
+            final int scaleIndex = this.calcScaleIndex (midiNote);
+            this.scaleIndexTable[midiNote] = scaleIndex;
+            this.inScaleTable[midiNote] = scaleIndex >= 0;
+            this.nearestNoteTable[midiNote] = this.calcNearestNoteInScale (midiNote);
+            this.colorTable[midiNote] = this.calcColor (midiNote);
+        }
+    }
+
+
     /**
      * Calculate the thirds on top of the given MIDI note. Respects the current octave, scale and
      * scale base.
@@ -856,13 +922,15 @@ public class Scales
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The matrices are cached for the combination of scale, layout,
+     * octave and scale offset, therefore the returned matrix is shared and must not be modified.
      *
      * @return The matrix
      */
     public int [] getNoteMatrix ()
     {
-        return this.getNoteMatrix (this.getActiveMatrix ());
+        final int key = this.selectedScale.ordinal () << 16 | this.scaleLayout.ordinal () << 11 | (this.chromaticOn ? 1 : 0) << 10 | this.octave + 16 << 4 | this.scaleOffset;
+        return this.noteMatrixCache.computeIfAbsent (Integer.valueOf (key), k -> this.getNoteMatrix (this.getActiveMatrix ()));
     }
 
 
@@ -1164,6 +1232,7 @@ public class Scales
     {
         this.scaleGrids.clear ();
         this.chordGrids.clear ();
+        this.noteMatrixCache.clear ();
         for (final Scale scale: Scale.values ())
         {
             this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.scaleShift, this.semitoneShift));
@@ -1191,6 +1260,7 @@ public class Scales
     public void setStartNote (final int startNote)
     {
         this.startNote = startNote;
+        this.noteMatrixCache.clear ();
     }
 
 
@@ -1213,6 +1283,7 @@ public class Scales
     public void setEndNote (final int endNote)
     {
         this.endNote = endNote;
+        this.noteMatrixCache.clear ();
     }
 
 
@@ -0,0 +1,45 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A reusable buffer for a text which is formatted repeatedly, e.g. the play position which is
+ * formatted on every flush. The text is written into the builder and only converted into a new
+ * string if it differs from the previous one. Therefore, an unchanged text returns the identical
+ * string instance, which allows to detect changes with a fast comparison and does not create any
+ * objects.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FormattedText
+{
+    private final StringBuilder builder = new StringBuilder (32);
+    private String              text    = "";
+
+
+    /**
+     * Clears the builder and returns it to write the new text.
+     *
+     * @return The empty builder
+     */
+    public StringBuilder start ()
+    {
+        this.builder.setLength (0);
+        return this.builder;
+    }
+
+
+    /**
+     * Get the text which was written into the builder.
+     *
+     * @return The text, the same instance as before if the text did not change
+     */
+    public String get ()
+    {
+        if (!this.text.contentEquals (this.builder))
+            this.text = this.builder.toString ();
+        return this.text;
+    }
+}
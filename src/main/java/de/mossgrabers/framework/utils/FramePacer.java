@@ -0,0 +1,238 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Sends display frames to a device with backpressure. At most one frame is in transfer and one
+ * frame is pending. If a new frame arrives while another one is still pending, the pending one is
+ * dropped (latest frame wins). Furthermore, transfers are paced to not exceed a maximum number of
+ * frames per second. Counts the sent and dropped frames as well as the transfer latency.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FramePacer
+{
+    private final ScheduledExecutorService  executor;
+    private final LongSupplier              clock;
+    private final AtomicReference<Runnable> pendingFrame  = new AtomicReference<> ();
+    private final AtomicBoolean             isScheduled   = new AtomicBoolean (false);
+
+    private final AtomicLong                sentFrames    = new AtomicLong ();
+    private final AtomicLong                droppedFrames = new AtomicLong ();
+    private final AtomicLong                totalLatency  = new AtomicLong ();
+    private final AtomicLong                maxLatency    = new AtomicLong ();
+    private final AtomicLong                lastLatency   = new AtomicLong ();
+
+    private final AtomicLong                nextFrameTime = new AtomicLong ();
+    private volatile long                   minFrameInterval;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxFPS The maximum number of frames to send per second
+     */
+    public FramePacer (final int maxFPS)
+    {
+        this (maxFPS, Executors.newSingleThreadScheduledExecutor (), System::nanoTime);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxFPS The maximum number of frames to send per second
+     * @param executor The executor which runs the transfers, it is shutdown with the pacer
+     * @param clock Provides the current time in nanoseconds
+     */
+    public FramePacer (final int maxFPS, final ScheduledExecutorService executor, final LongSupplier clock)
+    {
+        this.executor = executor;
+        this.clock = clock;
+        this.setMaxFPS (maxFPS);
+    }
+
+
+    /**
+     * Set the maximum number of frames to send per second.
+     *
+     * @param maxFPS The maximum number of frames per second, values below 1 are set to 1
+     */
+    public void setMaxFPS (final int maxFPS)
+    {
+        this.minFrameInterval = TimeUnit.SECONDS.toNanos (1) / Math.max (1, maxFPS);
+    }
+
+
+    /**
+     * Submit a new frame for transfer. If there is already a frame waiting for transfer, it is
+     * replaced and counted as dropped.
+     *
+     * @param frameTransfer The code which transfers the frame to the device
+     */
+    public void submit (final Runnable frameTransfer)
+    {
+        if (this.executor.isShutdown ())
+            return;
+
+        if (this.pendingFrame.getAndSet (frameTransfer) != null)
+            this.droppedFrames.incrementAndGet ();
+
+        this.scheduleTransfer ();
+    }
+
+
+    /**
+     * Stops all transfers. Waits for the currently running transfer to end. Pending frames are
+     * discarded.
+     *
+     * @param timeout The maximum time to wait in milliseconds
+     * @return True if the executor terminated in the given time
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean shutdown (final long timeout) throws InterruptedException
+    {
+        this.pendingFrame.set (null);
+        this.executor.shutdown ();
+        return this.executor.awaitTermination (timeout, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Check if the pacer is shutdown.
+     *
+     * @return True if shutdown
+     */
+    public boolean isShutdown ()
+    {
+        return this.executor.isShutdown ();
+    }
+
+
+    /**
+     * Get the number of frames which were transferred.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were dropped since a newer frame arrived before they could be
+     * transferred.
+     *
+     * @return The number of frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames.get ();
+    }
+
+
+    /**
+     * Get the duration of the last transfer.
+     *
+     * @return The duration in milliseconds
+     */
+    public double getLastLatency ()
+    {
+        return this.lastLatency.get () / 1000000.0;
+    }
+
+
+    /**
+     * Get the longest duration of a transfer.
+     *
+     * @return The duration in milliseconds
+     */
+    public double getMaxLatency ()
+    {
+        return this.maxLatency.get () / 1000000.0;
+    }
+
+
+    /**
+     * Get the average duration of all transfers.
+     *
+     * @return The duration in milliseconds
+     */
+    public double getAverageLatency ()
+    {
+        final long sent = this.sentFrames.get ();
+        return sent == 0 ? 0 : this.totalLatency.get () / (double) sent / 1000000.0;
+    }
+
+
+    /**
+     * Formats the statistics for logging.
+     *
+     * @return The formatted statistics
+     */
+    public String getStatistics ()
+    {
+        return String.format ("Sent frames: %d, dropped frames: %d, latency (last/avg/max): %.1f/%.1f/%.1f ms", Long.valueOf (this.getSentFrames ()), Long.valueOf (this.getDroppedFrames ()), Double.valueOf (this.getLastLatency ()), Double.valueOf (this.getAverageLatency ()), Double.valueOf (this.getMaxLatency ()));
+    }
+
+
+    private void scheduleTransfer ()
+    {
+        if (!this.isScheduled.compareAndSet (false, true))
+            return;
+
+        final long delay = Math.max (0, this.nextFrameTime.get () - this.clock.getAsLong ());
+
+        try
+        {
+            this.executor.schedule (this::transfer, delay, TimeUnit.NANOSECONDS);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Shutdown in the meantime
+            this.isScheduled.set (false);
+        }
+    }
+
+
+    private void transfer ()
+    {
+        final Runnable frameTransfer = this.pendingFrame.getAndSet (null);
+        final long start = this.clock.getAsLong ();
+        try
+        {
+            if (frameTransfer != null)
+                frameTransfer.run ();
+        }
+        finally
+        {
+            if (frameTransfer != null)
+            {
+                final long latency = this.clock.getAsLong () - start;
+                this.lastLatency.set (latency);
+                this.totalLatency.addAndGet (latency);
+                this.maxLatency.accumulateAndGet (latency, Math::max);
+                this.sentFrames.incrementAndGet ();
+                this.nextFrameTime.set (start + this.minFrameInterval);
+            }
+
+            // Frames which arrived during the transfer have not been scheduled yet
+            this.isScheduled.set (false);
+            if (this.pendingFrame.get () != null)
+                this.scheduleTransfer ();
+        }
+    }
+}
@@ -5,9 +5,10 @@
 package de.mossgrabers.framework.utils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
@@ -22,17 +23,21 @@ import de.mossgrabers.framework.scale.Scales;
  * used instead on the grid (normally this starts with MIDI note 36, e.g. an 8x8 grid uses [36..99]
  * to make coding independent from the hardware and 3) the note which is active according to the
  * active note map (e.g. different scale layouts). This class uses notes as input from 2) to store
- * pressed states for 3).
+ * pressed states for 3). The pressed keys are stored in two bit masks, which can be updated from the
+ * MIDI input while they are read for the display. Only the pressed state is stored and not the
+ * velocity, so that each update is a single compare-and-set of one mask.
  *
  * @author Jürgen Moßgraber
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private final AtomicLongArray pressedMasks = new AtomicLongArray (2);
+    private final AtomicLong      version      = new AtomicLong ();
+    private final IModel          model;
+    private final Scales          scales;
+    private final IPadGrid        padGrid;
+    private volatile int []       noteMap      = Scales.getEmptyMatrix ();
+    private volatile long []      keyMasks     = new long [256];
 
 
     /**
@@ -47,7 +52,6 @@ public class KeyManager implements INoteObserver
         this.model = model;
         this.scales = scales;
         this.padGrid = padGrid;
-        Arrays.fill (this.pressedKeys, 0);
     }
 
 
@@ -56,7 +60,9 @@ public class KeyManager implements INoteObserver
      */
     public void clearPressedKeys ()
     {
-        Arrays.fill (this.pressedKeys, 0);
+        final long cleared = this.pressedMasks.getAndSet (0, 0) | this.pressedMasks.getAndSet (1, 0);
+        if (cleared != 0)
+            this.version.incrementAndGet ();
     }
 
 
@@ -68,7 +74,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean isKeyPressed (final int key)
     {
-        return this.pressedKeys[key] > 0;
+        return (this.pressedMasks.get (key >> 6) & 1L << key) != 0;
     }
 
 
@@ -76,26 +82,42 @@ public class KeyManager implements INoteObserver
      * Set a pressed key.
      *
      * @param key The key to set (this is a MIDI note)
-     * @param velocity The velocity
+     * @param velocity The velocity, 0 releases the key
      */
     public void setKeyPressed (final int key, final int velocity)
     {
-        this.pressedKeys[key] = velocity;
+        final int index = key >> 6;
+        final long bit = 1L << key;
+        long mask;
+        long newMask;
+        do
+        {
+            mask = this.pressedMasks.get (index);
+            newMask = velocity > 0 ? mask | bit : mask & ~bit;
+        } while (!this.pressedMasks.compareAndSet (index, mask, newMask));
+
+        if (mask != newMask)
+            this.version.incrementAndGet ();
     }
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Set all keys (pads) to which the given note is mapped, since the note can be present multiple
+     * times.
      *
-     * @param key The key to set (this is a MIDI note)
+     * @param note The note of the note map
      * @param velocity The velocity
      */
-    public void setAllKeysPressed (final int key, final int velocity)
+    public void setAllKeysPressed (final int note, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
+        if (note < 0 || note > 127)
+            return;
+
+        final long [] masks = this.keyMasks;
+        for (int index = 0; index < 2; index++)
         {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
+            for (long keys = masks[2 * note + index]; keys != 0; keys &= keys - 1)
+                this.setKeyPressed (index << 6 | Long.numberOfTrailingZeros (keys), velocity);
         }
     }
 
@@ -110,6 +132,18 @@ public class KeyManager implements INoteObserver
     }
 
 
+    /**
+     * Get the version of the pressed keys and the note map. The version changes each time one of
+     * them changes, which allows to skip updates if nothing has changed.
+     *
+     * @return The version
+     */
+    public long getVersion ()
+    {
+        return this.version.get ();
+    }
+
+
     /**
      * Get the currently pressed keys.
      *
@@ -117,12 +151,22 @@ public class KeyManager implements INoteObserver
      */
     public List<Integer> getPressedKeys ()
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
+        // Read both masks again if a key changed in between
+        long version;
+        long lowerKeys;
+        long upperKeys;
+        do
         {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
-        }
+            version = this.version.get ();
+            lowerKeys = this.pressedMasks.get (0);
+            upperKeys = this.pressedMasks.get (1);
+        } while (version != this.version.get ());
+
+        final List<Integer> keys = new ArrayList<> (Long.bitCount (lowerKeys) + Long.bitCount (upperKeys));
+        for (; lowerKeys != 0; lowerKeys &= lowerKeys - 1)
+            keys.add (Integer.valueOf (Long.numberOfTrailingZeros (lowerKeys)));
+        for (; upperKeys != 0; upperKeys &= upperKeys - 1)
+            keys.add (Integer.valueOf (64 + Long.numberOfTrailingZeros (upperKeys)));
         return keys;
     }
 
@@ -134,12 +178,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return this.pressedMasks.get (0) != 0 || this.pressedMasks.get (1) != 0;
     }
 
 
@@ -202,6 +241,17 @@ public class KeyManager implements INoteObserver
      */
     public void setNoteMatrix (final int [] matrix)
     {
+        // Store the keys to which each note is mapped as a bit mask
+        final long [] masks = new long [256];
+        for (int key = 0; key < Math.min (128, matrix.length); key++)
+        {
+            final int note = matrix[key];
+            if (note >= 0 && note < 128)
+                masks[2 * note + (key >> 6)] |= 1L << key;
+        }
+
+        this.keyMasks = masks;
         this.noteMap = matrix;
+        this.version.incrementAndGet ();
     }
 }
@@ -29,6 +29,18 @@ public class StringUtils
         'o'
     };
 
+    private static final char [] DIGIT_TENS      = new char [100];
+    private static final char [] DIGIT_ONES      = new char [100];
+
+    static
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
 
     /**
      * Constructor, private due to help class.
@@ -428,7 +440,7 @@ public class StringUtils
      */
     public static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        return appendMeasures (new StringBuilder (16), quartersPerMeasure, beats, startOffset, includeFrames).toString ();
     }
 
 
@@ -444,7 +456,7 @@ public class StringUtils
      */
     public static String formatMeasuresLong (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%03d.%d.%d", "%d.%d.%d:%02d");
+        return appendMeasuresLong (new StringBuilder (16), quartersPerMeasure, beats, startOffset, includeFrames).toString ();
     }
 
 
@@ -458,12 +470,13 @@ public class StringUtils
      */
     public static String formatTime (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        return appendTime (new StringBuilder (16), tempo, beats, includeFrames).toString ();
     }
 
 
     /**
-     * Format the given time as minutes.seconds / minutes.seconds.millis. Padded to 3 / 2 digits.
+     * Format the given time as hours.minutes.seconds / hours.minutes.seconds.millis. Padded to 2 / 3
+     * digits.
      *
      * @param tempo The tempo
      * @param beats The beats to format as time
@@ -472,11 +485,122 @@ public class StringUtils
      */
     public static String formatTimeLong (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%02d.%02d.%02d", "%d.%02d.%02d:%03d");
+        return appendTimeLong (new StringBuilder (16), tempo, beats, includeFrames).toString ();
+    }
+
+
+    /**
+     * Same as formatMeasures but appends the text to the given builder instead of creating a new
+     * string.
+     *
+     * @param builder Where to append the text
+     * @param quartersPerMeasure The number of quarters of a measure
+     * @param beats The beats to format
+     * @param startOffset An offset that is added to the measure, quarter and eights values
+     * @param includeFrames Add the frames (ticks) if true
+     * @return The builder
+     */
+    public static StringBuilder appendMeasures (final StringBuilder builder, final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
+    {
+        return appendMeasures (builder, quartersPerMeasure, beats, startOffset, includeFrames, 1, 3);
+    }
+
+
+    /**
+     * Same as formatMeasuresLong but appends the text to the given builder instead of creating a
+     * new string.
+     *
+     * @param builder Where to append the text
+     * @param quartersPerMeasure The number of quarters of a measure
+     * @param beats The beats to format
+     * @param startOffset An offset that is added to the measure, quarter and eights values
+     * @param includeFrames Add the frames (ticks) if true
+     * @return The builder
+     */
+    public static StringBuilder appendMeasuresLong (final StringBuilder builder, final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
+    {
+        // The measure is only padded if the frames are not displayed
+        return appendMeasures (builder, quartersPerMeasure, beats, startOffset, includeFrames, includeFrames ? 1 : 3, 2);
+    }
+
+
+    /**
+     * Same as formatTime but appends the text to the given builder instead of creating a new
+     * string.
+     *
+     * @param builder Where to append the text
+     * @param tempo The tempo
+     * @param beats The beats to format as time
+     * @param includeFrames Add the frames (ticks) if true
+     * @return The builder
+     */
+    public static StringBuilder appendTime (final StringBuilder builder, final double tempo, final double beats, final boolean includeFrames)
+    {
+        return appendTime (builder, tempo, beats, includeFrames, 1);
+    }
+
+
+    /**
+     * Same as formatTimeLong but appends the text to the given builder instead of creating a new
+     * string.
+     *
+     * @param builder Where to append the text
+     * @param tempo The tempo
+     * @param beats The beats to format as time
+     * @param includeFrames Add the frames (ticks) if true
+     * @return The builder
+     */
+    public static StringBuilder appendTimeLong (final StringBuilder builder, final double tempo, final double beats, final boolean includeFrames)
+    {
+        return appendTime (builder, tempo, beats, includeFrames, 2);
+    }
+
+
+    /**
+     * Append a number padded with zeros to the given width. Same as the %0nd format specifier of
+     * String.format but without creating any objects.
+     *
+     * @param builder Where to append the number
+     * @param number The number to append
+     * @param width The minimum number of characters including a minus sign
+     * @return The builder
+     */
+    public static StringBuilder appendNumber (final StringBuilder builder, final int number, final int width)
+    {
+        long value = number;
+        int padding = width;
+        if (value < 0)
+        {
+            builder.append ('-');
+            value = -value;
+            padding--;
+        }
+
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10)
+            digits++;
+        for (int i = digits; i < padding; i++)
+            builder.append ('0');
+
+        // Write the digits in reverse order at the end of the builder
+        final int end = builder.length () + digits;
+        builder.setLength (end);
+        int pos = end;
+        while (value >= 100)
+        {
+            final int twoDigits = (int) (value % 100);
+            value /= 100;
+            builder.setCharAt (--pos, DIGIT_ONES[twoDigits]);
+            builder.setCharAt (--pos, DIGIT_TENS[twoDigits]);
+        }
+        builder.setCharAt (--pos, DIGIT_ONES[(int) value]);
+        if (value >= 10)
+            builder.setCharAt (--pos, DIGIT_TENS[(int) value]);
+        return builder;
     }
 
 
-    private static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final String shortFormat, final String longFormat)
+    private static StringBuilder appendMeasures (final StringBuilder builder, final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final int measureWidth, final int framesWidth)
     {
         final int measure = (int) Math.floor (beats / quartersPerMeasure);
         double t = beats - measure * quartersPerMeasure;
@@ -484,16 +608,19 @@ public class StringUtils
         t = t - quarters; // *1
         final int eights = (int) Math.floor (t / 0.25);
 
+        appendNumber (builder, measure + startOffset, measureWidth).append ('.');
+        appendNumber (builder, quarters + startOffset, 1).append ('.');
+        appendNumber (builder, eights + startOffset, 1);
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset));
+            return builder;
 
         t = t - eights * 0.25;
         final int frames = (int) Math.floor (t / 0.25 * 100.0);
-        return String.format (longFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset), Integer.valueOf (frames));
+        return appendNumber (builder.append (':'), frames, framesWidth);
     }
 
 
-    private static String formatTime (final double tempo, final double beats, final boolean includeFrames, final String shortFormat, final String longFormat)
+    private static StringBuilder appendTime (final StringBuilder builder, final double tempo, final double beats, final boolean includeFrames, final int width)
     {
         final double time = beats * 60.0 / tempo;
 
@@ -503,11 +630,15 @@ public class StringUtils
         t = (t - minutes) / 60.0;
         final int hours = (int) Math.floor (t);
 
+        // The hours are only padded if the frames are not displayed
+        appendNumber (builder, hours, includeFrames ? 1 : width).append ('.');
+        appendNumber (builder, minutes, width).append ('.');
+        appendNumber (builder, seconds, width);
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (minutes), Integer.valueOf (seconds));
+            return builder;
 
         final int millis = (int) ((time - ((hours * 60 + minutes) * 60 + seconds)) * 1000);
-        return String.format (longFormat, Integer.valueOf (hours), Integer.valueOf (minutes), Integer.valueOf (seconds), Integer.valueOf (millis));
+        return appendNumber (builder.append (':'), millis, 3);
     }
 
 
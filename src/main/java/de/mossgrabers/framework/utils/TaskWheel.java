@@ -0,0 +1,341 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Schedules delayed tasks of a control surface. Instead of starting a timer of the host for each
+ * task, the tasks are sorted by their deadline into the slots of a hashed timing wheel. The wheel
+ * is advanced on each flush of the surface and by a single timer of the host, which is only
+ * started for the next deadline. Tasks can be cancelled. A task can be scheduled with a key, which
+ * replaces a still pending task with the same key, e.g. to restart a delay. All methods must be
+ * called from the thread of the host.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TaskWheel
+{
+    /** The resolution of the wheel in milliseconds. */
+    public static final int         TICK_MILLIS = 1;
+
+    private static final int        NUM_SLOTS   = 1024;
+    private static final int        SLOT_MASK   = NUM_SLOTS - 1;
+
+    private final IHost             host;
+    private final LongSupplier      clock;
+    private final Task []           slots       = new Task [NUM_SLOTS];
+    private final Map<Object, Task> keyedTasks  = new HashMap<> ();
+    private int                     size        = 0;
+    private long                    currentTick;
+    private long                    wakeupTick  = Long.MAX_VALUE;
+
+
+    /**
+     * A scheduled task.
+     */
+    public final class Task
+    {
+        private final Object   key;
+        private final Runnable callback;
+        private final long     deadlineTick;
+        private Task           previous;
+        private Task           next;
+        private boolean        isPending = true;
+
+
+        private Task (final Object key, final Runnable callback, final long deadlineTick)
+        {
+            this.key = key;
+            this.callback = callback;
+            this.deadlineTick = deadlineTick;
+        }
+
+
+        /**
+         * Cancel the task. Nothing happens if it was already executed or cancelled.
+         */
+        public void cancel ()
+        {
+            TaskWheel.this.remove (this);
+        }
+
+
+        /**
+         * Is the task still waiting for its execution?
+         *
+         * @return True if it is neither executed nor cancelled
+         */
+        public boolean isPending ()
+        {
+            return this.isPending;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for the timer which advances the wheel
+     */
+    public TaskWheel (final IHost host)
+    {
+        this (host, System::currentTimeMillis);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for the timer which advances the wheel
+     * @param clock Provides the current time in milliseconds
+     */
+    public TaskWheel (final IHost host, final LongSupplier clock)
+    {
+        this.host = host;
+        this.clock = clock;
+        this.currentTick = clock.getAsLong () / TICK_MILLIS;
+    }
+
+
+    /**
+     * Schedule a task.
+     *
+     * @param callback The code to execute
+     * @param delay The delay in milliseconds
+     * @return The task, which can be used to cancel it
+     */
+    public Task schedule (final Runnable callback, final long delay)
+    {
+        return this.schedule (null, callback, delay);
+    }
+
+
+    /**
+     * Schedule a task. A pending task with the same key is cancelled.
+     *
+     * @param key The key which identifies the task, may be null
+     * @param callback The code to execute
+     * @param delay The delay in milliseconds
+     * @return The task, which can be used to cancel it
+     */
+    public Task schedule (final Object key, final Runnable callback, final long delay)
+    {
+        if (key != null)
+            this.cancel (key);
+
+        // Round up to not execute the task too early
+        final long deadline = this.clock.getAsLong () + Math.max (0, delay);
+        final long deadlineTick = Math.max (this.currentTick + 1, (deadline + TICK_MILLIS - 1) / TICK_MILLIS);
+        final Task task = new Task (key, callback, deadlineTick);
+
+        final int index = (int) (deadlineTick & SLOT_MASK);
+        task.next = this.slots[index];
+        if (task.next != null)
+            task.next.previous = task;
+        this.slots[index] = task;
+        if (key != null)
+            this.keyedTasks.put (key, task);
+        this.size++;
+
+        this.requestWakeup (deadlineTick);
+        return task;
+    }
+
+
+    /**
+     * Cancel the pending task with the given key.
+     *
+     * @param key The key of the task
+     * @return True if a task was pending
+     */
+    public boolean cancel (final Object key)
+    {
+        final Task task = this.keyedTasks.get (key);
+        if (task == null)
+            return false;
+        this.remove (task);
+        return true;
+    }
+
+
+    /**
+     * Is a task with the given key waiting for its execution?
+     *
+     * @param key The key of the task
+     * @return True if pending
+     */
+    public boolean isPending (final Object key)
+    {
+        return this.keyedTasks.containsKey (key);
+    }
+
+
+    /**
+     * Get the number of pending tasks.
+     *
+     * @return The number of tasks
+     */
+    public int size ()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Execute all tasks whose deadline has passed.
+     */
+    public void advance ()
+    {
+        final long nowTick = this.clock.getAsLong () / TICK_MILLIS;
+        if (this.size == 0)
+        {
+            this.currentTick = Math.max (this.currentTick, nowTick);
+            return;
+        }
+
+        // After a longer pause the slots are not visited in the order of the deadlines
+        if (nowTick - this.currentTick > NUM_SLOTS)
+        {
+            this.currentTick = nowTick;
+            this.executeDueTasks (nowTick);
+            return;
+        }
+
+        while (this.currentTick < nowTick && this.size > 0)
+        {
+            this.currentTick++;
+
+            // Start again at the head after each execution since the task might have changed the
+            // list of the slot
+            final int index = (int) (this.currentTick & SLOT_MASK);
+            Task task = this.slots[index];
+            while (task != null)
+            {
+                if (task.deadlineTick > this.currentTick)
+                {
+                    task = task.next;
+                    continue;
+                }
+
+                this.remove (task);
+                this.execute (task);
+                task = this.slots[index];
+            }
+        }
+
+        this.currentTick = Math.max (this.currentTick, nowTick);
+    }
+
+
+    private void executeDueTasks (final long nowTick)
+    {
+        final List<Task> dueTasks = new ArrayList<> ();
+        for (final Task head: this.slots)
+        {
+            for (Task task = head; task != null; task = task.next)
+            {
+                if (task.deadlineTick <= nowTick)
+                    dueTasks.add (task);
+            }
+        }
+        dueTasks.sort (Comparator.comparingLong (task -> task.deadlineTick));
+
+        for (final Task task: dueTasks)
+        {
+            // Might have been cancelled by a previous task
+            if (!task.isPending)
+                continue;
+            this.remove (task);
+            this.execute (task);
+        }
+    }
+
+
+    private void execute (final Task task)
+    {
+        try
+        {
+            task.callback.run ();
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not execute scheduled task.", ex);
+        }
+    }
+
+
+    private void remove (final Task task)
+    {
+        if (!task.isPending)
+            return;
+        task.isPending = false;
+
+        if (task.previous == null)
+            this.slots[(int) (task.deadlineTick & SLOT_MASK)] = task.next;
+        else
+            task.previous.next = task.next;
+        if (task.next != null)
+            task.next.previous = task.previous;
+        task.previous = null;
+        task.next = null;
+
+        if (task.key != null && this.keyedTasks.get (task.key) == task)
+            this.keyedTasks.remove (task.key);
+        this.size--;
+    }
+
+
+    /**
+     * Start a timer of the host for the given tick, if there is no timer which fires earlier.
+     *
+     * @param tick The tick at which the wheel needs to be advanced
+     */
+    private void requestWakeup (final long tick)
+    {
+        if (tick >= this.wakeupTick)
+            return;
+        this.wakeupTick = tick;
+        final long delay = Math.max (1, tick * TICK_MILLIS - this.clock.getAsLong ());
+        this.host.scheduleTask ( () -> this.wakeup (tick), delay);
+    }
+
+
+    /**
+     * Called by the timer of the host. Advances the wheel and starts the timer for the next
+     * deadline.
+     *
+     * @param tick The tick for which the timer was started
+     */
+    private void wakeup (final long tick)
+    {
+        // Timers which were replaced by an earlier one still advance the wheel
+        if (tick != this.wakeupTick)
+        {
+            this.advance ();
+            return;
+        }
+
+        this.wakeupTick = Long.MAX_VALUE;
+        this.advance ();
+
+        long nextTick = Long.MAX_VALUE;
+        for (final Task head: this.slots)
+        {
+            for (Task task = head; task != null; task = task.next)
+                nextTick = Math.min (nextTick, task.deadlineTick);
+        }
+        if (nextTick != Long.MAX_VALUE)
+            this.requestWakeup (nextTick);
+    }
+}
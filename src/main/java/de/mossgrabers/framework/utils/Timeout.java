@@ -4,31 +4,30 @@
 
 package de.mossgrabers.framework.utils;
 
-import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.controller.IControlSurface;
 
 
 /**
  * Support a timeout of a number of millisecond. The timeout can be delayed if an interrupt occurred
- * meanwhile.
+ * meanwhile. The runnable is scheduled on the task wheel of the surface with the timeout as its key.
  *
  * @author Jürgen Moßgraber
  */
 public class Timeout
 {
-    private final IHost host;
-    private final int   timeoutMillis;
-    private long        updateTime;
+    private final IControlSurface<?> surface;
+    private final int                timeoutMillis;
 
 
     /**
      * Constructor.
      *
-     * @param host The host for scheduling
+     * @param surface The surface for scheduling
      * @param timeoutMillis The delay in milliseconds
      */
-    public Timeout (final IHost host, final int timeoutMillis)
+    public Timeout (final IControlSurface<?> surface, final int timeoutMillis)
     {
-        this.host = host;
+        this.surface = surface;
         this.timeoutMillis = timeoutMillis;
     }
 
@@ -41,19 +40,6 @@ public class Timeout
      */
     public void delay (final Runnable runnable)
     {
-        final long nowTime = System.currentTimeMillis ();
-        this.updateTime = nowTime;
-        this.delayExecution (runnable, nowTime);
-    }
-
-
-    private void delayExecution (final Runnable runnable, final long issuedTime)
-    {
-        this.host.scheduleTask ( () -> {
-
-            if (issuedTime == this.updateTime)
-                runnable.run ();
-
-        }, this.timeoutMillis);
+        this.surface.scheduleTask (this, runnable, this.timeoutMillis);
     }
 }
@@ -10,10 +10,9 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractView;
@@ -192,21 +191,28 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
             return AbstractDrumView.COLOR_PAD_SELECTED;
 
         // Exists and active?
-        final IChannel drumPad = drumPadBank.getItem (index);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final DrumPadStates states = drumPadBank.getStates ();
+        if (!states.doesExist (index) || !states.isActivated (index))
             return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
 
         // Muted or soloed?
-        if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
+        if (states.isMutedBySoloOrMute (index))
             return AbstractDrumView.COLOR_PAD_MUTED;
 
-        return this.getPadContentColor (drumPad);
+        return this.getPadContentColor (states, index);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    /**
+     * Get the color of a drum pad which has content.
+     *
+     * @param states The states of the drum pads
+     * @param index The index of the drum pad in the page
+     * @return The color ID
+     */
+    protected String getPadContentColor (final DrumPadStates states, final int index)
     {
-        return DAWColor.getColorID (drumPad.getColor ());
+        return states.getColorID (index);
     }
 
 
@@ -5,9 +5,11 @@
 package de.mossgrabers.framework.view;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -39,6 +41,12 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
     private int                blockNotes   = 0;
 
+    // The colors of the last drawn notes and the state from which they were calculated
+    private final String []    gridColors   = new String [128];
+    private long               gridVersion  = -1;
+    private long               gridState    = -1;
+    private ColorEx            gridTrackColor;
+
 
     /**
      * Constructor.
@@ -104,8 +112,35 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         final ITrack cursorTrack = this.model.getCursorTrack ();
         final int startNote = this.scales.getStartNote ();
         final int endNote = this.scales.getEndNote ();
+
+        // Only look up the pressed keys and scale colors again if something has changed
+        final long version = this.keyManager.getVersion ();
+        final long state = this.getGridState (isKeyboardEnabled, isRecording, startNote, endNote);
+        final ColorEx trackColor = this.useTrackColor && cursorTrack != null ? cursorTrack.getColor () : null;
+        if (version != this.gridVersion || state != this.gridState || !Objects.equals (trackColor, this.gridTrackColor))
+        {
+            for (int i = startNote; i < endNote; i++)
+                this.gridColors[i] = this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i);
+            this.gridVersion = version;
+            this.gridState = state;
+            this.gridTrackColor = trackColor;
+        }
+
         for (int i = startNote; i < endNote; i++)
-            lightGuide.light (i, this.getGridColor (isKeyboardEnabled, isRecording, cursorTrack, i));
+            lightGuide.light (i, this.gridColors[i]);
+    }
+
+
+    private long getGridState (final boolean isKeyboardEnabled, final boolean isRecording, final int startNote, final int endNote)
+    {
+        long state = this.scales.getScale ().ordinal ();
+        state = state << 4 | this.scales.getScaleOffsetIndex ();
+        state = state << 8 | startNote;
+        state = state << 8 | endNote;
+        state = state << 1 | (this.scales.isChromatic () ? 1 : 0);
+        state = state << 1 | (this.surface.getConfiguration ().isTurnOffScalePads () ? 1 : 0);
+        state = state << 1 | (isKeyboardEnabled ? 1 : 0);
+        return state << 1 | (isRecording ? 1 : 0);
     }
 
 
@@ -227,7 +262,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     @Override
     public void updateNoteMapping ()
     {
-        this.surface.scheduleTask ( () -> this.delayedUpdateNoteMapping (this.getMapping ()), 100);
+        this.surface.scheduleTask (NOTE_MAPPING_TASK, () -> this.delayedUpdateNoteMapping (this.getMapping ()), 100);
     }
 
 
@@ -242,17 +277,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
             return EMPTY_TABLE;
 
         final int [] noteMatrix = this.getScaleMatrix ();
+        if (this.blockNotes <= 0)
+            return noteMatrix;
 
-        if (this.blockNotes > 0)
-        {
-            final int startNote = this.scales.getStartNote ();
-            final int endNote = this.scales.getEndNote ();
-            final int length = endNote - startNote - this.blockNotes;
-            System.arraycopy (noteMatrix, startNote, noteMatrix, startNote + this.blockNotes, length);
-            Arrays.fill (noteMatrix, startNote, startNote + 8, -1);
-        }
-
-        return noteMatrix;
+        // The scale matrix is cached and shared, therefore shift a copy
+        final int [] blockedMatrix = noteMatrix.clone ();
+        final int startNote = this.scales.getStartNote ();
+        final int endNote = this.scales.getEndNote ();
+        final int length = endNote - startNote - this.blockNotes;
+        System.arraycopy (noteMatrix, startNote, blockedMatrix, startNote + this.blockNotes, length);
+        Arrays.fill (blockedMatrix, startNote, startNote + 8, -1);
+        return blockedMatrix;
     }
 
 
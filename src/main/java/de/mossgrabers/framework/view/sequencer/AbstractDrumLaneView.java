@@ -4,22 +4,20 @@
 
 package de.mossgrabers.framework.view.sequencer;
 
-import java.util.List;
-import java.util.Optional;
-
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
-import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -203,12 +201,15 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
         // Paint the sequencer steps
         final int hiStep = this.isInXRange (step) ? step % this.clipCols : -1;
         final int offsetY = this.scales.getDrumOffset ();
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
         final NotePosition position = new NotePosition (this.configuration.getMidiEditChannel (), 0, 0);
+        final DrumPadStates states = this.useDawColors && this.primary.hasDrumPads () ? this.primary.getDrumPadBank ().getStates () : null;
         for (int sound = 0; sound < this.lanes; sound++)
         {
             position.setNote (offsetY + sound);
-            final Optional<ColorEx> drumPadColor = this.getPadColor (this.primary, sound);
+            final boolean hasPadColor = states != null && states.doesExist (sound);
+            final String padColorID = hasPadColor ? states.getColorID (sound) : null;
+            final String padColorContID = hasPadColor ? states.getDarkerColorID (sound) : null;
             for (int col = 0; col < this.clipCols; col++)
             {
                 position.setStep (col);
@@ -218,7 +219,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
                 int y = this.lanes - 1 - sound;
                 if (col >= this.numColumns)
                     y += this.lanes;
-                padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, drumPadColor, position.getChannel (), col, position.getNote (), editNotes));
+                padGrid.lightEx (x, y, this.getStepColor (stepInfo, hilite, padColorID, padColorContID, position.getChannel (), col, position.getNote (), editNotes));
             }
         }
     }
@@ -4,7 +4,6 @@
 
 package de.mossgrabers.framework.view.sequencer;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.function.IntUnaryOperator;
 
@@ -16,17 +15,17 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.ButtonEventHandler;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumDevice;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.DrumPadStates;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -502,20 +501,27 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             return AbstractDrumView.COLOR_PAD_SELECTED;
 
         // Exists and active?
-        final IChannel drumPad = drumPadBank.getItem (index);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final DrumPadStates states = drumPadBank.getStates ();
+        if (!states.doesExist (index) || !states.isActivated (index))
             return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
 
         // Muted or soloed?
-        if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
+        if (states.isMutedBySoloOrMute (index))
             return AbstractDrumView.COLOR_PAD_MUTED;
-        return this.getPadContentColor (drumPad);
+        return this.getPadContentColor (states, index);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    /**
+     * Get the color of a drum pad which has content.
+     *
+     * @param states The states of the drum pads
+     * @param index The index of the drum pad in the page
+     * @return The color ID
+     */
+    protected String getPadContentColor (final DrumPadStates states, final int index)
     {
-        return this.useDawColors ? DAWColor.getColorID (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.useDawColors ? states.getColorID (index) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
 
 
@@ -821,7 +827,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final int step = clip.getCurrentStep ();
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
         final IPadGrid padGrid = this.surface.getPadGrid ();
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
         final NotePosition notePosition = new NotePosition (this.configuration.getMidiEditChannel (), 0, noteRow);
 
         for (int col = 0; col < this.sequencerSteps; col++)
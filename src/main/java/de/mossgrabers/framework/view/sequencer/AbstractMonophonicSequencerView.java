@@ -12,9 +12,9 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
 
-import java.util.List;
 import java.util.Optional;
 
 
@@ -64,7 +64,7 @@ public abstract class AbstractMonophonicSequencerView<S extends IControlSurface<
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
         final int channel = this.configuration.getMidiEditChannel ();
         final IPadGrid padGrid = this.surface.getPadGrid ();
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
         final NotePosition notePosition = new NotePosition (channel, 0, 0);
         for (int col = 0; col < this.sequencerSteps; col++)
         {
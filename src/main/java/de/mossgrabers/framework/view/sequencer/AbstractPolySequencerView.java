@@ -5,7 +5,6 @@
 package de.mossgrabers.framework.view.sequencer;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import de.mossgrabers.framework.configuration.Configuration;
@@ -18,6 +17,7 @@ import de.mossgrabers.framework.daw.clip.DefaultStepInfo;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -393,7 +393,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
 
         // Paint the sequencer steps
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
-        final List<NotePosition> editNotes = this.getEditNotes ();
+        final NotePositionSet editNotes = this.getEditNotes ();
         for (int col = 0; col < this.sequencerSteps; col++)
         {
             final IStepInfo stepInfo = this.getStep (clip, col);
@@ -417,7 +417,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
@@ -465,7 +465,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param editNotes The currently edited notes
      * @return The color identifier
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<NotePosition> editNotes)
+    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final NotePositionSet editNotes)
     {
         final int channel = this.configuration.getMidiEditChannel ();
 
@@ -526,13 +526,8 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     }
 
 
-    protected static boolean isChordEdit (final int channel, final int step, final List<NotePosition> editNotes)
+    protected static boolean isChordEdit (final int channel, final int step, final NotePositionSet editNotes)
     {
-        for (final NotePosition editNote: editNotes)
-        {
-            if (editNote.getChannel () == channel && editNote.getStep () == step)
-                return true;
-        }
-        return false;
+        return editNotes.containsStep (channel, step);
     }
 }
\ No newline at end of file
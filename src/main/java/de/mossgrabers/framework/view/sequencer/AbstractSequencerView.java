@@ -4,8 +4,6 @@
 
 package de.mossgrabers.framework.view.sequencer;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import de.mossgrabers.framework.configuration.Configuration;
@@ -17,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.clip.INoteClip;
 import de.mossgrabers.framework.daw.clip.IStepInfo;
 import de.mossgrabers.framework.daw.clip.NotePosition;
+import de.mossgrabers.framework.daw.clip.NotePositionSet;
 import de.mossgrabers.framework.daw.clip.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
@@ -456,22 +455,23 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
 
     /**
-     * Get the position of the notes which are currently selected for editing.
+     * Get the position of the notes which are currently selected for editing. Call it only once
+     * when drawing the grid.
      *
-     * @return THe note positions
+     * @return The note positions, must not be modified
      */
-    protected List<NotePosition> getEditNotes ()
+    protected NotePositionSet getEditNotes ()
     {
         final ModeManager modeManager = this.surface.getModeManager ();
         final IMode mode = modeManager.get (Modes.NOTE);
         if (mode instanceof final INoteEditorMode noteMode)
-            return noteMode.getNoteEditor ().getNotes ();
+            return noteMode.getNoteEditor ().getNoteSet ();
         final IView view = this.surface.getViewManager ().get (Views.NOTE_EDIT_VIEW);
         if (view instanceof final INoteEditorMode noteMode2)
-            return noteMode2.getNoteEditor ().getNotes ();
+            return noteMode2.getNoteEditor ().getNoteSet ();
         if (view instanceof final INoteEditor noteEditor)
-            return noteEditor.getNotes ();
-        return Collections.emptyList ();
+            return noteEditor.getNoteSet ();
+        return NotePositionSet.EMPTY;
     }
 
 
@@ -484,14 +484,9 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param editNotes The currently edited notes
      * @return True if there is a note which is edited
      */
-    protected static boolean isEdit (final int channel, final int step, final int note, final List<NotePosition> editNotes)
+    protected static boolean isEdit (final int channel, final int step, final int note, final NotePositionSet editNotes)
     {
-        for (final NotePosition editNote: editNotes)
-        {
-            if (editNote.getChannel () == channel && editNote.getStep () == step && editNote.getNote () == note)
-                return true;
-        }
-        return false;
+        return editNotes.contains (channel, step, note);
     }
 
 
@@ -507,7 +502,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param editNotes The currently edited notes
      * @return The color
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final List<NotePosition> editNotes)
+    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final int channel, final int step, final int pad, final int note, final NotePositionSet editNotes)
     {
         if (stepInfo == null || stepInfo.getState () == StepState.OFF)
         {
@@ -538,7 +533,38 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param editNotes The currently edited notes
      * @return The color
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<NotePosition> editNotes)
+    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final NotePositionSet editNotes)
+    {
+        String rowColorID = null;
+        String rowColorContID = null;
+        if (rowColor.isPresent () && this.useDawColors && stepInfo != null)
+        {
+            // Only search the closest DAW color which is needed for the state of the step
+            final StepState state = stepInfo.getState ();
+            if (state == StepState.START)
+                rowColorID = DAWColor.getColorID (rowColor.get ());
+            else if (state == StepState.CONTINUE)
+                rowColorContID = DAWColor.getColorID (ColorEx.darker (rowColor.get ()));
+        }
+        return this.getStepColor (stepInfo, highlight, rowColorID, rowColorContID, channel, step, note, editNotes);
+    }
+
+
+    /**
+     * Get the color for a step.
+     *
+     * @param stepInfo The information about the step
+     * @param highlight The step should be highlighted
+     * @param rowColorID The color ID to use for the start of content notes, null for the default
+     * @param rowColorContID The color ID to use for the continuation of content notes, null for the
+     *            default
+     * @param channel The MIDI channel
+     * @param step The step of the note
+     * @param note The note of the step
+     * @param editNotes The currently edited notes
+     * @return The color
+     */
+    protected String getStepColor (final IStepInfo stepInfo, final boolean highlight, final String rowColorID, final String rowColorContID, final int channel, final int step, final int note, final NotePositionSet editNotes)
     {
         final StepState state = stepInfo == null ? StepState.OFF : stepInfo.getState ();
         switch (state)
@@ -550,7 +576,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
                     return COLOR_STEP_SELECTED;
                 if (stepInfo != null && stepInfo.isMuted ())
                     return COLOR_STEP_MUTED;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (rowColor.get ()) : COLOR_CONTENT;
+                return rowColorID == null ? COLOR_CONTENT : rowColorID;
 
             case CONTINUE:
                 if (highlight)
@@ -559,7 +585,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
                     return COLOR_STEP_SELECTED;
                 if (stepInfo != null && stepInfo.isMuted ())
                     return COLOR_STEP_MUTED_CONT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorID (ColorEx.darker (rowColor.get ())) : COLOR_CONTENT_CONT;
+                return rowColorContID == null ? COLOR_CONTENT_CONT : rowColorContID;
 
             default:
                 if (highlight)
@@ -0,0 +1,156 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.bitwig.extension.controller.api.CursorTrack;
+import com.bitwig.extension.controller.api.NoteStep;
+import com.bitwig.extension.controller.api.NoteStepChangedCallback;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.daw.FakeHost;
+
+
+/**
+ * Counts the subscriptions of the cursor clip to check that disabling its observers stops all of
+ * them, including the handling of the note step data.
+ *
+ * @author Jürgen Moßgraber
+ */
+class CursorClipImplTest
+{
+    private final Set<Object>       subscribed = new HashSet<> ();
+    private NoteStepChangedCallback stepObserver;
+    private CursorClipImpl          clip;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.clip = new CursorClipImpl (new FakeHost (), this.createRecorder (CursorTrack.class), null, 16, 8);
+    }
+
+
+    @Test
+    void disablingRemovesAllSubscriptions ()
+    {
+        final int observers = this.subscribed.size ();
+        assertTrue (observers > 0);
+
+        this.clip.enableObservers (false);
+        assertEquals (0, this.subscribed.size ());
+
+        // The clip itself is subscribed as well when it gets enabled
+        this.clip.enableObservers (true);
+        assertEquals (observers + 1, this.subscribed.size ());
+
+        this.clip.enableObservers (false);
+        assertEquals (0, this.subscribed.size ());
+    }
+
+
+    @Test
+    void stepDataIsIgnoredWhileDisabled ()
+    {
+        assertNotNull (this.stepObserver);
+        this.clip.enableObservers (false);
+
+        final AtomicInteger calls = new AtomicInteger ();
+        final NoteStep noteStep = (NoteStep) Proxy.newProxyInstance (NoteStep.class.getClassLoader (), new Class<?> []
+        {
+            NoteStep.class
+        }, (proxy, method, args) -> {
+            calls.incrementAndGet ();
+            return getDefault (method);
+        });
+
+        this.stepObserver.noteStepChanged (noteStep);
+        assertEquals (0, calls.get ());
+    }
+
+
+    /**
+     * Create a proxy which records all subscriptions. Calls to methods which return an interface
+     * return a recording proxy as well, the same one for repeated calls.
+     *
+     * @param <T> The type of the interface
+     * @param type The interface
+     * @return The proxy
+     */
+    private <T> T createRecorder (final Class<T> type)
+    {
+        final Map<Method, Object> children = new HashMap<> ();
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, (proxy, method, args) -> {
+
+            switch (method.getName ())
+            {
+                case "markInterested", "subscribe":
+                    this.subscribed.add (proxy);
+                    return null;
+                case "unsubscribe":
+                    this.subscribed.remove (proxy);
+                    return null;
+                case "setIsSubscribed":
+                    if (((Boolean) args[0]).booleanValue ())
+                        this.subscribed.add (proxy);
+                    else
+                        this.subscribed.remove (proxy);
+                    return null;
+                case "isSubscribed":
+                    return Boolean.valueOf (this.subscribed.contains (proxy));
+                case "addNoteStepObserver":
+                    this.stepObserver = (NoteStepChangedCallback) args[0];
+                    return null;
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "toString":
+                    return type.getSimpleName ();
+                default:
+                    break;
+            }
+
+            final Class<?> returnType = method.getReturnType ();
+            if (returnType.isInterface ())
+                return children.computeIfAbsent (method, m -> this.createRecorder (returnType));
+            return getDefault (method);
+
+        }));
+    }
+
+
+    private static Object getDefault (final Method method)
+    {
+        final Class<?> type = method.getReturnType ();
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        return null;
+    }
+}
@@ -0,0 +1,261 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data.bank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
+import com.bitwig.extension.controller.api.RemoteControl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.controller.electra.one.ElectraOneConfiguration;
+import de.mossgrabers.controller.electra.one.controller.ElectraOneControlSurface;
+import de.mossgrabers.controller.electra.one.mode.DeviceMode;
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.data.ICursorDevice;
+import de.mossgrabers.framework.daw.data.IDevice;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
+import de.mossgrabers.framework.daw.data.bank.PageChangeTracker;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Switches the remote controls page of a parameter bank and checks that the Electra.One device
+ * mode updates its display once for the new page instead of once for each reported parameter.
+ *
+ * @author Jürgen Moßgraber
+ */
+class ParameterBankImplTest
+{
+    private static final int                NUM_PARAMS      = 8;
+    private static final int                CMD_EXECUTE_LUA = 0x08;
+
+    private final Map<Object, Object>       values          = new HashMap<> ();
+    private final Map<Object, List<Object>> observers       = new HashMap<> ();
+
+    private FakeHost                        host;
+    private CursorRemoteControlsPage        remoteControls;
+    private ParameterBankImpl               bank;
+    private DeviceMode                      mode;
+    private CapturingMidiOutput             ctrlOutput;
+    private int                             pageEvents;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.remoteControls = this.createRecorder (CursorRemoteControlsPage.class);
+        final IValueChanger valueChanger = Stubs.create (IValueChanger.class);
+        this.bank = new ParameterBankImpl (this.host, valueChanger, this.remoteControls, NUM_PARAMS, NUM_PARAMS);
+        this.bank.addPageObserver ( () -> this.pageEvents++);
+
+        final ICursorDevice cursorDevice = Stubs.create (ICursorDevice.class, Map.of ("getParameterBank", this.bank, "getDeviceBank", Stubs.create (IDeviceBank.class, Map.of ("getItem", Stubs.create (IDevice.class)))));
+        final IModel model = Stubs.create (IModel.class, Map.of ("getCursorDevice", cursorDevice, "getValueChanger", valueChanger, "getMasterTrack", Stubs.create (IMasterTrack.class, Map.of ("getVolumeStr", "0.0 dB")), "getTransport", Stubs.create (ITransport.class, Map.of ("getBeatText", "1.1.1", "getPositionText", "0:00"))));
+
+        final ElectraOneConfiguration configuration = new ElectraOneConfiguration (this.host, null, Collections.emptyList ());
+        this.ctrlOutput = new CapturingMidiOutput ();
+        final ElectraOneControlSurface surface = new ElectraOneControlSurface (this.host, new ColorManager (), configuration, new CapturingMidiOutput (), null, Stubs.create (IMidiInput.class), this.ctrlOutput);
+        this.mode = new DeviceMode (surface, model);
+
+        // Show the first page
+        this.reportPage ("Cutoff", "Reso", "Attack", "Decay", "Sustain", "Release", "Drive", "Mix");
+        this.mode.updateDisplay ();
+        this.ctrlOutput.clear ();
+        this.pageEvents = 0;
+    }
+
+
+    @Test
+    void pageSwitchUpdatesTheDisplayOnce ()
+    {
+        this.fire (this.remoteControls.selectedPageIndex (), Integer.valueOf (1));
+        assertTrue (this.bank.isPageChanging ());
+
+        // The display is refreshed between each parameter which is reported by the DAW
+        for (int i = 0; i < NUM_PARAMS; i++)
+        {
+            final RemoteControl parameter = this.remoteControls.getParameter (i);
+            this.fire (parameter.name (), "P" + (i + 1));
+            this.mode.updateDisplay ();
+            this.fire (parameter.value (), Double.valueOf (0.5));
+            this.mode.updateDisplay ();
+        }
+
+        assertFalse (this.bank.isPageChanging ());
+        assertEquals (1, this.pageEvents);
+
+        final List<String> lua = this.getLuaMessages ();
+        assertEquals (1, lua.size ());
+        for (int i = 1; i <= NUM_PARAMS; i++)
+            assertTrue (lua.get (0).contains ("c:setName(\"P" + i + "\")"));
+    }
+
+
+    @Test
+    void pageSwitchWithUnchangedNamesEndsAfterTimeout ()
+    {
+        this.fire (this.remoteControls.selectedPageIndex (), Integer.valueOf (1));
+
+        // The last two parameters have the same names and values on both pages and do not report
+        for (int i = 0; i < NUM_PARAMS - 2; i++)
+        {
+            this.fire (this.remoteControls.getParameter (i).name (), "P" + (i + 1));
+            this.mode.updateDisplay ();
+        }
+
+        this.host.advance (PageChangeTracker.TIMEOUT - 1);
+        this.mode.updateDisplay ();
+        assertTrue (this.getLuaMessages ().isEmpty ());
+        assertEquals (0, this.pageEvents);
+
+        this.host.advance (1);
+        this.mode.updateDisplay ();
+        assertEquals (1, this.getLuaMessages ().size ());
+        assertEquals (1, this.pageEvents);
+    }
+
+
+    private void reportPage (final String... names)
+    {
+        for (int i = 0; i < names.length; i++)
+        {
+            final RemoteControl parameter = this.remoteControls.getParameter (i);
+            this.fire (parameter.exists (), Boolean.TRUE);
+            this.fire (parameter.name (), names[i]);
+        }
+    }
+
+
+    /**
+     * Set the value of a recorded DAW value and notify its observers.
+     *
+     * @param value The recorded value
+     * @param newValue The new value
+     */
+    private void fire (final Object value, final Object newValue)
+    {
+        this.values.put (value, newValue);
+        for (final Object observer: this.observers.getOrDefault (value, Collections.emptyList ()))
+        {
+            for (final Class<?> type: observer.getClass ().getInterfaces ())
+            {
+                for (final Method method: type.getMethods ())
+                {
+                    if ("valueChanged".equals (method.getName ()))
+                    {
+                        try
+                        {
+                            method.invoke (observer, newValue);
+                        }
+                        catch (final ReflectiveOperationException ex)
+                        {
+                            throw new IllegalStateException (ex);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    private List<String> getLuaMessages ()
+    {
+        final List<String> messages = new ArrayList<> ();
+        for (final byte [] message: this.ctrlOutput.getSysex ())
+        {
+            if (message[4] == CMD_EXECUTE_LUA)
+                messages.add (new String (message, 6, message.length - 7, StandardCharsets.US_ASCII));
+        }
+        return messages;
+    }
+
+
+    /**
+     * Create a proxy which records the value observers and returns the values set with fire. Calls
+     * to methods which return an interface return a recording proxy as well, the same one for
+     * repeated calls.
+     *
+     * @param <T> The type of the interface
+     * @param type The interface
+     * @return The proxy
+     */
+    private <T> T createRecorder (final Class<T> type)
+    {
+        final Map<List<Object>, Object> children = new HashMap<> ();
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, (proxy, method, args) -> {
+
+            switch (method.getName ())
+            {
+                case "addValueObserver":
+                    if (args.length == 1)
+                        this.observers.computeIfAbsent (proxy, p -> new ArrayList<> ()).add (args[0]);
+                    return null;
+                case "get", "getLimited":
+                    final Object value = this.values.get (proxy);
+                    return value == null ? getDefault (method.getReturnType ()) : value;
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "toString":
+                    return type.getSimpleName ();
+                default:
+                    break;
+            }
+
+            final Class<?> returnType = method.getReturnType ();
+            if (!returnType.isInterface ())
+                return getDefault (returnType);
+
+            // Different items are returned for different arguments, e.g. getParameter (index)
+            final List<Object> key = new ArrayList<> ();
+            key.add (method);
+            if (args != null)
+                Collections.addAll (key, args);
+            return children.computeIfAbsent (key, k -> this.createRecorder (returnType));
+
+        }));
+    }
+
+
+    private static Object getDefault (final Class<?> type)
+    {
+        if (type == String.class)
+            return "";
+        if (type == String [].class)
+            return new String [0];
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        return null;
+    }
+}
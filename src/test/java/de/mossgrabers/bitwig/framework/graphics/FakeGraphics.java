@@ -0,0 +1,177 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bitwig.extension.api.graphics.Bitmap;
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.Image;
+import com.bitwig.extension.api.graphics.Renderer;
+import com.bitwig.extension.controller.api.ControllerHost;
+
+
+/**
+ * Fakes of the Bitwig graphics API which count the created bitmaps and the mask operations, and
+ * record the drawn images.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FakeGraphics
+{
+    private final List<Bitmap>    bitmaps     = new ArrayList<> ();
+    private final List<Object []> drawnImages = new ArrayList<> ();
+    private int                   maskCount;
+
+
+    /**
+     * Create a host which creates fake bitmaps.
+     *
+     * @return The host
+     */
+    public ControllerHost createHost ()
+    {
+        return create (ControllerHost.class, (method, args) -> {
+            if ("createBitmap".equals (method))
+            {
+                final Bitmap bitmap = this.createBitmap (((Integer) args[0]).intValue (), ((Integer) args[1]).intValue ());
+                this.bitmaps.add (bitmap);
+                return bitmap;
+            }
+            return null;
+        });
+    }
+
+
+    /**
+     * Create a graphics output which counts the mask operations and records the drawn images.
+     *
+     * @return The graphics output
+     */
+    public GraphicsOutput createGraphicsOutput ()
+    {
+        return create (GraphicsOutput.class, (method, args) -> {
+            if ("mask".equals (method))
+                this.maskCount++;
+            else if ("drawImage".equals (method))
+                this.drawnImages.add (args);
+            return null;
+        });
+    }
+
+
+    /**
+     * Create an image.
+     *
+     * @param width The width of the image
+     * @param height The height of the image
+     * @return The image
+     */
+    public static Image createImage (final double width, final double height)
+    {
+        return create (Image.class, (method, args) -> getSize (method, width, height));
+    }
+
+
+    /**
+     * Get the number of created bitmaps.
+     *
+     * @return The number
+     */
+    public int getBitmapCount ()
+    {
+        return this.bitmaps.size ();
+    }
+
+
+    /**
+     * Get the number of mask operations.
+     *
+     * @return The number
+     */
+    public int getMaskCount ()
+    {
+        return this.maskCount;
+    }
+
+
+    /**
+     * Get the images drawn into the graphics outputs.
+     *
+     * @return The arguments of the drawImage calls: image, x and y
+     */
+    public List<Object []> getDrawnImages ()
+    {
+        return this.drawnImages;
+    }
+
+
+    /**
+     * Reset the counters.
+     */
+    public void clear ()
+    {
+        this.bitmaps.clear ();
+        this.drawnImages.clear ();
+        this.maskCount = 0;
+    }
+
+
+    private Bitmap createBitmap (final int width, final int height)
+    {
+        final GraphicsOutput gc = this.createGraphicsOutput ();
+        return create (Bitmap.class, (method, args) -> {
+            if ("render".equals (method))
+            {
+                ((Renderer) args[0]).render (gc);
+                return null;
+            }
+            return getSize (method, width, height);
+        });
+    }
+
+
+    private static Object getSize (final String method, final double width, final double height)
+    {
+        switch (method)
+        {
+            case "getWidth":
+                return Double.valueOf (width);
+            case "getHeight":
+                return Double.valueOf (height);
+            default:
+                return null;
+        }
+    }
+
+
+    private static <T> T create (final Class<T> type, final Handler handler)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, (proxy, method, args) -> {
+            switch (method.getName ())
+            {
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "toString":
+                    return type.getSimpleName ();
+                default:
+                    return handler.handle (method.getName (), args);
+            }
+        }));
+    }
+
+
+    private interface Handler
+    {
+        Object handle (String method, Object [] args);
+    }
+}
@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import java.util.Locale;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.Image;
+
+import de.mossgrabers.framework.Benchmark;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
+/**
+ * Draws the track icons of a Push 2 frame (8 channels) into a fake graphics output, once by
+ * masking and filling each icon and once with the cached bitmaps. Prints the mask operations per
+ * frame. The times only show the overhead of the cache, since the fake does not rasterize.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TintedImageCacheBenchmark
+{
+    private static final int        NUM_CHANNELS = 8;
+    private static final int        FRAMES       = 10000;
+    private static final ColorEx [] COLORS       =
+    {
+        ColorEx.BLACK,
+        ColorEx.WHITE,
+        ColorEx.GRAY
+    };
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Not used
+     */
+    public static void main (final String [] args)
+    {
+        final Image [] icons = new Image [4];
+        for (int i = 0; i < icons.length; i++)
+            icons[i] = FakeGraphics.createImage (16, 16);
+
+        final FakeGraphics graphics = new FakeGraphics ();
+        final GraphicsOutput gc = graphics.createGraphicsOutput ();
+        final TintedImageCache cache = new TintedImageCache (graphics.createHost ());
+
+        Benchmark.measure ("Mask and fill", FRAMES, () -> {
+            for (int frame = 0; frame < FRAMES; frame++)
+            {
+                for (int i = 0; i < NUM_CHANNELS; i++)
+                {
+                    final ColorEx color = COLORS[i % COLORS.length];
+                    gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
+                    gc.mask (icons[i % icons.length], i * 120.0, 4);
+                    gc.fill ();
+                }
+            }
+            return graphics.getMaskCount ();
+        });
+        printMasksPerFrame (graphics);
+
+        Benchmark.measure ("Cached bitmaps", FRAMES, () -> {
+            for (int frame = 0; frame < FRAMES; frame++)
+            {
+                for (int i = 0; i < NUM_CHANNELS; i++)
+                    cache.draw (gc, icons[i % icons.length], COLORS[i % COLORS.length], i * 120.0, 4);
+            }
+            return graphics.getDrawnImages ().size ();
+        });
+        printMasksPerFrame (graphics);
+    }
+
+
+    private static void printMasksPerFrame (final FakeGraphics graphics)
+    {
+        // 5 warm-up and 10 measured rounds
+        final double frames = 15.0 * FRAMES;
+        System.out.println (String.format (Locale.US, "    %.4f mask operations/frame, %d bitmaps", Double.valueOf (graphics.getMaskCount () / frames), Integer.valueOf (graphics.getBitmapCount ())));
+        graphics.clear ();
+    }
+}
@@ -0,0 +1,102 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.Image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
+/**
+ * Counts the bitmaps and mask operations of the cache for images filled with a color.
+ *
+ * @author Jürgen Moßgraber
+ */
+class TintedImageCacheTest
+{
+    private FakeGraphics     graphics;
+    private TintedImageCache cache;
+    private GraphicsOutput   gc;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.graphics = new FakeGraphics ();
+        this.cache = new TintedImageCache (this.graphics.createHost ());
+        this.gc = this.graphics.createGraphicsOutput ();
+    }
+
+
+    @Test
+    void repeatedDrawsMaskOnce ()
+    {
+        final Image image = FakeGraphics.createImage (16, 16);
+        for (int i = 0; i < 100; i++)
+            this.cache.draw (this.gc, image, ColorEx.RED, 10, 20);
+
+        assertEquals (1, this.graphics.getMaskCount ());
+        assertEquals (1, this.graphics.getBitmapCount ());
+
+        final List<Object []> drawn = this.graphics.getDrawnImages ();
+        assertEquals (100, drawn.size ());
+        assertSame (drawn.get (0)[0], drawn.get (99)[0]);
+    }
+
+
+    @Test
+    void coordinatesAreRounded ()
+    {
+        this.cache.draw (this.gc, FakeGraphics.createImage (16, 16), ColorEx.RED, 10.4, 20.6);
+
+        final Object [] drawn = this.graphics.getDrawnImages ().get (0);
+        assertEquals (Double.valueOf (10), drawn[1]);
+        assertEquals (Double.valueOf (21), drawn[2]);
+    }
+
+
+    @Test
+    void evictedBitmapsAreReused ()
+    {
+        final Image image = FakeGraphics.createImage (16, 16);
+        final int count = TintedImageCache.MAX_ENTRIES + 100;
+        for (int i = 0; i < count; i++)
+            this.cache.draw (this.gc, image, ColorEx.fromRGB (i % 256, i / 256, 0), 0, 0);
+
+        assertEquals (TintedImageCache.MAX_ENTRIES, this.cache.size ());
+        assertEquals (TintedImageCache.MAX_ENTRIES, this.graphics.getBitmapCount ());
+        assertEquals (count, this.graphics.getMaskCount ());
+    }
+
+
+    @Test
+    void clearReusesBitmaps ()
+    {
+        final Image image = FakeGraphics.createImage (16, 16);
+        for (int i = 0; i < 10; i++)
+            this.cache.draw (this.gc, image, ColorEx.fromRGB (i, 0, 0), 0, 0);
+        this.cache.clear ();
+        assertEquals (0, this.cache.size ());
+
+        // The same icons with a new palette
+        for (int i = 0; i < 10; i++)
+            this.cache.draw (this.gc, image, ColorEx.fromRGB (0, i, 0), 0, 0);
+        assertEquals (10, this.graphics.getBitmapCount ());
+        assertEquals (20, this.graphics.getMaskCount ());
+
+        // A different icon size needs new bitmaps
+        this.cache.draw (this.gc, FakeGraphics.createImage (24, 24), ColorEx.RED, 0, 0);
+        assertEquals (11, this.graphics.getBitmapCount ());
+    }
+}
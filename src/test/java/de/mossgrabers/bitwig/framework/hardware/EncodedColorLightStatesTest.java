@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Polls the interned light states like the host does and counts the created instances and color
+ * conversions.
+ *
+ * @author Jürgen Moßgraber
+ */
+class EncodedColorLightStatesTest
+{
+    private EncodedColorLightStates states;
+    private int                     colorConversions;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.colorConversions = 0;
+        this.states = new EncodedColorLightStates (colorIndex -> {
+            this.colorConversions++;
+            return ColorEx.GRAY;
+        });
+    }
+
+
+    @Test
+    void pollingReusesStates ()
+    {
+        // A blinking pad: color 5, blink color 21, fast
+        final int [] encoded =
+        {
+            -1,
+            5,
+            21 << 8 | 5,
+            1 << 16 | 21 << 8 | 5
+        };
+
+        final Set<EncodedColorLightState> instances = Collections.newSetFromMap (new IdentityHashMap<> ());
+        for (int poll = 0; poll < 100000; poll++)
+        {
+            final EncodedColorLightState state = this.states.get (encoded[poll / 100 % encoded.length]);
+            state.getVisualState ();
+            instances.add (state);
+        }
+
+        assertEquals (encoded.length, instances.size ());
+        // Off state needs no color, the plain one 1, the blinking ones 2 each
+        assertEquals (5, this.colorConversions);
+    }
+
+
+    @Test
+    void statesSurviveGrowing ()
+    {
+        final EncodedColorLightState [] created = new EncodedColorLightState [1000];
+        for (int i = 0; i < created.length; i++)
+        {
+            final int encodedColorState = i * 7919 & 0x1FFFF;
+            created[i] = this.states.get (encodedColorState);
+            assertEquals (encodedColorState, created[i].getEncodedColorState ());
+        }
+
+        for (int i = 0; i < created.length; i++)
+            assertSame (created[i], this.states.get (i * 7919 & 0x1FFFF));
+    }
+
+
+    @Test
+    void visualStateIsMemoized ()
+    {
+        final EncodedColorLightState state = this.states.get (5);
+        assertSame (state.getVisualState (), state.getVisualState ());
+        assertEquals (1, this.colorConversions);
+    }
+}
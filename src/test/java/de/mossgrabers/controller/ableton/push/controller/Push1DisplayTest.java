@@ -0,0 +1,49 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ableton.push.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the display messages of the Push 1 with the hex strings which were sent before the
+ * migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class Push1DisplayTest
+{
+    private static final String [] SYSEX_MESSAGE =
+    {
+        "F0 47 7F 15 18 00 45 00 ",
+        "F0 47 7F 15 19 00 45 00 ",
+        "F0 47 7F 15 1A 00 45 00 ",
+        "F0 47 7F 15 1B 00 45 00 "
+    };
+
+
+    @Test
+    void linesAreIdenticalToTheHexStrings ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final Push1Display display = new Push1Display (new FakeHost (), 1023, output, null);
+
+        final String text = StringUtils.pad ("Volume  Pan     " + Push1Display.SELECT_ARROW + "Track 1" + Push1Display.DEGREE, 68);
+        for (int row = 0; row < 4; row++)
+        {
+            display.writeLine (row, text, null);
+            assertArrayEquals (SysExBuilder.fromHex (SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7"), output.getLastSysex ());
+        }
+        assertEquals (4, output.getSysex ().size ());
+    }
+}
@@ -0,0 +1,185 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.akai.fire.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.controller.akai.fire.FireConfiguration;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.graphics.FakeBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests that only the changed columns are sent to the Fire display and that the device ends up
+ * with the same content as with full updates.
+ *
+ * @author Jürgen Moßgraber
+ */
+class FireDisplayTest
+{
+    private static final int          STRIPE_SIZE = 147;
+
+    private final List<FireDisplay>   displays    = new ArrayList<> ();
+    private FakeHost                  host;
+    private FireConfiguration         configuration;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.configuration = new FireConfiguration (this.host, null, Collections.emptyList ());
+    }
+
+
+    @AfterEach
+    void tearDown ()
+    {
+        for (final FireDisplay display: this.displays)
+            display.shutdown ();
+    }
+
+
+    @Test
+    void singlePixelSendsOneBlock ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final FireDisplay display = this.createDisplay (output);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        // Upper left pixel: stripe 0, columns 0-6
+        image.setPixel (0, 0, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 1);
+        assertArrayEquals (SysExBuilder.fromHex ("F0 47 7F 43 0E 00 0C 00 00 00 06 00 40 00 00 00 00 00 00 F7"), output.getLastSysex ());
+
+        // Lower right pixel: stripe 7, the last block is cut to the 3 remaining bytes
+        image.setPixel (127, 63, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 2);
+        assertArrayEquals (SysExBuilder.fromHex ("F0 47 7F 43 0E 00 07 07 07 7E 7F 00 20 00 F7"), output.getLastSysex ());
+    }
+
+
+    @Test
+    void unchangedFrameSendsNothing ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final FireDisplay display = this.createDisplay (output);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        image.setPixel (10, 10, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 1);
+
+        // The same frame again and then a change in a different stripe
+        display.send (image);
+        image.setPixel (10, 30, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () >= 2);
+        sleep (100);
+
+        assertEquals (2, output.getSysex ().size ());
+        assertEquals (3, output.getLastSysex ()[7]);
+    }
+
+
+    @Test
+    void partialUpdatesMatchFullUpdate ()
+    {
+        final CapturingMidiOutput partialOutput = new CapturingMidiOutput ();
+        final FireDisplay partialDisplay = this.createDisplay (partialOutput);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        final Random random = new Random (4711);
+        for (int frame = 0; frame < 50; frame++)
+        {
+            for (int i = 0; i < 20; i++)
+                image.setPixel (random.nextInt (128), random.nextInt (64), random.nextBoolean ());
+            partialDisplay.send (image);
+            sleep (random.nextInt (5));
+        }
+
+        // A display which only gets the last frame sends all changes against a blank screen
+        final CapturingMidiOutput fullOutput = new CapturingMidiOutput ();
+        final FireDisplay fullDisplay = this.createDisplay (fullOutput);
+        fullDisplay.send (image);
+
+        await ( () -> Arrays.deepEquals (applyToDevice (partialOutput), applyToDevice (fullOutput)));
+
+        int partialBytes = 0;
+        for (final byte [] message: partialOutput.getSysex ())
+            partialBytes += message.length;
+        assertTrue (partialBytes < partialOutput.getSysex ().size () * (12 + STRIPE_SIZE), "Partial updates must be smaller than full stripes");
+    }
+
+
+    private FireDisplay createDisplay (final CapturingMidiOutput output)
+    {
+        final FireDisplay display = new FireDisplay (this.host, output, this.configuration, 127);
+        this.displays.add (display);
+        return display;
+    }
+
+
+    /**
+     * Simulates the memory of the display by applying all sent messages.
+     *
+     * @param output The output which recorded the messages
+     * @return The packed bytes of the 8 stripes
+     */
+    private static int [] [] applyToDevice (final CapturingMidiOutput output)
+    {
+        final int [] [] memory = new int [8] [STRIPE_SIZE];
+        for (final byte [] message: output.getSysex ())
+        {
+            final int length = (message[5] << 7) + message[6];
+            final int stripe = message[7];
+            final int offset = message[9] / 7 * 8;
+            for (int i = 0; i < length - 4; i++)
+                memory[stripe][offset + i] = message[11 + i];
+        }
+        return memory;
+    }
+
+
+    private static void await (final BooleanSupplier condition)
+    {
+        final long end = System.currentTimeMillis () + 5000;
+        while (!condition.getAsBoolean ())
+        {
+            assertTrue (System.currentTimeMillis () < end, "Timeout");
+            sleep (5);
+        }
+    }
+
+
+    private static void sleep (final long millis)
+    {
+        try
+        {
+            Thread.sleep (millis);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.akai.fire.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.IPadGrid;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Golden byte tests for the pad updates of the Fire.
+ *
+ * @author Jürgen Moßgraber
+ */
+class FirePadGridTest
+{
+    private static final int    RED   = 5;
+    private static final int    GREEN = 6;
+
+    private CapturingMidiOutput output;
+    private FirePadGrid         padGrid;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        final ColorManager colorManager = new ColorManager ();
+        colorManager.registerColorIndex (IPadGrid.GRID_OFF, 0);
+        colorManager.registerColor (RED, new ColorEx (1.0, 0.0, 0.0));
+        colorManager.registerColor (GREEN, new ColorEx (0.0, 1.0, 0.0));
+        this.output = new CapturingMidiOutput ();
+        this.padGrid = new FirePadGrid (colorManager, this.output);
+    }
+
+
+    @Test
+    void singlePad ()
+    {
+        // Upper left pad
+        this.padGrid.light (36, RED);
+        this.padGrid.sendState (36);
+        this.padGrid.flush ();
+
+        assertEquals (1, this.output.getSysex ().size ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 47 7F 43 65 00 04 30 7F 00 00 F7"), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void severalPadsInOneMessage ()
+    {
+        // Upper left and lower right pad
+        this.padGrid.light (36, RED);
+        this.padGrid.light (99, GREEN);
+        this.padGrid.sendState (36);
+        this.padGrid.sendState (99);
+        this.padGrid.flush ();
+
+        assertEquals (1, this.output.getSysex ().size ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 47 7F 43 65 00 08 0F 00 7F 00 30 7F 00 00 F7"), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void lengthAbove127 ()
+    {
+        for (int note = 36; note < 100; note++)
+        {
+            this.padGrid.light (note, RED);
+            this.padGrid.sendState (note);
+        }
+        this.padGrid.flush ();
+
+        // 64 pads * 4 bytes = 256 = 02 00
+        final byte [] message = this.output.getLastSysex ();
+        assertEquals (5 + 2 + 256 + 1, message.length);
+        assertEquals (0x02, message[5]);
+        assertEquals (0x00, message[6]);
+    }
+
+
+    @Test
+    void noMessageWithoutChanges ()
+    {
+        this.padGrid.flush ();
+        assertEquals (0, this.output.getSysex ().size ());
+    }
+}
@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.arturia.beatstep.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Golden byte tests for the pad updates of the Beatstep.
+ *
+ * @author Jürgen Moßgraber
+ */
+class BeatstepPadGridTest
+{
+    @Test
+    void lightPad ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final BeatstepPadGrid padGrid = new BeatstepPadGrid (new ColorManager (), output);
+
+        // The first note addresses the upper row
+        padGrid.lightPad (36, 0x11);
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 6B 7F 42 02 00 10 78 11 F7"), output.getLastSysex ());
+
+        // The ninth note addresses the lower row
+        padGrid.lightPad (44, 0x01);
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 6B 7F 42 02 00 10 70 01 F7"), output.getLastSysex ());
+    }
+}
@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.electra.one.mode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.controller.electra.one.ElectraOneConfiguration;
+import de.mossgrabers.controller.electra.one.controller.ElectraOneControlSurface;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the messages which are sent by the page cache of the Electra.One.
+ *
+ * @author Jürgen Moßgraber
+ */
+class PageCacheTest
+{
+    private static final int         CMD_EXECUTE_LUA        = 0x08;
+    private static final int         CMD_VALUE_LABEL_UPDATE = 0x14;
+    /** Disabling and enabling the repaint around each flush, 9 bytes each. */
+    private static final int         REPAINT_BYTES          = 2 * 9;
+    /** Value label update without the label text. */
+    private static final int         VALUE_LABEL_BYTES      = 10;
+    /** LUA execution without the LUA text. */
+    private static final int         LUA_BYTES              = 7;
+
+    private CapturingMidiOutput      output;
+    private CapturingMidiOutput      ctrlOutput;
+    private ElectraOneControlSurface surface;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        final FakeHost host = new FakeHost ();
+        final ElectraOneConfiguration configuration = new ElectraOneConfiguration (host, null, Collections.emptyList ());
+        final IMidiInput ctrlInput = (IMidiInput) Proxy.newProxyInstance (IMidiInput.class.getClassLoader (), new Class<?> []
+        {
+            IMidiInput.class
+        }, (proxy, method, args) -> null);
+
+        this.output = new CapturingMidiOutput ();
+        this.ctrlOutput = new CapturingMidiOutput ();
+        this.surface = new ElectraOneControlSurface (host, new ColorManager (), configuration, this.output, null, ctrlInput, this.ctrlOutput);
+    }
+
+
+    @Test
+    void controlUpdatesAreSentAsOneBatch ()
+    {
+        final PageCache pageCache = new PageCache (0, this.surface);
+        pageCache.reset ();
+
+        pageCache.updateElement (0, 0, "Vol", new ColorEx (1.0, 0.0, 0.0), Boolean.TRUE);
+        pageCache.updateElement (0, 1, "Pan", null, Boolean.FALSE);
+        pageCache.updateElement (1, 0, "Send", null, null);
+        pageCache.updateGroupLabel (500, "Track \"1\"");
+        pageCache.flush ();
+
+        final List<String> lua = this.getMessages (CMD_EXECUTE_LUA);
+        assertEquals (1, lua.size ());
+        assertEquals ("c=controls.get(1) if c then c:setName(\"Vol\") c:setColor(0xFF0000) c:setVisible(true) end c=controls.get(2) if c then c:setName(\"Pan\") c:setVisible(false) end c=controls.get(7) if c then c:setName(\"Send\") end sgt(500,\"Track \\\"1\\\"\")", lua.get (0));
+    }
+
+
+    @Test
+    void largeBatchesAreSplit ()
+    {
+        final PageCache pageCache = new PageCache (0, this.surface);
+        pageCache.reset ();
+
+        for (int row = 0; row < 6; row++)
+            for (int column = 0; column < 6; column++)
+                pageCache.updateElement (row, column, "A long control name " + row + column, new ColorEx (0.0, 0.0, 1.0), Boolean.TRUE);
+        pageCache.flush ();
+
+        final List<String> lua = this.getMessages (CMD_EXECUTE_LUA);
+        assertTrue (lua.size () > 1);
+        int controls = 0;
+        for (final String chunk: lua)
+            controls += chunk.split ("controls.get", -1).length - 1;
+        assertEquals (36, controls);
+    }
+
+
+    @Test
+    void labelsAreKeptAcrossPageSwitches ()
+    {
+        final PageCache pageCache = new PageCache (0, this.surface);
+        pageCache.reset ();
+
+        pageCache.updateValue (0, 0, 64, "50%");
+        pageCache.updateElement (0, 0, "Vol", new ColorEx (1.0, 0.0, 0.0), Boolean.TRUE);
+        pageCache.flush ();
+        final String lua = "c=controls.get(1) if c then c:setName(\"Vol\") c:setColor(0xFF0000) c:setVisible(true) end";
+        assertEquals (REPAINT_BYTES + VALUE_LABEL_BYTES + "50%".length () + LUA_BYTES + lua.length (), this.getSysexBytes ());
+
+        // Switch to a different page and back, the preset was not reloaded
+        this.output.clear ();
+        this.ctrlOutput.clear ();
+        pageCache.reset ();
+        pageCache.updateValue (0, 0, 64, "50%");
+        pageCache.updateElement (0, 0, "Vol", new ColorEx (1.0, 0.0, 0.0), Boolean.TRUE);
+        pageCache.flush ();
+
+        // Only the values are sent again since the MIDI CCs are shared between the pages
+        assertEquals (REPAINT_BYTES, this.getSysexBytes ());
+        assertEquals (36, this.output.getCCs ().size ());
+        assertEquals (64, this.output.getCCs ().get (0)[2]);
+    }
+
+
+    @Test
+    void devicePageSwitchesSendOnlyTheChangedBytes ()
+    {
+        final PageCache pageCache = new PageCache (0, this.surface);
+
+        // 8 value labels and one LUA batch with 8 names (410 characters)
+        pageCache.reset ();
+        this.fillDevicePage (pageCache, new String []
+        {
+            "Cutoff",
+            "Reso",
+            "Attack",
+            "Decay",
+            "Sustain",
+            "Release",
+            "Drive",
+            "Mix"
+        }, "50%");
+        pageCache.flush ();
+        assertEquals (REPAINT_BYTES + 8 * (VALUE_LABEL_BYTES + 3) + LUA_BYTES + 410, this.getSysexBytes ());
+
+        // The next parameter page changes all names and value labels (383 characters of LUA)
+        this.ctrlOutput.clear ();
+        pageCache.reset ();
+        this.fillDevicePage (pageCache, new String []
+        {
+            "P1",
+            "P2",
+            "P3",
+            "P4",
+            "P5",
+            "P6",
+            "P7",
+            "P8"
+        }, "25%");
+        pageCache.flush ();
+        assertEquals (REPAINT_BYTES + 8 * (VALUE_LABEL_BYTES + 3) + LUA_BYTES + 383, this.getSysexBytes ());
+
+        // Switching to a page with the same names sends only the changed value label
+        this.ctrlOutput.clear ();
+        pageCache.reset ();
+        this.fillDevicePage (pageCache, new String []
+        {
+            "P1",
+            "P2",
+            "P3",
+            "P4",
+            "P5",
+            "P6",
+            "P7",
+            "P8"
+        }, "25%");
+        pageCache.updateValue (1, 1, 0, "30%");
+        pageCache.flush ();
+        assertEquals (REPAINT_BYTES + VALUE_LABEL_BYTES + 3, this.getSysexBytes ());
+        assertEquals (0, this.getMessages (CMD_EXECUTE_LUA).size ());
+    }
+
+
+    @Test
+    void changedValueLabelIsSent ()
+    {
+        final PageCache pageCache = new PageCache (0, this.surface);
+        pageCache.reset ();
+        pageCache.updateValue (2, 3, 10, "10%");
+        pageCache.flush ();
+        pageCache.reset ();
+
+        this.ctrlOutput.clear ();
+        pageCache.updateValue (2, 3, 20, "20%");
+        pageCache.flush ();
+
+        final List<String> labels = this.getMessages (CMD_VALUE_LABEL_UPDATE);
+        assertEquals (1, labels.size ());
+        assertTrue (labels.get (0).endsWith ("20%"));
+    }
+
+
+    private void fillDevicePage (final PageCache pageCache, final String [] names, final String valueLabel)
+    {
+        for (int i = 0; i < names.length; i++)
+        {
+            pageCache.updateValue (i / 6, i % 6, 0, valueLabel);
+            pageCache.updateElement (i / 6, i % 6, names[i], null, null);
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of all system exclusive messages, which were sent to the CTRL port.
+     *
+     * @return The number of bytes
+     */
+    private int getSysexBytes ()
+    {
+        int bytes = 0;
+        for (final byte [] message: this.ctrlOutput.getSysex ())
+            bytes += message.length;
+        return bytes;
+    }
+
+
+    /**
+     * Get the content of all messages of the given command, which were sent to the CTRL port.
+     *
+     * @param command The command
+     * @return The content of the messages as ASCII text
+     */
+    private List<String> getMessages (final int command)
+    {
+        final List<String> messages = new ArrayList<> ();
+        for (final byte [] message: this.ctrlOutput.getSysex ())
+        {
+            if (message[4] == command)
+                messages.add (new String (message, 6, message.length - 7, StandardCharsets.US_ASCII));
+        }
+        return messages;
+    }
+}
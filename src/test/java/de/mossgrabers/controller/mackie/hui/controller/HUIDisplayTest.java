@@ -0,0 +1,80 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.mackie.hui.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the display and time code messages of the HUI with the hex strings which were sent
+ * before the migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class HUIDisplayTest
+{
+    private static final String SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final String SYSEX_HDR            = "F0 00 00 66 05 00 11 ";
+
+
+    @Test
+    void displayCells ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final HUIDisplay display = new HUIDisplay (new FakeHost (), output);
+        display.setHardwareDisplay (Stubs.create (IHwTextDisplay.class));
+
+        final String text = "Vol Pan Snd1Snd2    Trk6FX  Mix Mstr";
+        display.writeLine (0, text, null);
+        assertTrue (output.awaitSysex (9));
+
+        final List<byte []> sysex = output.getSysex ();
+        assertEquals (9, sysex.size ());
+        final int [] array = new int [5];
+        for (int cell = 0; cell < 9; cell++)
+        {
+            array[0] = cell;
+            for (int i = 0; i < 4; i++)
+                array[1 + i] = text.charAt (cell * 4 + i);
+            assertArrayEquals (SysExBuilder.fromHex (SYSEX_DISPLAY_HEADER + StringUtils.toHexStr (array) + "F7"), sysex.get (cell));
+        }
+
+        // Ends the sender thread
+        display.shutdown ();
+    }
+
+
+    @Test
+    void timeCode ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final HUISegmentDisplay display = new HUISegmentDisplay (new FakeHost (), output);
+
+        // All digits are sent the first time, the dots are added to the following digit
+        display.writeLine (0, "012:03:04:005", null);
+        assertArrayEquals (SysExBuilder.fromHex (SYSEX_HDR + "05 00 00 14 00 13 00 12 F7"), output.getLastSysex ());
+
+        // Only up to the highest changed digit
+        display.writeLine (0, "012:03:04:016", null);
+        assertArrayEquals (SysExBuilder.fromHex (SYSEX_HDR + "06 01 F7"), output.getLastSysex ());
+        assertEquals (2, output.getSysex ().size ());
+
+        display.writeLine (0, "012:03:04:016", null);
+        assertEquals (2, output.getSysex ().size ());
+    }
+}
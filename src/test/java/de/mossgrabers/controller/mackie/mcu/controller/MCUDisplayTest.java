@@ -0,0 +1,72 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.mackie.mcu.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the display messages of the MCU with the hex strings which were sent before the
+ * migration to the byte messages. The lines are sent from sender threads.
+ *
+ * @author Jürgen Moßgraber
+ */
+class MCUDisplayTest
+{
+    private static final String TEXT                           = StringUtils.pad ("Track 1 Track 2 Drums   Bass    Keys    Pad     FX      Master", 56);
+    private static final String SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
+    private static final String SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
+    private static final String SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+
+
+    @Test
+    void mainDisplay ()
+    {
+        assertLines (true, false, SYSEX_DISPLAY_HEADER1_MAIN);
+    }
+
+
+    @Test
+    void extenderDisplay ()
+    {
+        assertLines (true, true, SYSEX_DISPLAY_HEADER1_EXTENDER);
+    }
+
+
+    @Test
+    void secondDisplay ()
+    {
+        assertLines (false, false, SYSEX_DISPLAY_HEADER2);
+    }
+
+
+    private static void assertLines (final boolean isFirst, final boolean isExtender, final String header)
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final MCUDisplay display = new MCUDisplay (new FakeHost (), output, isFirst, isExtender, true, null);
+        display.setHardwareDisplay (Stubs.create (IHwTextDisplay.class));
+
+        display.writeLine (0, TEXT, null);
+        assertTrue (output.awaitSysex (1));
+        assertArrayEquals (SysExBuilder.fromHex (header + "00 " + StringUtils.toHexStr (TEXT.getBytes ()) + "F7"), output.getLastSysex ());
+
+        display.writeLine (1, TEXT, null);
+        assertTrue (output.awaitSysex (2));
+        assertArrayEquals (SysExBuilder.fromHex (header + "38 " + StringUtils.toHexStr (TEXT.getBytes ()) + "F7"), output.getLastSysex ());
+
+        // Ends the sender threads
+        display.shutdown ();
+    }
+}
@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.ni.kontrol.mkii.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.controller.ni.kontrol.mkii.KontrolProtocolConfiguration;
+import de.mossgrabers.controller.ni.kontrol.mkii.TrackType;
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the track messages of the Kontrol protocol with the hex strings which were sent before
+ * the migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class KontrolProtocolControlSurfaceTest
+{
+    private CapturingMidiOutput           output;
+    private KontrolProtocolControlSurface surface;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        final FakeHost host = new FakeHost ();
+        final KontrolProtocolConfiguration configuration = new KontrolProtocolConfiguration (host, null, Collections.emptyList (), KontrolProtocol.MAX_VERSION);
+        this.output = new CapturingMidiOutput ();
+        this.surface = new KontrolProtocolControlSurface (host, new ColorManager (), configuration, this.output, Stubs.create (IMidiInput.class), KontrolProtocol.MAX_VERSION);
+    }
+
+
+    @Test
+    void trackValues ()
+    {
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_AVAILABLE, TrackType.GENERIC, 3);
+        assertArrayEquals (SysExBuilder.fromHex (createHexString (KontrolProtocolControlSurface.KONTROL_TRACK_AVAILABLE, TrackType.GENERIC, 3, new int [0])), this.output.getLastSysex ());
+
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_MUTE, 1, 7);
+        assertArrayEquals (SysExBuilder.fromHex (createHexString (KontrolProtocolControlSurface.KONTROL_TRACK_MUTE, 1, 7, new int [0])), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void trackTexts ()
+    {
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_NAME, 0, 2, "Drums");
+        assertArrayEquals (SysExBuilder.fromHex (createHexString (KontrolProtocolControlSurface.KONTROL_TRACK_NAME, 0, 2, "Drums".chars ().toArray ())), this.output.getLastSysex ());
+
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME_TEXT, 0, 0, "-3.5 dB");
+        assertArrayEquals (SysExBuilder.fromHex (createHexString (KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME_TEXT, 0, 0, "-3.5 dB".chars ().toArray ())), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void vuMeters ()
+    {
+        final int [] vu =
+        {
+            0x40,
+            0x7F
+        };
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vu);
+        assertArrayEquals (SysExBuilder.fromHex (createHexString (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vu)), this.output.getLastSysex ());
+
+        // Unchanged values are not sent again
+        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vu);
+        assertEquals (1, this.output.getSysex ().size ());
+    }
+
+
+    /**
+     * The message as it was formatted before the migration.
+     *
+     * @param stateID The state ID
+     * @param value The value
+     * @param track The track index
+     * @param info Further info data
+     * @return The hex string
+     */
+    private static String createHexString (final int stateID, final int value, final int track, final int [] info)
+    {
+        final int [] data = new int [3 + info.length];
+        data[0] = stateID;
+        data[1] = value;
+        data[2] = track;
+        for (int i = 0; i < info.length; i++)
+            data[3 + i] = info[i];
+        return "F0 00 21 09 00 00 44 43 01 00 " + StringUtils.toHexStr (data) + "F7";
+    }
+}
@@ -0,0 +1,224 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.novation.launchpad.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.controller.novation.launchpad.LaunchpadConfiguration;
+import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadMiniMkIIIControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadMkIIControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadProControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadProMk3ControllerDefinition;
+import de.mossgrabers.controller.novation.launchpad.definition.LaunchpadXControllerDefinition;
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the LED, mode, brightness and logo messages of all Launchpads with the hex strings which
+ * were sent before the migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class LaunchpadSysExTest
+{
+    private static final String MKII_HEADER     = "F0 00 20 29 02 18 ";
+    private static final String PRO_HEADER      = "F0 00 20 29 02 10 ";
+    private static final String PRO_MK3_HEADER  = "F0 00 20 29 02 0E ";
+    private static final String X_HEADER        = "F0 00 20 29 02 0C ";
+    private static final String MINI_MK3_HEADER = "F0 00 20 29 02 0D ";
+
+
+    @Test
+    void ledUpdates ()
+    {
+        final Map<Integer, LightInfo> padInfos = new TreeMap<> ();
+        padInfos.put (Integer.valueOf (11), new LightInfo (5, -1, false));
+        padInfos.put (Integer.valueOf (12), new LightInfo (21, 45, true));
+        padInfos.put (Integer.valueOf (88), new LightInfo (127, 3, false));
+        padInfos.put (Integer.valueOf (99), new LightInfo (0, -1, false));
+
+        final SysExBuilder builder = new SysExBuilder ();
+        assertMessages (createBlinkUpdates (MKII_HEADER, padInfos, "00 "), new LaunchpadMkIIControllerDefinition ().buildLEDUpdate (builder, padInfos));
+        assertMessages (createBlinkUpdates (PRO_HEADER, padInfos, ""), new LaunchpadProControllerDefinition ().buildLEDUpdate (builder, padInfos));
+        assertMessages (createLightingUpdate (PRO_MK3_HEADER, padInfos), new LaunchpadProMk3ControllerDefinition ().buildLEDUpdate (builder, padInfos));
+        assertMessages (createLightingUpdate (X_HEADER, padInfos), new LaunchpadXControllerDefinition ().buildLEDUpdate (builder, padInfos));
+        assertMessages (createLightingUpdate (MINI_MK3_HEADER, padInfos), new LaunchpadMiniMkIIIControllerDefinition ().buildLEDUpdate (builder, padInfos));
+    }
+
+
+    @Test
+    void modeCommands ()
+    {
+        assertModeCommands (new LaunchpadMkIIControllerDefinition (), MKII_HEADER + "21 01 F7", MKII_HEADER + "22 00 F7", null);
+        assertModeCommands (new LaunchpadProControllerDefinition (), PRO_HEADER + "21 01 F7", PRO_HEADER + "2C 03 F7", PRO_HEADER + "2C 00 F7");
+        assertModeCommands (new LaunchpadProMk3ControllerDefinition (), PRO_MK3_HEADER + "10 00 F7", PRO_MK3_HEADER + "0E 01 F7", PRO_MK3_HEADER + "0E 00 F7");
+        assertModeCommands (new LaunchpadXControllerDefinition (), X_HEADER + "10 00 F7", X_HEADER + "0E 01 F7", X_HEADER + "0E 00 F7");
+        assertModeCommands (new LaunchpadMiniMkIIIControllerDefinition (), MINI_MK3_HEADER + "10 00 F7", MINI_MK3_HEADER + "0E 01 F7", MINI_MK3_HEADER + "0E 00 F7");
+    }
+
+
+    @Test
+    void logo ()
+    {
+        final ILaunchpadControllerDefinition pro = new LaunchpadProControllerDefinition ();
+        final CapturingMidiOutput proOutput = new CapturingMidiOutput ();
+        pro.setLogoColor (createSurface (pro, proOutput), 0x2D);
+        assertArrayEquals (SysExBuilder.fromHex (PRO_HEADER + "0A 63 " + StringUtils.toHexStr (0x2D) + " F7"), proOutput.getLastSysex ());
+
+        final ILaunchpadControllerDefinition proMk3 = new LaunchpadProMk3ControllerDefinition ();
+        final CapturingMidiOutput proMk3Output = new CapturingMidiOutput ();
+        proMk3.setLogoColor (createSurface (proMk3, proMk3Output), 0x7F);
+        assertArrayEquals (SysExBuilder.fromHex (PRO_MK3_HEADER + "03 00 63 " + StringUtils.toHexStr (0x7F) + " F7"), proMk3Output.getLastSysex ());
+    }
+
+
+    @Test
+    void brightness ()
+    {
+        assertBrightness (new LaunchpadXControllerDefinition (), "F0 00 20 29 02 0C 08 %02X F7");
+        assertBrightness (new LaunchpadMiniMkIIIControllerDefinition (), "F0 00 20 29 02 0D 08 %02X F7");
+    }
+
+
+    private static void assertModeCommands (final ILaunchpadControllerDefinition definition, final String standalone, final String program, final String reset)
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final LaunchpadControlSurface surface = createSurface (definition, output);
+
+        surface.setLaunchpadToStandalone ();
+        assertArrayEquals (SysExBuilder.fromHex (standalone), output.getLastSysex ());
+        surface.setLaunchpadToPrgMode ();
+        assertArrayEquals (SysExBuilder.fromHex (program), output.getLastSysex ());
+
+        // The MkII has no hardware MIDI mode
+        output.clear ();
+        definition.resetMode (surface);
+        if (reset == null)
+            assertEquals (0, output.getSysex ().size ());
+        else
+            assertArrayEquals (SysExBuilder.fromHex (reset), output.getLastSysex ());
+    }
+
+
+    private static void assertBrightness (final ILaunchpadControllerDefinition definition, final String brightnessSysex)
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final LaunchpadControlSurface surface = createSurface (definition, output);
+
+        surface.updateBrightness ();
+        final int padBrightness = surface.getConfiguration ().getPadBrightness ();
+        assertArrayEquals (SysExBuilder.fromHex (String.format (brightnessSysex, Integer.valueOf (padBrightness))), output.getLastSysex ());
+    }
+
+
+    private static void assertMessages (final List<String> expected, final List<byte []> actual)
+    {
+        assertEquals (expected.size (), actual.size ());
+        for (int i = 0; i < expected.size (); i++)
+            assertArrayEquals (SysExBuilder.fromHex (expected.get (i)), actual.get (i));
+    }
+
+
+    private static LaunchpadControlSurface createSurface (final ILaunchpadControllerDefinition definition, final CapturingMidiOutput output)
+    {
+        final FakeHost host = new FakeHost ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public IHwSurfaceFactory createSurfaceFactory (final double width, final double height)
+            {
+                return Stubs.createNested (IHwSurfaceFactory.class);
+            }
+        };
+        final LaunchpadConfiguration configuration = new LaunchpadConfiguration (host, null, Collections.emptyList (), definition);
+        final LaunchpadControlSurface surface = new LaunchpadControlSurface (host, new ColorManager (), configuration, output, Stubs.create (IMidiInput.class), definition);
+        // Remove the device inquiry
+        output.clear ();
+        return surface;
+    }
+
+
+    /**
+     * The lighting update of the Pro Mk3, X and Mini Mk3 as it was formatted before the migration.
+     *
+     * @param header The header of the device
+     * @param padInfos The pads to update
+     * @return The hex string
+     */
+    private static List<String> createLightingUpdate (final String header, final Map<Integer, LightInfo> padInfos)
+    {
+        final StringBuilder sb = new StringBuilder (header).append ("03 ");
+        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        {
+            final int note = e.getKey ().intValue ();
+            final LightInfo info = e.getValue ();
+
+            if (info.getBlinkColor () <= 0)
+                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            else if (info.isFast ())
+                sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            else
+                sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+        }
+        return Collections.singletonList (sb.append ("F7").toString ());
+    }
+
+
+    /**
+     * The updates of the MkII and Pro as they were formatted before the migration.
+     *
+     * @param header The header of the device
+     * @param padInfos The pads to update
+     * @param blinkPrefix The MkII has an additional 00 before each blinking pad
+     * @return The hex strings
+     */
+    private static List<String> createBlinkUpdates (final String header, final Map<Integer, LightInfo> padInfos, final String blinkPrefix)
+    {
+        final StringBuilder sbNormal = new StringBuilder ();
+        final StringBuilder sbFlash = new StringBuilder ();
+        final StringBuilder sbPulse = new StringBuilder ();
+
+        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        {
+            final int note = e.getKey ().intValue ();
+            final LightInfo info = e.getValue ();
+
+            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            if (info.getBlinkColor () > 0)
+            {
+                final StringBuilder sb = info.isFast () ? sbFlash : sbPulse;
+                sb.append (blinkPrefix).append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+            }
+        }
+
+        final List<String> result = new ArrayList<> (3);
+        if (sbNormal.length () > 0)
+            result.add (header + "0A " + sbNormal + "F7");
+        if (sbFlash.length () > 0)
+            result.add (header + "23 " + sbFlash + "F7");
+        if (sbPulse.length () > 0)
+            result.add (header + "28 " + sbPulse + "F7");
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.novation.sl.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the display messages of the SL with the hex strings which were sent before the
+ * migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class SLDisplayTest
+{
+    private static final String SYSEX_HEADER = "F0 00 20 29 03 03 12 00 04 00 ";
+    private static final int [] ROW_MAP      =
+    {
+        0,
+        2,
+        1,
+        3
+    };
+
+
+    @Test
+    void linesAreIdenticalToTheHexStrings ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final SLDisplay display = new SLDisplay (new FakeHost (), output, null, null);
+
+        final String text = StringUtils.pad ("Track 1  Track 2  " + SLDisplay.RIGHT_ARROW + "Master", 72);
+        for (int row = 0; row < 4; row++)
+        {
+            display.writeLine (row, text, null);
+            assertArrayEquals (SysExBuilder.fromHex (createHexString (row, text)), output.getLastSysex ());
+        }
+    }
+
+
+    /**
+     * The message as it was formatted before the migration.
+     *
+     * @param row The row
+     * @param text The text of the row
+     * @return The hex string
+     */
+    private static String createHexString (final int row, final String text)
+    {
+        final int length = text.length ();
+        final int [] array = new int [length];
+        for (int i = 0; i < length; i++)
+            array[i] = text.charAt (i);
+        return SYSEX_HEADER + "02 01 00 " + uint7ToHex (ROW_MAP[row] + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7";
+    }
+
+
+    private static String uint7ToHex (final int x)
+    {
+        final int upper = x >> 4 & 0x7;
+        final int lower = x & 0xF;
+        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
+    }
+}
@@ -0,0 +1,135 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.novation.slmkiii.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the display messages of the SL MkIII with the hex strings which were sent before the
+ * migration to the byte messages.
+ *
+ * @author Jürgen Moßgraber
+ */
+class SLMkIIIDisplayTest
+{
+    private static final String MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
+    private static final String MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
+    private static final String MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
+    private static final String MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+    private static final String MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+
+    private CapturingMidiOutput output;
+    private SLMkIIIDisplay      display;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.output = new CapturingMidiOutput ();
+        this.display = new SLMkIIIDisplay (new FakeHost (), this.output);
+    }
+
+
+    @Test
+    void layout ()
+    {
+        this.display.setDisplayLayout (SLMkIIIDisplay.SCREEN_LAYOUT_BOX);
+        assertArrayEquals (SysExBuilder.fromHex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, SLMkIIIDisplay.SCREEN_LAYOUT_BOX)), this.output.getSysex ().get (0));
+    }
+
+
+    @Test
+    void faderLED ()
+    {
+        final ColorEx color = new ColorEx (1.0, 0.5, 0.0);
+        this.display.setFaderLEDColor (7, color);
+
+        final int [] rgb = color.toIntRGB127 ();
+        assertArrayEquals (SysExBuilder.fromHex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (7), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2]))), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void colorAndValueProperties ()
+    {
+        this.display.setPropertyColor (8, 1, 0x45);
+        assertArrayEquals (SysExBuilder.fromHex (createProperty (2, 8, 1, StringUtils.toHexStr (0x45))), this.output.getLastSysex ());
+
+        this.display.setPropertyValue (3, 2, 1);
+        assertArrayEquals (SysExBuilder.fromHex (createProperty (3, 3, 2, StringUtils.toHexStr (1))), this.output.getLastSysex ());
+    }
+
+
+    @Test
+    void textProperties ()
+    {
+        final String [] cells =
+        {
+            "Volume",
+            "Pan",
+            "Send 1",
+            "",
+            "A long name",
+            "Track 6",
+            "7",
+            "Mix",
+            "Master"
+        };
+        final StringBuilder text = new StringBuilder ();
+        for (final String cell: cells)
+            text.append (StringUtils.pad (cell, 9));
+        this.display.writeLine (2, text.toString (), null);
+
+        final List<byte []> sysex = this.output.getSysex ();
+        assertEquals (9, sysex.size ());
+        for (int i = 0; i < 9; i++)
+        {
+            String ascii = StringUtils.fixASCII (cells[i]);
+            if (ascii.length () > 9)
+                ascii = ascii.substring (0, 9);
+            final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
+            assertArrayEquals (SysExBuilder.fromHex (createProperty (1, i, 2, value)), sysex.get (i));
+        }
+    }
+
+
+    @Test
+    void notification ()
+    {
+        final String message = "Quantize: 1/16 (with swing)";
+        this.display.notify (message);
+
+        final String content = StringUtils.asciiToHex (message.substring (0, 18)) + "00 " + StringUtils.asciiToHex (message.substring (18)) + "00";
+        assertArrayEquals (SysExBuilder.fromHex (String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content)), this.output.getLastSysex ());
+    }
+
+
+    /**
+     * The property message as it was formatted before the migration.
+     *
+     * @param property The property
+     * @param hPosition The horizontal position
+     * @param vPosition The vertical position
+     * @param values The formatted values
+     * @return The hex string
+     */
+    private static String createProperty (final int property, final int hPosition, final int vPosition, final String values)
+    {
+        return String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), Integer.valueOf (property), Integer.valueOf (vPosition), values);
+    }
+}
@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.oxi.one.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.controller.oxi.one.OxiOneConfiguration;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+import de.mossgrabers.framework.graphics.FakeBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests that packing only the changed columns of the OXI One display gives the same frame as
+ * packing the full display.
+ *
+ * @author Jürgen Moßgraber
+ */
+class OxiOneDisplayTest
+{
+    private static final int          FRAME_SIZE = 8 + 128 * 64 / 4;
+
+    private final List<OxiOneDisplay> displays   = new ArrayList<> ();
+    private FakeHost                  host;
+    private OxiOneConfiguration       configuration;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.configuration = new OxiOneConfiguration (this.host, null, Collections.emptyList ());
+    }
+
+
+    @AfterEach
+    void tearDown ()
+    {
+        for (final OxiOneDisplay display: this.displays)
+            display.shutdown ();
+    }
+
+
+    @Test
+    void goldenBytes ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final OxiOneDisplay display = this.createDisplay (output);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        image.setPixel (0, 0, true);
+        image.setPixel (127, 63, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 1);
+
+        final byte [] expected = new byte [FRAME_SIZE];
+        expected[0] = (byte) 0xF0;
+        expected[1] = 0x00;
+        expected[2] = 0x21;
+        expected[3] = 0x5B;
+        expected[4] = 0x00;
+        expected[5] = 0x01;
+        expected[6] = 0x03;
+        // Top left pixel is bit 0 of the lower nibble of the first column
+        expected[8] = 0x01;
+        // Bottom right pixel is bit 3 of the upper nibble of the last column
+        expected[7 + 2 * (7 * 128 + 127)] = 0x08;
+        expected[FRAME_SIZE - 1] = (byte) 0xF7;
+        assertArrayEquals (expected, output.getLastSysex ());
+
+        // Clearing a pixel must clear the packed bit again
+        image.setPixel (0, 0, false);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 2);
+        expected[8] = 0x00;
+        assertArrayEquals (expected, output.getLastSysex ());
+    }
+
+
+    @Test
+    void unchangedFrameSendsNothing ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final OxiOneDisplay display = this.createDisplay (output);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        image.setPixel (5, 5, true);
+        display.send (image);
+        await ( () -> output.getSysex ().size () == 1);
+        display.send (image);
+        sleep (100);
+        assertEquals (1, output.getSysex ().size ());
+    }
+
+
+    @Test
+    void partialPackingMatchesFullPacking ()
+    {
+        final CapturingMidiOutput partialOutput = new CapturingMidiOutput ();
+        final OxiOneDisplay partialDisplay = this.createDisplay (partialOutput);
+        final FakeBitmap image = new FakeBitmap (128, 64);
+
+        final Random random = new Random (815);
+        for (int frame = 0; frame < 50; frame++)
+        {
+            for (int i = 0; i < 20; i++)
+                image.setPixel (random.nextInt (128), random.nextInt (64), random.nextBoolean ());
+            partialDisplay.send (image);
+            sleep (random.nextInt (5));
+        }
+
+        final CapturingMidiOutput fullOutput = new CapturingMidiOutput ();
+        final OxiOneDisplay fullDisplay = this.createDisplay (fullOutput);
+        fullDisplay.send (image);
+
+        await ( () -> fullOutput.getLastSysex () != null && Arrays.equals (partialOutput.getLastSysex (), fullOutput.getLastSysex ()));
+    }
+
+
+    private OxiOneDisplay createDisplay (final CapturingMidiOutput output)
+    {
+        final OxiOneDisplay display = new OxiOneDisplay (this.host, output, this.configuration, 127);
+        this.displays.add (display);
+        return display;
+    }
+
+
+    private static void await (final BooleanSupplier condition)
+    {
+        final long end = System.currentTimeMillis () + 5000;
+        while (!condition.getAsBoolean ())
+        {
+            assertTrue (System.currentTimeMillis () < end, "Timeout");
+            sleep (5);
+        }
+    }
+
+
+    private static void sleep (final long millis)
+    {
+        try
+        {
+            Thread.sleep (millis);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.yaeltex.turn.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.midi.CapturingMidiOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Sends the LED updates of a page change through the output queue on the virtual clock of the fake
+ * host and measures the message counts and the burst sizes.
+ *
+ * @author Jürgen Moßgraber
+ */
+class YaeltexTurnOutputQueueTest
+{
+    private static final int       MESSAGE_SIZE          = 3;
+    private static final int       BYTES_PER_MILLISECOND = 3;
+    private static final int       MAX_BURST_BYTES       = 96;
+
+    private FakeHost               host;
+    private CapturingMidiOutput    output;
+    private YaeltexTurnOutputQueue queue;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.output = new CapturingMidiOutput ();
+        this.queue = new YaeltexTurnOutputQueue (this.host, this.output, this.host::getTime, 3, BYTES_PER_MILLISECOND, MAX_BURST_BYTES);
+    }
+
+
+    @Test
+    void unchangedValuesAreNotSent ()
+    {
+        this.queueKnobs (10, 5);
+        this.queue.flush ();
+        this.host.advance (1000);
+        assertEquals (64, this.countMessages ());
+
+        this.output.clear ();
+        this.queueKnobs (10, 5);
+        this.queue.flush ();
+        assertEquals (0, this.countMessages ());
+
+        // Only the changed knob is sent
+        this.queue.sendCC (YaeltexTurnControlSurface.PRIORITY_KNOB, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, 3, 11);
+        this.queue.flush ();
+        assertEquals (1, this.countMessages ());
+
+        // A change which is reverted before it was sent is dropped
+        this.output.clear ();
+        this.queue.sendCC (YaeltexTurnControlSurface.PRIORITY_KNOB, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, 4, 12);
+        this.queue.sendCC (YaeltexTurnControlSurface.PRIORITY_KNOB, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, 4, 10);
+        this.queue.flush ();
+        assertEquals (0, this.countMessages ());
+
+        // All values are sent again after the cache was cleared
+        this.queue.clearCache ();
+        this.queueKnobs (10, 5);
+        this.queue.flush ();
+        this.host.advance (1000);
+        assertEquals (64, this.countMessages ());
+    }
+
+
+    @Test
+    void pageChangeIsPacedAndComplete ()
+    {
+        // A page change rewrites all knob rings, pads and buttons
+        this.queuePageChange (10, 5, 20);
+        final int numMessages = 32 * 2 + 32 + 16;
+
+        final List<Integer> messagesPerMillisecond = new ArrayList<> ();
+        this.queue.flush ();
+        int sent = this.countMessages ();
+        messagesPerMillisecond.add (Integer.valueOf (sent));
+        for (int i = 0; i < 200; i++)
+        {
+            this.host.advance (1);
+            final int count = this.countMessages ();
+            messagesPerMillisecond.add (Integer.valueOf (count - sent));
+            sent = count;
+        }
+
+        assertEquals (numMessages, sent);
+        assertEquals (0, this.host.getPendingTimers ());
+
+        // The first burst uses the full budget, then the budget is refilled over time
+        assertEquals (MAX_BURST_BYTES / MESSAGE_SIZE, messagesPerMillisecond.get (0).intValue ());
+        for (int window = 1; window <= messagesPerMillisecond.size (); window++)
+        {
+            for (int start = 0; start + window <= messagesPerMillisecond.size (); start++)
+            {
+                int bytes = 0;
+                for (int i = start; i < start + window; i++)
+                    bytes += messagesPerMillisecond.get (i).intValue () * MESSAGE_SIZE;
+                assertTrue (bytes <= MAX_BURST_BYTES + (window - 1) * BYTES_PER_MILLISECOND, "Window " + start + "-" + window + ": " + bytes);
+            }
+        }
+
+        // The remaining messages are sent as soon as the budget allows it
+        final int expectedDuration = ((numMessages - MAX_BURST_BYTES / MESSAGE_SIZE) * MESSAGE_SIZE + BYTES_PER_MILLISECOND - 1) / BYTES_PER_MILLISECOND;
+        int lastMillisecond = 0;
+        for (int i = 0; i < messagesPerMillisecond.size (); i++)
+        {
+            if (messagesPerMillisecond.get (i).intValue () > 0)
+                lastMillisecond = i;
+        }
+        assertEquals (expectedDuration, lastMillisecond);
+    }
+
+
+    @Test
+    void knobRingsOfTheActivePageComeFirst ()
+    {
+        // The larger budget is filled up over time
+        this.queue.setMaxBurstBytes (32 * 2 * MESSAGE_SIZE);
+        this.queue.flush ();
+        this.host.advance (1000);
+
+        this.queuePageChange (10, 5, 20);
+        this.queue.flush ();
+
+        // All rings (value and color) but no pads and buttons
+        assertEquals (64, this.output.getCCs ().size ());
+        assertEquals (0, this.output.getNotes ().size ());
+        for (final int [] cc: this.output.getCCs ())
+            assertTrue (cc[0] == YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN || cc[0] == YaeltexTurnControlSurface.MIDI_CHANNEL_SET_COLOR);
+
+        // Pads follow before the buttons
+        this.output.clear ();
+        this.host.advance (32 * MESSAGE_SIZE / BYTES_PER_MILLISECOND);
+        assertEquals (32, this.output.getNotes ().size ());
+        for (final int [] note: this.output.getNotes ())
+            assertEquals (20, note[2]);
+    }
+
+
+    @Test
+    void changedSettingsAreApplied ()
+    {
+        this.queue.setBytesPerMillisecond (12);
+        this.queue.setMaxBurstBytes (12);
+        this.queuePageChange (10, 5, 20);
+        this.queue.flush ();
+        assertEquals (4, this.countMessages ());
+
+        this.host.advance (1);
+        assertEquals (8, this.countMessages ());
+
+        // Everything is sent on shutdown
+        this.queue.flushAll ();
+        assertEquals (32 * 2 + 32 + 16, this.countMessages ());
+    }
+
+
+    private void queueKnobs (final int value, final int color)
+    {
+        for (int i = 0; i < 32; i++)
+        {
+            this.queue.sendCC (YaeltexTurnControlSurface.PRIORITY_KNOB, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, YaeltexTurnControlSurface.KNOB_DIGITAL_ROW1 + i, value);
+            this.queue.sendCC (YaeltexTurnControlSurface.PRIORITY_KNOB, YaeltexTurnControlSurface.MIDI_CHANNEL_SET_COLOR, YaeltexTurnControlSurface.KNOB_DIGITAL_ROW1 + i, color);
+        }
+    }
+
+
+    private void queuePageChange (final int value, final int color, final int padColor)
+    {
+        // Buttons first to check that they are sent last
+        for (int i = 0; i < 16; i++)
+            this.queue.sendNote (YaeltexTurnControlSurface.PRIORITY_BUTTON, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, YaeltexTurnControlSurface.BUTTON_SESSION + i, 127);
+        for (int i = 0; i < 32; i++)
+            this.queue.sendNote (YaeltexTurnControlSurface.PRIORITY_PAD, YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, YaeltexTurnControlSurface.BUTTON_ROW1_1 + i, padColor);
+        this.queueKnobs (value, color);
+    }
+
+
+    private int countMessages ()
+    {
+        return this.output.getCCs ().size () + this.output.getNotes ().size ();
+    }
+}
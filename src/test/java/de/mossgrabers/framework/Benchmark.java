@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+
+/**
+ * A minimal micro-benchmark runner for comparing two implementations. Each candidate is warmed up
+ * before it is measured. The results of the candidates are summed up and printed, which keeps the
+ * JIT from removing the measured code. Benchmarks are started via their main method and are not
+ * part of the unit tests.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class Benchmark
+{
+    private static final int WARMUP_ROUNDS  = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+
+    /**
+     * Measure a candidate and print the average time per operation.
+     *
+     * @param name The name of the candidate
+     * @param operations The number of operations which are executed by one call of the candidate
+     * @param candidate The code to measure, returns a value depending on the results
+     * @return The average nanoseconds per operation
+     */
+    public static double measure (final String name, final int operations, final LongSupplier candidate)
+    {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+            sink += candidate.getAsLong ();
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++)
+        {
+            final long start = System.nanoTime ();
+            sink += candidate.getAsLong ();
+            best = Math.min (best, System.nanoTime () - start);
+        }
+
+        final double nanosPerOperation = (double) best / operations;
+        System.out.println (String.format (Locale.US, "%-40s %10.1f ns/op (%d)", name, Double.valueOf (nanosPerOperation), Long.valueOf (sink)));
+        return nanosPerOperation;
+    }
+
+
+    /**
+     * Private due to helper class.
+     */
+    private Benchmark ()
+    {
+        // Intentionally empty
+    }
+}
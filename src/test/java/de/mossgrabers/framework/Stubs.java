@@ -0,0 +1,116 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+
+/**
+ * Creates stubs of interfaces for tests. Methods return the configured result for their name or
+ * the default value of their return type (null, 0 or false).
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class Stubs
+{
+    /**
+     * Create a stub which returns only default values.
+     *
+     * @param <T> The type of the interface
+     * @param type The interface
+     * @return The stub
+     */
+    public static <T> T create (final Class<T> type)
+    {
+        return create (type, Map.of ());
+    }
+
+
+    /**
+     * Create a stub.
+     *
+     * @param <T> The type of the interface
+     * @param type The interface
+     * @param results The results of the methods by their name
+     * @return The stub
+     */
+    public static <T> T create (final Class<T> type, final Map<String, Object> results)
+    {
+        return create (type, results, false);
+    }
+
+
+    /**
+     * Create a stub which returns stubs for all methods which return an interface, e.g. a surface
+     * factory for creating the hardware elements of a control surface.
+     *
+     * @param <T> The type of the interface
+     * @param type The interface
+     * @return The stub
+     */
+    public static <T> T createNested (final Class<T> type)
+    {
+        return create (type, Map.of (), true);
+    }
+
+
+    private static <T> T create (final Class<T> type, final Map<String, Object> results, final boolean isNested)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, (proxy, method, args) -> {
+
+            final String name = method.getName ();
+            if ("toString".equals (name))
+                return type.getSimpleName () + " stub";
+            if ("hashCode".equals (name))
+                return Integer.valueOf (System.identityHashCode (proxy));
+            if ("equals".equals (name))
+                return Boolean.valueOf (proxy == args[0]);
+
+            final Object result = results.get (name);
+            if (result != null)
+                return result;
+            final Class<?> returnType = method.getReturnType ();
+            if (isNested && returnType.isInterface ())
+                return create (returnType, results, true);
+            return getDefault (returnType);
+
+        }));
+    }
+
+
+    private static Object getDefault (final Class<?> type)
+    {
+        if (!type.isPrimitive () || type == void.class)
+            return null;
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == char.class)
+            return Character.valueOf ((char) 0);
+        if (type == byte.class)
+            return Byte.valueOf ((byte) 0);
+        if (type == short.class)
+            return Short.valueOf ((short) 0);
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        return Double.valueOf (0);
+    }
+
+
+    /**
+     * Private due to helper class.
+     */
+    private Stubs ()
+    {
+        // Intentionally empty
+    }
+}
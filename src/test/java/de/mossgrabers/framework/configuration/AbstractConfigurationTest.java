@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.data.DeviceCatalog;
+import de.mossgrabers.framework.daw.data.TestDeviceMetadata;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the look up of the favorite devices.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AbstractConfigurationTest
+{
+    private static final DeviceCatalog CATALOG = new DeviceCatalog (List.of (new TestDeviceMetadata ("Phase-4", null), new TestDeviceMetadata ("Diva", "VST3"), new TestDeviceMetadata ("Diva", "CLAP")));
+
+
+    @Test
+    void favoriteIsFoundByFullName ()
+    {
+        assertEquals ("Diva (VST3)", AbstractConfiguration.getFavorite (CATALOG, "Diva (VST3)").get ().fullName ());
+    }
+
+
+    @Test
+    void missingFavoriteFallsBackToOtherFormat ()
+    {
+        assertEquals ("Diva (CLAP)", AbstractConfiguration.getFavorite (CATALOG, "Diva (VST2)").get ().fullName ());
+    }
+
+
+    @Test
+    void unknownFavoriteFallsBackToFirstDevice ()
+    {
+        assertEquals ("Phase-4", AbstractConfiguration.getFavorite (CATALOG, "Dive (VST2)").get ().fullName ());
+        assertEquals ("Phase-4", AbstractConfiguration.getFavorite (CATALOG, "Polysynth").get ().fullName ());
+        assertTrue (AbstractConfiguration.getFavorite (new DeviceCatalog (Collections.emptyList ()), "Diva (VST2)").isEmpty ());
+    }
+}
@@ -0,0 +1,278 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.graphics.FakeBitmap;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.OptionsComponent;
+import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+
+
+/**
+ * Checks that the graphic display only renders frames which differ from the previous one and that
+ * the retained components are updated to the same state as newly created ones.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AbstractGraphicDisplayTest
+{
+    private static final int        NUM_SLOTS = 8;
+    private static final ColorEx [] COLORS    =
+    {
+        ColorEx.BLACK,
+        ColorEx.RED,
+        ColorEx.GREEN,
+        null
+    };
+
+    private TestDisplay             display;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.display = new TestDisplay ();
+    }
+
+
+    @AfterEach
+    void tearDown ()
+    {
+        this.display.shutdown ();
+    }
+
+
+    @Test
+    void unchangedFramesAreNotRendered ()
+    {
+        for (int i = 0; i < 10; i++)
+            this.sendFrame (42);
+
+        assertEquals (1, this.display.renders);
+        assertEquals (10, this.display.sends);
+    }
+
+
+    @Test
+    void changedValueRendersOnce ()
+    {
+        this.sendFrame (42);
+        this.sendFrame (43);
+        this.sendFrame (43);
+
+        assertEquals (2, this.display.renders);
+    }
+
+
+    @Test
+    void changedSlotCountRenders ()
+    {
+        this.sendFrame (42);
+        for (int i = 0; i < NUM_SLOTS - 1; i++)
+            this.display.addParameterElement ("Param " + i, 42, "42", false, -1);
+        this.display.send ();
+        this.sendFrame (42);
+
+        assertEquals (3, this.display.renders);
+    }
+
+
+    @Test
+    void changedComponentTypeRenders ()
+    {
+        this.sendFrame (42);
+        for (int i = 0; i < NUM_SLOTS; i++)
+            this.display.addOptionElement ("Param " + i, "", false, "", "", false, false);
+        this.display.send ();
+
+        assertEquals (2, this.display.renders);
+    }
+
+
+    @Test
+    void notificationRenders ()
+    {
+        this.sendFrame (42);
+        this.display.setNotificationMessage ("Hello");
+        this.sendFrame (42);
+        this.sendFrame (42);
+
+        assertEquals (2, this.display.renders);
+    }
+
+
+    @Test
+    void retainedParameterMatchesNewComponent ()
+    {
+        final Random random = new Random (4711);
+        final Object [] previous = randomParameter (random);
+        final ParameterComponent retained = createParameter (previous);
+        for (int i = 0; i < 10000; i++)
+        {
+            final Object [] values = random.nextInt (4) == 0 ? previous.clone () : randomParameter (random);
+            final ParameterComponent expected = createParameter (values);
+            final boolean isDifferent = !expected.equals (createParameter (previous));
+
+            assertEquals (Boolean.valueOf (isDifferent), Boolean.valueOf (retained.update ((String) values[0], ((Boolean) values[1]).booleanValue (), (String) values[2], (ChannelType) values[3], (ColorEx) values[4], ((Boolean) values[5]).booleanValue (), (String) values[6], ((Integer) values[7]).intValue (), ((Integer) values[8]).intValue (), (String) values[9], ((Boolean) values[10]).booleanValue ())));
+            assertEquals (expected, retained);
+            assertEquals (expected.hashCode (), retained.hashCode ());
+            System.arraycopy (values, 0, previous, 0, values.length);
+        }
+    }
+
+
+    @Test
+    void retainedChannelMatchesNewComponent ()
+    {
+        final Random random = new Random (4712);
+        final ChannelComponent retained = new ChannelComponent (ChannelComponent.EDIT_TYPE_ALL, "", false, "", ColorEx.BLACK, false, ChannelType.AUDIO, 0, 0, "", 0, 0, "", 0, 0, false, false, false, false, 0, false);
+        for (int i = 0; i < 10000; i++)
+        {
+            final String name = "Track " + random.nextInt (3);
+            final ChannelType type = random.nextBoolean () ? ChannelType.AUDIO : ChannelType.INSTRUMENT;
+            final ColorEx color = COLORS[random.nextInt (COLORS.length - 1)];
+            final int volume = random.nextInt (3);
+            final int pan = random.nextInt (3);
+            final int vu = random.nextInt (3);
+            final boolean isMute = random.nextBoolean ();
+            final boolean isPinned = random.nextBoolean ();
+
+            final ChannelComponent expected = new ChannelComponent (ChannelComponent.EDIT_TYPE_ALL, "Menu", false, name, color, true, type, volume, volume, volume + " dB", pan, pan, "C", vu, vu, isMute, false, false, true, 0, isPinned);
+            final boolean isDifferent = !expected.equals (retained);
+            assertEquals (Boolean.valueOf (isDifferent), Boolean.valueOf (retained.update (ChannelComponent.EDIT_TYPE_ALL, "Menu", false, name, color, true, type, volume, volume, volume + " dB", pan, pan, "C", vu, vu, isMute, false, false, true, 0, isPinned)));
+            assertEquals (expected, retained);
+        }
+    }
+
+
+    @Test
+    void retainedOptionsMatchNewComponent ()
+    {
+        final Random random = new Random (4713);
+        final OptionsComponent retained = new OptionsComponent ("", "", false, null, "", "", false, null, false, false);
+        for (int i = 0; i < 10000; i++)
+        {
+            final String top = "Top " + random.nextInt (3);
+            final boolean isTopSelected = random.nextBoolean ();
+            final ColorEx color = COLORS[random.nextInt (COLORS.length)];
+            final boolean useSmallTopMenu = random.nextBoolean ();
+
+            final OptionsComponent expected = new OptionsComponent ("Header", top, isTopSelected, color, "", "Bottom", false, null, useSmallTopMenu, false);
+            final boolean isDifferent = !expected.equals (retained);
+            assertEquals (Boolean.valueOf (isDifferent), Boolean.valueOf (retained.update ("Header", top, isTopSelected, color, "", "Bottom", false, null, useSmallTopMenu, false)));
+            assertEquals (expected, retained);
+        }
+    }
+
+
+    private void sendFrame (final int value)
+    {
+        for (int i = 0; i < NUM_SLOTS; i++)
+            this.display.addParameterElement ("Param " + i, value, Integer.toString (value), false, -1);
+        this.display.send ();
+    }
+
+
+    private static Object [] randomParameter (final Random random)
+    {
+        final int value = random.nextInt (3);
+        return new Object []
+        {
+            "Menu " + random.nextInt (2),
+            Boolean.valueOf (random.nextBoolean ()),
+            "Track",
+            random.nextBoolean () ? ChannelType.AUDIO : null,
+            COLORS[random.nextInt (COLORS.length - 1)],
+            Boolean.valueOf (random.nextBoolean ()),
+            "Param " + random.nextInt (2),
+            Integer.valueOf (value),
+            Integer.valueOf (random.nextInt (3) - 1),
+            Integer.toString (value),
+            Boolean.valueOf (random.nextBoolean ())
+        };
+    }
+
+
+    private static ParameterComponent createParameter (final Object [] values)
+    {
+        return new ParameterComponent ((String) values[0], ((Boolean) values[1]).booleanValue (), (String) values[2], (ChannelType) values[3], (ColorEx) values[4], ((Boolean) values[5]).booleanValue (), (String) values[6], ((Integer) values[7]).intValue (), ((Integer) values[8]).intValue (), (String) values[9], ((Boolean) values[10]).booleanValue ());
+    }
+
+
+    /** Counts the rendered and sent frames. */
+    private static class TestDisplay extends AbstractGraphicDisplay
+    {
+        private int renders;
+        private int sends;
+
+
+        TestDisplay ()
+        {
+            super (new FakeHost ()
+            {
+                /** {@inheritDoc} */
+                @Override
+                public IBitmap createBitmap (final int width, final int height)
+                {
+                    return new CountingBitmap (width, height);
+                }
+            }, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (960, 160, 1023), "Test");
+
+            ((CountingBitmap) this.getImage ()).display = this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void notify (final String message)
+        {
+            this.setNotificationMessage (message);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void send (final IBitmap image)
+        {
+            this.sends++;
+        }
+    }
+
+
+    /** A bitmap which counts the calls to render. */
+    private static class CountingBitmap extends FakeBitmap
+    {
+        private TestDisplay display;
+
+
+        CountingBitmap (final int width, final int height)
+        {
+            super (width, height);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void render (final boolean enableAntialias, final IRenderer renderer)
+        {
+            this.display.renders++;
+        }
+    }
+}
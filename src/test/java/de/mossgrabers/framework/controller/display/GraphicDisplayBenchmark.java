@@ -0,0 +1,123 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+import com.sun.management.ThreadMXBean;
+
+import de.mossgrabers.framework.Benchmark;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+
+
+/**
+ * Compares filling a frame of the graphic display with newly created parameter components, which
+ * are compared to the previous frame, against updating the retained components. Only one parameter
+ * value changes every fourth frame, like when a knob is turned slowly. Prints the time and the
+ * allocated bytes per frame.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class GraphicDisplayBenchmark
+{
+    private static final int NUM_SLOTS = 8;
+    private static final int FRAMES    = 20000;
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Not used
+     */
+    public static void main (final String [] args)
+    {
+        final BenchmarkDisplay display = new BenchmarkDisplay ();
+        try
+        {
+            measure ("New components", () -> {
+                for (int frame = 0; frame < FRAMES; frame++)
+                {
+                    for (int i = 0; i < NUM_SLOTS; i++)
+                    {
+                        final int value = getValue (frame, i);
+                        display.addElement (new ParameterComponent ("Menu", false, "Track", (ChannelType) null, ColorEx.BLACK, false, "Param", value, -1, Integer.toString (value), false));
+                    }
+                    display.send ();
+                }
+                return display.sends;
+            });
+
+            measure ("Retained components", () -> {
+                for (int frame = 0; frame < FRAMES; frame++)
+                {
+                    for (int i = 0; i < NUM_SLOTS; i++)
+                    {
+                        final int value = getValue (frame, i);
+                        display.addParameterElement ("Menu", false, "Track", (ChannelType) null, ColorEx.BLACK, false, "Param", value, Integer.toString (value), false, -1);
+                    }
+                    display.send ();
+                }
+                return display.sends;
+            });
+        }
+        finally
+        {
+            display.shutdown ();
+        }
+    }
+
+
+    private static void measure (final String name, final LongSupplier candidate)
+    {
+        final ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean ();
+        Benchmark.measure (name, FRAMES, candidate);
+        final long start = bean.getCurrentThreadAllocatedBytes ();
+        candidate.getAsLong ();
+        final long bytes = bean.getCurrentThreadAllocatedBytes () - start;
+        System.out.println ("    " + bytes / FRAMES + " bytes/frame");
+    }
+
+
+    private static int getValue (final int frame, final int slot)
+    {
+        return slot == 0 ? frame / 4 % 1024 : 512;
+    }
+
+
+    /** Discards the rendered frames. */
+    private static class BenchmarkDisplay extends AbstractGraphicDisplay
+    {
+        private long sends;
+
+
+        BenchmarkDisplay ()
+        {
+            super (new FakeHost (), new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (960, 160, 1023), "Benchmark");
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void notify (final String message)
+        {
+            this.setNotificationMessage (message);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void send (final IBitmap image)
+        {
+            this.sends++;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.utils.TaskWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the movements of the virtual faders on the shared tick with the previous implementation,
+ * which scheduled its own tasks, on the virtual clock of the fake host.
+ *
+ * @author Jürgen Moßgraber
+ */
+class VirtualFaderImplTest
+{
+    private static final int    LOOP_DELAY  = 6;
+
+    // @formatter:off
+    private static final int [] SPEED_SCALE =
+    {
+        1,   1,  1,  1,  1,  1,  1,  1,
+        1,   1,  1,  1,  1,  1,  1,  1,
+        1,   1,  1,  1,  1,  1,  1,  1,
+        2,   2,  2,  2,  2,  2,  2,  2,
+        2,   2,  2,  2,  2,  2,  2,  2,
+        2,   2,  2,  2,  2,  2,  2,  2,
+        3,   3,  3,  3,  3,  3,  3,  3,
+        3,   3,  3,  3,  3,  3,  3,  3,
+
+        4,   4,  4,  4,  4,  4,  4,  4,
+        5,   5,  5,  5,  5,  5,  5,  5,
+        6,   6,  6,  6,  7,  7,  7,  7,
+        8,   8,  8,  8,  9,  9,  9,  9,
+        10, 10, 10, 10, 11, 11, 11, 11,
+        12, 12, 12, 12, 13, 13, 13, 13,
+        14, 14, 15, 15, 16, 16, 17, 17,
+        18, 19, 20, 21, 22, 23, 24, 25
+    };
+    // @formatter:on
+
+
+    /**
+     * A parameter which records all values which are set. The new value is visible after the
+     * given latency.
+     */
+    private static class RecordingParameter implements IVirtualFaderCallback
+    {
+        private final FakeHost      host;
+        private final int           latency;
+        private final List<long []> trajectory = new ArrayList<> ();
+        private int                 value;
+
+
+        RecordingParameter (final FakeHost host, final int value, final int latency)
+        {
+            this.host = host;
+            this.value = value;
+            this.latency = latency;
+        }
+
+
+        @Override
+        public int getValue ()
+        {
+            return this.value;
+        }
+
+
+        @Override
+        public void setValue (final int value)
+        {
+            this.trajectory.add (new long []
+            {
+                this.host.getTime (),
+                value
+            });
+
+            if (this.latency == 0)
+                this.value = value;
+            else
+                this.host.scheduleTask ( () -> this.value = value, this.latency);
+        }
+    }
+
+
+    @Test
+    void trajectoriesMatchPreviousImplementation ()
+    {
+        for (final int velocity: new int []
+        {
+            0,
+            1,
+            40,
+            64,
+            100,
+            127
+        })
+        {
+            for (final int startValue: new int []
+            {
+                0,
+                64,
+                127
+            })
+            {
+                for (int row = 0; row < 8; row++)
+                {
+                    final String message = "Velocity " + velocity + ", start " + startValue + ", row " + row;
+
+                    final FakeHost host = new FakeHost ();
+                    final FaderAnimator animator = new FaderAnimator (new TaskWheel (host, host::getTime));
+                    final RecordingParameter parameter = new RecordingParameter (host, startValue, 0);
+                    new VirtualFaderImpl (host, animator, parameter).moveTo (row, velocity);
+                    host.advance (10000);
+                    assertFalse (animator.isTicking (), message);
+
+                    final FakeHost baselineHost = new FakeHost ();
+                    final RecordingParameter baselineParameter = new RecordingParameter (baselineHost, startValue, 0);
+                    new BaselineFader (baselineHost, baselineParameter, parameter.value, velocity).move ();
+                    baselineHost.advance (10000);
+
+                    assertTrajectory (baselineParameter.trajectory, parameter.trajectory, message);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    void slowParameterIsNotForcedWhenStartedBetweenTicks ()
+    {
+        final FakeHost host = new FakeHost ();
+        final FaderAnimator animator = new FaderAnimator (new TaskWheel (host, host::getTime));
+
+        // Keep the tick running with a slow movement of another fader
+        new VirtualFaderImpl (host, animator, new RecordingParameter (host, 0, 0)).moveTo (7, 0);
+        host.advance (4);
+
+        // The value of this parameter is only updated after 5ms, which is less than LOOP_DELAY,
+        // but the next tick follows after 2ms
+        final RecordingParameter parameter = new RecordingParameter (host, 0, 5);
+        new VirtualFaderImpl (host, animator, parameter).moveTo (7, 0);
+        host.advance (10000);
+
+        // Moved in steps of 6, the destination was not forced
+        final List<long []> trajectory = parameter.trajectory;
+        assertTrue (trajectory.size () > 2);
+        for (int i = 0; i < trajectory.size (); i++)
+            assertEquals (Math.min (127, 6 * (i + 1)), trajectory.get (i)[1]);
+        assertEquals (127, parameter.getValue ());
+    }
+
+
+    @Test
+    void switchParameterIsForcedToTheDestination ()
+    {
+        final FakeHost host = new FakeHost ();
+        final FaderAnimator animator = new FaderAnimator (new TaskWheel (host, host::getTime));
+
+        // Only knows on and off
+        final List<Integer> values = new ArrayList<> ();
+        final IVirtualFaderCallback parameter = new IVirtualFaderCallback ()
+        {
+            private int value = 0;
+
+
+            @Override
+            public int getValue ()
+            {
+                return this.value;
+            }
+
+
+            @Override
+            public void setValue (final int value)
+            {
+                values.add (Integer.valueOf (value));
+                this.value = value < 64 ? 0 : 127;
+            }
+        };
+
+        new VirtualFaderImpl (host, animator, parameter).moveTo (7, 0);
+        host.advance (LOOP_DELAY);
+        assertEquals (List.of (Integer.valueOf (6), Integer.valueOf (127)), values);
+        host.advance (1000);
+        assertEquals (2, values.size ());
+    }
+
+
+    /**
+     * Same values in the same order. The steps are delayed by less than a tick each, since the
+     * delays between the steps are rounded up to whole ticks.
+     */
+    private static void assertTrajectory (final List<long []> expected, final List<long []> actual, final String message)
+    {
+        assertEquals (expected.size (), actual.size (), message);
+        for (int i = 0; i < expected.size (); i++)
+        {
+            assertEquals (expected.get (i)[1], actual.get (i)[1], message + ", step " + i);
+            if (i == 0)
+            {
+                assertEquals (expected.get (i)[0], actual.get (i)[0], message);
+                continue;
+            }
+
+            final long expectedInterval = expected.get (i)[0] - expected.get (i - 1)[0];
+            final long actualInterval = actual.get (i)[0] - actual.get (i - 1)[0];
+            assertTrue (actualInterval >= expectedInterval && actualInterval < expectedInterval + FaderAnimator.TICK_DELAY, message + ", step " + i + ": " + actualInterval + " / " + expectedInterval);
+        }
+    }
+
+
+    /**
+     * The movement as it was implemented before, with two scheduled tasks per step.
+     */
+    private static class BaselineFader
+    {
+        private final FakeHost              host;
+        private final IVirtualFaderCallback callback;
+        private final int                   moveDestination;
+        private final int                   moveDelay;
+        private final int                   moveTimerDelay;
+        private int                         moveTargetValue;
+        private boolean                     isKnobType;
+
+
+        BaselineFader (final FakeHost host, final IVirtualFaderCallback callback, final int moveDestination, final int velocity)
+        {
+            this.host = host;
+            this.callback = callback;
+            this.moveDestination = moveDestination;
+            this.moveDelay = SPEED_SCALE[velocity] * LOOP_DELAY;
+            this.moveTimerDelay = SPEED_SCALE[SPEED_SCALE.length - 1 - velocity] * LOOP_DELAY - 1;
+        }
+
+
+        void move ()
+        {
+            final int current = this.callback.getValue ();
+            if (current == this.moveDestination)
+                return;
+
+            final boolean moveDirectionIsUpwards = current < this.moveDestination;
+            this.moveTargetValue = moveDirectionIsUpwards ? Math.min (current + this.moveDelay, this.moveDestination) : Math.max (current - this.moveDelay, this.moveDestination);
+            this.callback.setValue (this.moveTargetValue);
+            this.host.scheduleTask (this::check, LOOP_DELAY);
+        }
+
+
+        void check ()
+        {
+            if (!this.isKnobType && this.callback.getValue () != this.moveTargetValue)
+            {
+                this.callback.setValue (this.moveDestination);
+                return;
+            }
+            this.isKnobType = true;
+            this.host.scheduleTask (this::move, this.moveTimerDelay);
+        }
+    }
+}
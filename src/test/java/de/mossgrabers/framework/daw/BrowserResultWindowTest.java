@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Streams results into the result window of a browser on the virtual clock of the fake host and
+ * counts the subscribed observers and the notifications (which trigger the display refreshes).
+ *
+ * @author Jürgen Moßgraber
+ */
+class BrowserResultWindowTest
+{
+    private static final int      NUM_RESULTS = 48;
+
+    private FakeHost              host;
+    private FakeResultItem []     fakeItems;
+    private BrowserResultWindow   window;
+    private int                   subscriptionChanges;
+    private int                   notifications;
+
+
+    /**
+     * A result item of the host. The host only sends names to subscribed items.
+     */
+    private final class FakeResultItem
+    {
+        private final IBrowserColumnItem item;
+        private IValueObserver<String>   nameObserver;
+        private boolean                  isSubscribed = true;
+        private String                   name         = "";
+
+
+        @SuppressWarnings("unchecked")
+        FakeResultItem ()
+        {
+            this.item = (IBrowserColumnItem) Proxy.newProxyInstance (IBrowserColumnItem.class.getClassLoader (), new Class<?> []
+            {
+                IBrowserColumnItem.class
+            }, (proxy, method, args) -> {
+
+                switch (method.getName ())
+                {
+                    case "enableObservers":
+                        this.isSubscribed = ((Boolean) args[0]).booleanValue ();
+                        BrowserResultWindowTest.this.subscriptionChanges++;
+                        return null;
+                    case "addNameObserver":
+                        this.nameObserver = (IValueObserver<String>) args[0];
+                        return null;
+                    case "getName":
+                        return this.name;
+                    default:
+                        throw new UnsupportedOperationException (method.getName ());
+                }
+
+            });
+        }
+
+
+        boolean send (final String name)
+        {
+            if (!this.isSubscribed)
+                return false;
+            this.name = name;
+            this.nameObserver.update (name);
+            return true;
+        }
+    }
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.fakeItems = new FakeResultItem [NUM_RESULTS];
+        final IBrowserColumnItem [] items = new IBrowserColumnItem [NUM_RESULTS];
+        for (int i = 0; i < NUM_RESULTS; i++)
+        {
+            this.fakeItems[i] = new FakeResultItem ();
+            items[i] = this.fakeItems[i].item;
+        }
+
+        this.window = new BrowserResultWindow (this.host, items);
+        this.window.addObserver (results -> this.notifications++);
+        this.subscriptionChanges = 0;
+        this.notifications = 0;
+    }
+
+
+    @Test
+    void onlyVisibleResultsAreSubscribed ()
+    {
+        assertEquals (NUM_RESULTS, this.window.getNumSubscribedItems ());
+
+        // Results are not displayed, e.g. while a filter column is edited
+        this.window.setNumVisibleItems (0);
+        assertEquals (BrowserResultWindow.PREFETCH, this.window.getNumSubscribedItems ());
+        assertEquals (NUM_RESULTS - BrowserResultWindow.PREFETCH, this.subscriptionChanges);
+
+        this.window.setNumVisibleItems (16);
+        assertEquals (16 + BrowserResultWindow.PREFETCH, this.window.getNumSubscribedItems ());
+        assertEquals (NUM_RESULTS - BrowserResultWindow.PREFETCH + 16, this.subscriptionChanges);
+
+        // Nothing changes, nothing is touched
+        this.window.setNumVisibleItems (16);
+        assertEquals (NUM_RESULTS - BrowserResultWindow.PREFETCH + 16, this.subscriptionChanges);
+
+        // Browser closed
+        this.window.setObserving (false);
+        assertEquals (0, this.window.getNumSubscribedItems ());
+        for (final FakeResultItem fakeItem: this.fakeItems)
+            assertEquals (Boolean.FALSE, Boolean.valueOf (fakeItem.isSubscribed));
+
+        this.window.setObserving (true);
+        assertEquals (16 + BrowserResultWindow.PREFETCH, this.window.getNumSubscribedItems ());
+
+        // More than a page is limited to the page
+        this.window.setNumVisibleItems (1000);
+        assertEquals (NUM_RESULTS, this.window.getNumSubscribedItems ());
+    }
+
+
+    @Test
+    void streamedResultsAreReportedOncePerBatch ()
+    {
+        final int numVisible = 16;
+        this.window.setNumVisibleItems (numVisible);
+
+        // The host sends the names of a whole page at once, e.g. while scrolling through 10k
+        // results, and executes the scheduled tasks afterwards
+        final int numStreamed = 10000;
+        int delivered = 0;
+        int expectedDelivered = 0;
+        int batches = 0;
+        for (int result = 0; result < numStreamed; result += NUM_RESULTS)
+        {
+            final int batchSize = Math.min (NUM_RESULTS, numStreamed - result);
+            for (int i = 0; i < batchSize; i++)
+            {
+                if (this.fakeItems[i].send ("Preset " + (result + i)))
+                    delivered++;
+            }
+            expectedDelivered += Math.min (numVisible + BrowserResultWindow.PREFETCH, batchSize);
+            batches++;
+
+            // No delay: the new names are reported with the next execution of the host tasks
+            assertEquals (batches - 1, this.notifications);
+            this.host.advance (0);
+            assertEquals (batches, this.notifications);
+        }
+
+        assertEquals (numVisible + BrowserResultWindow.PREFETCH, this.window.getNumSubscribedItems ());
+        assertEquals (expectedDelivered, delivered);
+        assertEquals ((numStreamed + NUM_RESULTS - 1) / NUM_RESULTS, this.notifications);
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void noNotificationWithoutChanges ()
+    {
+        this.host.advance (1000);
+        assertEquals (0, this.notifications);
+        assertEquals (0, this.host.getScheduleCount ());
+    }
+}
@@ -0,0 +1,318 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.daw.data.DeviceCatalog;
+import de.mossgrabers.framework.graphics.FakeBitmap;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.FakeOpenSoundControlClient;
+import de.mossgrabers.framework.osc.FakeOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.parameter.NoteAttribute;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.UsbException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * A host for tests. Scheduled tasks are executed on a virtual clock which is only advanced by the
+ * test.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FakeHost implements IHost
+{
+    private static final DeviceCatalog             EMPTY_CATALOG = new DeviceCatalog (Collections.emptyList ());
+
+    private final List<TimerTask>                  timers        = new ArrayList<> ();
+    private final List<String>                     errors        = new ArrayList<> ();
+    private final List<FakeOpenSoundControlClient> oscClients    = new ArrayList<> ();
+    private long                                   time          = 0;
+    private int                                    scheduleCount = 0;
+
+
+    private record TimerTask (long dueTime, Runnable task)
+    {
+    }
+
+
+    /**
+     * Get the current time of the virtual clock.
+     *
+     * @return The time in milliseconds
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Advance the virtual clock and execute all timers which are due in the order of their due
+     * time.
+     *
+     * @param millis The milliseconds to advance
+     */
+    public void advance (final long millis)
+    {
+        final long end = this.time + millis;
+        while (true)
+        {
+            TimerTask next = null;
+            for (final TimerTask timer: this.timers)
+            {
+                if (timer.dueTime <= end && (next == null || timer.dueTime < next.dueTime))
+                    next = timer;
+            }
+            if (next == null)
+                break;
+            this.timers.remove (next);
+            this.time = Math.max (this.time, next.dueTime);
+            next.task.run ();
+        }
+        this.time = end;
+    }
+
+
+    /**
+     * Get the number of timers which have not fired yet.
+     *
+     * @return The number of timers
+     */
+    public int getPendingTimers ()
+    {
+        return this.timers.size ();
+    }
+
+
+    /**
+     * Get the number of timers which were started so far.
+     *
+     * @return The number of calls to scheduleTask
+     */
+    public int getScheduleCount ()
+    {
+        return this.scheduleCount;
+    }
+
+
+    /**
+     * Get all reported errors.
+     *
+     * @return The error texts
+     */
+    public List<String> getErrors ()
+    {
+        return this.errors;
+    }
+
+
+    /**
+     * Get all connections to OSC servers.
+     *
+     * @return The clients in the order of their creation
+     */
+    public List<FakeOpenSoundControlClient> getOSCClients ()
+    {
+        return this.oscClients;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Test";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final Capability capability)
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final NoteAttribute noteAttribute)
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        this.scheduleCount++;
+        this.timers.add (new TimerTask (this.time + Math.max (0, delay), task));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.errors.add (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable exception)
+    {
+        this.errors.add (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwSurfaceFactory createSurfaceFactory (final double width, final double height)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        final FakeOpenSoundControlClient client = new FakeOpenSoundControlClient (serverAddress, serverPort);
+        this.oscClients.add (client);
+        return client;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<?> values)
+    {
+        return new FakeOpenSoundControlMessage (address, values);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new FakeBitmap (width, height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearGraphicsCache ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        return () -> ByteBuffer.allocate (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index) throws UsbException
+    {
+        throw new UsbException ("No USB devices in tests.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public DeviceCatalog getInstrumentCatalog ()
+    {
+        return EMPTY_CATALOG;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public DeviceCatalog getAudioEffectCatalog ()
+    {
+        return EMPTY_CATALOG;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public DeviceCatalog getDeviceCatalog ()
+    {
+        return EMPTY_CATALOG;
+    }
+}
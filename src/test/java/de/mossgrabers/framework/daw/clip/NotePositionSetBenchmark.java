@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+import de.mossgrabers.framework.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Compares the lookup of edited notes when drawing a sequencer grid: scanning a list of the edited
+ * note positions for each pad against testing the note position set.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class NotePositionSetBenchmark
+{
+    private static final int PADS   = 128;
+    private static final int ROUNDS = 1000;
+    /** The edited notes are spread over 4 bars of 16th notes and all 128 notes. */
+    private static final int CELLS  = 64 * 128;
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Not used
+     */
+    public static void main (final String [] args)
+    {
+        for (final int editedNotes: new int []
+        {
+            100,
+            500,
+            1000
+        })
+        {
+            final List<NotePosition> list = new ArrayList<> ();
+            final NotePositionSet set = new NotePositionSet ();
+            for (int i = 0; i < editedNotes; i++)
+            {
+                // An odd factor maps each index to a different cell, unordered like a selection
+                final int cell = i * 2731 % CELLS;
+                final NotePosition notePosition = new NotePosition (0, cell / 128, cell % 128);
+                list.add (notePosition);
+                set.add (notePosition);
+            }
+            if (set.size () != editedNotes)
+                throw new IllegalStateException ("Note positions are not distinct.");
+
+            System.out.println (editedNotes + " edited notes, " + PADS + " pads per frame:");
+            Benchmark.measure ("  List scan", ROUNDS * PADS, () -> {
+                long hits = 0;
+                for (int round = 0; round < ROUNDS; round++)
+                    for (int pad = 0; pad < PADS; pad++)
+                        if (scan (list, 0, pad % 16, 36 + pad / 16))
+                            hits++;
+                return hits;
+            });
+            Benchmark.measure ("  NotePositionSet", ROUNDS * PADS, () -> {
+                long hits = 0;
+                for (int round = 0; round < ROUNDS; round++)
+                    for (int pad = 0; pad < PADS; pad++)
+                        if (set.contains (0, pad % 16, 36 + pad / 16))
+                            hits++;
+                return hits;
+            });
+        }
+    }
+
+
+    private static boolean scan (final List<NotePosition> editNotes, final int channel, final int step, final int note)
+    {
+        for (final NotePosition editNote: editNotes)
+        {
+            if (editNote.getChannel () == channel && editNote.getStep () == step && editNote.getNote () == note)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import de.mossgrabers.framework.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+
+/**
+ * Compares the lookups of a catalog with 10,000 devices against scanning the device list.
+ * Furthermore, compares the construction time and the retained heap of the catalogs, which are
+ * shared by all configurations, against the lists and name arrays which each configuration created
+ * before.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class DeviceCatalogBenchmark
+{
+    private static final int DEVICES        = 10000;
+    private static final int LOOKUPS        = 1000;
+    /** The number of controller instances, which are running at the same time. */
+    private static final int CONFIGURATIONS = 4;
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Not used
+     */
+    public static void main (final String [] args)
+    {
+        final Random random = new Random (4711);
+        final List<IDeviceMetadata> devices = DeviceCatalogTest.createDevices (random, DEVICES);
+        final DeviceCatalog catalog = new DeviceCatalog (devices);
+        final String [] fullNames = new String [LOOKUPS];
+        final String [] prefixes = new String [LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            fullNames[i] = devices.get (random.nextInt (DEVICES)).fullName ();
+            prefixes[i] = fullNames[i].substring (0, Math.min (fullNames[i].length (), 6));
+        }
+
+        System.out.println (DEVICES + " devices:");
+        Benchmark.measure ("  Full name, scan", LOOKUPS, () -> {
+            long sum = 0;
+            for (final String fullName: fullNames)
+            {
+                for (int i = 0; i < devices.size (); i++)
+                {
+                    if (devices.get (i).fullName ().equals (fullName))
+                    {
+                        sum += i;
+                        break;
+                    }
+                }
+            }
+            return sum;
+        });
+        Benchmark.measure ("  Full name, catalog", LOOKUPS, () -> {
+            long sum = 0;
+            for (final String fullName: fullNames)
+                sum += catalog.indexOf (fullName);
+            return sum;
+        });
+        Benchmark.measure ("  Prefix, scan", LOOKUPS, () -> {
+            long sum = 0;
+            for (final String prefix: prefixes)
+            {
+                final String key = prefix.toLowerCase (Locale.US);
+                for (final IDeviceMetadata device: devices)
+                {
+                    if (device.fullName ().toLowerCase (Locale.US).startsWith (key))
+                        sum++;
+                }
+            }
+            return sum;
+        });
+        Benchmark.measure ("  Prefix, catalog", LOOKUPS, () -> {
+            long sum = 0;
+            for (final String prefix: prefixes)
+                sum += catalog.findByPrefix (prefix).size ();
+            return sum;
+        });
+
+        final List<IDeviceMetadata> instruments = new ArrayList<> (devices.subList (0, DEVICES / 2));
+        final List<IDeviceMetadata> effects = new ArrayList<> (devices.subList (DEVICES / 2, DEVICES));
+
+        System.out.println ("Construction for " + CONFIGURATIONS + " configurations:");
+        Benchmark.measure ("  Lists per configuration", 1, () -> {
+            long sum = 0;
+            for (int i = 0; i < CONFIGURATIONS; i++)
+                sum += createConfigurationLists (instruments, effects).length;
+            return sum;
+        });
+        Benchmark.measure ("  Shared catalogs", 1, () -> createCatalogs (instruments, effects)[2].size ());
+
+        System.out.println ("Retained heap for " + CONFIGURATIONS + " configurations:");
+        final long start = getUsedMemory ();
+        final Object [] [] configurationLists = new Object [CONFIGURATIONS] [];
+        for (int i = 0; i < CONFIGURATIONS; i++)
+            configurationLists[i] = createConfigurationLists (instruments, effects);
+        final long afterLists = getUsedMemory ();
+        final DeviceCatalog [] catalogs = createCatalogs (instruments, effects);
+        final long afterCatalogs = getUsedMemory ();
+        System.out.println (String.format (Locale.US, "  Lists per configuration %10d KB (%d)", Long.valueOf ((afterLists - start) / 1024), Integer.valueOf (configurationLists.length)));
+        System.out.println (String.format (Locale.US, "  Shared catalogs         %10d KB (%d)", Long.valueOf ((afterCatalogs - afterLists) / 1024), Integer.valueOf (catalogs[2].size ())));
+    }
+
+
+    /**
+     * Creates the lists and name arrays the same way as each configuration did before the
+     * catalogs were shared.
+     *
+     * @param instruments The instruments
+     * @param effects The audio effects
+     * @return The lists and name arrays of one configuration
+     */
+    private static Object [] createConfigurationLists (final List<IDeviceMetadata> instruments, final List<IDeviceMetadata> effects)
+    {
+        final List<IDeviceMetadata> instrumentMetadata = new ArrayList<> (instruments);
+        final List<IDeviceMetadata> effectMetadata = new ArrayList<> (effects);
+        final List<IDeviceMetadata> deviceMetadata = new ArrayList<> ();
+        deviceMetadata.addAll (instrumentMetadata);
+        deviceMetadata.addAll (effectMetadata);
+        return new Object []
+        {
+            instrumentMetadata,
+            effectMetadata,
+            deviceMetadata,
+            getDeviceNames (instrumentMetadata),
+            getDeviceNames (effectMetadata),
+            getDeviceNames (deviceMetadata)
+        };
+    }
+
+
+    private static String [] getDeviceNames (final List<IDeviceMetadata> deviceMetadata)
+    {
+        final String [] deviceNames = new String [deviceMetadata.size ()];
+        for (int i = 0; i < deviceNames.length; i++)
+            deviceNames[i] = deviceMetadata.get (i).fullName ();
+        return deviceNames;
+    }
+
+
+    /**
+     * Creates the catalogs in the same way as the host, which shares them between all
+     * configurations.
+     *
+     * @param instruments The instruments
+     * @param effects The audio effects
+     * @return The instrument, audio effect and combined catalog
+     */
+    private static DeviceCatalog [] createCatalogs (final List<IDeviceMetadata> instruments, final List<IDeviceMetadata> effects)
+    {
+        final DeviceCatalog instrumentCatalog = new DeviceCatalog (instruments);
+        final DeviceCatalog effectCatalog = new DeviceCatalog (effects);
+        return new DeviceCatalog []
+        {
+            instrumentCatalog,
+            effectCatalog,
+            DeviceCatalog.combine (instrumentCatalog, effectCatalog)
+        };
+    }
+
+
+    /**
+     * Get the used heap after a garbage collection.
+     *
+     * @return The used heap in bytes
+     */
+    private static long getUsedMemory ()
+    {
+        final Runtime runtime = Runtime.getRuntime ();
+        for (int i = 0; i < 3; i++)
+            System.gc ();
+        return runtime.totalMemory () - runtime.freeMemory ();
+    }
+}
@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the indexed lookups of the device catalog with a scan of all entries.
+ *
+ * @author Jürgen Moßgraber
+ */
+class DeviceCatalogTest
+{
+    private static final String [] FORMATS = new String []
+    {
+        null,
+        "CLAP",
+        "VST2",
+        "VST3"
+    };
+
+
+    @Test
+    void indexedLookupsMatchScan ()
+    {
+        final Random random = new Random (4711);
+        final List<IDeviceMetadata> devices = createDevices (random, 2000);
+        final DeviceCatalog catalog = new DeviceCatalog (devices);
+
+        for (int i = 0; i < 500; i++)
+        {
+            final String fullName = devices.get (random.nextInt (devices.size ())).fullName ();
+            assertEquals (scanIndexOf (devices, fullName), catalog.indexOf (fullName));
+
+            final String prefix = fullName.substring (0, random.nextInt (Math.min (fullName.length (), 4) + 1));
+            final String mixedCasePrefix = random.nextBoolean () ? prefix.toUpperCase (Locale.US) : prefix;
+            assertEquals (scanPrefix (devices, prefix), catalog.findByPrefix (mixedCasePrefix), "Prefix: " + mixedCasePrefix);
+        }
+
+        assertEquals (-1, catalog.indexOf ("Unknown"));
+        assertEquals (0, catalog.findByPrefix ("~").size ());
+    }
+
+
+    @Test
+    void findByNameReturnsAllFormats ()
+    {
+        final DeviceCatalog catalog = new DeviceCatalog (List.of (new TestDeviceMetadata ("Diva", "VST3"), new TestDeviceMetadata ("Divan", "VST3"), new TestDeviceMetadata ("Diva", "CLAP"), new TestDeviceMetadata ("Phase-4", null)));
+
+        final List<IDeviceMetadata> found = catalog.findByName ("Diva");
+        assertEquals (2, found.size ());
+        assertEquals ("Diva (CLAP)", found.get (0).fullName ());
+        assertEquals ("Diva (VST3)", found.get (1).fullName ());
+        assertEquals (1, catalog.findByName ("Phase-4").size ());
+    }
+
+
+    /**
+     * Create random devices. Names are built from a few syllables to get many shared prefixes.
+     *
+     * @param random The random generator
+     * @param count The number of devices
+     * @return The devices
+     */
+    static List<IDeviceMetadata> createDevices (final Random random, final int count)
+    {
+        final String [] syllables =
+        {
+            "Ka",
+            "ro",
+            "Pha",
+            "se",
+            " ",
+            "Di",
+            "va",
+            "X"
+        };
+
+        final List<IDeviceMetadata> devices = new ArrayList<> (count);
+        for (int i = 0; i < count; i++)
+        {
+            final StringBuilder name = new StringBuilder ();
+            final int length = 1 + random.nextInt (5);
+            for (int s = 0; s < length; s++)
+                name.append (syllables[random.nextInt (syllables.length)]);
+            devices.add (new TestDeviceMetadata (name.toString (), FORMATS[random.nextInt (FORMATS.length)]));
+        }
+        return devices;
+    }
+
+
+    private static int scanIndexOf (final List<IDeviceMetadata> devices, final String fullName)
+    {
+        for (int i = 0; i < devices.size (); i++)
+        {
+            if (devices.get (i).fullName ().equals (fullName))
+                return i;
+        }
+        return -1;
+    }
+
+
+    private static List<IDeviceMetadata> scanPrefix (final List<IDeviceMetadata> devices, final String prefix)
+    {
+        final String key = prefix.toLowerCase (Locale.US);
+        final List<Integer> indices = new ArrayList<> ();
+        for (int i = 0; i < devices.size (); i++)
+        {
+            if (devices.get (i).fullName ().toLowerCase (Locale.US).startsWith (key))
+                indices.add (Integer.valueOf (i));
+        }
+
+        // Same order as the catalog: by lower case name, stable for identical names
+        indices.sort (Comparator.comparing ( (final Integer index) -> devices.get (index.intValue ()).fullName ().toLowerCase (Locale.US)).thenComparing (Comparator.naturalOrder ()));
+        final List<IDeviceMetadata> result = new ArrayList<> (indices.size ());
+        for (final Integer index: indices)
+            result.add (devices.get (index.intValue ()));
+        return result;
+    }
+}
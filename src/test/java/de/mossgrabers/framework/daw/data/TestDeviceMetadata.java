@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+/**
+ * Device metadata for tests. The full name is built like the one of the Bitwig devices.
+ *
+ * @param name The name of the device
+ * @param format The plug-in format, null for a native device
+ *
+ * @author Jürgen Moßgraber
+ */
+public record TestDeviceMetadata (String name, String format) implements IDeviceMetadata
+{
+    /** {@inheritDoc} */
+    @Override
+    public String fullName ()
+    {
+        return this.format == null ? this.name : this.name + " (" + this.format + ")";
+    }
+}
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data.bank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.mossgrabers.framework.daw.data.AbstractItemImpl;
+import de.mossgrabers.framework.daw.data.empty.EmptyBank;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the tracked selection index of an item bank against a scan of all items.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AbstractItemBankTest
+{
+    private static final int PAGE_SIZE = 16;
+
+
+    @Test
+    void selectionIndexMatchesScan ()
+    {
+        final TestBank bank = new TestBank ();
+        final Random random = new Random (4711);
+
+        for (int step = 0; step < 10000; step++)
+        {
+            final TestItem item = bank.getItem (random.nextInt (PAGE_SIZE));
+            switch (random.nextInt (4))
+            {
+                // Single selection as done by the DAW
+                case 0:
+                    for (int i = 0; i < PAGE_SIZE; i++)
+                        bank.getItem (i).setSelected (false);
+                    item.setSelected (true);
+                    break;
+
+                // Multi-selection
+                case 1:
+                    item.setSelected (!item.isSelected ());
+                    break;
+
+                case 2:
+                    item.exists = !item.exists;
+                    break;
+
+                default:
+                    item.setSelected (false);
+                    break;
+            }
+
+            assertEquals (scanSelectedItem (bank), bank.getSelectedItem (), "Step " + step);
+            assertEquals (scanSelectedItems (bank), bank.getSelectedItems (), "Step " + step);
+        }
+    }
+
+
+    @Test
+    void unchangedSelectionIsCached ()
+    {
+        final TestBank bank = new TestBank ();
+        bank.getItem (3).setSelected (true);
+        bank.getItem (5).setSelected (true);
+
+        final Optional<TestItem> selectedItem = bank.getSelectedItem ();
+        assertSame (selectedItem, bank.getSelectedItem ());
+        final List<TestItem> selectedItems = bank.getSelectedItems ();
+        assertSame (selectedItems, bank.getSelectedItems ());
+        assertThrows (UnsupportedOperationException.class, () -> selectedItems.add (bank.getItem (0)));
+
+        bank.getItem (3).setSelected (false);
+        assertSame (bank.getItem (5), bank.getSelectedItem ().get ());
+        assertEquals (List.of (bank.getItem (5)), bank.getSelectedItems ());
+    }
+
+
+    private static Optional<TestItem> scanSelectedItem (final TestBank bank)
+    {
+        for (int i = 0; i < PAGE_SIZE; i++)
+        {
+            final TestItem item = bank.getItem (i);
+            if (item.isSelected ())
+                return Optional.of (item);
+        }
+        return Optional.empty ();
+    }
+
+
+    private static List<TestItem> scanSelectedItems (final TestBank bank)
+    {
+        final List<TestItem> selection = new ArrayList<> ();
+        for (int i = 0; i < PAGE_SIZE; i++)
+        {
+            final TestItem item = bank.getItem (i);
+            if (item.isSelected ())
+                selection.add (item);
+        }
+        return selection;
+    }
+
+
+    private static class TestItem extends AbstractItemImpl
+    {
+        private boolean exists = true;
+
+
+        TestItem (final int index)
+        {
+            super (index);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean doesExist ()
+        {
+            return this.exists;
+        }
+    }
+
+
+    private static class TestBank extends EmptyBank<TestItem>
+    {
+        TestBank ()
+        {
+            super (PAGE_SIZE);
+
+            for (int i = 0; i < PAGE_SIZE; i++)
+                this.items.add (new TestItem (i));
+            this.trackSelection ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getItemCount ()
+        {
+            return PAGE_SIZE;
+        }
+    }
+}
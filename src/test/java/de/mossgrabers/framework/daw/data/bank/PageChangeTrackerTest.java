@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data.bank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.FakeHost;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the end of parameter page changes on the virtual clock of the fake host.
+ *
+ * @author Jürgen Moßgraber
+ */
+class PageChangeTrackerTest
+{
+    private static final int  NUM_ITEMS = 8;
+
+    private FakeHost          host;
+    private PageChangeTracker tracker;
+    private int               completions;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.completions = 0;
+        this.tracker = new PageChangeTracker (this.host, NUM_ITEMS, () -> this.completions++);
+    }
+
+
+    @Test
+    void endsWhenAllItemsReported ()
+    {
+        this.tracker.start ();
+        for (int i = 0; i < NUM_ITEMS - 1; i++)
+            this.tracker.handleItemUpdate (i);
+        assertTrue (this.tracker.isChanging ());
+
+        // Name and value of the same item do not count twice
+        this.tracker.handleItemUpdate (0);
+        assertTrue (this.tracker.isChanging ());
+
+        this.tracker.handleItemUpdate (NUM_ITEMS - 1);
+        assertFalse (this.tracker.isChanging ());
+        assertEquals (1, this.completions);
+
+        // The timeout of the completed change must not fire again
+        this.host.advance (PageChangeTracker.TIMEOUT);
+        assertEquals (1, this.completions);
+    }
+
+
+    @Test
+    void endsWithTimeoutIfItemsDoNotReport ()
+    {
+        this.tracker.start ();
+        this.tracker.handleItemUpdate (3);
+
+        this.host.advance (PageChangeTracker.TIMEOUT - 1);
+        assertTrue (this.tracker.isChanging ());
+        assertEquals (0, this.completions);
+
+        this.host.advance (1);
+        assertFalse (this.tracker.isChanging ());
+        assertEquals (1, this.completions);
+    }
+
+
+    @Test
+    void restartIgnoresTimeoutOfPreviousChange ()
+    {
+        this.tracker.start ();
+        this.host.advance (100);
+        this.tracker.start ();
+
+        // The timeout of the first change is reached but the second one is still in progress
+        this.host.advance (60);
+        assertTrue (this.tracker.isChanging ());
+        assertEquals (0, this.completions);
+
+        this.host.advance (PageChangeTracker.TIMEOUT - 60);
+        assertFalse (this.tracker.isChanging ());
+        assertEquals (1, this.completions);
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void updatesOutsideOfChangesAreIgnored ()
+    {
+        for (int i = 0; i < NUM_ITEMS; i++)
+            this.tracker.handleItemUpdate (i);
+        assertFalse (this.tracker.isChanging ());
+        assertEquals (0, this.completions);
+        assertEquals (0, this.host.getScheduleCount ());
+    }
+}
@@ -0,0 +1,244 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * A MIDI output for tests which records all sent system exclusive, control change and note
+ * messages. Messages can be sent from any thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class CapturingMidiOutput implements IMidiOutput
+{
+    private final List<byte []> sysex = new CopyOnWriteArrayList<> ();
+    private final List<int []>  ccs   = new CopyOnWriteArrayList<> ();
+    private final List<int []>  notes = new CopyOnWriteArrayList<> ();
+
+
+    /**
+     * Get all system exclusive messages which were sent since the last call to clear.
+     *
+     * @return The messages
+     */
+    public List<byte []> getSysex ()
+    {
+        return this.sysex;
+    }
+
+
+    /**
+     * Get the last system exclusive message which was sent.
+     *
+     * @return The message or null if none was sent
+     */
+    public byte [] getLastSysex ()
+    {
+        final int size = this.sysex.size ();
+        return size == 0 ? null : this.sysex.get (size - 1);
+    }
+
+
+    /**
+     * Wait until at least the given number of system exclusive messages was sent, e.g. by a sender
+     * thread.
+     *
+     * @param count The number of messages
+     * @return True if the messages were sent, false if they were not sent within 5 seconds
+     */
+    public boolean awaitSysex (final int count)
+    {
+        final long end = System.currentTimeMillis () + 5000;
+        while (this.sysex.size () < count)
+        {
+            if (System.currentTimeMillis () > end)
+                return false;
+            try
+            {
+                Thread.sleep (1);
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread ().interrupt ();
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Get all control change messages which were sent since the last call to clear.
+     *
+     * @return The messages, each contains channel, CC and value
+     */
+    public List<int []> getCCs ()
+    {
+        return this.ccs;
+    }
+
+
+    /**
+     * Get all note messages which were sent since the last call to clear.
+     *
+     * @return The messages, each contains channel, note and velocity
+     */
+    public List<int []> getNotes ()
+    {
+        return this.notes;
+    }
+
+
+    /**
+     * Forget all recorded messages.
+     */
+    public void clear ()
+    {
+        this.sysex.clear ();
+        this.ccs.clear ();
+        this.notes.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.sysex.add (data.clone ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.sendSysex (SysExBuilder.fromHex (data));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCC (final int cc, final int value)
+    {
+        this.sendCCEx (0, cc, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCCEx (final int channel, final int cc, final int value)
+    {
+        this.ccs.add (new int []
+        {
+            channel,
+            cc,
+            value
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNote (final int note, final int velocity)
+    {
+        this.sendNoteEx (0, note, velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNoteEx (final int channel, final int note, final int velocity)
+    {
+        this.notes.add (new int []
+        {
+            channel,
+            note,
+            velocity
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPolyphonicAftertouch (final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int channel, final int data1, final int data2)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendProgramChange (final int bankMSB, final int bankLSB, final int value)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendProgramChange (final int channel, final int bankMSB, final int bankLSB, final int value)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void configureMPE (final int zone, final int numberOfChannels)
+    {
+        // Not recorded
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMPEPitchbendRange (final int zone, final int range)
+    {
+        // Not recorded
+    }
+}
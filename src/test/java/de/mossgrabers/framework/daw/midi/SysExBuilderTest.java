@@ -0,0 +1,119 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Golden byte tests for the system exclusive builder.
+ *
+ * @author Jürgen Moßgraber
+ */
+class SysExBuilderTest
+{
+    private static final byte [] HEADER = SysExBuilder.fromHex ("F0 00 20 29 02 0C");
+
+
+    @Test
+    void fromHex ()
+    {
+        assertArrayEquals (new byte []
+        {
+            (byte) 0xF0,
+            0x00,
+            0x20,
+            0x29,
+            0x02,
+            0x0C
+        }, HEADER);
+        assertArrayEquals (SysExBuilder.fromHex ("F0 7F F7"), SysExBuilder.fromHex (" f0 7f f7 "));
+    }
+
+
+    @Test
+    void headerAndEnd ()
+    {
+        final SysExBuilder builder = new SysExBuilder ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 29 02 0C 0E 01 F7"), builder.start (HEADER).add (0x0E, 0x01).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 F7"), builder.start ().build ());
+    }
+
+
+    @Test
+    void isReusedAndGrows ()
+    {
+        final SysExBuilder builder = new SysExBuilder (2);
+        final byte [] first = builder.start (HEADER).addASCII ("Hello World", 16, ' ').build ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 29 02 0C 48 65 6C 6C 6F 20 57 6F 72 6C 64 20 20 20 20 20 F7"), first);
+
+        // The previous message must not be modified by the next one
+        final byte [] second = builder.start (HEADER).addASCII ("Hi").build ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 29 02 0C 48 69 F7"), second);
+        assertEquals (0x48, first[6]);
+        assertEquals (23, first.length);
+    }
+
+
+    @Test
+    void asciiIsCutTo7Bit ()
+    {
+        final SysExBuilder builder = new SysExBuilder ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 41 42 F7"), builder.start ().addASCII ("ABCD", 2, ' ').build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 64 F7"), builder.start ().addASCII ("ä").build ());
+    }
+
+
+    @Test
+    void numbers ()
+    {
+        final SysExBuilder builder = new SysExBuilder ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 0A 0B F7"), builder.start ().addNibbles (0xAB).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 7F 7F 01 00 F7"), builder.start ().add14BitMSB (16383).add14BitMSB (128).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 01 F7"), builder.start ().add14BitLSB (128).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 01 02 03 F7"), builder.start ().add (new int []
+        {
+            1,
+            2,
+            3
+        }).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 02 03 F7"), builder.start ().add (SysExBuilder.fromHex ("01 02 03 04"), 1, 2).build ());
+    }
+
+
+    @Test
+    void sevenBitPacking ()
+    {
+        final byte [] data = SysExBuilder.fromHex ("80 01 FF 00 00 00 00 81");
+        final SysExBuilder builder = new SysExBuilder ();
+        assertArrayEquals (SysExBuilder.fromHex ("F0 05 00 01 7F 00 00 00 00 01 01 F7"), builder.start ().add7BitPacked (data, 0, data.length).build ());
+    }
+
+
+    @Test
+    void checksums ()
+    {
+        final SysExBuilder builder = new SysExBuilder ();
+        // Roland: 40 00 7F 00 -> sum 0xBF -> checksum 0x41
+        assertArrayEquals (SysExBuilder.fromHex ("F0 41 10 40 00 7F 00 41 F7"), builder.start ().add (0x41, 0x10).add (0x40, 0x00).add (0x7F, 0x00).addChecksum (3).build ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 01 03 02 F7"), builder.start ().add (0x01, 0x03).addXorChecksum (1).build ());
+    }
+
+
+    @Test
+    void send ()
+    {
+        final CapturingMidiOutput output = new CapturingMidiOutput ();
+        final SysExBuilder builder = new SysExBuilder ();
+        builder.start (HEADER).add (0x01).send (output);
+        builder.start (HEADER).add (0x02).send (output);
+        assertEquals (2, output.getSysex ().size ());
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 29 02 0C 01 F7"), output.getSysex ().get (0));
+        assertArrayEquals (SysExBuilder.fromHex ("F0 00 20 29 02 0C 02 F7"), output.getSysex ().get (1));
+    }
+}
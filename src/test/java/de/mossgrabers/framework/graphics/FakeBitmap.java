@@ -0,0 +1,96 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A bitmap for tests whose pixels are set directly. Rendering is ignored. The pixels are encoded
+ * in BGRA order.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FakeBitmap implements IBitmap
+{
+    private final int     width;
+    private final int     height;
+    private final byte [] pixels;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public FakeBitmap (final int width, final int height)
+    {
+        this.width = width;
+        this.height = height;
+        this.pixels = new byte [width * height * 4];
+    }
+
+
+    /**
+     * Set a pixel to white or black.
+     *
+     * @param x The horizontal position
+     * @param y The vertical position
+     * @param isWhite True for white, false for black
+     */
+    public void setPixel (final int x, final int y, final boolean isWhite)
+    {
+        final int pos = (y * this.width + x) * 4;
+        final byte value = isWhite ? (byte) 0xFF : 0;
+        this.pixels[pos] = value;
+        this.pixels[pos + 1] = value;
+        this.pixels[pos + 2] = value;
+        this.pixels[pos + 3] = (byte) 0xFF;
+    }
+
+
+    /**
+     * Set all pixels to black.
+     */
+    public void clear ()
+    {
+        for (int y = 0; y < this.height; y++)
+            for (int x = 0; x < this.width; x++)
+                this.setPixel (x, y, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        encoder.encode (ByteBuffer.wrap (this.pixels), this.width, this.height);
+    }
+}
@@ -0,0 +1,407 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.daw.FakeHost;
+import de.mossgrabers.framework.daw.IModel;
+
+
+/**
+ * Sends the state of a fake model to several fake OSC clients. Measures the bytes which are sent
+ * with and without subscriptions and checks that the clients receive the whole state.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AbstractOpenSoundControlWriterTest
+{
+    private static final String        HOST = "localhost";
+    private static final String []     PREFIXES =
+    {
+        "/track",
+        "/track/1",
+        "/device",
+        "/clip",
+        "/play"
+    };
+
+    private FakeHost                   host;
+    private TestWriter                 writer;
+    private FakeOpenSoundControlClient client;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.writer = new TestWriter (this.host);
+        this.writer.addClient (HOST, 9000);
+        this.client = this.host.getOSCClients ().get (0);
+    }
+
+
+    @Test
+    void subscriptionReducesSentBytes ()
+    {
+        this.writer.flush (true);
+        final long allBytes = this.client.getBytes ();
+        final int allMessages = this.client.getAddresses ().size ();
+
+        this.client.clear ();
+        this.writer.subscribe (HOST, 9000, "/track");
+        this.writer.flush (true);
+
+        assertEquals (TestWriter.NUM_TRACKS * 3, this.client.getAddresses ().size ());
+        for (final String address: this.client.getAddresses ())
+            assertTrue (address.startsWith ("/track/"), address);
+
+        // The mixer state is less than a fifth of the whole state
+        final long trackBytes = this.client.getBytes ();
+        assertTrue (trackBytes * 5 < allBytes, trackBytes + " of " + allBytes);
+        assertTrue (this.client.getAddresses ().size () * 5 < allMessages);
+    }
+
+
+    @Test
+    void unchangedValuesAreNotSentAgain ()
+    {
+        this.writer.subscribe (HOST, 9000, "/track");
+        this.writer.flush (false);
+        this.client.clear ();
+
+        this.writer.flush (false);
+        assertEquals (0, this.client.getBytes ());
+
+        // Only the changed volume
+        this.writer.volume = 100;
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_TRACKS, this.client.getAddresses ().size ());
+    }
+
+
+    @Test
+    void newSubscriptionSendsCurrentValues ()
+    {
+        this.writer.subscribe (HOST, 9000, "/track");
+        this.writer.flush (false);
+        this.client.clear ();
+
+        this.writer.subscribe (HOST, 9000, "/device");
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_PARAMS * 2, countMessages (this.client, "/device/"));
+        assertTrue (this.writer.isSubscribed ("/device"));
+        assertFalse (this.writer.isSubscribed ("/clip"));
+
+        // Without subscriptions everything is sent again
+        this.client.clear ();
+        this.writer.unsubscribe (HOST, 9000, "/track");
+        this.writer.unsubscribe (HOST, 9000, "/device");
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_ALL, this.client.getState ().size ());
+    }
+
+
+    @Test
+    void clientsAreConnectedOnceAndLimited ()
+    {
+        this.writer.addClient (HOST, 9000);
+        this.writer.addClient (HOST + " ", 9000);
+        assertEquals (1, this.host.getOSCClients ().size ());
+
+        for (int i = 1; i <= AbstractOpenSoundControlWriter.MAX_CLIENTS; i++)
+            this.writer.addClient (HOST, 9000 + i);
+        assertEquals (AbstractOpenSoundControlWriter.MAX_CLIENTS, this.host.getOSCClients ().size ());
+        assertEquals (1, this.host.getErrors ().size ());
+    }
+
+
+    @Test
+    void helloActivatesConfiguredClientsOnly ()
+    {
+        this.writer.addClient (HOST, 9001);
+        final FakeOpenSoundControlClient tablet = this.host.getOSCClients ().get (1);
+        this.writer.flush (false);
+        assertEquals (0, tablet.getBytes ());
+
+        // No connections are created while running
+        assertFalse (this.writer.hello (HOST, 9002));
+        assertEquals (2, this.host.getOSCClients ().size ());
+
+        // The new client receives the whole state, the other one only the change
+        assertTrue (this.writer.hello (HOST, 9001));
+        this.client.clear ();
+        this.writer.volume = 100;
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_ALL, tablet.getAddresses ().size ());
+        assertEquals (TestWriter.NUM_TRACKS, this.client.getAddresses ().size ());
+
+        // A repeated hello does not send the whole state again
+        tablet.clear ();
+        assertTrue (this.writer.hello (HOST, 9001));
+        this.writer.flush (false);
+        assertEquals (0, tablet.getBytes ());
+    }
+
+
+    @Test
+    void clientsAreDeactivatedByGoodbyeOrTimeout ()
+    {
+        this.writer.addClient (HOST, 9001);
+        final FakeOpenSoundControlClient tablet = this.host.getOSCClients ().get (1);
+        this.writer.hello (HOST, 9001);
+        this.writer.subscribe (HOST, 9001, "/track");
+        this.writer.flush (false);
+
+        assertTrue (this.writer.goodbye (HOST, 9001));
+        assertFalse (this.writer.goodbye (HOST, 9000));
+        tablet.clear ();
+        this.writer.volume = 100;
+        this.writer.flush (false);
+        assertEquals (0, tablet.getBytes ());
+
+        // The subscriptions were removed with the goodbye
+        this.writer.hello (HOST, 9001);
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_ALL, tablet.getAddresses ().size ());
+
+        // Keep alive by repeating the hello
+        this.host.advance (AbstractOpenSoundControlWriter.CLIENT_TIMEOUT);
+        this.writer.hello (HOST, 9001);
+        this.host.advance (AbstractOpenSoundControlWriter.CLIENT_TIMEOUT);
+        tablet.clear ();
+        this.writer.volume = 101;
+        this.writer.flush (false);
+        assertEquals (TestWriter.NUM_TRACKS, tablet.getAddresses ().size ());
+
+        this.host.advance (1);
+        tablet.clear ();
+        this.client.clear ();
+        this.writer.volume = 102;
+        this.writer.flush (false);
+        assertEquals (0, tablet.getBytes ());
+        assertEquals (TestWriter.NUM_TRACKS, countMessages (this.client, "/track/"));
+    }
+
+
+    @Test
+    void subscriptionsArePerClient ()
+    {
+        this.writer.addClient (HOST, 9001);
+        final FakeOpenSoundControlClient tablet = this.host.getOSCClients ().get (1);
+        this.writer.hello (HOST, 9001);
+        this.writer.subscribe (HOST, 9000, "/track");
+        this.writer.subscribe (HOST, 9001, "/device");
+        this.writer.flush (false);
+
+        assertEquals (TestWriter.NUM_TRACKS * 3, this.client.getAddresses ().size ());
+        assertEquals (TestWriter.NUM_PARAMS * 2, tablet.getAddresses ().size ());
+        assertEquals (TestWriter.NUM_PARAMS * 2, countMessages (tablet, "/device/"));
+        assertFalse (this.writer.isSubscribed ("/clip"));
+    }
+
+
+    @Test
+    void stateOfAllClientsConverges ()
+    {
+        final int numClients = 4;
+        final List<Set<String>> subscriptions = new ArrayList<> ();
+        final boolean [] isActive = new boolean [numClients];
+        isActive[0] = true;
+        subscriptions.add (new HashSet<> ());
+        for (int i = 1; i < numClients; i++)
+        {
+            this.writer.addClient (HOST, 9000 + i);
+            subscriptions.add (new HashSet<> ());
+        }
+        final List<FakeOpenSoundControlClient> clients = this.host.getOSCClients ();
+
+        final Random random = new Random (4711);
+        for (int round = 0; round < 2000; round++)
+        {
+            // Change the model
+            this.writer.volume = random.nextInt (4);
+            this.writer.clipIndex = random.nextInt (TestWriter.NUM_CLIPS);
+            this.writer.isPlaying = random.nextBoolean ();
+
+            // Change the clients
+            final int index = random.nextInt (numClients);
+            final int port = 9000 + index;
+            final String prefix = PREFIXES[random.nextInt (PREFIXES.length)];
+            switch (random.nextInt (6))
+            {
+                case 0:
+                    this.writer.hello (HOST, port);
+                    isActive[index] = true;
+                    break;
+                case 1:
+                    if (index > 0)
+                    {
+                        this.writer.goodbye (HOST, port);
+                        isActive[index] = false;
+                        subscriptions.get (index).clear ();
+                    }
+                    break;
+                case 2, 3:
+                    if (isActive[index])
+                    {
+                        this.writer.subscribe (HOST, port, prefix);
+                        subscriptions.get (index).add (prefix);
+                    }
+                    break;
+                default:
+                    this.writer.unsubscribe (HOST, port, prefix);
+                    subscriptions.get (index).remove (prefix);
+                    break;
+            }
+
+            this.writer.flush (false);
+
+            final Map<String, List<Object>> expectedState = this.writer.getState ();
+            for (int i = 0; i < numClients; i++)
+            {
+                if (!isActive[i])
+                    continue;
+                final Map<String, List<Object>> state = clients.get (i).getState ();
+                for (final Map.Entry<String, List<Object>> entry: expectedState.entrySet ())
+                {
+                    final String address = entry.getKey ();
+                    if (isSubscribed (subscriptions.get (i), address))
+                        assertEquals (entry.getValue (), state.get (address), "Round " + round + ", client " + i + ", " + address);
+                }
+            }
+        }
+    }
+
+
+    private static boolean isSubscribed (final Set<String> prefixes, final String address)
+    {
+        if (prefixes.isEmpty ())
+            return true;
+        for (final String prefix: prefixes)
+        {
+            if (OpenSoundControlSubscriptions.matches (prefix, address))
+                return true;
+        }
+        return false;
+    }
+
+
+    private static int countMessages (final FakeOpenSoundControlClient client, final String prefix)
+    {
+        int count = 0;
+        for (final String address: client.getAddresses ())
+        {
+            if (address.startsWith (prefix))
+                count++;
+        }
+        return count;
+    }
+
+
+    /** Writes a state similar to the OSC modules. */
+    private static class TestWriter extends AbstractOpenSoundControlWriter
+    {
+        static final int NUM_TRACKS = 8;
+        static final int NUM_PARAMS = 8;
+        static final int NUM_CLIPS  = 64;
+        static final int NUM_ALL    = NUM_TRACKS * 3 + NUM_PARAMS * 2 + NUM_CLIPS * 3 + 2;
+
+        private int      volume     = 50;
+        private int      clipIndex  = 0;
+        private boolean  isPlaying  = false;
+
+
+        TestWriter (final FakeHost host)
+        {
+            super (host, Stubs.create (IModel.class, Map.of ("getHost", host)), Stubs.create (IOpenSoundControlConfiguration.class), host::getTime);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void flush (final boolean dump)
+        {
+            this.updateClients ();
+
+            for (final Map.Entry<String, Object> entry: this.createState ().entrySet ())
+            {
+                final String address = entry.getKey ();
+                final Object value = entry.getValue ();
+                if (value instanceof final Integer intValue)
+                    this.sendOSC (address, intValue.intValue (), dump);
+                else if (value instanceof final Double doubleValue)
+                    this.sendOSC (address, doubleValue.doubleValue (), dump);
+                else if (value instanceof final Boolean booleanValue)
+                    this.sendOSC (address, booleanValue.booleanValue (), dump);
+                else
+                    this.sendOSC (address, (String) value, dump);
+            }
+
+            this.flush ();
+        }
+
+
+        /**
+         * Get the values of all addresses as they are received by the clients.
+         *
+         * @return The values by their address
+         */
+        Map<String, List<Object>> getState ()
+        {
+            final Map<String, List<Object>> state = new LinkedHashMap<> ();
+            for (final Map.Entry<String, Object> entry: this.createState ().entrySet ())
+            {
+                Object value = entry.getValue ();
+                if (value instanceof final Double doubleValue)
+                    value = Float.valueOf (doubleValue.floatValue ());
+                else if (value instanceof final Boolean booleanValue)
+                    value = Integer.valueOf (booleanValue.booleanValue () ? 1 : 0);
+                state.put (entry.getKey (), List.of (value));
+            }
+            return state;
+        }
+
+
+        private Map<String, Object> createState ()
+        {
+            final Map<String, Object> state = new LinkedHashMap<> ();
+            for (int i = 1; i <= NUM_TRACKS; i++)
+            {
+                state.put ("/track/" + i + "/name", "Track " + i);
+                state.put ("/track/" + i + "/volume", Integer.valueOf (this.volume + i));
+                state.put ("/track/" + i + "/pan", Integer.valueOf (64));
+            }
+            for (int i = 1; i <= NUM_PARAMS; i++)
+            {
+                state.put ("/device/param/" + i + "/name", "Parameter " + i);
+                state.put ("/device/param/" + i + "/value", Double.valueOf (0.5));
+            }
+            for (int i = 1; i <= NUM_CLIPS; i++)
+            {
+                state.put ("/clip/" + i + "/name", "Clip " + i);
+                state.put ("/clip/" + i + "/isPlaying", Boolean.valueOf (i == this.clipIndex));
+                state.put ("/clip/" + i + "/color", "rgb(255,128,0)");
+            }
+            state.put ("/play", Boolean.valueOf (this.isPlaying));
+            state.put ("/tempo/raw", Double.valueOf (120.0));
+            return state;
+        }
+    }
+}
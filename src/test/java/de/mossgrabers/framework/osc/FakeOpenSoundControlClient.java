@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * An OSC client for tests which keeps the last received value of each address and counts the
+ * bytes of the received messages as if they were encoded in OSC bundles.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class FakeOpenSoundControlClient implements IOpenSoundControlClient
+{
+    /** The size of the bundle header: "#bundle" and the time tag. */
+    private static final int                BUNDLE_HEADER_SIZE = 16;
+
+    private final String                    serverAddress;
+    private final int                       serverPort;
+    private final Map<String, List<Object>> state              = new HashMap<> ();
+    private final List<String>              addresses          = new ArrayList<> ();
+    private long                            bytes;
+
+
+    /**
+     * Constructor.
+     *
+     * @param serverAddress The address of the OSC server
+     * @param serverPort The port of the OSC server
+     */
+    public FakeOpenSoundControlClient (final String serverAddress, final int serverPort)
+    {
+        this.serverAddress = serverAddress;
+        this.serverPort = serverPort;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.receive (message);
+        this.bytes += ((FakeOpenSoundControlMessage) message).getEncodedSize ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        this.bytes += BUNDLE_HEADER_SIZE;
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            this.receive (message);
+            // Each element of a bundle is preceded by its size
+            this.bytes += 4 + ((FakeOpenSoundControlMessage) message).getEncodedSize ();
+        }
+    }
+
+
+    /**
+     * Get the address of the OSC server.
+     *
+     * @return The address and port separated by a colon
+     */
+    public String getServer ()
+    {
+        return this.serverAddress + ":" + this.serverPort;
+    }
+
+
+    /**
+     * Get the last received values of all addresses.
+     *
+     * @return The values by their address
+     */
+    public Map<String, List<Object>> getState ()
+    {
+        return this.state;
+    }
+
+
+    /**
+     * Get the addresses of all received messages in the order in which they were received.
+     *
+     * @return The addresses
+     */
+    public List<String> getAddresses ()
+    {
+        return this.addresses;
+    }
+
+
+    /**
+     * Get the number of received bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Forget the received messages and bytes.
+     */
+    public void clear ()
+    {
+        this.state.clear ();
+        this.addresses.clear ();
+        this.bytes = 0;
+    }
+
+
+    private void receive (final IOpenSoundControlMessage message)
+    {
+        this.addresses.add (message.getAddress ());
+        this.state.put (message.getAddress (), List.of (message.getValues ()));
+    }
+}
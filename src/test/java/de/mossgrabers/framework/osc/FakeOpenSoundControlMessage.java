@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/**
+ * An OSC message for tests.
+ *
+ * @param address The OSC address
+ * @param valueList The values
+ *
+ * @author Jürgen Moßgraber
+ */
+public record FakeOpenSoundControlMessage (String address, List<?> valueList) implements IOpenSoundControlMessage
+{
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.valueList.toArray ();
+    }
+
+
+    /**
+     * Get the number of bytes of the message when it is encoded following the OSC 1.0
+     * specification: the padded address, the padded type tags and the arguments.
+     *
+     * @return The number of bytes
+     */
+    public int getEncodedSize ()
+    {
+        int size = getPaddedSize (this.address) + pad (this.valueList.size () + 2);
+        for (final Object value: this.valueList)
+            size += value instanceof final String text ? getPaddedSize (text) : 4;
+        return size;
+    }
+
+
+    private static int getPaddedSize (final String text)
+    {
+        return pad (text.getBytes (StandardCharsets.UTF_8).length + 1);
+    }
+
+
+    private static int pad (final int size)
+    {
+        return (size + 3) / 4 * 4;
+    }
+}
@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the prefix matching of the OSC subscriptions.
+ *
+ * @author Jürgen Moßgraber
+ */
+class OpenSoundControlSubscriptionsTest
+{
+    private static final String [] ADDRESSES =
+    {
+        "/track",
+        "/track/1",
+        "/track/1/volume",
+        "/track/12/volume",
+        "/track/selected/name",
+        "/trackBank",
+        "/trackBank/page",
+        "/tra",
+        "/device/param/1/value",
+        "/device",
+        "/devices",
+        "/play",
+        "/tempo/raw"
+    };
+
+
+    @Test
+    void withoutSubscriptionsAllAddressesAreSent ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        assertTrue (subscriptions.isEmpty ());
+        for (final String address: ADDRESSES)
+        {
+            assertTrue (subscriptions.isSubscribed (address), address);
+            assertTrue (subscriptions.isAnySubscribed (address), address);
+        }
+    }
+
+
+    @Test
+    void prefixMatchesOnlyWholeParts ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        assertTrue (subscriptions.subscribe ("/track"));
+        assertFalse (subscriptions.subscribe ("/track"));
+
+        assertTrue (subscriptions.isSubscribed ("/track"));
+        assertTrue (subscriptions.isSubscribed ("/track/1/volume"));
+        assertFalse (subscriptions.isSubscribed ("/trackBank"));
+        assertFalse (subscriptions.isSubscribed ("/tra"));
+        assertFalse (subscriptions.isSubscribed ("/device/param/1/value"));
+    }
+
+
+    @Test
+    void prefixesAreNormalized ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        assertTrue (subscriptions.subscribe ("track/"));
+        assertFalse (subscriptions.subscribe ("/track"));
+        assertTrue (subscriptions.isSubscribed ("/track/1/volume"));
+        assertTrue (subscriptions.unsubscribe (" /track// "));
+        assertTrue (subscriptions.isEmpty ());
+
+        // The root includes everything
+        subscriptions.subscribe ("/");
+        for (final String address: ADDRESSES)
+            assertTrue (subscriptions.isSubscribed (address), address);
+    }
+
+
+    @Test
+    void unsubscribeKeepsNestedSubscriptions ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        subscriptions.subscribe ("/track");
+        subscriptions.subscribe ("/track/1");
+        assertTrue (subscriptions.unsubscribe ("/track"));
+        assertFalse (subscriptions.unsubscribe ("/track"));
+
+        assertTrue (subscriptions.isSubscribed ("/track/1/volume"));
+        assertFalse (subscriptions.isSubscribed ("/track/12/volume"));
+        assertFalse (subscriptions.isSubscribed ("/track"));
+    }
+
+
+    @Test
+    void anySubscribedIncludesAddressesBelowThePrefix ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        subscriptions.subscribe ("/track/1");
+
+        assertTrue (subscriptions.isAnySubscribed ("/track"));
+        assertTrue (subscriptions.isAnySubscribed ("/track/1/volume"));
+        assertFalse (subscriptions.isAnySubscribed ("/trackBank"));
+        assertFalse (subscriptions.isAnySubscribed ("/track/12"));
+        assertFalse (subscriptions.isAnySubscribed ("/device"));
+    }
+
+
+    @Test
+    void randomChangesMatchReference ()
+    {
+        final OpenSoundControlSubscriptions subscriptions = new OpenSoundControlSubscriptions ();
+        final Set<String> reference = new HashSet<> ();
+        final Random random = new Random (4711);
+
+        for (int i = 0; i < 5000; i++)
+        {
+            final String prefix = ADDRESSES[random.nextInt (ADDRESSES.length)];
+            if (random.nextBoolean ())
+                assertEquals (Boolean.valueOf (reference.add (prefix)), Boolean.valueOf (subscriptions.subscribe (prefix)), prefix);
+            else
+                assertEquals (Boolean.valueOf (reference.remove (prefix)), Boolean.valueOf (subscriptions.unsubscribe (prefix)), prefix);
+
+            assertEquals (Boolean.valueOf (reference.isEmpty ()), Boolean.valueOf (subscriptions.isEmpty ()));
+            for (final String address: ADDRESSES)
+            {
+                final String message = reference + " " + address;
+                assertEquals (Boolean.valueOf (isSubscribed (reference, address)), Boolean.valueOf (subscriptions.isSubscribed (address)), message);
+                assertEquals (Boolean.valueOf (isAnySubscribed (reference, address)), Boolean.valueOf (subscriptions.isAnySubscribed (address)), message);
+            }
+        }
+    }
+
+
+    private static boolean isSubscribed (final Set<String> prefixes, final String address)
+    {
+        if (prefixes.isEmpty ())
+            return true;
+        for (final String prefix: prefixes)
+        {
+            if (OpenSoundControlSubscriptions.matches (prefix, address))
+                return true;
+        }
+        return false;
+    }
+
+
+    private static boolean isAnySubscribed (final Set<String> prefixes, final String address)
+    {
+        if (prefixes.isEmpty ())
+            return true;
+        for (final String prefix: prefixes)
+        {
+            if (OpenSoundControlSubscriptions.matches (prefix, address) || OpenSoundControlSubscriptions.matches (address, prefix))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,155 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.scale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the lookup tables of the scales with the calculations they replace.
+ *
+ * @author Jürgen Moßgraber
+ */
+class ScalesTest
+{
+    private static final int [] IDENTITY = new int [128];
+    static
+    {
+        for (int i = 0; i < IDENTITY.length; i++)
+            IDENTITY[i] = i;
+    }
+
+
+    @Test
+    void lookupTablesMatchCalculationForAllSettings ()
+    {
+        final Scales scales = new Scales (null, 36, 100, 8, 8);
+        for (final Scale scale: Scale.values ())
+        {
+            scales.setScale (scale);
+            for (int offsetIndex = 0; offsetIndex < 12; offsetIndex++)
+            {
+                scales.setScaleOffsetByIndex (offsetIndex);
+                for (final boolean isChromatic: new boolean []
+                {
+                    false,
+                    true
+                })
+                {
+                    scales.setChromatic (isChromatic);
+                    assertMatchesCalculation (scales);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    void lookupTablesFollowRandomSettingChanges ()
+    {
+        final Scales scales = new Scales (null, 36, 100, 8, 8);
+        final Scale [] allScales = Scale.values ();
+        final Random random = new Random (4711);
+
+        for (int i = 0; i < 2000; i++)
+        {
+            switch (random.nextInt (3))
+            {
+                case 0:
+                    scales.setScale (allScales[random.nextInt (allScales.length)]);
+                    break;
+                case 1:
+                    scales.setScaleOffsetByIndex (random.nextInt (12));
+                    break;
+                default:
+                    scales.setChromatic (random.nextBoolean ());
+                    break;
+            }
+
+            final int midiNote = random.nextInt (128);
+            final String message = scales.getScale () + " " + scales.getScaleOffset () + " " + scales.isChromatic () + " " + midiNote;
+            assertEquals (calcScaleIndex (scales, midiNote), scales.getScaleIndex (midiNote), message);
+            assertEquals (calcNearestNoteInScale (scales, midiNote), scales.getNearestNoteInScale (midiNote), message);
+            assertEquals (calcColor (scales, midiNote), scales.getColor (IDENTITY, midiNote), message);
+        }
+    }
+
+
+    private static void assertMatchesCalculation (final Scales scales)
+    {
+        for (int noteInOctave = -1; noteInOctave <= 12; noteInOctave++)
+            assertEquals (calcIsInScale (scales, noteInOctave), scales.isInScale (noteInOctave), "Note in octave " + noteInOctave);
+
+        for (int midiNote = 0; midiNote < 128; midiNote++)
+        {
+            final String message = scales.getScale () + " " + scales.getScaleOffset () + " " + scales.isChromatic () + " " + midiNote;
+            assertEquals (calcScaleIndex (scales, midiNote), scales.getScaleIndex (midiNote), message);
+            assertEquals (calcNearestNoteInScale (scales, midiNote), scales.getNearestNoteInScale (midiNote), message);
+            assertEquals (calcColor (scales, midiNote), scales.getColor (IDENTITY, midiNote), message);
+        }
+    }
+
+
+    private static boolean calcIsInScale (final Scales scales, final int noteInOctave)
+    {
+        for (final int interval: scales.getScale ().getIntervals ())
+        {
+            if (interval == noteInOctave)
+                return true;
+        }
+        return false;
+    }
+
+
+    private static int calcScaleIndex (final Scales scales, final int midiNote)
+    {
+        final int noteInOctave = scales.toNoteInOctave (midiNote);
+        final int [] intervals = scales.getScale ().getIntervals ();
+        for (int i = 0; i < intervals.length; i++)
+        {
+            if (intervals[i] == noteInOctave)
+                return i;
+        }
+        return -1;
+    }
+
+
+    private static int calcNearestNoteInScale (final Scales scales, final int midiNote)
+    {
+        final int noteInOctave = scales.toNoteInOctave (midiNote);
+
+        int diff = 12;
+        int resultNoteInOctave = 0;
+        for (final int interval: scales.getScale ().getIntervals ())
+        {
+            final int newDiff = Math.abs (interval - noteInOctave);
+            if (newDiff < diff)
+            {
+                diff = newDiff;
+                resultNoteInOctave = interval;
+            }
+            if (diff == 0)
+                break;
+        }
+
+        final int octaves = midiNote / 12 * 12;
+        return octaves + (resultNoteInOctave + scales.getScaleOffset ()) % 12;
+    }
+
+
+    private static String calcColor (final Scales scales, final int midiNote)
+    {
+        final int noteInOctave = scales.toNoteInOctave (midiNote);
+        if (noteInOctave == 0)
+            return Scales.SCALE_COLOR_OCTAVE;
+        if (!scales.isChromatic ())
+            return Scales.SCALE_COLOR_NOTE;
+        return calcIsInScale (scales, noteInOctave) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+    }
+}
@@ -0,0 +1,275 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.daw.FakeHost;
+
+
+/**
+ * Drives the frame pacer with the virtual clock of the fake host. The transfers are executed by
+ * the timers of the host instead of a thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+class FramePacerTest
+{
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    private FakeHost          host;
+    private FramePacer        pacer;
+    private List<String>      sent;
+    private long              transferNanos;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.pacer = new FramePacer (50, new VirtualExecutor (this.host), () -> this.host.getTime () * NANOS_PER_MILLI + this.transferNanos);
+        this.sent = new ArrayList<> ();
+        this.transferNanos = 0;
+    }
+
+
+    @Test
+    void framesArePacedToTheMaximumRate ()
+    {
+        this.pacer.submit (this.frame ("A"));
+        this.host.advance (0);
+        assertEquals (List.of ("A"), this.sent);
+
+        // 50 fps: the next frame must not be sent before 20ms have passed
+        this.pacer.submit (this.frame ("B"));
+        this.host.advance (19);
+        assertEquals (List.of ("A"), this.sent);
+        this.host.advance (1);
+        assertEquals (List.of ("A", "B"), this.sent);
+
+        // An idle display sends the next frame without delay
+        this.host.advance (100);
+        this.pacer.submit (this.frame ("C"));
+        this.host.advance (0);
+        assertEquals (List.of ("A", "B", "C"), this.sent);
+
+        assertEquals (3, this.pacer.getSentFrames ());
+        assertEquals (0, this.pacer.getDroppedFrames ());
+    }
+
+
+    @Test
+    void pendingFramesAreCoalesced ()
+    {
+        this.pacer.submit (this.frame ("A"));
+        this.host.advance (0);
+
+        this.pacer.submit (this.frame ("B"));
+        this.host.advance (5);
+        this.pacer.submit (this.frame ("C"));
+        this.host.advance (5);
+        this.pacer.submit (this.frame ("D"));
+
+        // Only the latest frame is sent and only one transfer is scheduled for it
+        this.host.advance (100);
+        assertEquals (List.of ("A", "D"), this.sent);
+        assertEquals (2, this.pacer.getSentFrames ());
+        assertEquals (2, this.pacer.getDroppedFrames ());
+        assertEquals (2, this.host.getScheduleCount ());
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void framesSubmittedDuringTransferAreScheduled ()
+    {
+        this.pacer.submit ( () -> {
+            this.sent.add ("A");
+            this.pacer.submit (this.frame ("B"));
+        });
+
+        this.host.advance (0);
+        assertEquals (List.of ("A"), this.sent);
+        assertEquals (1, this.host.getPendingTimers ());
+
+        this.host.advance (20);
+        assertEquals (List.of ("A", "B"), this.sent);
+        assertEquals (0, this.pacer.getDroppedFrames ());
+    }
+
+
+    @Test
+    void maxFPSCanBeChanged ()
+    {
+        this.pacer.setMaxFPS (10);
+        this.pacer.submit (this.frame ("A"));
+        this.host.advance (0);
+        this.pacer.submit (this.frame ("B"));
+
+        this.host.advance (99);
+        assertEquals (List.of ("A"), this.sent);
+        this.host.advance (1);
+        assertEquals (List.of ("A", "B"), this.sent);
+    }
+
+
+    @Test
+    void transferLatencyIsMeasured ()
+    {
+        this.pacer.submit (this.slowFrame (2));
+        this.host.advance (0);
+        this.pacer.submit (this.slowFrame (6));
+        this.host.advance (100);
+
+        assertEquals (6.0, this.pacer.getLastLatency (), 0.001);
+        assertEquals (4.0, this.pacer.getAverageLatency (), 0.001);
+        assertEquals (6.0, this.pacer.getMaxLatency (), 0.001);
+        assertEquals (String.format ("Sent frames: 2, dropped frames: 0, latency (last/avg/max): %.1f/%.1f/%.1f ms", Double.valueOf (6), Double.valueOf (4), Double.valueOf (6)), this.pacer.getStatistics ());
+    }
+
+
+    @Test
+    void shutdownDiscardsPendingFrames () throws InterruptedException
+    {
+        this.pacer.submit (this.frame ("A"));
+        this.host.advance (0);
+        this.pacer.submit (this.frame ("B"));
+
+        assertTrue (this.pacer.shutdown (1000));
+        assertTrue (this.pacer.isShutdown ());
+        this.pacer.submit (this.frame ("C"));
+        this.host.advance (100);
+
+        assertEquals (List.of ("A"), this.sent);
+        assertEquals (1, this.pacer.getSentFrames ());
+    }
+
+
+    private Runnable frame (final String name)
+    {
+        return () -> this.sent.add (name);
+    }
+
+
+    private Runnable slowFrame (final long millis)
+    {
+        return () -> this.transferNanos += millis * NANOS_PER_MILLI;
+    }
+
+
+    /**
+     * Runs the scheduled tasks with the timers of the fake host.
+     */
+    private static class VirtualExecutor extends AbstractExecutorService implements ScheduledExecutorService
+    {
+        private final FakeHost host;
+        private boolean        isShutdown;
+
+
+        VirtualExecutor (final FakeHost host)
+        {
+            this.host = host;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ScheduledFuture<?> schedule (final Runnable command, final long delay, final TimeUnit unit)
+        {
+            if (this.isShutdown)
+                throw new RejectedExecutionException ();
+            // Round up to not run a paced transfer too early
+            final long nanos = unit.toNanos (delay);
+            this.host.scheduleTask (command, (nanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI);
+            return null;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void execute (final Runnable command)
+        {
+            this.schedule (command, 0, TimeUnit.MILLISECONDS);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public <V> ScheduledFuture<V> schedule (final Callable<V> callable, final long delay, final TimeUnit unit)
+        {
+            throw new UnsupportedOperationException ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate (final Runnable command, final long initialDelay, final long period, final TimeUnit unit)
+        {
+            throw new UnsupportedOperationException ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay (final Runnable command, final long initialDelay, final long delay, final TimeUnit unit)
+        {
+            throw new UnsupportedOperationException ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void shutdown ()
+        {
+            this.isShutdown = true;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public List<Runnable> shutdownNow ()
+        {
+            this.isShutdown = true;
+            return new ArrayList<> ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isShutdown ()
+        {
+            return this.isShutdown;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isTerminated ()
+        {
+            return this.isShutdown;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean awaitTermination (final long timeout, final TimeUnit unit)
+        {
+            return this.isShutdown;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * Tests the pressed keys, which are updated from the MIDI input while they are read for the
+ * display.
+ *
+ * @author Jürgen Moßgraber
+ */
+class KeyManagerTest
+{
+    private static final int NUM_WRITERS = 4;
+    private static final int ROUNDS      = 200000;
+
+    private KeyManager       keyManager;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.keyManager = new KeyManager (null, null, null);
+    }
+
+
+    @Test
+    void versionOnlyChangesIfAKeyChanges ()
+    {
+        final long start = this.keyManager.getVersion ();
+        this.keyManager.setKeyPressed (60, 100);
+        final long pressed = this.keyManager.getVersion ();
+        assertNotEquals (start, pressed);
+
+        // Pressing again or releasing a released key changes nothing
+        this.keyManager.setKeyPressed (60, 50);
+        this.keyManager.setKeyPressed (61, 0);
+        assertEquals (pressed, this.keyManager.getVersion ());
+
+        this.keyManager.setKeyPressed (60, 0);
+        assertNotEquals (pressed, this.keyManager.getVersion ());
+        final long released = this.keyManager.getVersion ();
+        this.keyManager.clearPressedKeys ();
+        assertEquals (released, this.keyManager.getVersion ());
+    }
+
+
+    @Test
+    void allKeysOfANoteArePressed ()
+    {
+        // The note 60 is on a key of the lower and the upper mask
+        final int [] matrix = Scales.getEmptyMatrix ();
+        matrix[10] = 60;
+        matrix[70] = 60;
+        matrix[71] = 61;
+        this.keyManager.setNoteMatrix (matrix);
+
+        this.keyManager.setAllKeysPressed (60, 127);
+        assertEquals (List.of (Integer.valueOf (10), Integer.valueOf (70)), this.keyManager.getPressedKeys ());
+        assertEquals (List.of (Integer.valueOf (60), Integer.valueOf (60)), this.keyManager.getMidiNotesFromPressedKeys ());
+
+        this.keyManager.setAllKeysPressed (60, 0);
+        assertFalse (this.keyManager.hasPressedKeys ());
+    }
+
+
+    @Test
+    void concurrentUpdatesAreNotLost () throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch (1);
+        final AtomicBoolean running = new AtomicBoolean (true);
+        final AtomicReference<String> failure = new AtomicReference<> ();
+        final long startVersion = this.keyManager.getVersion ();
+
+        // Each writer owns every 4th key, so all writers update the same masks
+        final List<Thread> writers = new ArrayList<> ();
+        for (int w = 0; w < NUM_WRITERS; w++)
+        {
+            final int writer = w;
+            writers.add (new Thread ( () -> {
+                final Random random = new Random (writer);
+                await (start);
+                for (int i = 0; i < ROUNDS; i++)
+                {
+                    final int key = random.nextInt (128 / NUM_WRITERS) * NUM_WRITERS + writer;
+                    this.keyManager.setKeyPressed (key, random.nextBoolean () ? 127 : 0);
+                }
+
+                // Leave the lower half of each 8 keys pressed
+                for (int key = writer; key < 128; key += NUM_WRITERS)
+                    this.keyManager.setKeyPressed (key, key % 8 < 4 ? 100 : 0);
+            }));
+        }
+
+        final Thread reader = new Thread ( () -> {
+            await (start);
+            while (running.get ())
+            {
+                final List<Integer> keys = this.keyManager.getPressedKeys ();
+                int last = -1;
+                for (final Integer key: keys)
+                {
+                    if (key.intValue () <= last || key.intValue () > 127)
+                        failure.compareAndSet (null, "Invalid pressed keys: " + keys);
+                    last = key.intValue ();
+                }
+            }
+        });
+
+        writers.forEach (Thread::start);
+        reader.start ();
+        start.countDown ();
+        for (final Thread writer: writers)
+            writer.join (TimeUnit.MINUTES.toMillis (1));
+        running.set (false);
+        reader.join (TimeUnit.MINUTES.toMillis (1));
+
+        assertEquals (null, failure.get ());
+        for (int key = 0; key < 128; key++)
+            assertEquals (key % 8 < 4, this.keyManager.isKeyPressed (key), "Key " + key);
+        assertEquals (64, this.keyManager.getPressedKeys ().size ());
+        assertTrue (this.keyManager.getVersion () > startVersion);
+    }
+
+
+    private static void await (final CountDownLatch latch)
+    {
+        try
+        {
+            latch.await ();
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+}
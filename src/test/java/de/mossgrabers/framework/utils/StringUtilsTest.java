@@ -0,0 +1,184 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares the formatting of positions and times with the output of String.format, which was
+ * used before.
+ *
+ * @author Jürgen Moßgraber
+ */
+class StringUtilsTest
+{
+    @Test
+    void goldenValues ()
+    {
+        assertEquals ("1.1.1", StringUtils.formatMeasures (4, 0, 1, false));
+        assertEquals ("1.1.1:000", StringUtils.formatMeasures (4, 0, 1, true));
+        assertEquals ("001.1.1", StringUtils.formatMeasuresLong (4, 0, 1, false));
+        assertEquals ("1.1.1:00", StringUtils.formatMeasuresLong (4, 0, 1, true));
+        assertEquals ("5.2.2", StringUtils.formatMeasures (4, 17.3, 1, false));
+        assertEquals ("4.1.1:020", StringUtils.formatMeasures (4, 17.3, 0, true));
+        assertEquals ("013.3.4", StringUtils.formatMeasuresLong (3, 38.875, 1, false));
+        assertEquals ("13.3.4:50", StringUtils.formatMeasuresLong (3, 38.875, 1, true));
+        assertEquals ("1000.1.1", StringUtils.formatMeasuresLong (4, 3996, 1, false));
+
+        assertEquals ("0.0.0", StringUtils.formatTime (120, 0, false));
+        assertEquals ("0.0.0:000", StringUtils.formatTime (120, 0, true));
+        assertEquals ("0.1.5", StringUtils.formatTime (120, 130, false));
+        assertEquals ("0.1.5:250", StringUtils.formatTime (120, 130.5, true));
+        assertEquals ("00.01.05", StringUtils.formatTimeLong (120, 130, false));
+        assertEquals ("1.02.03:500", StringUtils.formatTimeLong (60, 3723.5, true));
+        assertEquals ("01.02.03", StringUtils.formatTimeLong (60, 3723.5, false));
+    }
+
+
+    @Test
+    void measuresMatchStringFormat ()
+    {
+        final Random random = new Random (4711);
+        for (int i = 0; i < 100000; i++)
+        {
+            final int quartersPerMeasure = 1 + random.nextInt (16);
+            final double beats = random.nextInt (4) == 0 ? random.nextInt (4000) * 0.0625 : random.nextDouble () * 4000;
+            final int startOffset = random.nextInt (2);
+            final boolean includeFrames = random.nextBoolean ();
+            final String message = quartersPerMeasure + " " + beats + " " + startOffset + " " + includeFrames;
+
+            assertEquals (formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d"), StringUtils.formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames), message);
+            assertEquals (formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%03d.%d.%d", "%d.%d.%d:%02d"), StringUtils.formatMeasuresLong (quartersPerMeasure, beats, startOffset, includeFrames), message);
+        }
+    }
+
+
+    @Test
+    void timesMatchStringFormat ()
+    {
+        final Random random = new Random (4711);
+        for (int i = 0; i < 100000; i++)
+        {
+            final double tempo = 20 + random.nextDouble () * 646;
+            final double beats = random.nextInt (4) == 0 ? random.nextInt (4000) * 0.0625 : random.nextDouble () * 40000;
+            final boolean includeFrames = random.nextBoolean ();
+            final String message = tempo + " " + beats + " " + includeFrames;
+
+            assertEquals (formatTime (tempo, beats, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d"), StringUtils.formatTime (tempo, beats, includeFrames), message);
+            assertEquals (formatTime (tempo, beats, includeFrames, "%02d.%02d.%02d", "%d.%02d.%02d:%03d"), StringUtils.formatTimeLong (tempo, beats, includeFrames), message);
+        }
+    }
+
+
+    @Test
+    void numbersMatchStringFormat ()
+    {
+        final int [] numbers =
+        {
+            0,
+            1,
+            9,
+            10,
+            99,
+            100,
+            101,
+            999,
+            1000,
+            12345,
+            -1,
+            -10,
+            -999,
+            Integer.MAX_VALUE,
+            Integer.MIN_VALUE
+        };
+
+        final StringBuilder builder = new StringBuilder ();
+        for (final int number: numbers)
+        {
+            for (int width = 1; width <= 12; width++)
+            {
+                builder.setLength (0);
+                assertEquals (String.format ("%0" + width + "d", Integer.valueOf (number)), StringUtils.appendNumber (builder, number, width).toString ());
+            }
+        }
+    }
+
+
+    @Test
+    void appendKeepsExistingText ()
+    {
+        final StringBuilder builder = new StringBuilder ("Pos: ");
+        StringUtils.appendMeasures (builder, 4, 17.3, 1, false);
+        assertEquals ("Pos: 5.2.2", builder.toString ());
+    }
+
+
+    @Test
+    void formattedTextReturnsSameInstanceWhileUnchanged ()
+    {
+        final FormattedText formattedText = new FormattedText ();
+        assertEquals ("", formattedText.get ());
+
+        StringUtils.appendMeasures (formattedText.start (), 4, 17.3, 1, false);
+        final String text = formattedText.get ();
+        assertEquals ("5.2.2", text);
+
+        StringUtils.appendMeasures (formattedText.start (), 4, 17.31, 1, false);
+        assertSame (text, formattedText.get ());
+
+        StringUtils.appendMeasures (formattedText.start (), 4, 18, 1, false);
+        final String changed = formattedText.get ();
+        assertNotSame (text, changed);
+        assertEquals ("5.3.1", changed);
+    }
+
+
+    /**
+     * The implementation with String.format.
+     */
+    private static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final String shortFormat, final String longFormat)
+    {
+        final int measure = (int) Math.floor (beats / quartersPerMeasure);
+        double t = beats - measure * quartersPerMeasure;
+        final int quarters = (int) Math.floor (t);
+        t = t - quarters;
+        final int eights = (int) Math.floor (t / 0.25);
+
+        if (!includeFrames)
+            return String.format (shortFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset));
+
+        t = t - eights * 0.25;
+        final int frames = (int) Math.floor (t / 0.25 * 100.0);
+        return String.format (longFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset), Integer.valueOf (frames));
+    }
+
+
+    /**
+     * The implementation with String.format. The short formats print the hours as well.
+     */
+    private static String formatTime (final double tempo, final double beats, final boolean includeFrames, final String shortFormat, final String longFormat)
+    {
+        final double time = beats * 60.0 / tempo;
+
+        final int seconds = (int) Math.floor (time % 60);
+        double t = (time - seconds) / 60.0;
+        final int minutes = (int) Math.floor (t % 60);
+        t = (t - minutes) / 60.0;
+        final int hours = (int) Math.floor (t);
+
+        if (!includeFrames)
+            return String.format (shortFormat, Integer.valueOf (hours), Integer.valueOf (minutes), Integer.valueOf (seconds));
+
+        final int millis = (int) ((time - ((hours * 60 + minutes) * 60 + seconds)) * 1000);
+        return String.format (longFormat, Integer.valueOf (hours), Integer.valueOf (minutes), Integer.valueOf (seconds), Integer.valueOf (millis));
+    }
+}
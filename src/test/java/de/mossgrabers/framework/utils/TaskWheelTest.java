@@ -0,0 +1,222 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.mossgrabers.framework.daw.FakeHost;
+
+
+/**
+ * Drives the task wheel with the virtual clock of the fake host, whose timers advance the wheel.
+ *
+ * @author Jürgen Moßgraber
+ */
+class TaskWheelTest
+{
+    private FakeHost     host;
+    private TaskWheel    wheel;
+    private List<String> executed;
+
+
+    @BeforeEach
+    void setUp ()
+    {
+        this.host = new FakeHost ();
+        this.wheel = new TaskWheel (this.host, this.host::getTime);
+        this.executed = new ArrayList<> ();
+    }
+
+
+    @Test
+    void tasksAreExecutedAtTheirDeadline ()
+    {
+        this.wheel.schedule (this.record ("A"), 100);
+        this.wheel.schedule (this.record ("B"), 30);
+
+        this.host.advance (29);
+        assertTrue (this.executed.isEmpty ());
+        this.host.advance (1);
+        assertEquals (List.of ("B"), this.executed);
+        this.host.advance (69);
+        assertEquals (List.of ("B"), this.executed);
+        this.host.advance (1);
+        assertEquals (List.of ("B", "A"), this.executed);
+
+        assertEquals (0, this.wheel.size ());
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void earlyHostTimerDoesNotExecuteTasksEarly ()
+    {
+        final FakeHost earlyHost = new FakeHost ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public void scheduleTask (final Runnable task, final long delay)
+            {
+                super.scheduleTask (task, Math.max (1, delay - 2));
+            }
+        };
+        final TaskWheel earlyWheel = new TaskWheel (earlyHost, earlyHost::getTime);
+        earlyWheel.schedule (this.record ("A"), 100);
+
+        // The timer fires after 98ms and is started again for the rest of the delay
+        earlyHost.advance (99);
+        assertTrue (this.executed.isEmpty ());
+        assertEquals (1, earlyHost.getPendingTimers ());
+
+        earlyHost.advance (1);
+        assertEquals (List.of ("A"), this.executed);
+        assertEquals (0, earlyHost.getPendingTimers ());
+    }
+
+
+    @Test
+    void wakeupIsStartedAgainForTheNextDeadline ()
+    {
+        // More than one rotation of the wheel apart
+        this.wheel.schedule (this.record ("A"), 10);
+        this.wheel.schedule (this.record ("B"), 3000);
+        assertEquals (1, this.host.getPendingTimers ());
+
+        this.host.advance (10);
+        assertEquals (List.of ("A"), this.executed);
+        assertEquals (1, this.host.getPendingTimers ());
+
+        // The slot of B is visited several times before its deadline
+        this.host.advance (2989);
+        assertEquals (List.of ("A"), this.executed);
+        this.host.advance (1);
+        assertEquals (List.of ("A", "B"), this.executed);
+        assertEquals (0, this.host.getPendingTimers ());
+        assertEquals (2, this.host.getScheduleCount ());
+    }
+
+
+    @Test
+    void earlierTaskStartsAnEarlierWakeup ()
+    {
+        this.wheel.schedule (this.record ("A"), 500);
+        this.wheel.schedule (this.record ("B"), 50);
+        this.wheel.schedule (this.record ("C"), 200);
+        assertEquals (2, this.host.getPendingTimers ());
+
+        this.host.advance (50);
+        assertEquals (List.of ("B"), this.executed);
+        this.host.advance (150);
+        assertEquals (List.of ("B", "C"), this.executed);
+        this.host.advance (300);
+        assertEquals (List.of ("B", "C", "A"), this.executed);
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void staleHostTimersDoNotExecuteTasks ()
+    {
+        // Restart the delay of a keyed task, the timer of the first deadline becomes stale
+        this.wheel.schedule ("key", this.record ("A"), 100);
+        this.host.advance (60);
+        this.wheel.schedule ("key", this.record ("B"), 100);
+        assertEquals (1, this.wheel.size ());
+
+        this.host.advance (40);
+        assertTrue (this.executed.isEmpty ());
+        assertTrue (this.wheel.isPending ("key"));
+
+        this.host.advance (60);
+        assertEquals (List.of ("B"), this.executed);
+        assertFalse (this.wheel.isPending ("key"));
+
+        // A cancelled task leaves a timer which only advances the wheel
+        this.wheel.schedule ("key", this.record ("C"), 100);
+        this.wheel.cancel ("key");
+        this.host.advance (1000);
+        assertEquals (List.of ("B"), this.executed);
+        assertEquals (0, this.host.getPendingTimers ());
+        assertEquals (0, this.wheel.size ());
+    }
+
+
+    @Test
+    void flushExecutesTasksBeforeTheTimer ()
+    {
+        final List<Long> times = new ArrayList<> ();
+        this.wheel.schedule ( () -> times.add (Long.valueOf (this.host.getTime ())), 20);
+
+        // Another timer of the host fires first
+        this.host.scheduleTask (this.wheel::advance, 25);
+        this.host.advance (20);
+        assertEquals (List.of (Long.valueOf (20)), times);
+
+        // The timer of the wheel fires without a task
+        this.host.advance (100);
+        assertEquals (1, times.size ());
+        assertEquals (0, this.host.getPendingTimers ());
+    }
+
+
+    @Test
+    void tasksScheduledByTasksAreExecuted ()
+    {
+        this.wheel.schedule ( () -> {
+            this.executed.add ("A");
+            this.wheel.schedule (this.record ("B"), 0);
+            this.wheel.schedule (this.record ("C"), 50);
+        }, 10);
+
+        this.host.advance (11);
+        assertEquals (List.of ("A", "B"), this.executed);
+        this.host.advance (49);
+        assertEquals (List.of ("A", "B", "C"), this.executed);
+    }
+
+
+    @Test
+    void pausedWheelExecutesAllDueTasksInOrder ()
+    {
+        final long [] time = new long [1];
+        final TaskWheel pausedWheel = new TaskWheel (this.host, () -> time[0]);
+        pausedWheel.schedule (this.record ("C"), 4000);
+        pausedWheel.schedule (this.record ("A"), 10);
+        pausedWheel.schedule (this.record ("B"), 2000);
+
+        time[0] = 10000;
+        pausedWheel.advance ();
+        assertEquals (List.of ("A", "B", "C"), this.executed);
+        assertEquals (0, pausedWheel.size ());
+    }
+
+
+    @Test
+    void failingTaskIsReported ()
+    {
+        this.wheel.schedule ( () -> {
+            throw new IllegalStateException ("Test");
+        }, 10);
+        this.wheel.schedule (this.record ("A"), 10);
+
+        this.host.advance (10);
+        assertEquals (1, this.host.getErrors ().size ());
+        assertEquals (List.of ("A"), this.executed);
+    }
+
+
+    private Runnable record (final String name)
+    {
+        return () -> this.executed.add (name);
+    }
+}
@@ -0,0 +1,105 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2024
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.view;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.framework.Stubs;
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.grid.IPadGrid;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the note mapping and the drawing of the play view.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AbstractPlayViewTest
+{
+    private Scales                                                       scales;
+    private AbstractPlayView<IControlSurface<Configuration>, Configuration> view;
+    private int                                                          gridColorCount;
+
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp ()
+    {
+        this.scales = new Scales (null, 36, 100, 8, 8);
+        final IModel model = Stubs.create (IModel.class, Map.of ("getScales", this.scales, "getTrackBank", Stubs.create (ITrackBank.class), "canSelectedTrackHoldNotes", Boolean.TRUE));
+        final IControlSurface<Configuration> surface = Stubs.create (IControlSurface.class, Map.of ("getConfiguration", Stubs.create (Configuration.class), "getPadGrid", Stubs.create (IPadGrid.class)));
+        this.view = new AbstractPlayView<> (surface, model, false)
+        {
+            /** {@inheritDoc} */
+            @Override
+            protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+            {
+                AbstractPlayViewTest.this.gridColorCount++;
+                return super.getGridColor (isKeyboardEnabled, isRecording, track, note);
+            }
+        };
+    }
+
+
+    @Test
+    void mappingIsStable ()
+    {
+        final int [] first = this.view.getMapping ().clone ();
+        assertArrayEquals (first, this.view.getMapping ());
+    }
+
+
+    @Test
+    void blockedNotesDoNotModifyTheSharedMatrix ()
+    {
+        final int [] unblocked = this.scales.getNoteMatrix ().clone ();
+
+        this.view.setBlockedNotes (8);
+        final int [] first = this.view.getMapping ().clone ();
+        final int [] second = this.view.getMapping ();
+        assertArrayEquals (first, second);
+
+        // The scales matrix is cached and shared with other views
+        assertArrayEquals (unblocked, this.scales.getNoteMatrix ());
+
+        // The lowest row is blocked and the rest is shifted up
+        for (int note = 36; note < 44; note++)
+            assertEquals (-1, second[note]);
+        for (int note = 44; note < 100; note++)
+            assertEquals (unblocked[note - 8], second[note]);
+    }
+
+
+    @Test
+    void gridColorsAreOnlyCalculatedOnChanges ()
+    {
+        this.view.drawGrid ();
+        assertEquals (64, this.gridColorCount);
+        this.view.drawGrid ();
+        assertEquals (64, this.gridColorCount);
+
+        // A pressed key changes the version of the key manager
+        this.view.getKeyManager ().setKeyPressed (36, 127);
+        this.view.drawGrid ();
+        assertEquals (128, this.gridColorCount);
+        this.view.drawGrid ();
+        assertEquals (128, this.gridColorCount);
+
+        this.scales.setScaleOffsetByIndex (2);
+        this.view.drawGrid ();
+        assertEquals (192, this.gridColorCount);
+    }
+}